@@ -0,0 +1,46 @@
+package com.github.vladyslavbabenko.mycoloroflife.configuration;
+
+import com.github.vladyslavbabenko.mycoloroflife.util.PooledJavaMailSender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Properties;
+
+/**
+ * Replaces the auto-configured mail sender with {@link PooledJavaMailSender},
+ * so that mail workers reuse authenticated SMTP connections instead of opening one per email.
+ * The sender is configured from the standard spring.mail properties.
+ */
+
+@Configuration
+@EnableConfigurationProperties(MailProperties.class)
+public class MailConfiguration {
+
+    @Bean
+    public PooledJavaMailSender mailSender(MailProperties mailProperties,
+                                           @Value("${mail.transport.pool.size}") int poolSize,
+                                           @Value("${mail.transport.idle-timeout}") long idleTimeout,
+                                           @Value("${mail.transport.max-messages-per-connection}") int maxMessagesPerConnection) {
+        PooledJavaMailSender mailSender = new PooledJavaMailSender(poolSize, idleTimeout, maxMessagesPerConnection);
+
+        mailSender.setHost(mailProperties.getHost());
+        if (mailProperties.getPort() != null) {
+            mailSender.setPort(mailProperties.getPort());
+        }
+        mailSender.setUsername(mailProperties.getUsername());
+        mailSender.setPassword(mailProperties.getPassword());
+        mailSender.setProtocol(mailProperties.getProtocol());
+        if (mailProperties.getDefaultEncoding() != null) {
+            mailSender.setDefaultEncoding(mailProperties.getDefaultEncoding().name());
+        }
+
+        Properties javaMailProperties = new Properties();
+        javaMailProperties.putAll(mailProperties.getProperties());
+        mailSender.setJavaMailProperties(javaMailProperties);
+
+        return mailSender;
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.vladyslavbabenko.mycoloroflife.configuration;
+
+import com.github.vladyslavbabenko.mycoloroflife.util.SessionAttributeSerializer;
+import com.github.vladyslavbabenko.mycoloroflife.util.TouchThrottlingSessionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.FlushMode;
+import org.springframework.session.SaveMode;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.session.jdbc.PostgreSqlJdbcIndexedSessionRepositoryCustomizer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * Stores HTTP sessions in the PostgreSQL database, so that any instance of the application can serve any request.
+ * The schema is created by Flyway, expired sessions are deleted by
+ * {@link com.github.vladyslavbabenko.mycoloroflife.service.SessionCleanupService}.
+ */
+
+@Configuration
+@EnableSpringHttpSession
+public class SessionConfiguration {
+
+    @Bean
+    public TouchThrottlingSessionRepository sessionRepository(JdbcTemplate jdbcTemplate,
+                                                              PlatformTransactionManager transactionManager,
+                                                              @Value("${server.servlet.session.timeout:30m}") Duration timeout,
+                                                              @Value("${session.touch.interval}") Duration touchInterval) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        JdbcIndexedSessionRepository jdbcSessionRepository = new JdbcIndexedSessionRepository(jdbcTemplate, transactionTemplate);
+        jdbcSessionRepository.setDefaultMaxInactiveInterval((int) timeout.getSeconds());
+        jdbcSessionRepository.setConversionService(sessionConversionService());
+        // only attributes that were set during the request are written, when the response is committed
+        jdbcSessionRepository.setFlushMode(FlushMode.ON_SAVE);
+        jdbcSessionRepository.setSaveMode(SaveMode.ON_SET_ATTRIBUTE);
+        new PostgreSqlJdbcIndexedSessionRepositoryCustomizer().customize(jdbcSessionRepository);
+
+        return new TouchThrottlingSessionRepository(jdbcSessionRepository, touchInterval);
+    }
+
+    private GenericConversionService sessionConversionService() {
+        SessionAttributeSerializer serializer = new SessionAttributeSerializer(getClass().getClassLoader());
+
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(Object.class, byte[].class, new SerializingConverter(serializer));
+        conversionService.addConverter(byte[].class, Object.class, new DeserializingConverter(serializer));
+
+        return conversionService;
+    }
+}
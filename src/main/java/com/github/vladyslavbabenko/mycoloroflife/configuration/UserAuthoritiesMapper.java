@@ -4,6 +4,7 @@ import com.github.vladyslavbabenko.mycoloroflife.entity.User;
 import com.github.vladyslavbabenko.mycoloroflife.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMapper;
 import org.springframework.security.oauth2.core.user.OAuth2UserAuthority;
 
@@ -23,8 +24,9 @@ public class UserAuthoritiesMapper {
                     OAuth2UserAuthority oAuth2UserAuthority = (OAuth2UserAuthority) authority;
                     userService.saveOAuth2User(oAuth2UserAuthority);
                     User currentUser =
-                            (User) userService.loadUserByUsername((String) oAuth2UserAuthority.getAttributes().get("email"));
-                    mappedAuthorities.addAll(currentUser.getRoles());
+                            userService.getUserByUsername((String) oAuth2UserAuthority.getAttributes().get("email"));
+                    // plain authorities instead of Role entities, so that the session does not hold entities
+                    currentUser.getRoles().forEach(role -> mappedAuthorities.add(new SimpleGrantedAuthority(role.getRoleName())));
                 }
             });
             return mappedAuthorities;
@@ -1,11 +1,14 @@
 package com.github.vladyslavbabenko.mycoloroflife.controller;
 
-import com.github.vladyslavbabenko.mycoloroflife.entity.ActivationCode;
 import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
 import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
 import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CacheStatistics;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CourseProgressBufferStatistics;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.EventAnnouncementStatistics;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.MailDispatchStatistics;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.MailOutboxStatistics;
 import com.github.vladyslavbabenko.mycoloroflife.service.*;
-import com.github.vladyslavbabenko.mycoloroflife.service.implementation.MailSenderServiceImpl;
 import com.github.vladyslavbabenko.mycoloroflife.util.MessageSourceUtil;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
@@ -15,7 +18,6 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,10 +34,13 @@ public class AdminController {
     private final UserService userService;
     private final CourseService courseService;
     private final MessageSourceUtil messageSource;
-    private final MailSenderServiceImpl mailSender;
+    private final MailDispatchService mailDispatchService;
     private final ActivationCodeService codeService;
     private final CourseTitleService courseTitleService;
-    private final MailContentBuilderService mailContentBuilderService;
+    private final MailOutboxService mailOutboxService;
+    private final CacheStatisticsService cacheStatisticsService;
+    private final CourseProgressBufferService courseProgressBufferService;
+    private final EventAnnouncementService eventAnnouncementService;
 
     @GetMapping()
     public String getUsers(Model model) {
@@ -43,6 +48,36 @@ public class AdminController {
         return messageSource.getMessage("template.admin.panel.user");
     }
 
+    @ResponseBody
+    @GetMapping("/cache-statistics")
+    public List<CacheStatistics> getCacheStatistics() {
+        return cacheStatisticsService.getStatistics();
+    }
+
+    @ResponseBody
+    @GetMapping("/course-progress-buffer-statistics")
+    public CourseProgressBufferStatistics getCourseProgressBufferStatistics() {
+        return courseProgressBufferService.getStatistics();
+    }
+
+    @ResponseBody
+    @GetMapping("/mail-dispatch-statistics")
+    public MailDispatchStatistics getMailDispatchStatistics() {
+        return mailDispatchService.getStatistics();
+    }
+
+    @ResponseBody
+    @GetMapping("/mail-outbox-statistics")
+    public MailOutboxStatistics getMailOutboxStatistics() {
+        return mailOutboxService.getStatistics();
+    }
+
+    @ResponseBody
+    @GetMapping("/event-announcement-statistics")
+    public EventAnnouncementStatistics getEventAnnouncementStatistics() {
+        return eventAnnouncementService.getStatistics();
+    }
+
     @GetMapping("/find-by-id")
     public String getUser(@RequestParam("userID") String id, Model model) {
         int userId = -1;
@@ -188,18 +223,7 @@ public class AdminController {
                 return messageSource.getMessage("template.admin.panel.user");
             }
 
-            ActivationCode code = codeService.createCode(courseTitleFromDB.get(), userService.findById(userID));
-
-            String courseTitle = code.getCourseTitle().getTitle();
-
-            List<String> strings = new ArrayList<>();
-            strings.add(user.getName());
-            strings.add(courseTitle);
-            strings.add(code.getCode());
-
-            mailSender.sendEmail(user.getEmail(),
-                    messageSource.getMessage("email.course.activation-code.subject") + " " + courseTitle,
-                    mailContentBuilderService.build(strings, messageSource.getMessage("template.email.activation-code")));
+            codeService.createCodeAndSendEmail(courseTitleFromDB.get(), user);
 
             model.addAttribute("mailHasBeenSent", messageSource.getMessage("user.activation-code.email.sent"));
 
@@ -1,11 +1,19 @@
 package com.github.vladyslavbabenko.mycoloroflife.controller;
 
 import com.github.vladyslavbabenko.mycoloroflife.entity.Article;
+import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.AuthorSummary;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CursorPage;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.ArticleSummary;
+import com.github.vladyslavbabenko.mycoloroflife.enumeration.ContentType;
 import com.github.vladyslavbabenko.mycoloroflife.service.ArticleService;
+import com.github.vladyslavbabenko.mycoloroflife.service.AuthorService;
 import com.github.vladyslavbabenko.mycoloroflife.service.UserService;
 import com.github.vladyslavbabenko.mycoloroflife.util.MessageSourceUtil;
+import com.github.vladyslavbabenko.mycoloroflife.util.PaginationUtil;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -15,7 +23,6 @@ import javax.validation.Valid;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * {@link Controller} to manage articles.
@@ -27,36 +34,47 @@ import java.util.stream.Collectors;
 public class ArticleController {
 
     private final UserService userService;
+    private final AuthorService authorService;
     private final ArticleService articleService;
     private final MessageSourceUtil messageSource;
 
     private final String REDIRECT_ARTICLE = "redirect:/article";
+    private final int PAGE_SIZE = 6;
 
     @GetMapping(path = {"", "/page/{pageId}"})
-    public String getArticles(Model model, String keyword, @PathVariable(value = "pageId", required = false) Integer pageId) {
+    public String getArticles(Model model, String keyword, String after, String before,
+                              @PathVariable(value = "pageId", required = false) Integer pageId) {
+        if (keyword == null && pageId == null && (after != null || before != null)) {
+            CursorPage<ArticleSummary> articles = after != null
+                    ? articleService.getArticlesAfter(after, PAGE_SIZE)
+                    : articleService.getArticlesBefore(before, PAGE_SIZE);
+
+            model.addAttribute("listOfArticles", articles.getContent());
+            model.addAttribute("previousCursor", articles.getPreviousCursor());
+            model.addAttribute("nextCursor", articles.getNextCursor());
+
+            return messageSource.getMessage("template.general.article.all");
+        }
+
         if (pageId == null) {
             pageId = 1;
         }
 
-        List<Article> articles;
+        Page<ArticleSummary> articles;
 
         if (keyword != null) {
-            articles = articleService.findByKeyword(keyword);
+            articles = articleService.findByKeyword(keyword, pageId, PAGE_SIZE);
         } else {
-            articles = articleService.getAllArticles();
-        }
+            articles = articleService.getArticlesPage(pageId, PAGE_SIZE);
 
-        List<Article> listOfArticles = articles.stream().skip(pageId * 6L - 6).limit(6).collect(Collectors.toList());
-
-        int[] numberOfPages = new int[(int) Math.ceil(articles.size() / 6.0)];
-
-        for (int i = 0; i < numberOfPages.length; i++) {
-            numberOfPages[i] = i;
+            CursorPage<ArticleSummary> cursors = PaginationUtil.withCursors(articles, ArticleSummary::getId);
+            model.addAttribute("previousCursor", cursors.getPreviousCursor());
+            model.addAttribute("nextCursor", cursors.getNextCursor());
         }
 
-        model.addAttribute("listOfArticles", listOfArticles);
+        model.addAttribute("listOfArticles", articles.getContent());
         model.addAttribute("pageID", pageId);
-        model.addAttribute("numberOfPages", numberOfPages);
+        model.addAttribute("numberOfPages", PaginationUtil.pageIndexes(articles.getTotalPages()));
 
         return messageSource.getMessage("template.general.article.all");
     }
@@ -71,7 +89,12 @@ public class ArticleController {
             return messageSource.getMessage("template.general.article");
         }
 
+        List<AuthorSummary> authors = authorService.getAuthors(ContentType.ARTICLE, articleId);
+        Integer currentUserId = userService.getCurrentUserId();
+
         model.addAttribute("article", optionalArticle.get());
+        model.addAttribute("authors", authors);
+        model.addAttribute("isAuthor", authors.stream().anyMatch(author -> author.getId().equals(currentUserId)));
         return messageSource.getMessage("template.general.article");
     }
 
@@ -94,7 +117,7 @@ public class ArticleController {
             return messageSource.getMessage("template.author.article.add");
         }
 
-        return getArticles(model,"",1);
+        return getArticles(model, "", null, null, 1);
     }
 
     @DeleteMapping("/{articleId}")
@@ -120,10 +143,11 @@ public class ArticleController {
             return messageSource.getMessage("template.general.article");
         }
 
-        boolean isAdmin = userService.getCurrentUser().getRoles().stream()
+        User currentUser = userService.getCurrentUser();
+        boolean isAdmin = currentUser.getRoles().stream()
                 .anyMatch(role -> role.getRoleName().equalsIgnoreCase(messageSource.getMessage("role.admin")));
 
-        if (optionalArticle.get().getUsers().contains(userService.getCurrentUser()) || isAdmin) {
+        if (isAdmin || authorService.isAuthor(ContentType.ARTICLE, articleId, currentUser.getId())) {
             model.addAttribute("article", optionalArticle.get());
             return messageSource.getMessage("template.author.article.edit");
         } else {
@@ -143,6 +167,6 @@ public class ArticleController {
             return messageSource.getMessage("template.author.article.edit");
         }
 
-        return getArticles(model,"",1);
+        return getArticles(model, "", null, null, 1);
     }
 }
\ No newline at end of file
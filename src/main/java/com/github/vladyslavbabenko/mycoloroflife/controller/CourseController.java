@@ -1,10 +1,15 @@
 package com.github.vladyslavbabenko.mycoloroflife.controller;
 
 import com.github.vladyslavbabenko.mycoloroflife.entity.*;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CoursePage;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CourseSearchResult;
 import com.github.vladyslavbabenko.mycoloroflife.service.*;
+import com.github.vladyslavbabenko.mycoloroflife.util.CourseCatalog;
 import com.github.vladyslavbabenko.mycoloroflife.util.MessageSourceUtil;
+import com.github.vladyslavbabenko.mycoloroflife.util.PaginationUtil;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,11 +17,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 
-import java.util.Comparator;
-import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
 /**
  * {@link Controller} for courses.
@@ -27,11 +28,13 @@ import java.util.stream.Collectors;
 @RequestMapping("/course")
 public class CourseController {
     private final UserService userService;
-    private final RoleService roleService;
-    private final CourseService courseService;
     private final MessageSourceUtil messageSource;
     private final CourseTitleService courseTitleService;
     private final CourseProgressService courseProgressService;
+    private final CoursePageResolver coursePageResolver;
+    private final CourseCatalogService courseCatalogService;
+
+    private final int PAGE_SIZE = 6;
 
     @GetMapping(path = {"", "/page/{pageId}"})
     public String getCourses(Model model, String keyword, @PathVariable(value = "pageId", required = false) Integer pageId) {
@@ -39,120 +42,76 @@ public class CourseController {
             pageId = 1;
         }
 
-        List<CourseTitle> courseTitles;
-
         if (keyword != null) {
-            courseTitles = courseTitleService.findAllByCourseTitleContains(keyword);
-        } else {
-            courseTitles = courseTitleService.getAllCourseTitles();
-        }
+            Page<CourseSearchResult> searchResults = courseTitleService.searchCourses(keyword, pageId, PAGE_SIZE);
 
-        List<CourseTitle> listOfCourseTitles = courseTitles.stream().skip(pageId * 6L - 6).limit(6).collect(Collectors.toList());
+            model.addAttribute("keyWord", keyword);
+            model.addAttribute("listOfSearchResults", searchResults.getContent());
+            model.addAttribute("pageID", pageId);
+            model.addAttribute("numberOfPages", PaginationUtil.pageIndexes(searchResults.getTotalPages()));
 
-        int[] numberOfPages = new int[(int) Math.ceil(courseTitles.size() / 6.0)];
-
-        for (int i = 0; i < numberOfPages.length; i++) {
-            numberOfPages[i] = i;
+            return messageSource.getMessage("template.course.all");
         }
 
-        model.addAttribute("listOfCourseTitles", listOfCourseTitles);
+        Page<CourseTitle> courseTitles = courseTitleService.getCourseTitlesPage(pageId, PAGE_SIZE);
+
+        model.addAttribute("listOfCourseTitles", courseTitles.getContent());
         model.addAttribute("pageID", pageId);
-        model.addAttribute("numberOfPages", numberOfPages);
+        model.addAttribute("numberOfPages", PaginationUtil.pageIndexes(courseTitles.getTotalPages()));
 
         return messageSource.getMessage("template.course.all");
     }
 
     @GetMapping("/{courseTitle}")
     public String getCourseMain(Model model, @PathVariable(value = "courseTitle") String title) {
-        Optional<CourseTitle> optionalCourseTitle = courseTitleService.findByTitle(title);
+        Optional<CourseCatalog.TableOfContents> tableOfContents = courseCatalogService.findByTitle(title);
 
-        if (optionalCourseTitle.isEmpty()) {
+        if (tableOfContents.isEmpty()) {
             return messageSource.getMessage("template.error.404");
         }
 
-        List<Course> courseList = courseService.findAllByCourseTitle(optionalCourseTitle.get());
-        courseList.sort(Comparator.comparingLong(Course::getPage));
-        User currentUser = userService.getCurrentUser();
-        AtomicInteger lastVisitedPage = new AtomicInteger(-1);
-
-        if (currentUser.getCourseProgresses() != null) {
-            currentUser.getCourseProgresses()
-                    .stream()
-                    .filter(courseProgress -> courseProgress.getCourse().getCourseTitle().equals(optionalCourseTitle.get()))
-                    .findFirst().ifPresent(value -> lastVisitedPage.set(value.getCourse().getPage()));
-        }
+        CourseTitle courseTitle = tableOfContents.get().getCourseTitle();
 
-        model.addAttribute("lastVisitedPage", lastVisitedPage.intValue());
-        model.addAttribute("courseTitle", optionalCourseTitle.get());
-        model.addAttribute("courseList", courseList);
+        model.addAttribute("lastVisitedPage", courseProgressService.getLastPage(userService.getCurrentUserId(), courseTitle.getId()));
+        model.addAttribute("courseTitle", courseTitle);
+        model.addAttribute("courseList", tableOfContents.get().getPages());
 
         return messageSource.getMessage("template.course.main");
     }
 
     @GetMapping("/{courseTitle}/page/{pageID}")
     public String getCoursePage(Model model, @PathVariable(value = "courseTitle") String courseTitle, @PathVariable(value = "pageID") String pageIDAsString) {
-        if (!courseTitleService.existsByTitle(courseTitle)) {
-            return messageSource.getMessage("template.error.404");
-        }
-
-        String courseOwnerAuthority = messageSource.getMessage("role.course.owner") + roleService.convertToRoleStyle(courseTitle);
-
-        if (!roleService.existsByRoleName(courseOwnerAuthority)) {
-            return messageSource.getMessage("template.error.access-denied");
-        }
-
-        Role role = roleService.findByRoleName(courseOwnerAuthority).orElse(new Role());
-        User userFromDB = userService.getCurrentUser();
-
-        if (userFromDB.getRoles() == null || userFromDB.getRoles().isEmpty() || !userFromDB.getRoles().contains(role)) {
-            return messageSource.getMessage("template.error.access-denied");
-        }
-
         int pageID = 1;
 
         if (StringUtils.isNumeric(pageIDAsString)) {
             pageID = Integer.parseInt(pageIDAsString);
         }
 
-        Optional<CourseTitle> optionalCourseTitle = courseTitleService.findByTitle(courseTitle);
+        Optional<CoursePage> optionalCoursePage = coursePageResolver.resolve(courseTitle, pageID);
 
-        if (optionalCourseTitle.isEmpty()) {
+        if (optionalCoursePage.isEmpty()) {
             return messageSource.getMessage("template.error.404");
         }
 
-        Optional<Course> course = courseService.findByCourseTitleAndPage(optionalCourseTitle.get().getTitle(), pageID);
+        CoursePage coursePage = optionalCoursePage.get();
 
-        if (course.isEmpty()) {
-            return messageSource.getMessage("template.error.404");
+        if (!coursePage.isEntitled()) {
+            return messageSource.getMessage("template.error.access-denied");
         }
 
-        AtomicInteger lastVisitedPage = new AtomicInteger(-1);
-
-        if (userFromDB.getCourseProgresses() != null) {
-            userFromDB.getCourseProgresses()
-                    .stream()
-                    .filter(courseProgress -> courseProgress.getCourse().getCourseTitle().equals(optionalCourseTitle.get()))
-                    .findFirst().ifPresent(value -> lastVisitedPage.set(value.getCourse().getPage()));
+        if (coursePage.getCourse() == null) {
+            return messageSource.getMessage("template.error.404");
         }
 
-        if (lastVisitedPage.intValue() < course.get().getPage()) {
+        if (coursePage.getLastVisitedPage() < coursePage.getCourse().getPage()) {
             model.addAttribute("tooEarly", messageSource.getMessage("user.course.too-early"));
         } else {
-            model.addAttribute("courseTitle", optionalCourseTitle.get());
-            model.addAttribute("course", course.get());
-            model.addAttribute("lastVisitedPage", lastVisitedPage.intValue());
+            model.addAttribute("courseTitle", coursePage.getCourseTitle());
+            model.addAttribute("course", coursePage.getCourse());
+            model.addAttribute("lastVisitedPage", coursePage.getLastVisitedPage());
         }
 
-        int lastCoursePage = -1;
-
-        List<Course> courseList = courseService.findAllByCourseTitle(optionalCourseTitle.get());
-
-        if (!courseList.isEmpty()) {
-            courseList.sort(Comparator.comparingLong(Course::getPage).reversed());
-            lastCoursePage = courseList.get(0).getPage();
-        }
-
-        model.addAttribute("lastCoursePage", lastCoursePage);
+        model.addAttribute("lastCoursePage", coursePage.getLastCoursePage());
 
         return messageSource.getMessage("template.course.page");
     }
@@ -165,24 +124,13 @@ public class CourseController {
             page = Integer.parseInt(pageIDAsString);
         }
 
-        Optional<Course> optionalCourse = courseService.findByCourseTitleAndPage(courseTitleAsString, page);
+        Optional<CourseCatalog.TableOfContents> tableOfContents = courseCatalogService.findByTitle(courseTitleAsString);
 
-        if (optionalCourse.isPresent()) {
+        if (tableOfContents.isPresent()
+                && tableOfContents.get().findPageId(page).isPresent()
+                && tableOfContents.get().findPageId(page + 1).isPresent()) {
+            courseProgressService.advance(userService.getCurrentUserId(), tableOfContents.get().getCourseTitle(), page, page + 1);
             page += 1;
-
-            Optional<Course> optionalNextCourseFromDB = courseService.findByCourseTitleAndPage(courseTitleAsString, page);
-
-            if (optionalNextCourseFromDB.isPresent()) {
-                Optional<CourseProgress> courseProgressFromDB =
-                        courseProgressService.findByUserAndCourse(userService.getCurrentUser(), optionalCourse.get());
-
-                if (courseProgressFromDB.isPresent()) {
-                    courseProgressFromDB.get().setCourse(optionalNextCourseFromDB.get());
-                    courseProgressService.update(courseProgressFromDB.get());
-                } else {
-                    page -= 1;
-                }
-            }
         }
 
         return "redirect:/course/" + courseTitleAsString + "/page/" + page;
@@ -1,10 +1,18 @@
 package com.github.vladyslavbabenko.mycoloroflife.controller;
 
 import com.github.vladyslavbabenko.mycoloroflife.entity.Event;
+import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.AuthorSummary;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CursorPage;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.EventSummary;
+import com.github.vladyslavbabenko.mycoloroflife.enumeration.ContentType;
+import com.github.vladyslavbabenko.mycoloroflife.service.AuthorService;
 import com.github.vladyslavbabenko.mycoloroflife.service.EventService;
 import com.github.vladyslavbabenko.mycoloroflife.service.UserService;
 import com.github.vladyslavbabenko.mycoloroflife.util.MessageSourceUtil;
+import com.github.vladyslavbabenko.mycoloroflife.util.PaginationUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -14,7 +22,6 @@ import javax.validation.Valid;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * {@link Controller} to manage events.
@@ -25,36 +32,47 @@ import java.util.stream.Collectors;
 @RequestMapping("/event")
 public class EventController {
     private final UserService userService;
+    private final AuthorService authorService;
     private final EventService eventService;
     private final MessageSourceUtil messageSource;
 
     private final String REDIRECT_EVENT = "redirect:/event";
+    private final int PAGE_SIZE = 6;
 
     @GetMapping(path = {"", "/page/{pageId}"})
-    public String getEvents(Model model, String keyword, @PathVariable(value = "pageId", required = false) Integer pageId) {
+    public String getEvents(Model model, String keyword, String after, String before,
+                              @PathVariable(value = "pageId", required = false) Integer pageId) {
+        if (keyword == null && pageId == null && (after != null || before != null)) {
+            CursorPage<EventSummary> events = after != null
+                    ? eventService.getEventsAfter(after, PAGE_SIZE)
+                    : eventService.getEventsBefore(before, PAGE_SIZE);
+
+            model.addAttribute("listOfEvents", events.getContent());
+            model.addAttribute("previousCursor", events.getPreviousCursor());
+            model.addAttribute("nextCursor", events.getNextCursor());
+
+            return messageSource.getMessage("template.general.event.all");
+        }
+
         if (pageId == null) {
             pageId = 1;
         }
 
-        List<Event> events;
+        Page<EventSummary> events;
 
         if (keyword != null) {
-            events = eventService.findByKeyword(keyword);
+            events = eventService.findByKeyword(keyword, pageId, PAGE_SIZE);
         } else {
-            events = eventService.getAllEvents();
-        }
+            events = eventService.getEventsPage(pageId, PAGE_SIZE);
 
-        List<Event> listOfEvents = events.stream().skip(pageId * 6L - 6).limit(6).collect(Collectors.toList());
-
-        int[] numberOfPages = new int[(int) Math.ceil(events.size() / 6.0)];
-
-        for (int i = 0; i < numberOfPages.length; i++) {
-            numberOfPages[i] = i;
+            CursorPage<EventSummary> cursors = PaginationUtil.withCursors(events, EventSummary::getId);
+            model.addAttribute("previousCursor", cursors.getPreviousCursor());
+            model.addAttribute("nextCursor", cursors.getNextCursor());
         }
 
-        model.addAttribute("listOfEvents", listOfEvents);
+        model.addAttribute("listOfEvents", events.getContent());
         model.addAttribute("pageID", pageId);
-        model.addAttribute("numberOfPages", numberOfPages);
+        model.addAttribute("numberOfPages", PaginationUtil.pageIndexes(events.getTotalPages()));
 
         return messageSource.getMessage("template.general.event.all");
     }
@@ -69,7 +87,12 @@ public class EventController {
             return messageSource.getMessage("template.general.event");
         }
 
+        List<AuthorSummary> authors = authorService.getAuthors(ContentType.EVENT, eventId);
+        Integer currentUserId = userService.getCurrentUserId();
+
         model.addAttribute("event", optionalEvent.get());
+        model.addAttribute("authors", authors);
+        model.addAttribute("isAuthor", authors.stream().anyMatch(author -> author.getId().equals(currentUserId)));
         return messageSource.getMessage("template.general.event");
     }
 
@@ -117,10 +140,11 @@ public class EventController {
             return messageSource.getMessage("template.general.event");
         }
 
-        boolean isAdmin = userService.getCurrentUser().getRoles().stream()
+        User currentUser = userService.getCurrentUser();
+        boolean isAdmin = currentUser.getRoles().stream()
                 .anyMatch(role -> role.getRoleName().equalsIgnoreCase(messageSource.getMessage("role.admin")));
 
-        if (optionalEvent.get().getUsers().contains(userService.getCurrentUser()) || isAdmin) {
+        if (isAdmin || authorService.isAuthor(ContentType.EVENT, eventId, currentUser.getId())) {
             model.addAttribute("event", optionalEvent.get());
             return messageSource.getMessage("template.author.event.edit");
         } else {
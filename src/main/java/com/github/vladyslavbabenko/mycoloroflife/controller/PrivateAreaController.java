@@ -13,8 +13,6 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -28,13 +26,11 @@ public class PrivateAreaController {
 
     private final RoleService roleService;
     private final UserService userService;
-    private final MailSenderService mailSender;
     private final MessageSourceUtil messageSource;
     private final SecureTokenService secureTokenService;
     private final CourseTitleService courseTitleService;
     private final ActivationCodeService activationCodeService;
     private final EmailConfirmationService emailConfirmationService;
-    private final MailContentBuilderService mailContentBuilderService;
 
     private final String REDIRECT_ME = "redirect:/me";
 
@@ -176,18 +172,7 @@ public class PrivateAreaController {
         if (activationCodeService.existsByUser(currentUser) || currentUser.getRoles().contains(roleFromDB.get())) {
             model.addAttribute("userActivationCodeAlreadyGenerated", messageSource.getMessage("user.activation-code.already.generated"));
         } else {
-            ActivationCode code = activationCodeService.createCode(courseTitleFromDB.get(), currentUser);
-
-            String courseTitle = code.getCourseTitle().getTitle();
-            String subject = messageSource.getMessage("email.course.activation-code.subject") + " " + courseTitle;
-
-            List<String> strings = new ArrayList<>();
-            strings.add(currentUser.getName());
-            strings.add(courseTitle);
-            strings.add(code.getCode());
-
-            mailSender.sendEmail(currentUser.getEmail(), subject,
-                    mailContentBuilderService.build(strings, messageSource.getMessage("template.email.activation-code")));
+            activationCodeService.createCodeAndSendEmail(courseTitleFromDB.get(), currentUser);
 
             model.addAttribute("userActivationCodeEmailSent", messageSource.getMessage("user.activation-code.email.sent"));
         }
@@ -0,0 +1,45 @@
+package com.github.vladyslavbabenko.mycoloroflife.controller;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.SearchSuggestion;
+import com.github.vladyslavbabenko.mycoloroflife.service.SearchService;
+import com.github.vladyslavbabenko.mycoloroflife.util.MessageSourceUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link Controller} for searching all public content.
+ */
+
+@Controller
+@RequiredArgsConstructor
+@RequestMapping("/search")
+public class SearchController {
+    private final SearchService searchService;
+    private final MessageSourceUtil messageSource;
+
+    private final int RESULT_LIMIT = 20;
+    private final int SUGGESTION_LIMIT = 10;
+
+    @GetMapping
+    public String getSearchResults(Model model, String keyword) {
+        model.addAttribute("keyWord", keyword);
+        model.addAttribute("listOfResults", keyword == null
+                ? Collections.emptyList()
+                : searchService.search(keyword, RESULT_LIMIT));
+
+        return messageSource.getMessage("template.general.search");
+    }
+
+    @ResponseBody
+    @GetMapping("/suggest")
+    public List<SearchSuggestion> getSuggestions(String q) {
+        return searchService.suggest(q, SUGGESTION_LIMIT);
+    }
+}
@@ -39,6 +39,10 @@ public class Article {
     @Size(min = 1, max = 65535, message = "{validation.text.length}")
     private String text;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    /**
+     * Loaded lazily, pages display authors through AuthorService
+     */
+    @ManyToMany
+    @ToString.Exclude
     private Set<User> users;
 }
\ No newline at end of file
@@ -1,16 +1,18 @@
 package com.github.vladyslavbabenko.mycoloroflife.entity;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
-import java.util.Set;
 
 /**
  * Course entity.
+ * Course pages are kept in the second-level cache, so that course navigation does not query the database after warm-up.
  */
 
 @Builder
@@ -20,14 +22,25 @@ import java.util.Set;
 @Setter
 @ToString
 @Entity(name = "t_course")
+@NamedEntityGraph(name = Course.GRAPH_COURSE_TITLE, attributeNodes = @NamedAttributeNode("courseTitle"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Course.CACHE_REGION)
 public class Course {
+    public static final String CACHE_REGION = "course";
+
+    /**
+     * Title of the course, for the admin panel listing pages of all courses
+     */
+    public static final String GRAPH_COURSE_TITLE = "Course.courseTitle";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(nullable = false)
     private Integer id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "course_title_id", nullable = false)
+    @ToString.Exclude
     @NotNull(message = "{validation.title.not.empty}")
     private CourseTitle courseTitle;
 
@@ -45,9 +58,4 @@ public class Course {
 
     @Size(max = 65535, message = "{validation.text.length}")
     private String text;
-
-    @OneToMany(cascade = CascadeType.REMOVE, orphanRemoval = true, fetch = FetchType.EAGER)
-    @JoinColumn(name = "course_id")
-    @ToString.Exclude
-    private Set<CourseProgress> courseProgresses;
 }
\ No newline at end of file
@@ -5,7 +5,8 @@ import lombok.*;
 import javax.persistence.*;
 
 /**
- * Course progress entity. Saves the user's progress
+ * Course progress entity. Saves the last page of the course that the user has reached,
+ * one row per user and course title, the page only moves forward.
  */
 
 @Builder
@@ -22,10 +23,13 @@ public class CourseProgress {
     private Integer id;
 
     @ManyToOne
-    @JoinColumn(name = "course_id")
-    private Course course;
+    @JoinColumn(name = "course_title_id", nullable = false)
+    private CourseTitle courseTitle;
 
     @ManyToOne
-    @JoinColumn(name = "user_id")
+    @JoinColumn(name = "user_id", nullable = false)
     private User user;
+
+    @Column(nullable = false)
+    private Integer lastPage;
 }
@@ -1,12 +1,20 @@
 package com.github.vladyslavbabenko.mycoloroflife.entity;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.Size;
 import java.util.Set;
 
+/**
+ * CourseTitle entity.
+ * Pages, activation codes and progress of users are loaded lazily, pages are fetched with {@link #GRAPH_COURSES} where they are needed.
+ * Course titles are kept in the second-level cache.
+ */
+
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
@@ -14,7 +22,17 @@ import java.util.Set;
 @Setter
 @ToString
 @Entity(name = "t_course_title")
+@NamedEntityGraph(name = CourseTitle.GRAPH_COURSES, attributeNodes = @NamedAttributeNode("courses"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CourseTitle.CACHE_REGION)
 public class CourseTitle {
+    public static final String CACHE_REGION = "course-title";
+
+    /**
+     * Course pages, for editing and deleting a course together with its pages
+     */
+    public static final String GRAPH_COURSES = "CourseTitle.courses";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(nullable = false)
@@ -30,14 +48,19 @@ public class CourseTitle {
     @Column(length = 200, nullable = false)
     private String description;
 
-    @OneToMany(cascade = CascadeType.REMOVE, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(cascade = CascadeType.REMOVE, orphanRemoval = true)
     @JoinColumn(name = "course_title_id")
     @ToString.Exclude
     private Set<Course> courses;
 
-    @OneToMany(cascade = CascadeType.REMOVE, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(cascade = CascadeType.REMOVE, orphanRemoval = true)
     @JoinColumn(name = "course_title_id")
     @ToString.Exclude
     private Set<ActivationCode> activationCodes;
 
+    @OneToMany(cascade = CascadeType.REMOVE, orphanRemoval = true)
+    @JoinColumn(name = "course_title_id", insertable = false, updatable = false)
+    @ToString.Exclude
+    private Set<CourseProgress> courseProgresses;
+
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.github.vladyslavbabenko.mycoloroflife.entity;
 
 import lombok.*;
 import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 
 import javax.persistence.*;
@@ -10,6 +12,7 @@ import java.util.Set;
 
 /**
  * Role entity.
+ * Roles are read on almost every request and rarely change, so they are kept in the second-level cache.
  */
 
 @Builder
@@ -18,7 +21,11 @@ import java.util.Set;
 @Getter
 @Setter
 @Entity(name = "t_role")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Role.CACHE_REGION)
 public class Role implements GrantedAuthority {
+    public static final String CACHE_REGION = "role";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(nullable = false)
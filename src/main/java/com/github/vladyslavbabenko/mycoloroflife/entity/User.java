@@ -18,6 +18,7 @@ import java.util.Set;
 
 /**
  * User entity.
+ * All associations are loaded lazily, every use case fetches what it needs with one of the named entity graphs.
  */
 
 @Builder
@@ -27,7 +28,35 @@ import java.util.Set;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity(name = "t_user")
+@NamedEntityGraph(name = User.GRAPH_AUTHENTICATION,
+        attributeNodes = @NamedAttributeNode("roles"))
+@NamedEntityGraph(name = User.GRAPH_PRIVATE_AREA,
+        attributeNodes = {
+                @NamedAttributeNode("roles"),
+                @NamedAttributeNode("activationCodes"),
+                @NamedAttributeNode(value = "courseProgresses", subgraph = "courseProgresses")},
+        subgraphs = @NamedSubgraph(name = "courseProgresses", attributeNodes = @NamedAttributeNode("courseTitle")))
+@NamedEntityGraph(name = User.GRAPH_SUMMARY,
+        attributeNodes = {
+                @NamedAttributeNode("roles"),
+                @NamedAttributeNode(value = "activationCodes", subgraph = "activationCodes")},
+        subgraphs = @NamedSubgraph(name = "activationCodes", attributeNodes = @NamedAttributeNode("courseTitle")))
 public class User implements UserDetails, OAuth2User {
+    /**
+     * Roles only, for authentication and access checks
+     */
+    public static final String GRAPH_AUTHENTICATION = "User.authentication";
+
+    /**
+     * Roles, activation codes and course progress, for the private area and course pages
+     */
+    public static final String GRAPH_PRIVATE_AREA = "User.privateArea";
+
+    /**
+     * Roles and activation codes, for the admin panel
+     */
+    public static final String GRAPH_SUMMARY = "User.summary";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(nullable = false)
@@ -53,7 +82,8 @@ public class User implements UserDetails, OAuth2User {
     //to prevent brute force, the user account will be locked out after several failed attempts
     private boolean isAccountNonLocked = true;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany
+    @ToString.Exclude
     private Set<Role> roles;
 
     @Transient
@@ -72,7 +102,11 @@ public class User implements UserDetails, OAuth2User {
 
     private boolean isEmailConfirmed = false;
 
-    @OneToMany(cascade = CascadeType.REMOVE, orphanRemoval = true, fetch = FetchType.EAGER)
+    //language tag of the locale emails are sent in, the default locale is used if it is missing
+    @Column(length = 35)
+    private String locale;
+
+    @OneToMany(cascade = CascadeType.REMOVE, orphanRemoval = true)
     @JoinColumn(name = "user_id")
     @ToString.Exclude
     private Set<ActivationCode> activationCodes;
@@ -83,12 +117,12 @@ public class User implements UserDetails, OAuth2User {
     @Column(nullable = false)
     private int failedLoginAttempt = 0;
 
-    @OneToMany(cascade = CascadeType.REMOVE, orphanRemoval = true, fetch = FetchType.EAGER)
-    @JoinColumn(name = "user_id")
+    @OneToMany(cascade = CascadeType.REMOVE, orphanRemoval = true)
+    @JoinColumn(name = "user_id", insertable = false, updatable = false)
     @ToString.Exclude
     private Set<CourseProgress> courseProgresses;
 
-    @OneToMany(cascade = CascadeType.REMOVE, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(cascade = CascadeType.REMOVE, orphanRemoval = true)
     @JoinColumn(name = "user_id")
     @ToString.Exclude
     private Set<SecureToken> secureTokens;
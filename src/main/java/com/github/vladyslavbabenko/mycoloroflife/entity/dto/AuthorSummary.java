@@ -0,0 +1,20 @@
+package com.github.vladyslavbabenko.mycoloroflife.entity.dto;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Author of an article or event, holds only what is displayed instead of the whole {@link User}.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthorSummary {
+    private Integer id;
+    private String name;
+}
@@ -0,0 +1,37 @@
+package com.github.vladyslavbabenko.mycoloroflife.entity.dto;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
+import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@link Course} page as seen by the current user, together with everything needed to render it.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoursePage {
+    private CourseTitle courseTitle;
+
+    /**
+     * Requested page, null if the course has no such page
+     */
+    private Course course;
+
+    private boolean entitled;
+
+    /**
+     * Last page visited by the current user, -1 if the user has not started the course
+     */
+    private int lastVisitedPage;
+
+    /**
+     * Number of the last page of the course, -1 if the course has no pages
+     */
+    private int lastCoursePage;
+}
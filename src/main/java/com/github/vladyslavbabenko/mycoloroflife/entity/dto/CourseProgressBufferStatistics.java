@@ -0,0 +1,27 @@
+package com.github.vladyslavbabenko.mycoloroflife.entity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State of the write-behind buffer of course progress since application start.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseProgressBufferStatistics {
+    private boolean enabled;
+    private int depth;
+    private long recordedCount;
+    private long mergedCount;
+    private double mergeRatio;
+    private long flushCount;
+    private long flushedCount;
+    private long failedFlushCount;
+    private double lastFlushMillis;
+    private double averageFlushMillis;
+}
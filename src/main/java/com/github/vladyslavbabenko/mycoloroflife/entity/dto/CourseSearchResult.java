@@ -0,0 +1,24 @@
+package com.github.vladyslavbabenko.mycoloroflife.entity.dto;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.CourseSearchHit;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@link CourseSearchHit} together with the access of the current user to the course.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseSearchResult {
+    private String title;
+    private String description;
+    private Integer page;
+    private String videoTitle;
+    private double score;
+    private boolean accessible;
+}
@@ -0,0 +1,23 @@
+package com.github.vladyslavbabenko.mycoloroflife.entity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Slice of a feed loaded with keyset pagination, together with opaque cursors to the neighbouring slices.
+ * A cursor is {@code null} when there is nothing to navigate to in that direction.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private String previousCursor;
+    private String nextCursor;
+}
@@ -0,0 +1,23 @@
+package com.github.vladyslavbabenko.mycoloroflife.entity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State of the event announcements table and of the announcer of this application instance.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventAnnouncementStatistics {
+    private long runningCount;
+    private long completedCount;
+    private long sentCount;
+    private long failedCount;
+    private long pageCount;
+    private double lastPageMillis;
+}
@@ -0,0 +1,25 @@
+package com.github.vladyslavbabenko.mycoloroflife.entity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State of the asynchronous mail dispatch since application start.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MailDispatchStatistics {
+    private int queueDepth;
+    private int activeCount;
+    private long dispatchedCount;
+    private long sentCount;
+    private long failedCount;
+    private long rejectedCount;
+    private double lastSendMillis;
+    private double averageSendMillis;
+}
@@ -0,0 +1,51 @@
+package com.github.vladyslavbabenko.mycoloroflife.entity.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Values of a mail template, every field is available in the template as a variable with the same name.
+ * A template only outputs the values and checks whether they are present, null fields are not set.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MailModel {
+    /**
+     * Name of the recipient
+     */
+    private String name;
+
+    private String text;
+    private String link;
+    private String courseTitle;
+    private String code;
+
+    /**
+     * @return template variables of the fields that are not null, in declaration order
+     */
+    public Map<String, String> toVariables() {
+        Map<String, String> variables = new LinkedHashMap<>();
+        putIfPresent(variables, "name", name);
+        putIfPresent(variables, "text", text);
+        putIfPresent(variables, "link", link);
+        putIfPresent(variables, "courseTitle", courseTitle);
+        putIfPresent(variables, "code", code);
+        return variables;
+    }
+
+    private static void putIfPresent(Map<String, String> variables, String variable, String value) {
+        if (value != null) {
+            variables.put(variable, value);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.vladyslavbabenko.mycoloroflife.entity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State of the mail outbox table and of the drainer of this application instance.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MailOutboxStatistics {
+    private long pendingCount;
+    private long sentCount;
+    private long failedCount;
+    private double oldestPendingSeconds;
+    private long drainCount;
+    private long drainedCount;
+    private double lastDrainMillis;
+}
@@ -0,0 +1,24 @@
+package com.github.vladyslavbabenko.mycoloroflife.entity.dto;
+
+import com.github.vladyslavbabenko.mycoloroflife.enumeration.ContentType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entry of the site search, holds everything needed to render a link to the found content.
+ * Pages of a course are reported as {@link ContentType#COURSE_TITLE} with the number of the page.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResult {
+    private ContentType contentType;
+    private Integer id;
+    private String title;
+    private Integer page;
+    private float score;
+}
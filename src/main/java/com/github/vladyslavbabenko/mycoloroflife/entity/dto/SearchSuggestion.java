@@ -0,0 +1,21 @@
+package com.github.vladyslavbabenko.mycoloroflife.entity.dto;
+
+import com.github.vladyslavbabenko.mycoloroflife.enumeration.ContentType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Title suggested while typing a search query.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchSuggestion {
+    private ContentType contentType;
+    private Integer id;
+    private String title;
+}
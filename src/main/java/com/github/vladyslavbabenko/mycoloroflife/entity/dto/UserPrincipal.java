@@ -0,0 +1,97 @@
+package com.github.vladyslavbabenko.mycoloroflife.entity.dto;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.Role;
+import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.enumeration.UserRegistrationType;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Authenticated user kept in the session instead of the whole {@link User} entity.
+ * Holds only what identifies the user and its authorities, the entity is looked up when it is really needed.
+ * Immutable, except that the password is erased once authentication succeeds and is never serialized.
+ */
+
+@Getter
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public final class UserPrincipal implements UserDetails, CredentialsContainer {
+
+    private static final long serialVersionUID = 1L;
+
+    @EqualsAndHashCode.Include
+    private final Integer id;
+
+    private final String email;
+    private final String name;
+    private final List<String> authorityNames;
+    private final UserRegistrationType registrationType;
+    private final boolean accountNonLocked;
+
+    @ToString.Exclude
+    private transient String password;
+
+    @Builder
+    private UserPrincipal(Integer id, String email, String name, List<String> authorityNames,
+                          UserRegistrationType registrationType, boolean accountNonLocked, String password) {
+        this.id = id;
+        this.email = email;
+        this.name = name;
+        this.authorityNames = authorityNames;
+        this.registrationType = registrationType;
+        this.accountNonLocked = accountNonLocked;
+        this.password = password;
+    }
+
+    /**
+     * @param user user with loaded roles
+     * @return principal of the user
+     */
+    public static UserPrincipal of(User user) {
+        List<String> authorityNames = user.getRoles() == null
+                ? List.of()
+                : user.getRoles().stream().map(Role::getRoleName).sorted().collect(Collectors.toUnmodifiableList());
+
+        return new UserPrincipal(user.getId(), user.getEmail(), user.getName(), authorityNames,
+                user.getRegistrationType(), user.isAccountNonLocked(), user.getPassword());
+    }
+
+    @Override
+    public List<GrantedAuthority> getAuthorities() {
+        return AuthorityUtils.createAuthorityList(authorityNames.toArray(new String[0]));
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return accountNonLocked;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        password = null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.vladyslavbabenko.mycoloroflife.entity.projection;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+
+/**
+ * {@link User} with a confirmed email as a recipient of announcements: no password, roles or other associations.
+ */
+
+public interface AnnouncementRecipient {
+    Integer getId();
+
+    String getEmail();
+
+    String getName();
+
+    /**
+     * @return language tag of the preferred locale, null if the user has not got one
+     */
+    String getLocale();
+}
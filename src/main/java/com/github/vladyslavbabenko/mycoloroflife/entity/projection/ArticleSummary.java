@@ -0,0 +1,25 @@
+package com.github.vladyslavbabenko.mycoloroflife.entity.projection;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.Article;
+
+/**
+ * Lightweight view of an {@link Article} for listing pages: no full text and no author entities.
+ */
+
+public interface ArticleSummary {
+    Integer getId();
+
+    String getTitle();
+
+    String getDateTimeOfCreation();
+
+    /**
+     * @return beginning of the article text, shown as a preview on listing pages
+     */
+    String getExcerpt();
+
+    /**
+     * @return comma separated names of the article authors
+     */
+    String getAuthors();
+}
@@ -0,0 +1,11 @@
+package com.github.vladyslavbabenko.mycoloroflife.entity.projection;
+
+/**
+ * Row of a join table between content and its authors.
+ */
+
+public interface Authorship {
+    Integer getContentId();
+
+    Integer getAuthorId();
+}
@@ -0,0 +1,18 @@
+package com.github.vladyslavbabenko.mycoloroflife.entity.projection;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
+import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
+
+/**
+ * {@link Course} page as listed in the table of contents of its {@link CourseTitle}, without the page text.
+ */
+
+public interface CourseCatalogPage {
+    Integer getCourseTitleId();
+
+    Integer getCourseId();
+
+    Integer getPage();
+
+    String getVideoTitle();
+}
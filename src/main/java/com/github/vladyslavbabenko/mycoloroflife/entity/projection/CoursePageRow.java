@@ -0,0 +1,44 @@
+package com.github.vladyslavbabenko.mycoloroflife.entity.projection;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
+import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
+
+/**
+ * {@link CourseTitle} with one of its {@link Course} pages and the progress of a user in the course.
+ */
+
+public interface CoursePageRow {
+    Integer getCourseTitleId();
+
+    String getTitle();
+
+    String getDescription();
+
+    /**
+     * @return id of the requested page, null if the course has no such page
+     */
+    Integer getCourseId();
+
+    Integer getPage();
+
+    String getVideoTitle();
+
+    String getVideoLink();
+
+    String getText();
+
+    /**
+     * @return true if the user has the course owner role of the course
+     */
+    Boolean getEntitled();
+
+    /**
+     * @return last page visited by the user, null if the user has no progress in the course
+     */
+    Integer getLastVisitedPage();
+
+    /**
+     * @return number of the last page of the course, null if the course has no pages
+     */
+    Integer getLastCoursePage();
+}
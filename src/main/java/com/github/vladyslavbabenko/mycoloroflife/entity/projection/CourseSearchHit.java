@@ -0,0 +1,31 @@
+package com.github.vladyslavbabenko.mycoloroflife.entity.projection;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
+import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
+
+/**
+ * Match of the course search, either a {@link CourseTitle} itself or one of its {@link Course} pages.
+ */
+
+public interface CourseSearchHit {
+    Integer getCourseTitleId();
+
+    String getTitle();
+
+    String getDescription();
+
+    /**
+     * @return number of the matching page, null if title or description of the course matched
+     */
+    Integer getPage();
+
+    /**
+     * @return video title of the matching page, null if title or description of the course matched
+     */
+    String getVideoTitle();
+
+    /**
+     * @return trigram word similarity to the search query, from 0 to 1
+     */
+    Double getScore();
+}
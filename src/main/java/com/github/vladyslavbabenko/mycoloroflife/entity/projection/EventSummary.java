@@ -0,0 +1,25 @@
+package com.github.vladyslavbabenko.mycoloroflife.entity.projection;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.Event;
+
+/**
+ * Lightweight view of an {@link Event} for listing pages: no full text and no author entities.
+ */
+
+public interface EventSummary {
+    Integer getId();
+
+    String getTitle();
+
+    String getDateTimeOfCreation();
+
+    /**
+     * @return beginning of the event text, shown as a preview on listing pages
+     */
+    String getExcerpt();
+
+    /**
+     * @return comma separated names of the event authors
+     */
+    String getAuthors();
+}
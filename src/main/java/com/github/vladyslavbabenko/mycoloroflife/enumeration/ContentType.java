@@ -0,0 +1,34 @@
+package com.github.vladyslavbabenko.mycoloroflife.enumeration;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.Article;
+import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
+import com.github.vladyslavbabenko.mycoloroflife.entity.Event;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Enumeration for handling types of content listed with pagination
+ */
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public enum ContentType {
+    /**
+     * ARTICLE - {@link Article} entities
+     */
+    ARTICLE("Article"),
+
+    /**
+     * EVENT - {@link Event} entities
+     */
+    EVENT("Event"),
+
+    /**
+     * COURSE_TITLE - {@link CourseTitle} entities
+     */
+    COURSE_TITLE("Course Title");
+
+    private final String contentType;
+}
@@ -1,10 +1,10 @@
 package com.github.vladyslavbabenko.mycoloroflife.event;
 
-import com.github.vladyslavbabenko.mycoloroflife.entity.User;
 import com.github.vladyslavbabenko.mycoloroflife.service.BruteForceProtectionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationListener;
 import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -18,6 +18,11 @@ public class AuthenticationSuccessListener implements ApplicationListener<Authen
 
     @Override
     public void onApplicationEvent(AuthenticationSuccessEvent event) {
-        bruteForceProtectionService.resetBruteForceCounter(((User) event.getAuthentication().getPrincipal()).getUsername());
+        Object principal = event.getAuthentication().getPrincipal();
+
+        // OAuth2 logins are not protected by the failed login counter
+        if (principal instanceof UserDetails) {
+            bruteForceProtectionService.resetBruteForceCounter(((UserDetails) principal).getUsername());
+        }
     }
 }
\ No newline at end of file
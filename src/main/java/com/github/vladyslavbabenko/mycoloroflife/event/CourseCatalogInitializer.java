@@ -0,0 +1,22 @@
+package com.github.vladyslavbabenko.mycoloroflife.event;
+
+import com.github.vladyslavbabenko.mycoloroflife.service.CourseCatalogService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CourseCatalogInitializer implements ApplicationListener<ApplicationReadyEvent> {
+    private final CourseCatalogService courseCatalogService;
+
+    @Autowired
+    public CourseCatalogInitializer(CourseCatalogService courseCatalogService) {
+        this.courseCatalogService = courseCatalogService;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        courseCatalogService.rebuild();
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.vladyslavbabenko.mycoloroflife.event;
+
+import com.github.vladyslavbabenko.mycoloroflife.service.RoleService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RoleRegistryInitializer implements ApplicationListener<ApplicationReadyEvent> {
+    private final RoleService roleService;
+
+    @Autowired
+    public RoleRegistryInitializer(RoleService roleService) {
+        this.roleService = roleService;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        roleService.reloadRegistry();
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.vladyslavbabenko.mycoloroflife.event;
+
+import com.github.vladyslavbabenko.mycoloroflife.service.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SearchIndexInitializer implements ApplicationListener<ApplicationReadyEvent> {
+    private final SearchService searchService;
+
+    @Autowired
+    public SearchIndexInitializer(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        searchService.rebuildIndex();
+    }
+}
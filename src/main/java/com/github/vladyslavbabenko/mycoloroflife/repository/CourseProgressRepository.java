@@ -1,16 +1,22 @@
 package com.github.vladyslavbabenko.mycoloroflife.repository;
 
-import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
 import com.github.vladyslavbabenko.mycoloroflife.entity.CourseProgress;
+import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
 import com.github.vladyslavbabenko.mycoloroflife.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 /**
  * {@link Repository} for handling with {@link CourseProgress} entity.
+ * Progress is written with single upsert statements, which only move the last page forward,
+ * so that concurrent requests of the same user can neither fail on the unique key nor move the progress back.
  */
 
 @Repository
@@ -24,22 +30,22 @@ public interface CourseProgressRepository extends JpaRepository<CourseProgress,
     Optional<List<CourseProgress>> findAllByUser(User user);
 
     /**
-     * Finds an {@link CourseProgress} by {@link User} and {@link Course}.
+     * Finds an {@link CourseProgress} by {@link User} and {@link CourseTitle}.
      *
-     * @param user   user to search
-     * @param course course to search
+     * @param user        user to search
+     * @param courseTitle course title to search
      * @return Optional CourseProgress from database, otherwise empty Optional
      */
-    Optional<CourseProgress> findByUserAndCourse(User user, Course course);
+    Optional<CourseProgress> findByUserAndCourseTitle(User user, CourseTitle courseTitle);
 
     /**
-     * Finds an {@link CourseProgress} by {@link User} and {@link Course}.
+     * Finds an {@link CourseProgress} by {@link User} and {@link CourseTitle}.
      *
-     * @param user   user to search
-     * @param course course to search
+     * @param user        user to search
+     * @param courseTitle course title to search
      * @return true if exists, otherwise false
      */
-    boolean existsByUserAndCourse(User user, Course course);
+    boolean existsByUserAndCourseTitle(User user, CourseTitle courseTitle);
 
     /**
      * Finds an {@link CourseProgress} by {@link User}
@@ -48,4 +54,56 @@ public interface CourseProgressRepository extends JpaRepository<CourseProgress,
      * @return true if exists, otherwise false
      */
     boolean existsByUser(User user);
-}
\ No newline at end of file
+
+    /**
+     * Finds the last page of the course that the user has reached.
+     *
+     * @param userId        id of the user
+     * @param courseTitleId id of the course title
+     * @return Optional last page from database, otherwise empty Optional
+     */
+    @Query("SELECT cp.lastPage FROM t_course_progress cp WHERE cp.user.id = :userId AND cp.courseTitle.id = :courseTitleId")
+    Optional<Integer> findLastPage(@Param("userId") Integer userId, @Param("courseTitleId") Integer courseTitleId);
+
+    /**
+     * Creates progress of the user with provided last page, or moves existing progress forward to it.
+     *
+     * @param userId        id of the user
+     * @param courseTitleId id of the course title
+     * @param lastPage      reached page
+     * @return 1 if progress was created or moved forward, 0 if it already was at or after provided page
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO t_course_progress (user_id, course_title_id, last_page) "
+            + "VALUES (:userId, :courseTitleId, :lastPage) "
+            + "ON CONFLICT (user_id, course_title_id) DO UPDATE SET last_page = EXCLUDED.last_page "
+            + "WHERE t_course_progress.last_page < EXCLUDED.last_page", nativeQuery = true)
+    int upsertLastPage(@Param("userId") Integer userId, @Param("courseTitleId") Integer courseTitleId,
+                       @Param("lastPage") int lastPage);
+
+    /**
+     * Moves progress of a course owner from the current page to the next one, if the current page has been reached.
+     * Course owner without progress gets progress on the next page when leaving the first page, otherwise on the first page,
+     * so that the redirect to the next page after finishing the first one is not rejected.
+     * Users without the course owner role are left without changes.
+     *
+     * @param userId          id of the user
+     * @param courseTitleId   id of the course title
+     * @param courseOwnerRole name of the role that grants access to the course
+     * @param currentPage     page that the user has finished
+     * @param nextPage        page to move to
+     * @return 1 if progress was created or moved forward, otherwise 0
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO t_course_progress (user_id, course_title_id, last_page) "
+            + "SELECT ur.t_user_id, :courseTitleId, CASE WHEN :currentPage = 1 THEN :nextPage ELSE 1 END "
+            + "FROM t_user_roles ur JOIN t_role r ON r.id = ur.roles_id "
+            + "WHERE ur.t_user_id = :userId AND r.role_name = :courseOwnerRole "
+            + "ON CONFLICT (user_id, course_title_id) DO UPDATE SET last_page = :nextPage "
+            + "WHERE t_course_progress.last_page >= :currentPage AND t_course_progress.last_page < :nextPage", nativeQuery = true)
+    int advance(@Param("userId") Integer userId, @Param("courseTitleId") Integer courseTitleId,
+                @Param("courseOwnerRole") String courseOwnerRole,
+                @Param("currentPage") int currentPage, @Param("nextPage") int nextPage);
+}
@@ -2,18 +2,77 @@ package com.github.vladyslavbabenko.mycoloroflife.repository;
 
 import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
 import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.CourseCatalogPage;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.CoursePageRow;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 /**
  * {@link Repository} for handling with {@link Course} entity.
  */
 
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Integer> {
+    /**
+     * Finds all {@link Course} pages together with their {@link CourseTitle} in one query.
+     *
+     * @return List of Courses from database
+     */
+    @Override
+    @EntityGraph(Course.GRAPH_COURSE_TITLE)
+    List<Course> findAll();
+
+    /**
+     * Finds all {@link Course} pages of all courses, without their text.
+     *
+     * @return List of pages from database
+     */
+    @Query("SELECT c.courseTitle.id AS courseTitleId, c.id AS courseId, c.page AS page, c.videoTitle AS videoTitle FROM t_course c")
+    List<CourseCatalogPage> findAllCatalogPages();
+
+    /**
+     * Finds all {@link Course} pages of the {@link CourseTitle}, without their text.
+     *
+     * @param courseTitleId id of the course title
+     * @return List of pages from database
+     */
+    @Query("SELECT c.courseTitle.id AS courseTitleId, c.id AS courseId, c.page AS page, c.videoTitle AS videoTitle "
+            + "FROM t_course c WHERE c.courseTitle.id = :courseTitleId")
+    List<CourseCatalogPage> findAllCatalogPagesByCourseTitleId(@Param("courseTitleId") Integer courseTitleId);
+
+    /**
+     * Finds a {@link Course} page with its {@link CourseTitle}, whether the user has the course owner role,
+     * the last page of the course visited by the user and the last page of the course, in one query.
+     *
+     * @param title           title of the course
+     * @param page            page to search
+     * @param userId          id of the user
+     * @param courseOwnerRole name of the course owner role of the course
+     * @return Optional row from database, empty Optional if there is no course with provided title
+     */
+    @Query(value = "SELECT ct.id AS \"courseTitleId\", ct.title AS title, ct.description AS description, "
+            + "c.id AS \"courseId\", c.page AS page, c.video_title AS \"videoTitle\", c.video_link AS \"videoLink\", c.text AS text, "
+            + "EXISTS (SELECT 1 FROM t_user_roles ur JOIN t_role r ON r.id = ur.roles_id "
+            + "WHERE ur.t_user_id = :userId AND r.role_name = :courseOwnerRole) AS entitled, "
+            + "(SELECT cp.last_page FROM t_course_progress cp "
+            + "WHERE cp.user_id = :userId AND cp.course_title_id = ct.id) AS \"lastVisitedPage\", "
+            + "(SELECT MAX(lc.page) FROM t_course lc WHERE lc.course_title_id = ct.id) AS \"lastCoursePage\" "
+            + "FROM t_course_title ct "
+            + "LEFT JOIN t_course c ON c.course_title_id = ct.id AND c.page = :page "
+            + "WHERE ct.title = :title", nativeQuery = true)
+    Optional<CoursePageRow> findCoursePage(@Param("title") String title, @Param("page") int page,
+                                           @Param("userId") Integer userId, @Param("courseOwnerRole") String courseOwnerRole);
+
     /**
      * Finds all {@link Course} by {@link CourseTitle}.
      *
@@ -45,6 +104,7 @@ public interface CourseRepository extends JpaRepository<Course, Integer> {
      * @param page        page to search
      * @return Optional Course from database, otherwise empty Optional
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<Course> findByCourseTitleAndPage(CourseTitle courseTitle, Integer page);
 
     /**
@@ -70,5 +130,6 @@ public interface CourseRepository extends JpaRepository<Course, Integer> {
      * @param page        page to search
      * @return true if exists, otherwise false
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     boolean existsByCourseTitleAndPage(CourseTitle courseTitle, Integer page);
 }
\ No newline at end of file
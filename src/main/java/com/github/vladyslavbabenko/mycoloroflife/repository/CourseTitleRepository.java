@@ -1,24 +1,50 @@
 package com.github.vladyslavbabenko.mycoloroflife.repository;
 
+import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
 import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.CourseSearchHit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 /**
  * {@link Repository} for handling with {@link CourseTitle} entity.
  */
 
 @Repository
 public interface CourseTitleRepository extends JpaRepository<CourseTitle, Integer> {
+    /**
+     * {@link CourseSearchHit} rows of courses and course pages containing a word similar to :query,
+     * the word similarity operator is served by the trigram indexes.
+     */
+    String COURSE_SEARCH_HITS = "SELECT ct.id AS \"courseTitleId\", ct.title AS title, ct.description AS description, "
+            + "CAST(NULL AS INTEGER) AS page, CAST(NULL AS VARCHAR) AS \"videoTitle\", "
+            + "CAST(GREATEST(word_similarity(:query, ct.title), word_similarity(:query, ct.description)) AS DOUBLE PRECISION) AS score "
+            + "FROM t_course_title ct "
+            + "WHERE :query <% ct.title OR :query <% ct.description "
+            + "UNION ALL "
+            + "SELECT ct.id, ct.title, ct.description, c.page, c.video_title, "
+            + "CAST(GREATEST(word_similarity(:query, c.video_title), word_similarity(:query, c.text)) AS DOUBLE PRECISION) "
+            + "FROM t_course c JOIN t_course_title ct ON ct.id = c.course_title_id "
+            + "WHERE :query <% c.video_title OR :query <% c.text ";
+
     /**
      * Finds {@link CourseTitle} by title.
      *
      * @param title title to search
      * @return Optional CourseTitle from database, otherwise empty Optional
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<CourseTitle> findByTitle(String title);
 
     /**
@@ -29,6 +55,34 @@ public interface CourseTitleRepository extends JpaRepository<CourseTitle, Intege
      */
     Optional<List<CourseTitle>> findAllByTitleContains(String keyword);
 
+    /**
+     * Finds a page of {@link CourseTitle}, without counting all CourseTitles.
+     *
+     * @param pageable page to load, including its sort order
+     * @return List of CourseTitles from database, otherwise empty List
+     */
+    List<CourseTitle> findAllBy(Pageable pageable);
+
+    /**
+     * Finds a page of {@link CourseTitle} and {@link Course} pages similar to the query, tolerating typos,
+     * most similar first, without counting all matches.
+     *
+     * @param query    text to search
+     * @param pageable page to load, its sort order is ignored
+     * @return List of search hits from database, otherwise empty List
+     */
+    @Query(value = COURSE_SEARCH_HITS + "ORDER BY score DESC, \"courseTitleId\" DESC, page NULLS FIRST", nativeQuery = true)
+    List<CourseSearchHit> searchCourses(@Param("query") String query, Pageable pageable);
+
+    /**
+     * Counts {@link CourseTitle} and {@link Course} pages similar to the query.
+     *
+     * @param query text to search
+     * @return number of search hits
+     */
+    @Query(value = "SELECT COUNT(*) FROM (" + COURSE_SEARCH_HITS + ") hits", nativeQuery = true)
+    long countCourseSearchHits(@Param("query") String query);
+
     /**
      * Finds all {@link CourseTitle} by id.
      *
@@ -43,5 +97,15 @@ public interface CourseTitleRepository extends JpaRepository<CourseTitle, Intege
      * @param title title to search
      * @return true if exists, otherwise false
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     boolean existsByTitle(String title);
-}
\ No newline at end of file
+
+    /**
+     * Finds a {@link CourseTitle} by id together with all its {@link Course} pages.
+     *
+     * @param id id to search
+     * @return Optional CourseTitle from database, otherwise empty Optional
+     */
+    @EntityGraph(CourseTitle.GRAPH_COURSES)
+    Optional<CourseTitle> findWithCoursesById(Integer id);
+}
@@ -1,9 +1,15 @@
 package com.github.vladyslavbabenko.mycoloroflife.repository;
 
 import com.github.vladyslavbabenko.mycoloroflife.entity.Event;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.Authorship;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.EventSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +19,20 @@ import java.util.Optional;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Integer> {
+    /**
+     * Number of characters of the text returned as {@link EventSummary#getExcerpt()}.
+     */
+    int EXCERPT_LENGTH = 300;
+
+    /**
+     * Select list shared by the {@link EventSummary} queries, authors are aggregated into one column, empty without authors.
+     */
+    String SUMMARY_SELECT = "SELECT e.id AS id, e.title AS title, e.date_time_of_creation AS \"dateTimeOfCreation\", "
+            + "LEFT(e.text, " + EXCERPT_LENGTH + ") AS excerpt, coalesce(string_agg(u.name, ', ' ORDER BY u.name), '') AS authors "
+            + "FROM t_event e "
+            + "LEFT JOIN t_event_users eu ON eu.t_event_id = e.id "
+            + "LEFT JOIN t_user u ON u.id = eu.users_id ";
+
     /**
      * Finds an {@link Event} by title.
      *
@@ -29,6 +49,56 @@ public interface EventRepository extends JpaRepository<Event, Integer> {
      */
     Optional<List<Event>> findByTitleContains(String keyword);
 
+    /**
+     * Finds a page of {@link EventSummary}, newest first, without counting all events.
+     *
+     * @param pageable page to load, its sort order is ignored
+     * @return List of event summaries from database, otherwise empty List
+     */
+    @Query(value = SUMMARY_SELECT + "GROUP BY e.id ORDER BY e.id DESC", nativeQuery = true)
+    List<EventSummary> findSummaries(Pageable pageable);
+
+    /**
+     * Finds a page of {@link EventSummary} matching a full-text query over title and text,
+     * best matches first, matches in title rank higher than matches in text.
+     *
+     * @param query    tsquery, see {@link com.github.vladyslavbabenko.mycoloroflife.util.SearchQueryUtil#toPrefixQuery(String)}
+     * @param pageable page to load, its sort order is ignored
+     * @return List of event summaries from database, otherwise empty List
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE e.search_vector @@ to_tsquery('simple', :query) GROUP BY e.id "
+            + "ORDER BY ts_rank(e.search_vector, to_tsquery('simple', :query)) DESC, e.id DESC", nativeQuery = true)
+    List<EventSummary> findSummariesMatching(@Param("query") String query, Pageable pageable);
+
+    /**
+     * Counts {@link Event} matching a full-text query over title and text.
+     *
+     * @param query tsquery, see {@link com.github.vladyslavbabenko.mycoloroflife.util.SearchQueryUtil#toPrefixQuery(String)}
+     * @return number of matching events
+     */
+    @Query(value = "SELECT COUNT(*) FROM t_event e WHERE e.search_vector @@ to_tsquery('simple', :query)", nativeQuery = true)
+    long countMatching(@Param("query") String query);
+
+    /**
+     * Finds {@link EventSummary} with id lower than the provided one, newest first. Used for keyset pagination.
+     *
+     * @param id    id of the last event that has already been shown
+     * @param limit maximum number of events to load
+     * @return List of event summaries from database, otherwise empty List
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE e.id < :id GROUP BY e.id ORDER BY e.id DESC LIMIT :limit", nativeQuery = true)
+    List<EventSummary> findSummariesOlderThan(@Param("id") Integer id, @Param("limit") int limit);
+
+    /**
+     * Finds {@link EventSummary} with id greater than the provided one, oldest first. Used for keyset pagination.
+     *
+     * @param id    id of the first event that has already been shown
+     * @param limit maximum number of events to load
+     * @return List of event summaries from database, otherwise empty List
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE e.id > :id GROUP BY e.id ORDER BY e.id ASC LIMIT :limit", nativeQuery = true)
+    List<EventSummary> findSummariesNewerThan(@Param("id") Integer id, @Param("limit") int limit);
+
     /**
      * Finds an {@link Event} by title.
      *
@@ -36,4 +106,14 @@ public interface EventRepository extends JpaRepository<Event, Integer> {
      * @return true if exists, otherwise false
      */
     boolean existsByTitle(String title);
-}
\ No newline at end of file
+
+    /**
+     * Finds authors of the given {@link Event} entities with one query.
+     *
+     * @param ids ids of events
+     * @return List of event ids with ids of their authors
+     */
+    @Query(value = "SELECT eu.t_event_id AS \"contentId\", eu.users_id AS \"authorId\" FROM t_event_users eu "
+            + "WHERE eu.t_event_id IN (:ids)", nativeQuery = true)
+    List<Authorship> findAuthorships(@Param("ids") Collection<Integer> ids);
+}
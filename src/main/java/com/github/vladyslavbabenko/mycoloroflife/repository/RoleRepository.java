@@ -2,10 +2,16 @@ package com.github.vladyslavbabenko.mycoloroflife.repository;
 
 import com.github.vladyslavbabenko.mycoloroflife.entity.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 /**
  * {@link Repository} for handling with {@link Role} entity.
  */
@@ -18,6 +24,7 @@ public interface RoleRepository extends JpaRepository<Role, Integer> {
      * @param roleName roleName to search
      * @return Optional Role from database, otherwise empty Optional
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<Role> findByRoleName(String roleName);
 
     /**
@@ -26,5 +33,17 @@ public interface RoleRepository extends JpaRepository<Role, Integer> {
      * @param roleName roleName to search
      * @return true if exists, otherwise false
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     boolean existsByRoleName(String roleName);
+
+    /**
+     * Checks whether a user has a {@link Role}, without loading the user. Not cached, so that a revoked role takes effect at once.
+     *
+     * @param userId   id of the user
+     * @param roleName roleName to check
+     * @return true if the user has the role, otherwise false
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM t_user_roles ur JOIN t_role r ON r.id = ur.roles_id "
+            + "WHERE ur.t_user_id = :userId AND r.role_name = :roleName)", nativeQuery = true)
+    boolean existsByUserIdAndRoleName(@Param("userId") Integer userId, @Param("roleName") String roleName);
 }
\ No newline at end of file
@@ -1,23 +1,91 @@
 package com.github.vladyslavbabenko.mycoloroflife.repository;
 
 import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.AuthorSummary;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.AnnouncementRecipient;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * {@link Repository} for handling with {@link User} entity.
+ * Associations of {@link User} are lazy, so every finder declares the entity graph of its use case.
  */
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Integer> {
     /**
-     * Finds a {@link User} by username. (username == email)
+     * Finds a {@link User} by username with roles only, for authentication. (username == email)
      *
      *
      * @param email email to search
      * @return Optional user from database, otherwise empty Optional
      */
+    @EntityGraph(User.GRAPH_AUTHENTICATION)
     Optional<User> findByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * Finds a {@link User} by username with roles, activation codes and course progress. (username == email)
+     *
+     * @param email email to search
+     * @return Optional user from database, otherwise empty Optional
+     */
+    @EntityGraph(User.GRAPH_PRIVATE_AREA)
+    Optional<User> findWithPrivateAreaByEmail(String email);
+
+    /**
+     * Finds a {@link User} by id with roles, activation codes and course progress.
+     *
+     * @param id id to search
+     * @return Optional user from database, otherwise empty Optional
+     */
+    @EntityGraph(User.GRAPH_PRIVATE_AREA)
+    Optional<User> findWithPrivateAreaById(Integer id);
+
+    /**
+     * Finds a {@link User} by id with roles and activation codes.
+     *
+     * @param id id to search
+     * @return Optional user from database, otherwise empty Optional
+     */
+    @Override
+    @EntityGraph(User.GRAPH_SUMMARY)
+    Optional<User> findById(Integer id);
+
+    /**
+     * Finds all {@link User} entities with roles and activation codes, for the admin panel.
+     *
+     * @return List of users
+     */
+    @Override
+    @EntityGraph(User.GRAPH_SUMMARY)
+    List<User> findAll();
+
+    /**
+     * Finds ids and names of the given {@link User} entities with one query, without loading the entities.
+     *
+     * @param ids ids of users
+     * @return List of author summaries
+     */
+    @Query("SELECT new com.github.vladyslavbabenko.mycoloroflife.entity.dto.AuthorSummary(u.id, u.name) "
+            + "FROM t_user u WHERE u.id IN :ids")
+    List<AuthorSummary> findAuthorSummaries(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Finds {@link AnnouncementRecipient} of users with a confirmed email and id greater than the provided one, in id order.
+     * Used for keyset pagination over all users without loading the entities.
+     *
+     * @param id    id of the last user that has already been processed
+     * @param limit maximum number of users to load
+     * @return List of announcement recipients from database, otherwise empty List
+     */
+    @Query(value = "SELECT u.id AS id, u.email AS email, u.name AS name, u.locale AS locale FROM t_user u "
+            + "WHERE u.is_email_confirmed AND u.id > :id ORDER BY u.id LIMIT :limit", nativeQuery = true)
+    List<AnnouncementRecipient> findAnnouncementRecipientsAfter(@Param("id") Integer id, @Param("limit") int limit);
+}
@@ -110,4 +110,14 @@ public interface ActivationCodeService {
      * @return generated {@link ActivationCode}
      */
     ActivationCode createCode(CourseTitle courseTitle, User user);
+
+    /**
+     * Creates new {@link ActivationCode} for specified {@link CourseTitle} and {@link User}
+     * and queues an email with the code in the same transaction.
+     *
+     * @param user        the user for whom the code will be generated
+     * @param courseTitle courseTitle to be assigned to the generated code
+     * @return generated {@link ActivationCode}
+     */
+    ActivationCode createCodeAndSendEmail(CourseTitle courseTitle, User user);
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package com.github.vladyslavbabenko.mycoloroflife.service;
 
 import com.github.vladyslavbabenko.mycoloroflife.entity.Article;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CursorPage;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.ArticleSummary;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -18,6 +21,33 @@ public interface ArticleService {
      */
     List<Article> getAllArticles();
 
+    /**
+     * Get a page of {@link ArticleSummary} objects, newest first.
+     *
+     * @param pageNumber number of the page, starting from 1
+     * @param pageSize   number of articles per page
+     * @return the page of {@link ArticleSummary} objects with the total number of articles.
+     */
+    Page<ArticleSummary> getArticlesPage(int pageNumber, int pageSize);
+
+    /**
+     * Get {@link ArticleSummary} objects older than the one the cursor points at, newest first.
+     *
+     * @param cursor   opaque cursor of the last shown article, the newest articles are returned if it is missing or malformed
+     * @param pageSize number of articles per page
+     * @return {@link CursorPage} of {@link ArticleSummary} objects with cursors to the neighbouring pages.
+     */
+    CursorPage<ArticleSummary> getArticlesAfter(String cursor, int pageSize);
+
+    /**
+     * Get {@link ArticleSummary} objects newer than the one the cursor points at, newest first.
+     *
+     * @param cursor   opaque cursor of the first shown article, the newest articles are returned if it is missing or malformed
+     * @param pageSize number of articles per page
+     * @return {@link CursorPage} of {@link ArticleSummary} objects with cursors to the neighbouring pages.
+     */
+    CursorPage<ArticleSummary> getArticlesBefore(String cursor, int pageSize);
+
     /**
      * Finds all {@link Article} with keyword in title or text.
      *
@@ -26,6 +56,17 @@ public interface ArticleService {
      */
     List<Article> findByKeyword(String keyword);
 
+    /**
+     * Finds a page of {@link ArticleSummary} with every word of keyword in title or text,
+     * best matches first. Without any word in keyword all entries are listed, newest first.
+     *
+     * @param keyword    keyword to search
+     * @param pageNumber number of the page, starting from 1
+     * @param pageSize   number of articles per page
+     * @return the page of existing articles from database with the total number of matching articles
+     */
+    Page<ArticleSummary> findByKeyword(String keyword, int pageNumber, int pageSize);
+
     /**
      * Find {@link Article} by articleId.
      *
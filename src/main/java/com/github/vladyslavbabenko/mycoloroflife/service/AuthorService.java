@@ -0,0 +1,55 @@
+package com.github.vladyslavbabenko.mycoloroflife.service;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.Article;
+import com.github.vladyslavbabenko.mycoloroflife.entity.Event;
+import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.AuthorSummary;
+import com.github.vladyslavbabenko.mycoloroflife.enumeration.ContentType;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link Service} for finding authors of {@link Article} and {@link Event} entities without loading {@link User} entities.
+ * Names of authors are cached, so usually only the join table is queried.
+ */
+
+public interface AuthorService {
+
+    /**
+     * Finds authors of several entries with one query.
+     *
+     * @param contentType {@link ContentType#ARTICLE} or {@link ContentType#EVENT}
+     * @param contentIds  ids of entries
+     * @return authors of every entry by its id, sorted by name, entries without authors are absent
+     */
+    Map<Integer, List<AuthorSummary>> getAuthors(ContentType contentType, Collection<Integer> contentIds);
+
+    /**
+     * Finds authors of an entry.
+     *
+     * @param contentType {@link ContentType#ARTICLE} or {@link ContentType#EVENT}
+     * @param contentId   id of the entry
+     * @return List of authors sorted by name, empty List if entry has no authors
+     */
+    List<AuthorSummary> getAuthors(ContentType contentType, Integer contentId);
+
+    /**
+     * Checks if user is one of the authors of an entry.
+     *
+     * @param contentType {@link ContentType#ARTICLE} or {@link ContentType#EVENT}
+     * @param contentId   id of the entry
+     * @param userId      id of the user
+     * @return true if user is an author, otherwise false
+     */
+    boolean isAuthor(ContentType contentType, Integer contentId, Integer userId);
+
+    /**
+     * Drops the cached name of a user, to be called when the user is renamed or deleted.
+     *
+     * @param userId id of the user
+     */
+    void evict(Integer userId);
+}
@@ -0,0 +1,25 @@
+package com.github.vladyslavbabenko.mycoloroflife.service;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CacheStatistics;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * {@link Service} for monitoring the second-level cache of reference entities and the query cache.
+ */
+
+public interface CacheStatisticsService {
+
+    /**
+     * Get statistics of entity regions and of the query cache.
+     *
+     * @return List of statistics, one per region
+     */
+    List<CacheStatistics> getStatistics();
+
+    /**
+     * Evicts all entities and query results, e.g. after the database was changed bypassing the application.
+     */
+    void evictAll();
+}
@@ -0,0 +1,39 @@
+package com.github.vladyslavbabenko.mycoloroflife.service;
+
+import com.github.vladyslavbabenko.mycoloroflife.enumeration.ContentType;
+import org.springframework.stereotype.Service;
+
+/**
+ * {@link Service} for keeping the number of entries of every {@link ContentType},
+ * so that pagination controls can be rendered without counting rows on every request.
+ */
+
+public interface ContentCounterService {
+
+    /**
+     * Get the total number of entries.
+     *
+     * @param contentType type of content
+     * @return number of entries, counted in database on first use and maintained incrementally after that
+     */
+    long getTotal(ContentType contentType);
+
+    /**
+     * Registers a newly saved entry.
+     *
+     * @param contentType type of content
+     */
+    void onSaved(ContentType contentType);
+
+    /**
+     * Registers a deleted entry.
+     *
+     * @param contentType type of content
+     */
+    void onDeleted(ContentType contentType);
+
+    /**
+     * Recounts all totals in database, to correct counters missing changes made by other instances of the application.
+     */
+    void reconcile();
+}
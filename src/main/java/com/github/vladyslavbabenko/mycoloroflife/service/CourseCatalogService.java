@@ -0,0 +1,34 @@
+package com.github.vladyslavbabenko.mycoloroflife.service;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
+import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
+import com.github.vladyslavbabenko.mycoloroflife.util.CourseCatalog;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * {@link Service} for the in-memory table of contents of every {@link CourseTitle}.
+ * The catalog is rebuilt as a whole when {@link Course} pages or {@link CourseTitle} entities change.
+ */
+
+public interface CourseCatalogService {
+    /**
+     * Finds the table of contents of the course, without querying database if the course is in the catalog.
+     *
+     * @param title title of the course
+     * @return Optional table of contents, empty Optional if there is no course with provided title
+     */
+    Optional<CourseCatalog.TableOfContents> findByTitle(String title);
+
+    /**
+     * Rebuilds the catalog once the current transaction, if any, is committed.
+     * To be called after {@link Course} pages or {@link CourseTitle} entities have been changed.
+     */
+    void onChanged();
+
+    /**
+     * Rebuilds the catalog from database
+     */
+    void rebuild();
+}
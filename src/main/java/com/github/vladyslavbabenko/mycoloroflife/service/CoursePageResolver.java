@@ -0,0 +1,23 @@
+package com.github.vladyslavbabenko.mycoloroflife.service;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CoursePage;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * {@link Service} for resolving a {@link Course} page for the current user in one database round trip.
+ */
+
+public interface CoursePageResolver {
+    /**
+     * Resolves the page of the course, whether the current user owns the course, the last page visited by the user
+     * and the last page of the course.
+     *
+     * @param title title of the course
+     * @param page  number of the page
+     * @return Optional CoursePage, empty Optional if there is no course with provided title
+     */
+    Optional<CoursePage> resolve(String title, int page);
+}
@@ -0,0 +1,48 @@
+package com.github.vladyslavbabenko.mycoloroflife.service;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CourseProgressBufferStatistics;
+import org.springframework.stereotype.Service;
+
+import java.util.OptionalInt;
+
+/**
+ * {@link Service} for the optional write-behind mode of course progress.
+ * Page advances are kept in memory, merged per user and course title, and written to database in batches
+ * on a fixed interval and on shutdown. Progress that is not flushed yet is lost if the application crashes.
+ */
+
+public interface CourseProgressBufferService {
+
+    /**
+     * @return true if page advances are buffered, otherwise they are written immediately
+     */
+    boolean isEnabled();
+
+    /**
+     * Buffers the last page reached by the user. The progress must already exist in database.
+     *
+     * @param userId        id of the user
+     * @param courseTitleId id of the course title
+     * @param lastPage      reached page
+     */
+    void record(Integer userId, Integer courseTitleId, int lastPage);
+
+    /**
+     * @param userId        id of the user
+     * @param courseTitleId id of the course title
+     * @return last page that is not written to database yet, otherwise empty OptionalInt
+     */
+    OptionalInt findLastPage(Integer userId, Integer courseTitleId);
+
+    /**
+     * Writes buffered progress to database in batches, progress is only moved forward.
+     *
+     * @return number of written updates
+     */
+    int flush();
+
+    /**
+     * @return depth of the buffer, merge ratio of updates and flush latency
+     */
+    CourseProgressBufferStatistics getStatistics();
+}
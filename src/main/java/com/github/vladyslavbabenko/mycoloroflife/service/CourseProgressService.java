@@ -1,7 +1,7 @@
 package com.github.vladyslavbabenko.mycoloroflife.service;
 
-import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
 import com.github.vladyslavbabenko.mycoloroflife.entity.CourseProgress;
+import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
 import com.github.vladyslavbabenko.mycoloroflife.entity.User;
 import org.springframework.stereotype.Service;
 
@@ -29,22 +29,22 @@ public interface CourseProgressService {
     Optional<List<CourseProgress>> findAllByUser(User user);
 
     /**
-     * Finds an {@link CourseProgress} by {@link User} and {@link Course}.
+     * Finds an {@link CourseProgress} by {@link User} and {@link CourseTitle}.
      *
-     * @param user   user to search
-     * @param course course to search
+     * @param user        user to search
+     * @param courseTitle course title to search
      * @return Optional CourseProgress from database, otherwise empty Optional
      */
-    Optional<CourseProgress> findByUserAndCourse(User user, Course course);
+    Optional<CourseProgress> findByUserAndCourseTitle(User user, CourseTitle courseTitle);
 
     /**
-     * Finds an {@link CourseProgress} by {@link User} and {@link Course}.
+     * Finds an {@link CourseProgress} by {@link User} and {@link CourseTitle}.
      *
-     * @param user   user to search
-     * @param course course to search
+     * @param user        user to search
+     * @param courseTitle course title to search
      * @return true if exists, otherwise false
      */
-    boolean existsByUserAndCourse(User user, Course course);
+    boolean existsByUserAndCourseTitle(User user, CourseTitle courseTitle);
 
     /**
      * Finds an {@link CourseProgress} by {@link User}
@@ -55,10 +55,20 @@ public interface CourseProgressService {
     boolean existsByUser(User user);
 
     /**
-     * Save provided {@link CourseProgress} entity.
+     * Finds the last page of the course that the user has reached.
      *
-     * @param courseProgressToSave provided CourseProgress to save.
-     * @return true if operation was successful, otherwise false.
+     * @param userId        id of the user
+     * @param courseTitleId id of the course title
+     * @return last reached page, or -1 if the user has no progress in the course
+     */
+    int getLastPage(Integer userId, Integer courseTitleId);
+
+    /**
+     * Save provided {@link CourseProgress} entity with one statement.
+     * Existing progress of the user in the same course is only moved forward.
+     *
+     * @param courseProgressToSave provided CourseProgress to save, last page defaults to the first one.
+     * @return true if progress was created or moved forward, otherwise false.
      */
     boolean save(CourseProgress courseProgressToSave);
 
@@ -71,10 +81,14 @@ public interface CourseProgressService {
     boolean delete(Integer courseProgressId);
 
     /**
-     * Update provided {@link CourseProgress} entity.
+     * Moves progress of the course owner from the current page to the next one with one statement,
+     * only if the current page has been reached. Repeated requests leave the progress unchanged.
      *
-     * @param updatedCourseProgress CourseProgress with updated fields that will replace the old ones.
-     * @return true if operation was successful, otherwise false.
+     * @param userId      id of the user
+     * @param courseTitle course title
+     * @param currentPage page that the user has finished
+     * @param nextPage    page to move to
+     * @return true if progress was created or moved forward, otherwise false.
      */
-    boolean update(CourseProgress updatedCourseProgress);
+    boolean advance(Integer userId, CourseTitle courseTitle, int currentPage, int nextPage);
 }
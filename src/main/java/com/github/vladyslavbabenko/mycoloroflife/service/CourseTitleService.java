@@ -2,6 +2,8 @@ package com.github.vladyslavbabenko.mycoloroflife.service;
 
 import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
 import com.github.vladyslavbabenko.mycoloroflife.entity.Role;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CourseSearchResult;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -29,6 +31,16 @@ public interface CourseTitleService {
      */
     List<CourseTitle> findAllByCourseTitleContains(String keyword);
 
+    /**
+     * Searches courses and course pages by title, description, video title and text, tolerating typos.
+     *
+     * @param query      text to search
+     * @param pageNumber number of the page, starting from 1
+     * @param pageSize   number of results per page
+     * @return the page of results, most similar first, each marked as accessible if the current user owns the course
+     */
+    Page<CourseSearchResult> searchCourses(String query, int pageNumber, int pageSize);
+
     /**
      * Get all {@link CourseTitle} entities.
      *
@@ -36,6 +48,15 @@ public interface CourseTitleService {
      */
     List<CourseTitle> getAllCourseTitles();
 
+    /**
+     * Get a page of {@link CourseTitle} entities, newest first.
+     *
+     * @param pageNumber number of the page, starting from 1
+     * @param pageSize   number of {@link CourseTitle} per page
+     * @return the page of {@link CourseTitle} objects with the total number of titles.
+     */
+    Page<CourseTitle> getCourseTitlesPage(int pageNumber, int pageSize);
+
     /**
      * Find {@link CourseTitle} by CourseTitleId.
      *
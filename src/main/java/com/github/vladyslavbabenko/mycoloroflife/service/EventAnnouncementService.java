@@ -0,0 +1,40 @@
+package com.github.vladyslavbabenko.mycoloroflife.service;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.Event;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.EventAnnouncementStatistics;
+import org.springframework.stereotype.Service;
+
+/**
+ * {@link Service} for announcing new {@link Event} entities by email to every user with a confirmed email.
+ * Recipients are read in pages ordered by id and the progress is saved after every page,
+ * so an announcement interrupted by a shutdown or a crash is resumed from the last saved page.
+ */
+
+public interface EventAnnouncementService {
+
+    /**
+     * Starts announcing an {@link Event} in the background, every event is announced only once.
+     *
+     * @param event saved {@link Event} to announce
+     * @return true if the announcement has been started, false if announcements are disabled or the event has been announced already
+     */
+    boolean announce(Event event);
+
+    /**
+     * Hands {@link #resume()} over to the announcer thread and returns immediately,
+     * nothing is handed over while an earlier resume is still waiting for the announcer.
+     */
+    void scheduleResume();
+
+    /**
+     * Claims running announcements one at a time and sends them from their last saved page to the end.
+     *
+     * @return number of sent emails
+     */
+    int resume();
+
+    /**
+     * @return number of running and completed announcements and of emails sent by them
+     */
+    EventAnnouncementStatistics getStatistics();
+}
@@ -1,6 +1,9 @@
 package com.github.vladyslavbabenko.mycoloroflife.service;
 
 import com.github.vladyslavbabenko.mycoloroflife.entity.Event;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CursorPage;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.EventSummary;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -18,6 +21,33 @@ public interface EventService {
      */
     List<Event> getAllEvents();
 
+    /**
+     * Get a page of {@link EventSummary} objects, newest first.
+     *
+     * @param pageNumber number of the page, starting from 1
+     * @param pageSize   number of Events per page
+     * @return the page of {@link EventSummary} objects with the total number of Events.
+     */
+    Page<EventSummary> getEventsPage(int pageNumber, int pageSize);
+
+    /**
+     * Get {@link EventSummary} objects older than the one the cursor points at, newest first.
+     *
+     * @param cursor   opaque cursor of the last shown event, the newest events are returned if it is missing or malformed
+     * @param pageSize number of events per page
+     * @return {@link CursorPage} of {@link EventSummary} objects with cursors to the neighbouring pages.
+     */
+    CursorPage<EventSummary> getEventsAfter(String cursor, int pageSize);
+
+    /**
+     * Get {@link EventSummary} objects newer than the one the cursor points at, newest first.
+     *
+     * @param cursor   opaque cursor of the first shown event, the newest events are returned if it is missing or malformed
+     * @param pageSize number of events per page
+     * @return {@link CursorPage} of {@link EventSummary} objects with cursors to the neighbouring pages.
+     */
+    CursorPage<EventSummary> getEventsBefore(String cursor, int pageSize);
+
     /**
      * Finds all {@link Event} with keyword in title or text.
      *
@@ -26,6 +56,17 @@ public interface EventService {
      */
     List<Event> findByKeyword(String keyword);
 
+    /**
+     * Finds a page of {@link EventSummary} with every word of keyword in title or text,
+     * best matches first. Without any word in keyword all entries are listed, newest first.
+     *
+     * @param keyword    keyword to search
+     * @param pageNumber number of the page, starting from 1
+     * @param pageSize   number of Events per page
+     * @return the page of Events from database with the total number of matching Events
+     */
+    Page<EventSummary> findByKeyword(String keyword, int pageNumber, int pageSize);
+
     /**
      * Find {@link Event} by eventId.
      *
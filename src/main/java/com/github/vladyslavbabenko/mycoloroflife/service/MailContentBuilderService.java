@@ -1,8 +1,9 @@
 package com.github.vladyslavbabenko.mycoloroflife.service;
 
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.MailModel;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.Locale;
 
 /**
  * {@link Service} for building mail templates.
@@ -11,18 +12,19 @@ import java.util.List;
 public interface MailContentBuilderService {
 
     /**
-     * Builds a Thymeleaf HTML template
+     * Builds a Thymeleaf HTML template in the locale of the current request
      *
-     * @param string       string value to be added to the template
+     * @param model        values to be added to the template
      * @param templatePath path to Thymeleaf HTML template
      */
-    String build(String string, String templatePath);
+    String build(MailModel model, String templatePath);
 
     /**
      * Builds a Thymeleaf HTML template
      *
-     * @param strings      A list of string values to be added to the template
+     * @param model        values to be added to the template
      * @param templatePath path to Thymeleaf HTML template
+     * @param locale       locale of the template
      */
-    String build(List<String> strings, String templatePath);
-}
\ No newline at end of file
+    String build(MailModel model, String templatePath, Locale locale);
+}
@@ -0,0 +1,30 @@
+package com.github.vladyslavbabenko.mycoloroflife.service;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.MailDispatchStatistics;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link Service} for sending mail off the request thread.
+ * Mail is delivered by a bounded pool of workers through {@link MailSenderService},
+ * failed deliveries are retried by {@link MailOutboxService}.
+ */
+
+public interface MailDispatchService {
+
+    /**
+     * Makes a single attempt to send an email on the worker pool, failures are not retried.
+     *
+     * @param to      where email will be sent
+     * @param subject subject of an email
+     * @param text    email text
+     * @return future completed with true if email was sent, false if it was not sent or rejected
+     */
+    CompletableFuture<Boolean> send(String to, String subject, String text);
+
+    /**
+     * @return queue depth, send latency and failures
+     */
+    MailDispatchStatistics getStatistics();
+}
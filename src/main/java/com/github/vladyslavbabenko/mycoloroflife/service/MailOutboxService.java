@@ -0,0 +1,44 @@
+package com.github.vladyslavbabenko.mycoloroflife.service;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.MailModel;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.MailOutboxStatistics;
+import org.springframework.stereotype.Service;
+
+/**
+ * {@link Service} for durable mail delivery.
+ * Mail is stored in the outbox table in the transaction of the caller and sent later by a drainer,
+ * several application instances can drain the outbox at the same time without sending an email twice.
+ */
+
+public interface MailOutboxService {
+
+    /**
+     * Stores an email in the outbox, it is rendered and sent after the current transaction commits.
+     *
+     * @param to           where email will be sent
+     * @param subject      subject of an email
+     * @param templatePath template of an email
+     * @param model        values of the template
+     */
+    void enqueue(String to, String subject, String templatePath, MailModel model);
+
+    /**
+     * Claims pending emails in batches, sends them and marks them as sent,
+     * failed emails are retried with exponential backoff until the maximum number of attempts is reached.
+     *
+     * @return number of sent emails
+     */
+    int drain();
+
+    /**
+     * Deletes sent emails older than the retention period.
+     *
+     * @return number of deleted emails
+     */
+    int deleteSent();
+
+    /**
+     * @return number of emails by status and drainer timings
+     */
+    MailOutboxStatistics getStatistics();
+}
@@ -8,6 +8,7 @@ import java.util.Optional;
 
 /**
  * {@link Service} for handling with {@link Role} entity.
+ * Roles are read from an in-memory registry, changes are written to database and then to the registry.
  */
 
 public interface RoleService {
@@ -75,6 +76,20 @@ public interface RoleService {
      */
     boolean delete(Role roleToDelete);
 
+    /**
+     * Checks whether a user has a {@link Role}
+     *
+     * @param userId   id of the user
+     * @param roleName name of the role
+     * @return true if the user has the role, otherwise false
+     */
+    boolean isGranted(Integer userId, String roleName);
+
+    /**
+     * Reloads the in-memory registry of roles from database
+     */
+    void reloadRegistry();
+
     /**
      * Converts provided string into role style spelling
      *
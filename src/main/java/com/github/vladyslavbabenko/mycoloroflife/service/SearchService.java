@@ -0,0 +1,100 @@
+package com.github.vladyslavbabenko.mycoloroflife.service;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.Article;
+import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
+import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
+import com.github.vladyslavbabenko.mycoloroflife.entity.Event;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.SearchResult;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.SearchSuggestion;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * {@link Service} for searching all public content in memory, without querying the database.
+ * The index is built from the database on start-up and kept up to date by the services that change the content,
+ * it is also rebuilt periodically to pick up changes made by other instances of the application.
+ */
+
+public interface SearchService {
+
+    /**
+     * Finds {@link Article}, {@link Event}, {@link CourseTitle} and {@link Course} pages by words of their titles and texts.
+     *
+     * @param query text to search
+     * @param limit maximum number of results
+     * @return List of results, best matches first
+     */
+    List<SearchResult> search(String query, int limit);
+
+    /**
+     * Completes titles of {@link Article}, {@link Event} and {@link CourseTitle} while a query is being typed.
+     * Titles are rebuilt together with the search index, so titles changed by other instances are picked up as well.
+     *
+     * @param prefix beginning of a title or of any word in it
+     * @param limit  maximum number of suggestions
+     * @return List of suggestions, titles starting with the prefix first
+     */
+    List<SearchSuggestion> suggest(String prefix, int limit);
+
+    /**
+     * Loads all content from database into a new index, updates made meanwhile are applied to the new index.
+     */
+    void rebuildIndex();
+
+    /**
+     * Adds an {@link Article} to the index or updates it.
+     *
+     * @param article saved article
+     */
+    void indexArticle(Article article);
+
+    /**
+     * Removes an {@link Article} from the index.
+     *
+     * @param articleId id of the deleted article
+     */
+    void removeArticle(Integer articleId);
+
+    /**
+     * Adds an {@link Event} to the index or updates it.
+     *
+     * @param event saved event
+     */
+    void indexEvent(Event event);
+
+    /**
+     * Removes an {@link Event} from the index.
+     *
+     * @param eventId id of the deleted event
+     */
+    void removeEvent(Integer eventId);
+
+    /**
+     * Adds a {@link CourseTitle} with all its {@link Course} pages to the index or updates them.
+     *
+     * @param courseTitle saved courseTitle
+     */
+    void indexCourseTitle(CourseTitle courseTitle);
+
+    /**
+     * Removes a {@link CourseTitle} with all its {@link Course} pages from the index.
+     *
+     * @param courseTitle deleted courseTitle
+     */
+    void removeCourseTitle(CourseTitle courseTitle);
+
+    /**
+     * Adds a {@link Course} page to the index or updates it.
+     *
+     * @param course saved course page
+     */
+    void indexCourse(Course course);
+
+    /**
+     * Removes a {@link Course} page from the index.
+     *
+     * @param courseId id of the deleted course page
+     */
+    void removeCourse(Integer courseId);
+}
@@ -0,0 +1,17 @@
+package com.github.vladyslavbabenko.mycoloroflife.service;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * {@link Service} for deleting expired HTTP sessions from the database.
+ */
+
+public interface SessionCleanupService {
+
+    /**
+     * Deletes expired sessions with their attributes in batches, so that no statement holds locks for long.
+     *
+     * @return number of deleted sessions
+     */
+    int deleteExpiredSessions();
+}
@@ -4,6 +4,7 @@ import com.github.vladyslavbabenko.mycoloroflife.entity.ActivationCode;
 import com.github.vladyslavbabenko.mycoloroflife.entity.Role;
 import com.github.vladyslavbabenko.mycoloroflife.entity.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.oauth2.core.user.OAuth2UserAuthority;
 import org.springframework.stereotype.Service;
 
@@ -78,10 +79,30 @@ public interface UserService extends UserDetailsService {
     boolean changePassword(User updatedUser);
 
     /**
-     * @return {@link User} entity from the current session.
+     * @return {@link User} entity from the current session, only roles are loaded with it.
      */
     User getCurrentUser();
 
+    /**
+     * @return {@link User} entity from the current session with roles, activation codes and course progress.
+     */
+    User getCurrentUserWithDetails();
+
+    /**
+     * @return id of the {@link User} from the current session, taken from the principal without a lookup when possible,
+     * or null for anonymous user.
+     */
+    Integer getCurrentUserId();
+
+    /**
+     * Find {@link User} entity with roles by username.
+     *
+     * @param username {@link User}'s username
+     * @return {@link User} with the provided username.
+     * @throws UsernameNotFoundException if there is no such {@link User}.
+     */
+    User getUserByUsername(String username) throws UsernameNotFoundException;
+
     /**
      * Update provided {@link User} entity.
      *
@@ -3,8 +3,11 @@ package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
 import com.github.vladyslavbabenko.mycoloroflife.entity.ActivationCode;
 import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
 import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.MailModel;
 import com.github.vladyslavbabenko.mycoloroflife.repository.ActivationCodeRepository;
 import com.github.vladyslavbabenko.mycoloroflife.service.ActivationCodeService;
+import com.github.vladyslavbabenko.mycoloroflife.service.MailOutboxService;
+import com.github.vladyslavbabenko.mycoloroflife.util.MessageSourceUtil;
 import org.apache.commons.text.RandomStringGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,12 +30,18 @@ import java.util.Optional;
 public class ActivationCodeServiceImpl implements ActivationCodeService {
 
     private final ActivationCodeRepository codeRepository;
+    private final MailOutboxService mailOutboxService;
+    private final MessageSourceUtil messageSource;
 
     private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
     @Autowired
-    public ActivationCodeServiceImpl(ActivationCodeRepository codeRepository) {
+    public ActivationCodeServiceImpl(ActivationCodeRepository codeRepository,
+                                     MailOutboxService mailOutboxService,
+                                     MessageSourceUtil messageSource) {
         this.codeRepository = codeRepository;
+        this.mailOutboxService = mailOutboxService;
+        this.messageSource = messageSource;
     }
 
     @Override
@@ -79,6 +88,25 @@ public class ActivationCodeServiceImpl implements ActivationCodeService {
         return code;
     }
 
+    @Override
+    public ActivationCode createCodeAndSendEmail(CourseTitle courseTitle, User user) {
+        ActivationCode code = createCode(courseTitle, user);
+
+        MailModel model = MailModel.builder()
+                .name(user.getName())
+                .courseTitle(courseTitle.getTitle())
+                .code(code.getCode())
+                .build();
+
+        mailOutboxService.enqueue(user.getEmail(),
+                messageSource.getMessage("email.course.activation-code.subject") + " " + courseTitle.getTitle(),
+                messageSource.getMessage("template.email.activation-code"), model);
+
+        log.info("Activation code email queued for - {}", user.getEmail());
+
+        return code;
+    }
+
     @Override
     public boolean save(ActivationCode codeToSave) {
         if (existsByCode(codeToSave.getCode())) {
@@ -1,11 +1,21 @@
 package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
 
 import com.github.vladyslavbabenko.mycoloroflife.entity.Article;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CursorPage;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.ArticleSummary;
+import com.github.vladyslavbabenko.mycoloroflife.enumeration.ContentType;
 import com.github.vladyslavbabenko.mycoloroflife.repository.ArticleRepository;
 import com.github.vladyslavbabenko.mycoloroflife.service.ArticleService;
+import com.github.vladyslavbabenko.mycoloroflife.service.ContentCounterService;
+import com.github.vladyslavbabenko.mycoloroflife.service.SearchService;
+import com.github.vladyslavbabenko.mycoloroflife.util.PaginationUtil;
+import com.github.vladyslavbabenko.mycoloroflife.util.SearchQueryUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.lang.invoke.MethodHandles;
@@ -24,12 +34,17 @@ import java.util.Optional;
 public class ArticleServiceImpl implements ArticleService {
 
     private final ArticleRepository articleRepository;
+    private final ContentCounterService contentCounterService;
+    private final SearchService searchService;
 
     private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
     @Autowired
-    public ArticleServiceImpl(ArticleRepository articleRepository) {
+    public ArticleServiceImpl(ArticleRepository articleRepository, ContentCounterService contentCounterService,
+                              SearchService searchService) {
         this.articleRepository = articleRepository;
+        this.contentCounterService = contentCounterService;
+        this.searchService = searchService;
     }
 
     @Override
@@ -39,11 +54,59 @@ public class ArticleServiceImpl implements ArticleService {
         return articles;
     }
 
+    @Override
+    public Page<ArticleSummary> getArticlesPage(int pageNumber, int pageSize) {
+        PageRequest pageRequest = PaginationUtil.pageRequest(pageNumber, pageSize);
+
+        return new PageImpl<>(articleRepository.findSummaries(pageRequest), pageRequest,
+                contentCounterService.getTotal(ContentType.ARTICLE));
+    }
+
+    @Override
+    public CursorPage<ArticleSummary> getArticlesAfter(String cursor, int pageSize) {
+        Optional<Integer> lastShownId = PaginationUtil.decodeCursor(cursor);
+
+        List<ArticleSummary> articles = articleRepository.findSummariesOlderThan(lastShownId.orElse(Integer.MAX_VALUE), pageSize + 1);
+
+        return PaginationUtil.afterCursor(articles, pageSize, lastShownId.isPresent(), ArticleSummary::getId);
+    }
+
+    @Override
+    public CursorPage<ArticleSummary> getArticlesBefore(String cursor, int pageSize) {
+        Optional<Integer> firstShownId = PaginationUtil.decodeCursor(cursor);
+
+        if (firstShownId.isEmpty()) {
+            return getArticlesAfter(null, pageSize);
+        }
+
+        List<ArticleSummary> articles = articleRepository.findSummariesNewerThan(firstShownId.get(), pageSize + 1);
+
+        if (articles.isEmpty()) {
+            return getArticlesAfter(null, pageSize);
+        }
+
+        return PaginationUtil.beforeCursor(articles, pageSize, ArticleSummary::getId);
+    }
+
     @Override
     public List<Article> findByKeyword(String keyword) {
         return articleRepository.findByTitleContains(keyword).orElse(Collections.emptyList());
     }
 
+    @Override
+    public Page<ArticleSummary> findByKeyword(String keyword, int pageNumber, int pageSize) {
+        String query = SearchQueryUtil.toPrefixQuery(keyword);
+
+        if (query.isEmpty()) {
+            return getArticlesPage(pageNumber, pageSize);
+        }
+
+        PageRequest pageRequest = PaginationUtil.pageRequest(pageNumber, pageSize);
+
+        return new PageImpl<>(articleRepository.findSummariesMatching(query, pageRequest), pageRequest,
+                articleRepository.countMatching(query));
+    }
+
     @Override
     public Article findById(Integer articleId) {
         return articleRepository.findById(articleId).orElse(new Article());
@@ -56,6 +119,8 @@ public class ArticleServiceImpl implements ArticleService {
         }
 
         articleRepository.save(articleToSave);
+        contentCounterService.onSaved(ContentType.ARTICLE);
+        searchService.indexArticle(articleToSave);
 
         log.info("Article with title {} saved successfully", articleToSave.getTitle());
 
@@ -65,15 +130,19 @@ public class ArticleServiceImpl implements ArticleService {
 
     @Override
     public boolean deleteArticle(Integer articleId) {
-        if (articleRepository.existsById(articleId)) {
-            articleRepository.deleteById(articleId);
+        Optional<Article> articleToDelete = articleRepository.findById(articleId);
 
-            log.info("Article with id {} deleted successfully", articleId);
-
-            return true;
+        if (articleToDelete.isEmpty()) {
+            return false;
         }
 
-        return false;
+        articleRepository.delete(articleToDelete.get());
+        contentCounterService.onDeleted(ContentType.ARTICLE);
+        searchService.removeArticle(articleId);
+
+        log.info("Article with id {} deleted successfully", articleId);
+
+        return true;
     }
 
     @Override
@@ -91,6 +160,7 @@ public class ArticleServiceImpl implements ArticleService {
         articleToUpdate.setDateTimeOfCreation(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm")));
 
         articleRepository.save(articleToUpdate);
+        searchService.indexArticle(articleToUpdate);
 
         log.info("Article with title {} updated successfully", optionalArticle.get().getTitle());
 
@@ -0,0 +1,109 @@
+package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.AuthorSummary;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.Authorship;
+import com.github.vladyslavbabenko.mycoloroflife.enumeration.ContentType;
+import com.github.vladyslavbabenko.mycoloroflife.repository.ArticleRepository;
+import com.github.vladyslavbabenko.mycoloroflife.repository.EventRepository;
+import com.github.vladyslavbabenko.mycoloroflife.repository.UserRepository;
+import com.github.vladyslavbabenko.mycoloroflife.service.AuthorService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of {@link AuthorService}.
+ */
+
+@Service
+public class AuthorServiceImpl implements AuthorService {
+
+    private final ArticleRepository articleRepository;
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * Display names of authors by user id, there are only a few authors, so the map is not bounded
+     */
+    private final Map<Integer, String> names = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AuthorServiceImpl(ArticleRepository articleRepository, EventRepository eventRepository,
+                             UserRepository userRepository) {
+        this.articleRepository = articleRepository;
+        this.eventRepository = eventRepository;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public Map<Integer, List<AuthorSummary>> getAuthors(ContentType contentType, Collection<Integer> contentIds) {
+        if (contentIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        List<Authorship> authorships = findAuthorships(contentType, contentIds);
+
+        loadMissingNames(authorships.stream().map(Authorship::getAuthorId).collect(Collectors.toSet()));
+
+        Map<Integer, List<AuthorSummary>> authors = new HashMap<>();
+
+        for (Authorship authorship : authorships) {
+            String name = names.get(authorship.getAuthorId());
+
+            // user may have been evicted while the page was loading
+            if (name != null) {
+                authors.computeIfAbsent(authorship.getContentId(), id -> new ArrayList<>())
+                        .add(new AuthorSummary(authorship.getAuthorId(), name));
+            }
+        }
+
+        authors.values().forEach(list -> list.sort(Comparator.comparing(AuthorSummary::getName)));
+
+        return authors;
+    }
+
+    @Override
+    public List<AuthorSummary> getAuthors(ContentType contentType, Integer contentId) {
+        return getAuthors(contentType, List.of(contentId)).getOrDefault(contentId, new ArrayList<>());
+    }
+
+    @Override
+    public boolean isAuthor(ContentType contentType, Integer contentId, Integer userId) {
+        return userId != null && findAuthorships(contentType, List.of(contentId)).stream()
+                .anyMatch(authorship -> userId.equals(authorship.getAuthorId()));
+    }
+
+    @Override
+    public void evict(Integer userId) {
+        names.remove(userId);
+    }
+
+    private List<Authorship> findAuthorships(ContentType contentType, Collection<Integer> contentIds) {
+        switch (contentType) {
+            case ARTICLE:
+                return articleRepository.findAuthorships(contentIds);
+            case EVENT:
+                return eventRepository.findAuthorships(contentIds);
+            default:
+                throw new IllegalArgumentException(contentType + " has no authors");
+        }
+    }
+
+    private void loadMissingNames(Set<Integer> authorIds) {
+        authorIds.removeAll(names.keySet());
+
+        if (!authorIds.isEmpty()) {
+            userRepository.findAuthorSummaries(authorIds)
+                    .forEach(author -> names.put(author.getId(), author.getName()));
+        }
+    }
+}
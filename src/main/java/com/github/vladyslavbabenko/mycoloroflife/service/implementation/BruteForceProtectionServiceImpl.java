@@ -82,7 +82,7 @@ public class BruteForceProtectionServiceImpl implements BruteForceProtectionServ
     }
 
     private User getUser(String username) {
-        return (User) userService.loadUserByUsername(username);
+        return userService.getUserByUsername(username);
     }
 
     public int getMaxFailedLogins() {
@@ -0,0 +1,99 @@
+package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
+import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
+import com.github.vladyslavbabenko.mycoloroflife.entity.Role;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CacheStatistics;
+import com.github.vladyslavbabenko.mycoloroflife.service.CacheStatisticsService;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.persistence.EntityManagerFactory;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of {@link CacheStatisticsService}.
+ */
+
+@Service
+public class CacheStatisticsServiceImpl implements CacheStatisticsService {
+
+    private static final String[] ENTITY_REGIONS = {Role.CACHE_REGION, CourseTitle.CACHE_REGION, Course.CACHE_REGION};
+
+    private final SessionFactory sessionFactory;
+    private final RegionFactory regionFactory;
+
+    private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    @Autowired
+    public CacheStatisticsServiceImpl(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory();
+    }
+
+    @Override
+    public List<CacheStatistics> getStatistics() {
+        Statistics statistics = sessionFactory.getStatistics();
+        List<CacheStatistics> regions = new ArrayList<>();
+
+        for (String region : ENTITY_REGIONS) {
+            regions.add(toCacheStatistics(region, statistics.getDomainDataRegionStatistics(region)));
+        }
+
+        String queryRegion = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+        regions.add(toCacheStatistics(queryRegion, statistics.getQueryRegionStatistics(queryRegion)));
+
+        return regions;
+    }
+
+    @Override
+    public void evictAll() {
+        sessionFactory.getCache().evictAllRegions();
+
+        log.info("Second-level and query cache have been evicted");
+    }
+
+    private CacheStatistics toCacheStatistics(String region, CacheRegionStatistics regionStatistics) {
+        if (regionStatistics == null) {
+            return CacheStatistics.builder().region(region).build();
+        }
+
+        long hitCount = regionStatistics.getHitCount();
+        long missCount = regionStatistics.getMissCount();
+
+        return CacheStatistics.builder()
+                .region(region)
+                .hitCount(hitCount)
+                .missCount(missCount)
+                .putCount(regionStatistics.getPutCount())
+                .elementCount(getElementCount(region, regionStatistics))
+                .hitRatio(hitCount + missCount == 0 ? 0 : (double) hitCount / (hitCount + missCount))
+                .build();
+    }
+
+    /**
+     * JCache regions do not report their size to Hibernate, so it is read from the underlying Caffeine cache
+     */
+    private long getElementCount(String region, CacheRegionStatistics regionStatistics) {
+        long elementCount = regionStatistics.getElementCountInMemory();
+
+        if (elementCount >= 0 || !(regionFactory instanceof JCacheRegionFactory)) {
+            return Math.max(elementCount, 0);
+        }
+
+        javax.cache.Cache<?, ?> cache = ((JCacheRegionFactory) regionFactory).getCacheManager().getCache(region);
+
+        return cache == null ? 0 : cache.unwrap(Cache.class).estimatedSize();
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
+
+import com.github.vladyslavbabenko.mycoloroflife.enumeration.ContentType;
+import com.github.vladyslavbabenko.mycoloroflife.repository.ArticleRepository;
+import com.github.vladyslavbabenko.mycoloroflife.repository.CourseTitleRepository;
+import com.github.vladyslavbabenko.mycoloroflife.repository.EventRepository;
+import com.github.vladyslavbabenko.mycoloroflife.service.ContentCounterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of {@link ContentCounterService}.
+ */
+
+@Service
+public class ContentCounterServiceImpl implements ContentCounterService {
+
+    private final ArticleRepository articleRepository;
+    private final EventRepository eventRepository;
+    private final CourseTitleRepository courseTitleRepository;
+
+    private final Map<ContentType, AtomicLong> totals = new ConcurrentHashMap<>();
+
+    private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    @Autowired
+    public ContentCounterServiceImpl(ArticleRepository articleRepository, EventRepository eventRepository, CourseTitleRepository courseTitleRepository) {
+        this.articleRepository = articleRepository;
+        this.eventRepository = eventRepository;
+        this.courseTitleRepository = courseTitleRepository;
+    }
+
+    @Override
+    public long getTotal(ContentType contentType) {
+        return totals.computeIfAbsent(contentType, type -> new AtomicLong(countInDatabase(type))).get();
+    }
+
+    @Override
+    public void onSaved(ContentType contentType) {
+        AtomicLong total = totals.get(contentType);
+
+        if (total != null) {
+            total.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void onDeleted(ContentType contentType) {
+        AtomicLong total = totals.get(contentType);
+
+        if (total != null) {
+            total.decrementAndGet();
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${content.counter.reconcile.interval}",
+            initialDelayString = "${content.counter.reconcile.interval}")
+    public void reconcile() {
+        for (ContentType contentType : ContentType.values()) {
+            long count = countInDatabase(contentType);
+            long previous = totals.computeIfAbsent(contentType, type -> new AtomicLong(count)).getAndSet(count);
+
+            if (previous != count) {
+                log.warn("{} counter reconciled from {} to {}", contentType.getContentType(), previous, count);
+            }
+        }
+    }
+
+    private long countInDatabase(ContentType contentType) {
+        switch (contentType) {
+            case ARTICLE:
+                return articleRepository.count();
+            case EVENT:
+                return eventRepository.count();
+            default:
+                return courseTitleRepository.count();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
+import com.github.vladyslavbabenko.mycoloroflife.repository.CourseRepository;
+import com.github.vladyslavbabenko.mycoloroflife.repository.CourseTitleRepository;
+import com.github.vladyslavbabenko.mycoloroflife.service.CourseCatalogService;
+import com.github.vladyslavbabenko.mycoloroflife.util.CourseCatalog;
+import com.github.vladyslavbabenko.mycoloroflife.util.TransactionUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Optional;
+
+/**
+ * Implementation of {@link CourseCatalogService}.
+ */
+
+@Service
+public class CourseCatalogServiceImpl implements CourseCatalogService {
+    private final CourseRepository courseRepository;
+    private final CourseTitleRepository courseTitleRepository;
+
+    /**
+     * Current snapshot, null until it is built for the first time
+     */
+    private volatile CourseCatalog catalog;
+
+    private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    @Autowired
+    public CourseCatalogServiceImpl(CourseRepository courseRepository, CourseTitleRepository courseTitleRepository) {
+        this.courseRepository = courseRepository;
+        this.courseTitleRepository = courseTitleRepository;
+    }
+
+    @Override
+    public Optional<CourseCatalog.TableOfContents> findByTitle(String title) {
+        CourseCatalog current = catalog;
+
+        if (current == null) {
+            rebuild();
+            current = catalog;
+        }
+
+        Optional<CourseCatalog.TableOfContents> tableOfContents = current.findByTitle(title);
+
+        return tableOfContents.isPresent() ? tableOfContents : load(title);
+    }
+
+    @Override
+    public void onChanged() {
+        TransactionUtil.runAfterCommit(this::rebuild);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${course.catalog.refresh.interval}",
+            initialDelayString = "${course.catalog.refresh.interval}")
+    public synchronized void rebuild() {
+        CourseCatalog rebuilt = CourseCatalog.of(courseTitleRepository.findAll(), courseRepository.findAllCatalogPages());
+        catalog = rebuilt;
+
+        log.debug("Course catalog rebuilt with {} courses", rebuilt.size());
+    }
+
+    /**
+     * Adds course that is missing in the catalog, e.g. created by another instance of the application
+     */
+    private synchronized Optional<CourseCatalog.TableOfContents> load(String title) {
+        Optional<CourseTitle> courseTitle = courseTitleRepository.findByTitle(title);
+
+        if (courseTitle.isEmpty()) {
+            return Optional.empty();
+        }
+
+        CourseCatalog.TableOfContents tableOfContents = CourseCatalog.TableOfContents.of(courseTitle.get(),
+                courseRepository.findAllCatalogPagesByCourseTitleId(courseTitle.get().getId()));
+        catalog = catalog.with(tableOfContents);
+
+        return Optional.of(tableOfContents);
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
+import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CoursePage;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.CoursePageRow;
+import com.github.vladyslavbabenko.mycoloroflife.repository.CourseRepository;
+import com.github.vladyslavbabenko.mycoloroflife.service.CoursePageResolver;
+import com.github.vladyslavbabenko.mycoloroflife.service.CourseProgressBufferService;
+import com.github.vladyslavbabenko.mycoloroflife.service.RoleService;
+import com.github.vladyslavbabenko.mycoloroflife.service.UserService;
+import com.github.vladyslavbabenko.mycoloroflife.util.MessageSourceUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Implementation of {@link CoursePageResolver}.
+ */
+
+@Service
+public class CoursePageResolverImpl implements CoursePageResolver {
+    private final CourseRepository courseRepository;
+    private final UserService userService;
+    private final RoleService roleService;
+    private final MessageSourceUtil messageSource;
+    private final CourseProgressBufferService courseProgressBufferService;
+
+    @Autowired
+    public CoursePageResolverImpl(CourseRepository courseRepository, UserService userService, RoleService roleService,
+                                  MessageSourceUtil messageSource, CourseProgressBufferService courseProgressBufferService) {
+        this.courseRepository = courseRepository;
+        this.userService = userService;
+        this.roleService = roleService;
+        this.messageSource = messageSource;
+        this.courseProgressBufferService = courseProgressBufferService;
+    }
+
+    @Override
+    public Optional<CoursePage> resolve(String title, int page) {
+        String courseOwnerRoleName = messageSource.getMessage("role.course.owner") + roleService.convertToRoleStyle(title);
+
+        Integer userId = userService.getCurrentUserId();
+
+        return courseRepository.findCoursePage(title, page, userId, courseOwnerRoleName)
+                .map(row -> toCoursePage(row, userId));
+    }
+
+    private CoursePage toCoursePage(CoursePageRow row, Integer userId) {
+        CourseTitle courseTitle = CourseTitle.builder()
+                .id(row.getCourseTitleId())
+                .title(row.getTitle())
+                .description(row.getDescription())
+                .build();
+
+        Course course = row.getCourseId() == null ? null : Course.builder()
+                .id(row.getCourseId())
+                .courseTitle(courseTitle)
+                .page(row.getPage())
+                .videoTitle(row.getVideoTitle())
+                .videoLink(row.getVideoLink())
+                .text(row.getText())
+                .build();
+
+        return CoursePage.builder()
+                .courseTitle(courseTitle)
+                .course(course)
+                .entitled(Boolean.TRUE.equals(row.getEntitled()))
+                .lastVisitedPage(lastVisitedPage(row, userId))
+                .lastCoursePage(row.getLastCoursePage() == null ? -1 : row.getLastCoursePage())
+                .build();
+    }
+
+    /**
+     * Progress that is not written to database yet is ahead of the stored one
+     */
+    private int lastVisitedPage(CoursePageRow row, Integer userId) {
+        int storedLastPage = row.getLastVisitedPage() == null ? -1 : row.getLastVisitedPage();
+
+        return Math.max(storedLastPage, courseProgressBufferService.findLastPage(userId, row.getCourseTitleId()).orElse(-1));
+    }
+}
@@ -0,0 +1,133 @@
+package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CourseProgressBufferStatistics;
+import com.github.vladyslavbabenko.mycoloroflife.service.CourseProgressBufferService;
+import com.github.vladyslavbabenko.mycoloroflife.util.CourseProgressBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of {@link CourseProgressBufferService}.
+ */
+
+@Service
+public class CourseProgressBufferServiceImpl implements CourseProgressBufferService {
+
+    /**
+     * Progress is only buffered for users who already have it, so rows are updated and never inserted
+     */
+    private static final String UPDATE_LAST_PAGE = "UPDATE t_course_progress SET last_page = ? "
+            + "WHERE user_id = ? AND course_title_id = ? AND last_page < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    private final CourseProgressBuffer buffer = new CourseProgressBuffer();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong flushedCount = new AtomicLong();
+    private final AtomicLong failedFlushCount = new AtomicLong();
+    private final AtomicLong lastFlushNanos = new AtomicLong();
+    private final AtomicLong totalFlushNanos = new AtomicLong();
+
+    private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    @Autowired
+    public CourseProgressBufferServiceImpl(JdbcTemplate jdbcTemplate,
+                                           @Value("${course.progress.write-behind.enabled}") boolean enabled,
+                                           @Value("${course.progress.write-behind.batch.size}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void record(Integer userId, Integer courseTitleId, int lastPage) {
+        buffer.record(userId, courseTitleId, lastPage);
+    }
+
+    @Override
+    public OptionalInt findLastPage(Integer userId, Integer courseTitleId) {
+        if (userId == null || courseTitleId == null) {
+            return OptionalInt.empty();
+        }
+
+        return buffer.find(userId, courseTitleId);
+    }
+
+    @Override
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${course.progress.write-behind.flush.interval}",
+            initialDelayString = "${course.progress.write-behind.flush.interval}")
+    public synchronized int flush() {
+        List<CourseProgressBuffer.Entry> entries = buffer.snapshot();
+
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        long start = System.nanoTime();
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_LAST_PAGE, entries, batchSize, (preparedStatement, entry) -> {
+                preparedStatement.setInt(1, entry.getLastPage());
+                preparedStatement.setInt(2, entry.getUserId());
+                preparedStatement.setInt(3, entry.getCourseTitleId());
+                preparedStatement.setInt(4, entry.getLastPage());
+            });
+        } catch (DataAccessException e) {
+            failedFlushCount.incrementAndGet();
+            log.error("{} buffered course progress updates could not be written, they will be retried", entries.size(), e);
+            return 0;
+        }
+
+        buffer.remove(entries);
+
+        long elapsed = System.nanoTime() - start;
+        flushCount.incrementAndGet();
+        flushedCount.addAndGet(entries.size());
+        lastFlushNanos.set(elapsed);
+        totalFlushNanos.addAndGet(elapsed);
+
+        log.debug("{} buffered course progress updates written in {} ms", entries.size(), elapsed / 1_000_000.0);
+
+        return entries.size();
+    }
+
+    @Override
+    public CourseProgressBufferStatistics getStatistics() {
+        long recorded = buffer.getRecordedCount();
+        long merged = buffer.getMergedCount();
+        long flushes = flushCount.get();
+
+        return CourseProgressBufferStatistics.builder()
+                .enabled(enabled)
+                .depth(buffer.size())
+                .recordedCount(recorded)
+                .mergedCount(merged)
+                .mergeRatio(recorded == 0 ? 0 : (double) merged / recorded)
+                .flushCount(flushes)
+                .flushedCount(flushedCount.get())
+                .failedFlushCount(failedFlushCount.get())
+                .lastFlushMillis(lastFlushNanos.get() / 1_000_000.0)
+                .averageFlushMillis(flushes == 0 ? 0 : totalFlushNanos.get() / 1_000_000.0 / flushes)
+                .build();
+    }
+}
@@ -1,10 +1,13 @@
 package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
 
-import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
 import com.github.vladyslavbabenko.mycoloroflife.entity.CourseProgress;
+import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
 import com.github.vladyslavbabenko.mycoloroflife.entity.User;
 import com.github.vladyslavbabenko.mycoloroflife.repository.CourseProgressRepository;
+import com.github.vladyslavbabenko.mycoloroflife.service.CourseProgressBufferService;
 import com.github.vladyslavbabenko.mycoloroflife.service.CourseProgressService;
+import com.github.vladyslavbabenko.mycoloroflife.service.RoleService;
+import com.github.vladyslavbabenko.mycoloroflife.util.MessageSourceUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +17,7 @@ import java.lang.invoke.MethodHandles;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 /**
  * Implementation of {@link CourseProgressService}.
@@ -23,12 +27,19 @@ import java.util.Optional;
 public class CourseProgressServiceImpl implements CourseProgressService {
 
     private final CourseProgressRepository courseProgressRepository;
+    private final RoleService roleService;
+    private final MessageSourceUtil messageSource;
+    private final CourseProgressBufferService courseProgressBufferService;
 
     private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
     @Autowired
-    public CourseProgressServiceImpl(CourseProgressRepository courseProgressRepository) {
+    public CourseProgressServiceImpl(CourseProgressRepository courseProgressRepository, RoleService roleService,
+                                     MessageSourceUtil messageSource, CourseProgressBufferService courseProgressBufferService) {
         this.courseProgressRepository = courseProgressRepository;
+        this.roleService = roleService;
+        this.messageSource = messageSource;
+        this.courseProgressBufferService = courseProgressBufferService;
     }
 
     @Override
@@ -44,13 +55,13 @@ public class CourseProgressServiceImpl implements CourseProgressService {
     }
 
     @Override
-    public Optional<CourseProgress> findByUserAndCourse(User user, Course course) {
-        return courseProgressRepository.findByUserAndCourse(user, course);
+    public Optional<CourseProgress> findByUserAndCourseTitle(User user, CourseTitle courseTitle) {
+        return courseProgressRepository.findByUserAndCourseTitle(user, courseTitle);
     }
 
     @Override
-    public boolean existsByUserAndCourse(User user, Course course) {
-        return courseProgressRepository.existsByUserAndCourse(user, course);
+    public boolean existsByUserAndCourseTitle(User user, CourseTitle courseTitle) {
+        return courseProgressRepository.existsByUserAndCourseTitle(user, courseTitle);
     }
 
     @Override
@@ -58,15 +69,32 @@ public class CourseProgressServiceImpl implements CourseProgressService {
         return courseProgressRepository.existsByUser(user);
     }
 
+    @Override
+    public int getLastPage(Integer userId, Integer courseTitleId) {
+        if (userId == null || courseTitleId == null) {
+            return -1;
+        }
+
+        OptionalInt bufferedLastPage = courseProgressBufferService.findLastPage(userId, courseTitleId);
+
+        if (bufferedLastPage.isPresent()) {
+            return bufferedLastPage.getAsInt();
+        }
+
+        return courseProgressRepository.findLastPage(userId, courseTitleId).orElse(-1);
+    }
+
     @Override
     public boolean save(CourseProgress courseProgressToSave) {
-        if (courseProgressRepository.existsByUserAndCourse(courseProgressToSave.getUser(), courseProgressToSave.getCourse())) {
+        int lastPage = courseProgressToSave.getLastPage() == null ? 1 : courseProgressToSave.getLastPage();
+
+        if (courseProgressRepository.upsertLastPage(courseProgressToSave.getUser().getId(),
+                courseProgressToSave.getCourseTitle().getId(), lastPage) == 0) {
             return false;
         }
 
-        courseProgressRepository.save(courseProgressToSave);
-
-        log.info("New CourseProgress object created for course {} and user with username - {}", courseProgressToSave.getCourse().getCourseTitle().getTitle(), courseProgressToSave.getUser().getUsername());
+        log.info("CourseProgress for course {} and user with username - {} saved on page {}",
+                courseProgressToSave.getCourseTitle().getTitle(), courseProgressToSave.getUser().getUsername(), lastPage);
 
         return true;
     }
@@ -85,23 +113,28 @@ public class CourseProgressServiceImpl implements CourseProgressService {
     }
 
     @Override
-    public boolean update(CourseProgress updatedCourseProgress) {
-        Optional<CourseProgress> optionalCourseProgress = courseProgressRepository.findById(updatedCourseProgress.getId());
-
-        if (optionalCourseProgress.isEmpty()) {
+    public boolean advance(Integer userId, CourseTitle courseTitle, int currentPage, int nextPage) {
+        if (userId == null) {
             return false;
         }
 
-        CourseProgress courseProgressToUpdate = optionalCourseProgress.get();
+        String courseOwnerRoleName = messageSource.getMessage("role.course.owner") + roleService.convertToRoleStyle(courseTitle.getTitle());
 
-        courseProgressToUpdate.setCourse(updatedCourseProgress.getCourse());
-        courseProgressToUpdate.setUser(updatedCourseProgress.getUser());
+        if (courseProgressBufferService.isEnabled()) {
+            int lastPage = getLastPage(userId, courseTitle.getId());
 
-        courseProgressRepository.save(courseProgressToUpdate);
+            // users without progress are started by the statement below, which checks that they own the course
+            if (lastPage != -1) {
+                if (lastPage < currentPage || lastPage >= nextPage || !roleService.isGranted(userId, courseOwnerRoleName)) {
+                    return false;
+                }
 
-        log.info("CourseProgress for course {} and user {} successfully updated",
-                optionalCourseProgress.get().getCourse().getCourseTitle().getTitle(), optionalCourseProgress.get().getUser().getUsername());
+                courseProgressBufferService.record(userId, courseTitle.getId(), nextPage);
 
-        return true;
+                return true;
+            }
+        }
+
+        return courseProgressRepository.advance(userId, courseTitle.getId(), courseOwnerRoleName, currentPage, nextPage) == 1;
     }
-}
\ No newline at end of file
+}
@@ -4,7 +4,9 @@ import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
 import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
 import com.github.vladyslavbabenko.mycoloroflife.repository.CourseRepository;
 import com.github.vladyslavbabenko.mycoloroflife.repository.CourseTitleRepository;
+import com.github.vladyslavbabenko.mycoloroflife.service.CourseCatalogService;
 import com.github.vladyslavbabenko.mycoloroflife.service.CourseService;
+import com.github.vladyslavbabenko.mycoloroflife.service.SearchService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,13 +24,18 @@ public class CourseServiceImpl implements CourseService {
 
     private final CourseRepository courseRepository;
     private final CourseTitleRepository courseTitleRepository;
+    private final SearchService searchService;
+    private final CourseCatalogService courseCatalogService;
 
     private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
     @Autowired
-    public CourseServiceImpl(CourseRepository courseRepository, CourseTitleRepository courseTitleRepository) {
+    public CourseServiceImpl(CourseRepository courseRepository, CourseTitleRepository courseTitleRepository,
+                             SearchService searchService, CourseCatalogService courseCatalogService) {
         this.courseRepository = courseRepository;
         this.courseTitleRepository = courseTitleRepository;
+        this.searchService = searchService;
+        this.courseCatalogService = courseCatalogService;
     }
 
     @Override
@@ -79,6 +86,8 @@ public class CourseServiceImpl implements CourseService {
         }
 
         courseRepository.save(courseToSave);
+        searchService.indexCourse(courseToSave);
+        courseCatalogService.onChanged();
 
         log.info("Page {} for {} has been created", courseToSave.getPage(), courseToSave.getCourseTitle());
 
@@ -89,6 +98,8 @@ public class CourseServiceImpl implements CourseService {
     public boolean delete(Integer courseId) {
         if (courseRepository.existsById(courseId)) {
             courseRepository.deleteById(courseId);
+            searchService.removeCourse(courseId);
+            courseCatalogService.onChanged();
 
             log.info("Page with id - {} has been deleted", courseId);
 
@@ -119,6 +130,8 @@ public class CourseServiceImpl implements CourseService {
         courseToUpdate.setPage(updatedCourse.getPage());
 
         courseRepository.save(courseToUpdate);
+        searchService.indexCourse(courseToUpdate);
+        courseCatalogService.onChanged();
 
         log.info("Page {} for {} has been updated", optionalCourse.get().getPage(), optionalCourse.get().getCourseTitle());
 
@@ -2,21 +2,36 @@ package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
 
 import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
 import com.github.vladyslavbabenko.mycoloroflife.entity.Role;
+import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CourseSearchResult;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.CourseSearchHit;
+import com.github.vladyslavbabenko.mycoloroflife.enumeration.ContentType;
 import com.github.vladyslavbabenko.mycoloroflife.repository.CourseTitleRepository;
+import com.github.vladyslavbabenko.mycoloroflife.service.ContentCounterService;
+import com.github.vladyslavbabenko.mycoloroflife.service.CourseCatalogService;
 import com.github.vladyslavbabenko.mycoloroflife.service.CourseTitleService;
 import com.github.vladyslavbabenko.mycoloroflife.service.RoleService;
+import com.github.vladyslavbabenko.mycoloroflife.service.SearchService;
 import com.github.vladyslavbabenko.mycoloroflife.service.UserService;
 import com.github.vladyslavbabenko.mycoloroflife.util.MessageSourceUtil;
+import com.github.vladyslavbabenko.mycoloroflife.util.PaginationUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of {@link CourseTitleService}.
@@ -28,15 +43,23 @@ public class CourseTitleServiceImpl implements CourseTitleService {
     private final RoleService roleService;
     private final UserService userService;
     private final MessageSourceUtil messageSource;
+    private final ContentCounterService contentCounterService;
+    private final SearchService searchService;
+    private final CourseCatalogService courseCatalogService;
 
     private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
     @Autowired
-    public CourseTitleServiceImpl(CourseTitleRepository courseTitleRepository, RoleService roleService, UserService userService, MessageSourceUtil messageSource) {
+    public CourseTitleServiceImpl(CourseTitleRepository courseTitleRepository, RoleService roleService, UserService userService,
+                                  MessageSourceUtil messageSource, ContentCounterService contentCounterService,
+                                  SearchService searchService, CourseCatalogService courseCatalogService) {
         this.courseTitleRepository = courseTitleRepository;
         this.roleService = roleService;
         this.userService = userService;
         this.messageSource = messageSource;
+        this.contentCounterService = contentCounterService;
+        this.searchService = searchService;
+        this.courseCatalogService = courseCatalogService;
     }
 
     @Override
@@ -49,6 +72,41 @@ public class CourseTitleServiceImpl implements CourseTitleService {
         return courseTitleRepository.findAllByTitleContains(keyword).orElse(new ArrayList<>());
     }
 
+    @Override
+    public Page<CourseSearchResult> searchCourses(String query, int pageNumber, int pageSize) {
+        PageRequest pageRequest = PaginationUtil.pageRequest(pageNumber, pageSize);
+
+        if (query == null || query.isBlank()) {
+            return Page.empty(pageRequest);
+        }
+
+        String trimmedQuery = query.trim();
+        List<CourseSearchHit> hits = courseTitleRepository.searchCourses(trimmedQuery, pageRequest);
+
+        if (hits.isEmpty()) {
+            return PageableExecutionUtils.getPage(Collections.emptyList(), pageRequest,
+                    () -> courseTitleRepository.countCourseSearchHits(trimmedQuery));
+        }
+
+        User currentUser = userService.getCurrentUser();
+        Set<String> roleNames = currentUser.getRoles() == null ? Collections.emptySet()
+                : currentUser.getRoles().stream().map(Role::getRoleName).collect(Collectors.toSet());
+        String courseOwnerRolePrefix = messageSource.getMessage("role.course.owner");
+
+        List<CourseSearchResult> results = hits.stream()
+                .map(hit -> CourseSearchResult.builder()
+                        .title(hit.getTitle())
+                        .description(hit.getDescription())
+                        .page(hit.getPage())
+                        .videoTitle(hit.getVideoTitle())
+                        .score(hit.getScore())
+                        .accessible(roleNames.contains(courseOwnerRolePrefix + roleService.convertToRoleStyle(hit.getTitle())))
+                        .build())
+                .collect(Collectors.toList());
+
+        return PageableExecutionUtils.getPage(results, pageRequest, () -> courseTitleRepository.countCourseSearchHits(trimmedQuery));
+    }
+
     @Override
     public List<CourseTitle> getAllCourseTitles() {
         List<CourseTitle> courseTitles = courseTitleRepository.findAll();
@@ -56,6 +114,14 @@ public class CourseTitleServiceImpl implements CourseTitleService {
         return courseTitles;
     }
 
+    @Override
+    public Page<CourseTitle> getCourseTitlesPage(int pageNumber, int pageSize) {
+        PageRequest pageRequest = PaginationUtil.newestFirst(pageNumber, pageSize);
+
+        return new PageImpl<>(courseTitleRepository.findAllBy(pageRequest), pageRequest,
+                contentCounterService.getTotal(ContentType.COURSE_TITLE));
+    }
+
     @Override
     public Optional<CourseTitle> findById(Integer id) {
         return courseTitleRepository.findById(id);
@@ -79,6 +145,9 @@ public class CourseTitleServiceImpl implements CourseTitleService {
 
         createCourseOwnerRoleByTitle(courseTitleToSave, true);
         courseTitleRepository.save(courseTitleToSave);
+        contentCounterService.onSaved(ContentType.COURSE_TITLE);
+        searchService.indexCourseTitle(courseTitleToSave);
+        courseCatalogService.onChanged();
 
         log.info("{} has been created", courseTitleToSave.getTitle());
 
@@ -91,7 +160,7 @@ public class CourseTitleServiceImpl implements CourseTitleService {
             return false;
         }
 
-        Optional<CourseTitle> courseTitleFromDB = courseTitleRepository.findById(courseTitleId);
+        Optional<CourseTitle> courseTitleFromDB = courseTitleRepository.findWithCoursesById(courseTitleId);
 
         if (courseTitleFromDB.isEmpty()) {
             return false;
@@ -101,6 +170,9 @@ public class CourseTitleServiceImpl implements CourseTitleService {
         userService.deleteRoleFromUser(userService.getAllUsers(), courseOwnerRoleByTitle);
         roleService.delete(courseOwnerRoleByTitle);
         courseTitleRepository.delete(courseTitleFromDB.get());
+        contentCounterService.onDeleted(ContentType.COURSE_TITLE);
+        searchService.removeCourseTitle(courseTitleFromDB.get());
+        courseCatalogService.onChanged();
 
         log.info("{} has been deleted", courseTitleFromDB.get().getTitle());
 
@@ -113,7 +185,7 @@ public class CourseTitleServiceImpl implements CourseTitleService {
             return false;
         }
 
-        Optional<CourseTitle> optionalCourseTitle = courseTitleRepository.findById(updatedCourseTitle.getId());
+        Optional<CourseTitle> optionalCourseTitle = courseTitleRepository.findWithCoursesById(updatedCourseTitle.getId());
 
         if (optionalCourseTitle.isEmpty()) {
             return false;
@@ -124,6 +196,8 @@ public class CourseTitleServiceImpl implements CourseTitleService {
         courseTitleFromDB.setTitle(updatedCourseTitle.getTitle());
         courseTitleFromDB.setDescription(updatedCourseTitle.getDescription());
         courseTitleRepository.save(courseTitleFromDB);
+        searchService.indexCourseTitle(courseTitleFromDB);
+        courseCatalogService.onChanged();
 
         log.info("{} has been updated", courseTitleFromDB.getTitle());
 
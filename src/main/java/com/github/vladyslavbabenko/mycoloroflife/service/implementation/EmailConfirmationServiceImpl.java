@@ -2,6 +2,7 @@ package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
 
 import com.github.vladyslavbabenko.mycoloroflife.entity.SecureToken;
 import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.MailModel;
 import com.github.vladyslavbabenko.mycoloroflife.enumeration.Purpose;
 import com.github.vladyslavbabenko.mycoloroflife.service.*;
 import com.github.vladyslavbabenko.mycoloroflife.util.MessageSourceUtil;
@@ -11,11 +12,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.lang.invoke.MethodHandles;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -23,8 +23,7 @@ public class EmailConfirmationServiceImpl implements EmailConfirmationService {
 
     private final UserService userService;
     private final SecureTokenService secureTokenService;
-    private final MailSenderService mailSenderService;
-    private final MailContentBuilderService mailContentBuilder;
+    private final MailOutboxService mailOutboxService;
     private final MessageSourceUtil messageSource;
 
     @Value("${site.base.url.https}")
@@ -34,13 +33,11 @@ public class EmailConfirmationServiceImpl implements EmailConfirmationService {
 
     public EmailConfirmationServiceImpl(UserService userService,
                                         SecureTokenService secureTokenService,
-                                        MailSenderService mailSenderService,
-                                        MailContentBuilderService mailContentBuilder,
+                                        MailOutboxService mailOutboxService,
                                         MessageSourceUtil messageSource) {
         this.userService = userService;
         this.secureTokenService = secureTokenService;
-        this.mailSenderService = mailSenderService;
-        this.mailContentBuilder = mailContentBuilder;
+        this.mailOutboxService = mailOutboxService;
         this.messageSource = messageSource;
     }
 
@@ -68,23 +65,23 @@ public class EmailConfirmationServiceImpl implements EmailConfirmationService {
         }
     }
 
+    @Transactional
     public void sendConfirmationEmail(User user) {
         SecureToken secureToken = secureTokenService.createSecureToken();
         secureToken.setUser(user);
         secureToken.setPurpose(Purpose.EMAIL_CONFIRM);
         secureTokenService.update(secureToken);
 
-        List<String> strings;
-
-        strings = new ArrayList<>();
-        strings.add(user.getName());
-        strings.add(messageSource.getMessage("email.confirm.text"));
-        strings.add(getConfirmationEmailUrl(secureToken.getToken()));
-        mailSenderService.sendEmail(user.getEmail(),
+        MailModel model = MailModel.builder()
+                .name(user.getName())
+                .text(messageSource.getMessage("email.confirm.text"))
+                .link(getConfirmationEmailUrl(secureToken.getToken()))
+                .build();
+        mailOutboxService.enqueue(user.getEmail(),
                 messageSource.getMessage("email.confirm.subject"),
-                mailContentBuilder.build(strings, messageSource.getMessage("template.email.confirm")));
+                messageSource.getMessage("template.email.confirm"), model);
 
-        log.info("Confirmation email sent to - {}", user.getEmail());
+        log.info("Confirmation email queued for - {}", user.getEmail());
     }
 
     protected String getConfirmationEmailUrl(String token) {
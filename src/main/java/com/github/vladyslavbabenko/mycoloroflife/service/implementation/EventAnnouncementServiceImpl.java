@@ -0,0 +1,376 @@
+package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.Event;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.EventAnnouncementStatistics;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.MailModel;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.AnnouncementRecipient;
+import com.github.vladyslavbabenko.mycoloroflife.repository.UserRepository;
+import com.github.vladyslavbabenko.mycoloroflife.service.EventAnnouncementService;
+import com.github.vladyslavbabenko.mycoloroflife.service.MailContentBuilderService;
+import com.github.vladyslavbabenko.mycoloroflife.service.MailDispatchService;
+import com.github.vladyslavbabenko.mycoloroflife.util.MessageSourceUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import javax.annotation.PreDestroy;
+import java.lang.invoke.MethodHandles;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of {@link EventAnnouncementService}.
+ * Emails are rendered through the compiled template cache and sent on the mail dispatch workers,
+ * at most the configured number of emails per second and at the same time.
+ * A claimed announcement is leased to its announcer and the lease is extended with every saved page,
+ * a page that was not saved before a crash is sent again, so an email can be sent twice only after a crash.
+ */
+
+@Service
+public class EventAnnouncementServiceImpl implements EventAnnouncementService {
+
+    /**
+     * The new announcement is leased to the announcer of this instance, so that the resume of another announcer does not claim it
+     */
+    private static final String INSERT_ANNOUNCEMENT = "INSERT INTO t_event_announcement (event_id, lease_until) " +
+            "VALUES (?, now() + ? * INTERVAL '1 millisecond') ON CONFLICT (event_id) DO NOTHING RETURNING id";
+
+    /**
+     * The claimed announcement stays running, it is hidden from other announcers until the lease expires
+     */
+    private static final String CLAIM_RUNNING_ANNOUNCEMENT = "WITH claimed AS (SELECT id FROM t_event_announcement " +
+            "WHERE status = 'RUNNING' AND lease_until <= now() ORDER BY id LIMIT 1 FOR UPDATE SKIP LOCKED) " +
+            "UPDATE t_event_announcement a SET lease_until = now() + ? * INTERVAL '1 millisecond' " +
+            "FROM claimed, t_event e WHERE a.id = claimed.id AND e.id = a.event_id " +
+            "RETURNING a.id, a.event_id, e.title, a.last_user_id";
+
+    /**
+     * Takes over a new announcement that no announcer has saved a page of yet
+     */
+    private static final String CLAIM_NEW_ANNOUNCEMENT = "UPDATE t_event_announcement " +
+            "SET lease_until = now() + ? * INTERVAL '1 millisecond' " +
+            "WHERE id = ? AND status = 'RUNNING' AND last_user_id = 0";
+
+    /**
+     * Updates only the checkpoint this announcer started from, an announcer that lost its lease to another one stops
+     */
+    private static final String SAVE_CHECKPOINT = "UPDATE t_event_announcement SET last_user_id = ?, " +
+            "sent_count = sent_count + ?, failed_count = failed_count + ?, " +
+            "lease_until = now() + ? * INTERVAL '1 millisecond', updated_at = now() " +
+            "WHERE id = ? AND status = 'RUNNING' AND last_user_id = ?";
+
+    private static final String MARK_COMPLETED = "UPDATE t_event_announcement SET status = 'COMPLETED', " +
+            "finished_at = now(), updated_at = now() WHERE id = ? AND status = 'RUNNING' AND last_user_id = ?";
+
+    private static final String RELEASE_LEASE = "UPDATE t_event_announcement SET lease_until = now() " +
+            "WHERE id = ? AND status = 'RUNNING' AND last_user_id = ?";
+
+    private static final String COUNT_BY_STATUS = "SELECT count(*) FILTER (WHERE status = 'RUNNING') AS running, " +
+            "count(*) FILTER (WHERE status = 'COMPLETED') AS completed, " +
+            "coalesce(sum(sent_count), 0) AS sent, " +
+            "coalesce(sum(failed_count), 0) AS failed " +
+            "FROM t_event_announcement";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final MailDispatchService mailDispatchService;
+    private final MailContentBuilderService mailContentBuilder;
+    private final MessageSourceUtil messageSource;
+    private final boolean enabled;
+    private final int pageSize;
+    private final long lease;
+    private final String baseURL;
+
+    private final long sendIntervalNanos;
+    private final Semaphore sendPermits;
+    private long nextSendNanos;
+
+    private final ExecutorService announcer = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("event-announcement-"));
+
+    private final AtomicBoolean resumeQueued = new AtomicBoolean();
+    private final AtomicLong pageCount = new AtomicLong();
+    private final AtomicLong lastPageNanos = new AtomicLong();
+
+    private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    /**
+     * @param jdbcTemplate        jdbc template
+     * @param userRepository      repository the recipients are read from
+     * @param mailDispatchService workers that send rendered emails
+     * @param mailContentBuilder  template renderer
+     * @param messageSource       source of the subject and the template path
+     * @param enabled             whether new events are announced
+     * @param pageSize            number of recipients read and saved at once
+     * @param rate                maximum number of emails sent per second
+     * @param concurrency         maximum number of emails sent at the same time
+     * @param lease               time in milliseconds an announcer has to send a page
+     * @param baseURL             base URL of the links to events
+     */
+    @Autowired
+    public EventAnnouncementServiceImpl(JdbcTemplate jdbcTemplate,
+                                        UserRepository userRepository,
+                                        MailDispatchService mailDispatchService,
+                                        MailContentBuilderService mailContentBuilder,
+                                        MessageSourceUtil messageSource,
+                                        @Value("${mail.announcement.enabled}") boolean enabled,
+                                        @Value("${mail.announcement.page.size}") int pageSize,
+                                        @Value("${mail.announcement.rate}") int rate,
+                                        @Value("${mail.announcement.concurrency}") int concurrency,
+                                        @Value("${mail.announcement.lease}") long lease,
+                                        @Value("${site.base.url.https}") String baseURL) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.mailDispatchService = mailDispatchService;
+        this.mailContentBuilder = mailContentBuilder;
+        this.messageSource = messageSource;
+        this.enabled = enabled;
+        this.pageSize = pageSize;
+        this.lease = lease;
+        this.baseURL = baseURL;
+
+        this.sendIntervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        this.sendPermits = new Semaphore(concurrency);
+        this.nextSendNanos = System.nanoTime();
+    }
+
+    @Override
+    public boolean announce(Event event) {
+        if (!enabled) {
+            return false;
+        }
+
+        List<Long> inserted = jdbcTemplate.queryForList(INSERT_ANNOUNCEMENT, Long.class, event.getId(), lease);
+
+        if (inserted.isEmpty()) {
+            log.warn("Event with id {} has been announced already", event.getId());
+            return false;
+        }
+
+        log.info("Announcement of event with id {} started", event.getId());
+        Announcement announcement = new Announcement(inserted.get(0), event.getId(), event.getTitle(), 0);
+
+        try {
+            announcer.execute(() -> runNew(announcement));
+        } catch (RejectedExecutionException e) {
+            log.warn("Announcement of event with id {} will be resumed after restart, announcer is stopped", event.getId());
+        }
+
+        return true;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${mail.announcement.resume.interval}", initialDelayString = "${mail.announcement.resume.interval}")
+    public void scheduleResume() {
+        // the scheduler thread is shared with other jobs, so the paced sending runs on the announcer thread
+        if (!resumeQueued.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            announcer.execute(() -> {
+                resumeQueued.set(false);
+                resume();
+            });
+        } catch (RejectedExecutionException e) {
+            resumeQueued.set(false);
+        }
+    }
+
+    @Override
+    public int resume() {
+        int sent = 0;
+        List<Announcement> claimed;
+
+        while (!Thread.currentThread().isInterrupted()
+                && !(claimed = jdbcTemplate.query(CLAIM_RUNNING_ANNOUNCEMENT, this::mapAnnouncement, lease)).isEmpty()) {
+            sent += run(claimed.get(0));
+        }
+
+        return sent;
+    }
+
+    @Override
+    public EventAnnouncementStatistics getStatistics() {
+        return jdbcTemplate.queryForObject(COUNT_BY_STATUS, (resultSet, rowNum) -> EventAnnouncementStatistics.builder()
+                .runningCount(resultSet.getLong("running"))
+                .completedCount(resultSet.getLong("completed"))
+                .sentCount(resultSet.getLong("sent"))
+                .failedCount(resultSet.getLong("failed"))
+                .pageCount(pageCount.get())
+                .lastPageMillis(lastPageNanos.get() / 1_000_000.0)
+                .build());
+    }
+
+    /**
+     * Interrupts the running announcement, it is resumed from its last saved page after restart
+     */
+    @PreDestroy
+    public void shutdown() {
+        announcer.shutdownNow();
+    }
+
+    private void runNew(Announcement announcement) {
+        // a resume that waited for the announcer before this task may have taken the announcement over
+        if (jdbcTemplate.update(CLAIM_NEW_ANNOUNCEMENT, lease, announcement.id) == 1) {
+            run(announcement);
+        }
+    }
+
+    private int run(Announcement announcement) {
+        String templatePath = messageSource.getMessage("template.email.event.announcement");
+        String link = UriComponentsBuilder.fromHttpUrl(baseURL).path("/event/{eventId}")
+                .buildAndExpand(announcement.eventId).toUriString();
+        int lastUserId = announcement.lastUserId;
+        int sent = 0;
+        List<AnnouncementRecipient> page;
+
+        try {
+            do {
+                long start = System.nanoTime();
+                page = userRepository.findAnnouncementRecipientsAfter(lastUserId, pageSize);
+
+                if (page.isEmpty()) {
+                    break;
+                }
+
+                int pageSent = send(announcement, templatePath, link, page);
+                int pageLastUserId = page.get(page.size() - 1).getId();
+
+                pageCount.incrementAndGet();
+                lastPageNanos.set(System.nanoTime() - start);
+
+                if (jdbcTemplate.update(SAVE_CHECKPOINT, pageLastUserId, pageSent, page.size() - pageSent, lease,
+                        announcement.id, lastUserId) == 0) {
+                    log.warn("Announcement of event with id {} has been removed or taken over, it is stopped", announcement.eventId);
+                    return sent + pageSent;
+                }
+
+                lastUserId = pageLastUserId;
+
+                sent += pageSent;
+            } while (page.size() == pageSize);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            jdbcTemplate.update(RELEASE_LEASE, announcement.id, lastUserId);
+            log.warn("Announcement of event with id {} interrupted after user with id {}, it will be resumed",
+                    announcement.eventId, lastUserId);
+            return sent;
+        }
+
+        jdbcTemplate.update(MARK_COMPLETED, announcement.id, lastUserId);
+        log.info("Announcement of event with id {} completed, {} emails have been sent", announcement.eventId, sent);
+
+        return sent;
+    }
+
+    private int send(Announcement announcement, String templatePath, String link,
+                     List<AnnouncementRecipient> page) throws InterruptedException {
+        List<CompletableFuture<Boolean>> results = new ArrayList<>(page.size());
+
+        for (AnnouncementRecipient recipient : page) {
+            Locale locale = recipient.getLocale() == null
+                    ? LocaleContextHolder.getLocale() : Locale.forLanguageTag(recipient.getLocale());
+            MailModel model = MailModel.builder()
+                    .name(recipient.getName())
+                    .text(announcement.title)
+                    .link(link)
+                    .build();
+
+            String subject;
+            String text;
+
+            try {
+                subject = messageSource.getMessage("email.event.announcement.subject", null, locale);
+                text = mailContentBuilder.build(model, templatePath, locale);
+            } catch (RuntimeException e) {
+                log.warn("Announcement to {} has not been rendered: {}", recipient.getEmail(), e.getMessage());
+                results.add(CompletableFuture.completedFuture(false));
+                continue;
+            }
+
+            awaitSendSlot();
+            sendPermits.acquire();
+
+            CompletableFuture<Boolean> result;
+
+            try {
+                result = mailDispatchService.send(recipient.getEmail(), subject, text);
+            } catch (RuntimeException e) {
+                result = CompletableFuture.failedFuture(e);
+            }
+
+            result.whenComplete((isSent, e) -> sendPermits.release());
+            results.add(result);
+        }
+
+        try {
+            CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).get(lease, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // the outcome of every email is checked below
+        }
+
+        int sent = 0;
+
+        for (CompletableFuture<Boolean> result : results) {
+            if (result.isDone() && !result.isCompletedExceptionally() && result.join()) {
+                sent++;
+            }
+        }
+
+        return sent;
+    }
+
+    /**
+     * Waits until the next email can be sent without exceeding the rate, shared by all announcements
+     */
+    private synchronized void awaitSendSlot() throws InterruptedException {
+        long now = System.nanoTime();
+
+        if (nextSendNanos - now > 0) {
+            TimeUnit.NANOSECONDS.sleep(nextSendNanos - now);
+        }
+
+        nextSendNanos = Math.max(now, nextSendNanos) + sendIntervalNanos;
+    }
+
+    private Announcement mapAnnouncement(ResultSet resultSet, int rowNum) throws SQLException {
+        return new Announcement(resultSet.getLong("id"),
+                resultSet.getInt("event_id"),
+                resultSet.getString("title"),
+                resultSet.getInt("last_user_id"));
+    }
+
+    private static final class Announcement {
+        private final long id;
+        private final int eventId;
+        private final String title;
+        private final int lastUserId;
+
+        private Announcement(long id, int eventId, String title, int lastUserId) {
+            this.id = id;
+            this.eventId = eventId;
+            this.title = title;
+            this.lastUserId = lastUserId;
+        }
+    }
+}
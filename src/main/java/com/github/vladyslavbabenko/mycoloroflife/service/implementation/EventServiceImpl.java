@@ -1,11 +1,22 @@
 package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
 
 import com.github.vladyslavbabenko.mycoloroflife.entity.Event;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CursorPage;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.EventSummary;
+import com.github.vladyslavbabenko.mycoloroflife.enumeration.ContentType;
 import com.github.vladyslavbabenko.mycoloroflife.repository.EventRepository;
+import com.github.vladyslavbabenko.mycoloroflife.service.ContentCounterService;
+import com.github.vladyslavbabenko.mycoloroflife.service.EventAnnouncementService;
 import com.github.vladyslavbabenko.mycoloroflife.service.EventService;
+import com.github.vladyslavbabenko.mycoloroflife.service.SearchService;
+import com.github.vladyslavbabenko.mycoloroflife.util.PaginationUtil;
+import com.github.vladyslavbabenko.mycoloroflife.util.SearchQueryUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.lang.invoke.MethodHandles;
@@ -24,12 +35,19 @@ import java.util.Optional;
 public class EventServiceImpl implements EventService {
 
     private final EventRepository eventRepository;
+    private final ContentCounterService contentCounterService;
+    private final SearchService searchService;
+    private final EventAnnouncementService eventAnnouncementService;
 
     private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
     @Autowired
-    public EventServiceImpl(EventRepository eventRepository) {
+    public EventServiceImpl(EventRepository eventRepository, ContentCounterService contentCounterService,
+                            SearchService searchService, EventAnnouncementService eventAnnouncementService) {
         this.eventRepository = eventRepository;
+        this.contentCounterService = contentCounterService;
+        this.searchService = searchService;
+        this.eventAnnouncementService = eventAnnouncementService;
     }
 
     @Override
@@ -39,11 +57,59 @@ public class EventServiceImpl implements EventService {
         return events;
     }
 
+    @Override
+    public Page<EventSummary> getEventsPage(int pageNumber, int pageSize) {
+        PageRequest pageRequest = PaginationUtil.pageRequest(pageNumber, pageSize);
+
+        return new PageImpl<>(eventRepository.findSummaries(pageRequest), pageRequest,
+                contentCounterService.getTotal(ContentType.EVENT));
+    }
+
+    @Override
+    public CursorPage<EventSummary> getEventsAfter(String cursor, int pageSize) {
+        Optional<Integer> lastShownId = PaginationUtil.decodeCursor(cursor);
+
+        List<EventSummary> events = eventRepository.findSummariesOlderThan(lastShownId.orElse(Integer.MAX_VALUE), pageSize + 1);
+
+        return PaginationUtil.afterCursor(events, pageSize, lastShownId.isPresent(), EventSummary::getId);
+    }
+
+    @Override
+    public CursorPage<EventSummary> getEventsBefore(String cursor, int pageSize) {
+        Optional<Integer> firstShownId = PaginationUtil.decodeCursor(cursor);
+
+        if (firstShownId.isEmpty()) {
+            return getEventsAfter(null, pageSize);
+        }
+
+        List<EventSummary> events = eventRepository.findSummariesNewerThan(firstShownId.get(), pageSize + 1);
+
+        if (events.isEmpty()) {
+            return getEventsAfter(null, pageSize);
+        }
+
+        return PaginationUtil.beforeCursor(events, pageSize, EventSummary::getId);
+    }
+
     @Override
     public List<Event> findByKeyword(String keyword) {
         return eventRepository.findByTitleContains(keyword).orElse(Collections.emptyList());
     }
 
+    @Override
+    public Page<EventSummary> findByKeyword(String keyword, int pageNumber, int pageSize) {
+        String query = SearchQueryUtil.toPrefixQuery(keyword);
+
+        if (query.isEmpty()) {
+            return getEventsPage(pageNumber, pageSize);
+        }
+
+        PageRequest pageRequest = PaginationUtil.pageRequest(pageNumber, pageSize);
+
+        return new PageImpl<>(eventRepository.findSummariesMatching(query, pageRequest), pageRequest,
+                eventRepository.countMatching(query));
+    }
+
     @Override
     public Event findById(Integer eventId) {
         return eventRepository.findById(eventId).orElse(new Event());
@@ -61,6 +127,9 @@ public class EventServiceImpl implements EventService {
         }
 
         eventRepository.save(eventToSave);
+        contentCounterService.onSaved(ContentType.EVENT);
+        searchService.indexEvent(eventToSave);
+        eventAnnouncementService.announce(eventToSave);
 
         log.info("Event with title {} saved successfully", eventToSave.getTitle());
 
@@ -69,15 +138,19 @@ public class EventServiceImpl implements EventService {
 
     @Override
     public boolean deleteEvent(Integer eventId) {
-        if (eventRepository.existsById(eventId)) {
-            eventRepository.deleteById(eventId);
+        Optional<Event> eventToDelete = eventRepository.findById(eventId);
 
-            log.info("Event with id {} deleted successfully", eventId);
-
-            return true;
+        if (eventToDelete.isEmpty()) {
+            return false;
         }
 
-        return false;
+        eventRepository.delete(eventToDelete.get());
+        contentCounterService.onDeleted(ContentType.EVENT);
+        searchService.removeEvent(eventToDelete.get().getId());
+
+        log.info("Event with id {} deleted successfully", eventId);
+
+        return true;
     }
 
     @Override
@@ -95,6 +168,7 @@ public class EventServiceImpl implements EventService {
         EventToUpdate.setDateTimeOfCreation(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm")));
 
         eventRepository.save(EventToUpdate);
+        searchService.indexEvent(EventToUpdate);
 
         log.info("Event with title {} updated successfully", optionalEvent.get().getTitle());
 
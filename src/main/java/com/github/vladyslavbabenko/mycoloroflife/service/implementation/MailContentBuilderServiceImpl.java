@@ -1,36 +1,99 @@
 package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
 
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.MailModel;
 import com.github.vladyslavbabenko.mycoloroflife.service.MailContentBuilderService;
-import lombok.RequiredArgsConstructor;
+import com.github.vladyslavbabenko.mycoloroflife.util.CompiledMailTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
-import java.util.List;
+import java.lang.invoke.MethodHandles;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Implementation of {@link MailContentBuilderService}.
+ * Templates are compiled once per template, locale and set of present variables, since th:if depends on the latter.
+ * A template whose compiled output differs from Thymeleaf, because it transforms a value instead of only outputting it,
+ * is processed by Thymeleaf for every email.
  */
 
-@RequiredArgsConstructor
 @Service
 public class MailContentBuilderServiceImpl implements MailContentBuilderService {
 
     private final TemplateEngine templateEngine;
+    private final boolean cacheEnabled;
+
+    private final ConcurrentMap<String, Optional<CompiledMailTemplate>> compiledTemplates = new ConcurrentHashMap<>();
+
+    private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    /**
+     * @param templateEngine Thymeleaf template engine
+     * @param cacheEnabled   false to process templates for every email, so that changed templates are picked up
+     */
+    @Autowired
+    public MailContentBuilderServiceImpl(TemplateEngine templateEngine,
+                                         @Value("${spring.thymeleaf.cache:true}") boolean cacheEnabled) {
+        this.templateEngine = templateEngine;
+        this.cacheEnabled = cacheEnabled;
+    }
 
     @Override
-    public String build(String string, String templatePath) {
-        Context context = new Context();
-        context.setVariable("string0", string);
-        return templateEngine.process(templatePath, context);
+    public String build(MailModel model, String templatePath) {
+        return build(model, templatePath, LocaleContextHolder.getLocale());
     }
 
     @Override
-    public String build(List<String> strings, String templatePath) {
-        Context context = new Context();
-        for (int i = 0; i < strings.size(); i++) {
-            context.setVariable("string" + i, strings.get(i));
+    public String build(MailModel model, String templatePath, Locale locale) {
+        Map<String, String> variables = model.toVariables();
+
+        if (!cacheEnabled) {
+            return process(templatePath, locale, variables);
+        }
+
+        String key = templatePath + '|' + locale + '|' + String.join(",", variables.keySet());
+        Optional<CompiledMailTemplate> compiledTemplate =
+                compiledTemplates.computeIfAbsent(key, k -> compile(templatePath, locale, variables));
+
+        return compiledTemplate.isPresent()
+                ? compiledTemplate.get().render(variables)
+                : process(templatePath, locale, variables);
+    }
+
+    private Optional<CompiledMailTemplate> compile(String templatePath, Locale locale, Map<String, String> variables) {
+        Map<String, String> markers = new LinkedHashMap<>();
+        Map<String, String> samples = new LinkedHashMap<>();
+
+        variables.keySet().forEach(variable -> {
+            markers.put(variable, CompiledMailTemplate.markerOf(variable));
+            samples.put(variable, "<" + variable + "> & \"'" + variable + "'\"");
+        });
+
+        CompiledMailTemplate compiledTemplate = CompiledMailTemplate.compile(process(templatePath, locale, markers));
+
+        if (!compiledTemplate.render(samples).equals(process(templatePath, locale, samples))) {
+            log.warn("Template {} transforms its variables and cannot be compiled, it is processed for every email", templatePath);
+            return Optional.empty();
         }
+
+        log.debug("Template {} compiled for locale {} with {} variable slots", templatePath, locale, compiledTemplate.getSlotCount());
+
+        return Optional.of(compiledTemplate);
+    }
+
+    private String process(String templatePath, Locale locale, Map<String, String> variables) {
+        Context context = new Context(locale);
+        variables.forEach(context::setVariable);
         return templateEngine.process(templatePath, context);
     }
-}
\ No newline at end of file
+}
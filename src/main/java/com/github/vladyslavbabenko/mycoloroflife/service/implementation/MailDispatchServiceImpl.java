@@ -0,0 +1,136 @@
+package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.MailDispatchStatistics;
+import com.github.vladyslavbabenko.mycoloroflife.service.MailDispatchService;
+import com.github.vladyslavbabenko.mycoloroflife.service.MailSenderService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of {@link MailDispatchService}.
+ * Every email is attempted once, retries and delivery across restarts are left to the mail outbox.
+ */
+
+@Service
+public class MailDispatchServiceImpl implements MailDispatchService {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final MailSenderService mailSenderService;
+
+    private final ThreadPoolExecutor workers;
+
+    private final AtomicLong dispatchedCount = new AtomicLong();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong attemptCount = new AtomicLong();
+    private final AtomicLong lastSendNanos = new AtomicLong();
+    private final AtomicLong totalSendNanos = new AtomicLong();
+
+    private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    /**
+     * @param mailSenderService synchronous mail sender
+     * @param poolSize          number of workers
+     * @param queueCapacity     maximum number of emails waiting for a worker, further emails are rejected
+     */
+    @Autowired
+    public MailDispatchServiceImpl(MailSenderService mailSenderService,
+                                   @Value("${mail.dispatch.pool.size}") int poolSize,
+                                   @Value("${mail.dispatch.queue.capacity}") int queueCapacity) {
+        this.mailSenderService = mailSenderService;
+
+        this.workers = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("mail-dispatch-"));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> send(String to, String subject, String text) {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        dispatchedCount.incrementAndGet();
+
+        try {
+            workers.execute(() -> {
+                try {
+                    result.complete(deliver(to, subject, text));
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            log.warn("Email to {} rejected, mail dispatch queue is full or stopped", to);
+            result.complete(false);
+        }
+
+        return result;
+    }
+
+    @Override
+    public MailDispatchStatistics getStatistics() {
+        long attempts = attemptCount.get();
+
+        return MailDispatchStatistics.builder()
+                .queueDepth(workers.getQueue().size())
+                .activeCount(workers.getActiveCount())
+                .dispatchedCount(dispatchedCount.get())
+                .sentCount(sentCount.get())
+                .failedCount(failedCount.get())
+                .rejectedCount(rejectedCount.get())
+                .lastSendMillis(lastSendNanos.get() / 1_000_000.0)
+                .averageSendMillis(attempts == 0 ? 0 : totalSendNanos.get() / 1_000_000.0 / attempts)
+                .build();
+    }
+
+    /**
+     * Stops accepting mail and waits for the queued mail to be sent
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+
+        if (!workers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("{} queued emails have not been sent before shutdown", workers.shutdownNow().size());
+        }
+    }
+
+    private boolean deliver(String to, String subject, String text) {
+        long start = System.nanoTime();
+        boolean sent;
+
+        try {
+            sent = mailSenderService.sendEmail(to, subject, text);
+        } catch (MailException e) {
+            log.warn("Email to {} has not been sent: {}", to, e.getMessage());
+            sent = false;
+        }
+
+        long elapsed = System.nanoTime() - start;
+        attemptCount.incrementAndGet();
+        lastSendNanos.set(elapsed);
+        totalSendNanos.addAndGet(elapsed);
+
+        if (sent) {
+            sentCount.incrementAndGet();
+        } else {
+            failedCount.incrementAndGet();
+        }
+
+        return sent;
+    }
+}
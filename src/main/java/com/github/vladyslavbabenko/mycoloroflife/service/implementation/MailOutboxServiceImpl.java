@@ -0,0 +1,277 @@
+package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.MailModel;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.MailOutboxStatistics;
+import com.github.vladyslavbabenko.mycoloroflife.service.MailContentBuilderService;
+import com.github.vladyslavbabenko.mycoloroflife.service.MailDispatchService;
+import com.github.vladyslavbabenko.mycoloroflife.service.MailOutboxService;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.invoke.MethodHandles;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of {@link MailOutboxService}.
+ * Mail is stored as a template with its model as JSON and rendered by the drainer.
+ * A claimed email is leased to its drainer, if the drainer dies before marking it, the email is claimed again
+ * when the lease expires, so an email can be sent twice only after a crash.
+ */
+
+@Service
+public class MailOutboxServiceImpl implements MailOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String INSERT_MAIL = "INSERT INTO t_mail_outbox (recipient, subject, template, model) " +
+            "VALUES (?, ?, ?, CAST(? AS JSONB))";
+
+    /**
+     * Claimed emails stay pending, they are hidden from other drainers until the lease expires
+     */
+    private static final String CLAIM_PENDING_MAIL = "WITH claimed AS (SELECT id FROM t_mail_outbox " +
+            "WHERE status = 'PENDING' AND next_attempt_at <= now() ORDER BY next_attempt_at, id LIMIT ? FOR UPDATE SKIP LOCKED) " +
+            "UPDATE t_mail_outbox o SET attempts = o.attempts + 1, next_attempt_at = now() + ? * INTERVAL '1 millisecond' " +
+            "FROM claimed WHERE o.id = claimed.id " +
+            "RETURNING o.id, o.recipient, o.subject, o.template, o.model, o.attempts";
+
+    private static final String MARK_SENT = "UPDATE t_mail_outbox SET status = 'SENT', sent_at = now(), last_error = NULL " +
+            "WHERE id = ? AND status = 'PENDING'";
+
+    private static final String MARK_NOT_SENT = "UPDATE t_mail_outbox " +
+            "SET status = CASE WHEN attempts >= ? THEN 'FAILED' ELSE 'PENDING' END, " +
+            "next_attempt_at = now() + ? * power(2, attempts - 1) * INTERVAL '1 millisecond', last_error = ? " +
+            "WHERE id = ? AND status = 'PENDING'";
+
+    private static final String DELETE_SENT_MAIL = "DELETE FROM t_mail_outbox WHERE id IN (SELECT id FROM t_mail_outbox " +
+            "WHERE status = 'SENT' AND sent_at < now() - ? * INTERVAL '1 millisecond' LIMIT ? FOR UPDATE SKIP LOCKED)";
+
+    private static final String COUNT_BY_STATUS = "SELECT count(*) FILTER (WHERE status = 'PENDING') AS pending, " +
+            "count(*) FILTER (WHERE status = 'SENT') AS sent, " +
+            "count(*) FILTER (WHERE status = 'FAILED') AS failed, " +
+            "coalesce(extract(EPOCH FROM now() - min(created_at) FILTER (WHERE status = 'PENDING')), 0) AS oldest_pending " +
+            "FROM t_mail_outbox";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MailDispatchService mailDispatchService;
+    private final MailContentBuilderService mailContentBuilder;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final long lease;
+    private final int maxAttempts;
+    private final long retryBackoff;
+    private final long retention;
+
+    private final AtomicLong drainCount = new AtomicLong();
+    private final AtomicLong drainedCount = new AtomicLong();
+    private final AtomicLong lastDrainNanos = new AtomicLong();
+
+    private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    /**
+     * @param jdbcTemplate        jdbc template, it joins the transaction of the caller
+     * @param mailDispatchService workers that send rendered emails
+     * @param mailContentBuilder  template renderer
+     * @param objectMapper        mapper of template models
+     * @param batchSize           maximum number of emails claimed at once
+     * @param lease               time in milliseconds a drainer has to send a claimed batch
+     * @param maxAttempts         maximum number of attempts to send an email
+     * @param retryBackoff        delay in milliseconds before the first retry, doubled for every next one
+     * @param retention           time in milliseconds sent emails are kept
+     */
+    @Autowired
+    public MailOutboxServiceImpl(JdbcTemplate jdbcTemplate,
+                                 MailDispatchService mailDispatchService,
+                                 MailContentBuilderService mailContentBuilder,
+                                 ObjectMapper objectMapper,
+                                 @Value("${mail.outbox.batch.size}") int batchSize,
+                                 @Value("${mail.outbox.lease}") long lease,
+                                 @Value("${mail.outbox.retry.max-attempts}") int maxAttempts,
+                                 @Value("${mail.outbox.retry.backoff}") long retryBackoff,
+                                 @Value("${mail.outbox.retention}") long retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.mailDispatchService = mailDispatchService;
+        this.mailContentBuilder = mailContentBuilder;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.retention = retention;
+    }
+
+    @Override
+    public void enqueue(String to, String subject, String templatePath, MailModel model) {
+        String json;
+
+        try {
+            json = objectMapper.writeValueAsString(model);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Mail model cannot be written as JSON", e);
+        }
+
+        jdbcTemplate.update(INSERT_MAIL, to, subject, templatePath, json);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${mail.outbox.drain.interval}", initialDelayString = "${mail.outbox.drain.interval}")
+    public synchronized int drain() {
+        long start = System.nanoTime();
+        int sent = 0;
+        List<OutboxMail> batch;
+
+        do {
+            batch = jdbcTemplate.query(CLAIM_PENDING_MAIL, this::mapMail, batchSize, lease);
+            sent += send(batch);
+        } while (batch.size() == batchSize);
+
+        drainCount.incrementAndGet();
+        drainedCount.addAndGet(sent);
+        lastDrainNanos.set(System.nanoTime() - start);
+
+        if (sent > 0) {
+            log.debug("{} emails from the outbox have been sent", sent);
+        }
+
+        return sent;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${mail.outbox.cleanup.interval}", initialDelayString = "${mail.outbox.cleanup.interval}")
+    public int deleteSent() {
+        int deleted = 0;
+        int batch;
+
+        do {
+            batch = jdbcTemplate.update(DELETE_SENT_MAIL, retention, batchSize);
+            deleted += batch;
+        } while (batch == batchSize);
+
+        if (deleted > 0) {
+            log.info("{} sent emails have been deleted from the outbox", deleted);
+        }
+
+        return deleted;
+    }
+
+    @Override
+    public MailOutboxStatistics getStatistics() {
+        return jdbcTemplate.queryForObject(COUNT_BY_STATUS, (resultSet, rowNum) -> MailOutboxStatistics.builder()
+                .pendingCount(resultSet.getLong("pending"))
+                .sentCount(resultSet.getLong("sent"))
+                .failedCount(resultSet.getLong("failed"))
+                .oldestPendingSeconds(resultSet.getDouble("oldest_pending"))
+                .drainCount(drainCount.get())
+                .drainedCount(drainedCount.get())
+                .lastDrainMillis(lastDrainNanos.get() / 1_000_000.0)
+                .build());
+    }
+
+    private int send(List<OutboxMail> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<OutboxMail, CompletableFuture<Boolean>> results = new LinkedHashMap<>();
+
+        for (OutboxMail mail : batch) {
+            CompletableFuture<Boolean> result;
+
+            try {
+                MailModel model = objectMapper.readValue(mail.model, MailModel.class);
+                String text = mailContentBuilder.build(model, mail.templatePath);
+                result = mailDispatchService.send(mail.to, mail.subject, text);
+            } catch (JsonProcessingException | RuntimeException e) {
+                result = CompletableFuture.failedFuture(e);
+            }
+
+            results.put(mail, result);
+        }
+
+        try {
+            CompletableFuture.allOf(results.values().toArray(new CompletableFuture[0])).get(lease, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // the outcome of every email is checked below
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<Object[]> sent = new ArrayList<>();
+        List<Object[]> notSent = new ArrayList<>();
+
+        results.forEach((mail, result) -> {
+            // an email that is still being sent is claimed again when its lease expires
+            if (!result.isDone()) {
+                return;
+            }
+
+            String error = result.handle((isSent, e) -> e != null ? errorOf(e) : isSent ? null : "Email has not been sent").join();
+
+            if (error == null) {
+                sent.add(new Object[]{mail.id});
+            } else {
+                notSent.add(new Object[]{maxAttempts, retryBackoff, error, mail.id});
+
+                if (mail.attempts >= maxAttempts) {
+                    log.error("Email {} to {} has not been sent after {} attempts: {}", mail.id, mail.to, mail.attempts, error);
+                } else {
+                    log.warn("Attempt {} to send email {} to {} failed: {}", mail.attempts, mail.id, mail.to, error);
+                }
+            }
+        });
+
+        jdbcTemplate.batchUpdate(MARK_SENT, sent);
+        jdbcTemplate.batchUpdate(MARK_NOT_SENT, notSent);
+
+        return sent.size();
+    }
+
+    private OutboxMail mapMail(ResultSet resultSet, int rowNum) throws SQLException {
+        return new OutboxMail(resultSet.getLong("id"),
+                resultSet.getString("recipient"),
+                resultSet.getString("subject"),
+                resultSet.getString("template"),
+                resultSet.getString("model"),
+                resultSet.getInt("attempts"));
+    }
+
+    private static String errorOf(Throwable e) {
+        return StringUtils.abbreviate(e.getMessage() == null ? e.toString() : e.getMessage(), MAX_ERROR_LENGTH);
+    }
+
+    private static final class OutboxMail {
+        private final long id;
+        private final String to;
+        private final String subject;
+        private final String templatePath;
+        private final String model;
+        private final int attempts;
+
+        private OutboxMail(long id, String to, String subject, String templatePath, String model, int attempts) {
+            this.id = id;
+            this.to = to;
+            this.subject = subject;
+            this.templatePath = templatePath;
+            this.model = model;
+            this.attempts = attempts;
+        }
+    }
+}
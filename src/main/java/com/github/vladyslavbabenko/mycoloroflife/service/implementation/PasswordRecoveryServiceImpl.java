@@ -2,6 +2,7 @@ package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
 
 import com.github.vladyslavbabenko.mycoloroflife.entity.SecureToken;
 import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.MailModel;
 import com.github.vladyslavbabenko.mycoloroflife.enumeration.Purpose;
 import com.github.vladyslavbabenko.mycoloroflife.service.*;
 import com.github.vladyslavbabenko.mycoloroflife.util.MessageSourceUtil;
@@ -12,11 +13,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.lang.invoke.MethodHandles;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -27,8 +27,7 @@ import java.util.Optional;
 public class PasswordRecoveryServiceImpl implements PasswordRecoveryService {
     private final UserService userService;
     private final SecureTokenService secureTokenService;
-    private final MailSenderService mailSenderService;
-    private final MailContentBuilderService mailContentBuilder;
+    private final MailOutboxService mailOutboxService;
     private final MessageSourceUtil messageSource;
 
     @Value("${site.base.url.https}")
@@ -39,20 +38,19 @@ public class PasswordRecoveryServiceImpl implements PasswordRecoveryService {
     @Autowired
     public PasswordRecoveryServiceImpl(UserService userService,
                                        SecureTokenService secureTokenService,
-                                       MailSenderService mailSenderService,
-                                       MailContentBuilderService mailContentBuilder,
+                                       MailOutboxService mailOutboxService,
                                        MessageSourceUtil messageSource) {
         this.userService = userService;
         this.secureTokenService = secureTokenService;
-        this.mailSenderService = mailSenderService;
-        this.mailContentBuilder = mailContentBuilder;
+        this.mailOutboxService = mailOutboxService;
         this.messageSource = messageSource;
     }
 
     @Override
+    @Transactional
     public boolean forgottenPassword(String username) {
         try {
-            User userFromDB = (User) userService.loadUserByUsername(username);
+            User userFromDB = userService.getUserByUsername(username);
             sendResetPasswordEmail(userFromDB);
             return true;
         } catch (UsernameNotFoundException e) {
@@ -73,7 +71,7 @@ public class PasswordRecoveryServiceImpl implements PasswordRecoveryService {
         User userFromDB;
 
         try {
-            userFromDB = (User) userService.loadUserByUsername(secureToken.get().getUser().getUsername());
+            userFromDB = userService.getUserByUsername(secureToken.get().getUser().getUsername());
         } catch (UsernameNotFoundException e) {
             log.warn("UsernameNotFoundException in {} : {}", this.getClass().getSimpleName(), e.getMessage());
             return false;
@@ -97,30 +95,32 @@ public class PasswordRecoveryServiceImpl implements PasswordRecoveryService {
         secureToken.setPurpose(Purpose.PASSWORD_RECOVERY);
         secureTokenService.update(secureToken);
 
-        List<String> strings;
+        MailModel model;
 
         switch (user.getRegistrationType()) {
             case REGISTRATION_FORM:
-                strings = new ArrayList<>();
-                strings.add(user.getName());
-                strings.add(messageSource.getMessage("email.reset.password.message.to.link"));
-                strings.add(getResetPasswordUrl(secureToken.getToken()));
-                mailSenderService.sendEmail(user.getEmail(),
+                model = MailModel.builder()
+                        .name(user.getName())
+                        .text(messageSource.getMessage("email.reset.password.message.to.link"))
+                        .link(getResetPasswordUrl(secureToken.getToken()))
+                        .build();
+                mailOutboxService.enqueue(user.getEmail(),
                         messageSource.getMessage("email.reset.password.subject"),
-                        mailContentBuilder.build(strings, messageSource.getMessage("template.email.password.forgot.registration-form")));
+                        messageSource.getMessage("template.email.password.forgot.registration-form"), model);
                 break;
 
             case GMAIL_AUTHENTICATION:
-                strings = new ArrayList<>();
-                strings.add(user.getName());
-                strings.add(messageSource.getMessage("email.gmail.login.text"));
-                mailSenderService.sendEmail(user.getEmail(),
+                model = MailModel.builder()
+                        .name(user.getName())
+                        .text(messageSource.getMessage("email.gmail.login.text"))
+                        .build();
+                mailOutboxService.enqueue(user.getEmail(),
                         messageSource.getMessage("email.reset.password.subject"),
-                        mailContentBuilder.build(strings, messageSource.getMessage("template.email.password.forgot.gmail-authentication")));
+                        messageSource.getMessage("template.email.password.forgot.gmail-authentication"), model);
                 break;
         }
 
-        log.info("Password reset email sent to - {}", user.getEmail());
+        log.info("Password reset email queued for - {}", user.getEmail());
     }
 
     protected String getResetPasswordUrl(String token) {
@@ -128,9 +128,10 @@ public class PasswordRecoveryServiceImpl implements PasswordRecoveryService {
     }
 
     @Override
+    @Transactional
     public boolean loginDisabled(String username) {
         try {
-            User userFromDB = (User) userService.loadUserByUsername(username);
+            User userFromDB = userService.getUserByUsername(username);
             if (userFromDB != null && !userFromDB.isAccountNonLocked()) {
                 sendResetPasswordEmail(userFromDB);
                 return true;
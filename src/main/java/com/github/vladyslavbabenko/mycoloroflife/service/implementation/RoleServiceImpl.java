@@ -3,16 +3,20 @@ package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
 import com.github.vladyslavbabenko.mycoloroflife.entity.Role;
 import com.github.vladyslavbabenko.mycoloroflife.repository.RoleRepository;
 import com.github.vladyslavbabenko.mycoloroflife.service.RoleService;
+import com.github.vladyslavbabenko.mycoloroflife.util.RoleRegistry;
+import com.github.vladyslavbabenko.mycoloroflife.util.TransactionUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.lang.invoke.MethodHandles;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
 /**
  * Implementation of {@link RoleService}.
@@ -23,6 +27,11 @@ public class RoleServiceImpl implements RoleService {
 
     private final RoleRepository roleRepository;
 
+    /**
+     * Snapshot of all roles, loaded on first use and replaced as a whole on every change
+     */
+    private final AtomicReference<RoleRegistry> registry = new AtomicReference<>();
+
     private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
     @Autowired
@@ -32,24 +41,29 @@ public class RoleServiceImpl implements RoleService {
 
     @Override
     public Optional<Role> findById(Integer roleId) {
-        return roleRepository.findById(roleId);
+        Optional<Role> role = getRegistry().findById(roleId);
+        return role.isPresent() ? role : register(roleRepository.findById(roleId));
     }
 
     @Override
     public List<Role> getAllRoles() {
-        List<Role> roles = roleRepository.findAll();
-        roles.sort(Comparator.comparingInt(Role::getId));
-        return roles;
+        return getRegistry().getAllRoles();
     }
 
     @Override
     public Optional<Role> findByRoleName(String roleName) {
-        return roleRepository.findByRoleName(roleName);
+        Optional<Role> role = getRegistry().findByRoleName(roleName);
+        return role.isPresent() ? role : register(roleRepository.findByRoleName(roleName));
     }
 
     @Override
     public boolean existsByRoleName(String roleName) {
-        return roleRepository.existsByRoleName(roleName);
+        return getRegistry().containsRoleName(roleName) || roleRepository.existsByRoleName(roleName);
+    }
+
+    @Override
+    public boolean isGranted(Integer userId, String roleName) {
+        return roleRepository.existsByUserIdAndRoleName(userId, roleName);
     }
 
     @Override
@@ -67,6 +81,7 @@ public class RoleServiceImpl implements RoleService {
         } else {
             roleToSave.setRoleName(convertToRoleStyle(roleToSave.getRoleName()));
             roleRepository.save(roleToSave);
+            updateRegistryAfterCommit(roles -> roles.with(roleToSave));
             log.info("{} has been created", roleToSave.getRoleName());
             return true;
         }
@@ -82,6 +97,7 @@ public class RoleServiceImpl implements RoleService {
             roleToUpdate.setRoleName(convertToRoleStyle(updatedRole.getRoleName()));
             roleToUpdate.setDescription(updatedRole.getDescription());
             roleRepository.save(roleToUpdate);
+            updateRegistryAfterCommit(roles -> roles.with(roleToUpdate));
             log.info("{} updated successfully", roleFromDB.get().getRoleName());
             return true;
         }
@@ -97,6 +113,7 @@ public class RoleServiceImpl implements RoleService {
             roleToSave.setRoleName(updatedRole.getRoleName());
             roleToSave.setDescription(updatedRole.getDescription());
             roleRepository.save(roleToSave);
+            updateRegistryAfterCommit(roles -> roles.with(roleToSave));
             log.info("{} updated successfully", roleFromDB.get().getRoleName());
             return true;
         }
@@ -116,13 +133,54 @@ public class RoleServiceImpl implements RoleService {
         }
 
         roleRepository.delete(roleFromDB.get());
+        updateRegistryAfterCommit(roles -> roles.without(roleFromDB.get()));
 
         log.info("Role {} removed successfully", roleFromDB.get().getRoleName());
 
         return true;
     }
 
+    @Override
+    @Scheduled(fixedDelayString = "${role.registry.refresh.interval}",
+            initialDelayString = "${role.registry.refresh.interval}")
+    public void reloadRegistry() {
+        RoleRegistry loaded = RoleRegistry.of(roleRepository.findAll());
+        registry.set(loaded);
+
+        log.debug("Role registry reloaded with {} roles", loaded.size());
+    }
+
     public String convertToRoleStyle(String string) {
         return string.toUpperCase(Locale.ROOT).replaceAll(" ", "_");
     }
+
+    private RoleRegistry getRegistry() {
+        RoleRegistry current = registry.get();
+
+        if (current == null) {
+            reloadRegistry();
+            current = registry.get();
+        }
+
+        return current;
+    }
+
+    /**
+     * Adds role that is missing in the registry, e.g. created by another instance of the application
+     */
+    private Optional<Role> register(Optional<Role> roleFromDB) {
+        roleFromDB.ifPresent(role -> updateRegistry(roles -> roles.with(role)));
+        return roleFromDB;
+    }
+
+    /**
+     * Applies the change to the registry once the surrounding transaction, if any, is committed
+     */
+    private void updateRegistryAfterCommit(UnaryOperator<RoleRegistry> change) {
+        TransactionUtil.runAfterCommit(() -> updateRegistry(change));
+    }
+
+    private void updateRegistry(UnaryOperator<RoleRegistry> change) {
+        registry.updateAndGet(current -> current == null ? null : change.apply(current));
+    }
 }
\ No newline at end of file
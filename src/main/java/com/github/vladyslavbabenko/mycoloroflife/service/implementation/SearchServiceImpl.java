@@ -0,0 +1,202 @@
+package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.Article;
+import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
+import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
+import com.github.vladyslavbabenko.mycoloroflife.entity.Event;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.SearchResult;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.SearchSuggestion;
+import com.github.vladyslavbabenko.mycoloroflife.enumeration.ContentType;
+import com.github.vladyslavbabenko.mycoloroflife.repository.ArticleRepository;
+import com.github.vladyslavbabenko.mycoloroflife.repository.CourseRepository;
+import com.github.vladyslavbabenko.mycoloroflife.repository.CourseTitleRepository;
+import com.github.vladyslavbabenko.mycoloroflife.repository.EventRepository;
+import com.github.vladyslavbabenko.mycoloroflife.service.SearchService;
+import com.github.vladyslavbabenko.mycoloroflife.util.InvertedIndex;
+import com.github.vladyslavbabenko.mycoloroflife.util.PrefixIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of {@link SearchService}.
+ * Updates of the index and rebuilds are serialized on this service, so that an update made while the index is being
+ * rebuilt is applied to the new index instead of being lost with the old one. Searches do not wait for them.
+ */
+
+@Service
+public class SearchServiceImpl implements SearchService {
+
+    private static final String ARTICLE_KEY = "article:";
+    private static final String EVENT_KEY = "event:";
+    private static final String COURSE_TITLE_KEY = "course-title:";
+    private static final String COURSE_KEY = "course:";
+
+    private final ArticleRepository articleRepository;
+    private final EventRepository eventRepository;
+    private final CourseTitleRepository courseTitleRepository;
+    private final CourseRepository courseRepository;
+
+    /**
+     * Replaced as a whole on rebuild, so that searches keep using the old index until the new one is ready
+     */
+    private volatile InvertedIndex<SearchResult> index = new InvertedIndex<>();
+    private volatile PrefixIndex<SearchSuggestion> suggestionIndex = new PrefixIndex<>();
+
+    private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    @Autowired
+    public SearchServiceImpl(ArticleRepository articleRepository, EventRepository eventRepository,
+                             CourseTitleRepository courseTitleRepository, CourseRepository courseRepository) {
+        this.articleRepository = articleRepository;
+        this.eventRepository = eventRepository;
+        this.courseTitleRepository = courseTitleRepository;
+        this.courseRepository = courseRepository;
+    }
+
+    @Override
+    public List<SearchResult> search(String query, int limit) {
+        return index.search(query, limit).stream()
+                .map(hit -> SearchResult.builder()
+                        .contentType(hit.getValue().getContentType())
+                        .id(hit.getValue().getId())
+                        .title(hit.getValue().getTitle())
+                        .page(hit.getValue().getPage())
+                        .score(hit.getScore())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<SearchSuggestion> suggest(String prefix, int limit) {
+        return suggestionIndex.suggest(prefix, limit);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${search.index.refresh.interval}",
+            initialDelayString = "${search.index.refresh.interval}")
+    public synchronized void rebuildIndex() {
+        InvertedIndex<SearchResult> newIndex = new InvertedIndex<>();
+        PrefixIndex<SearchSuggestion> newSuggestionIndex = new PrefixIndex<>();
+
+        articleRepository.findAll().forEach(article -> putArticle(newIndex, newSuggestionIndex, article));
+        eventRepository.findAll().forEach(event -> putEvent(newIndex, newSuggestionIndex, event));
+        courseTitleRepository.findAll().forEach(courseTitle -> putCourseTitle(newIndex, newSuggestionIndex, courseTitle));
+        courseRepository.findAll().forEach(course -> putCourse(newIndex, course, course.getCourseTitle()));
+
+        index = newIndex;
+        suggestionIndex = newSuggestionIndex;
+
+        log.info("Search index has been built with {} documents and {} titles", newIndex.size(), newSuggestionIndex.size());
+    }
+
+    @Override
+    public synchronized void indexArticle(Article article) {
+        putArticle(index, suggestionIndex, article);
+    }
+
+    @Override
+    public synchronized void removeArticle(Integer articleId) {
+        index.remove(ARTICLE_KEY + articleId);
+        suggestionIndex.remove(ARTICLE_KEY + articleId);
+    }
+
+    @Override
+    public synchronized void indexEvent(Event event) {
+        putEvent(index, suggestionIndex, event);
+    }
+
+    @Override
+    public synchronized void removeEvent(Integer eventId) {
+        index.remove(EVENT_KEY + eventId);
+        suggestionIndex.remove(EVENT_KEY + eventId);
+    }
+
+    @Override
+    public synchronized void indexCourseTitle(CourseTitle courseTitle) {
+        putCourseTitle(index, suggestionIndex, courseTitle);
+
+        if (courseTitle.getCourses() != null) {
+            courseTitle.getCourses().forEach(course -> putCourse(index, course, courseTitle));
+        }
+    }
+
+    @Override
+    public synchronized void removeCourseTitle(CourseTitle courseTitle) {
+        index.remove(COURSE_TITLE_KEY + courseTitle.getId());
+        suggestionIndex.remove(COURSE_TITLE_KEY + courseTitle.getId());
+
+        if (courseTitle.getCourses() != null) {
+            courseTitle.getCourses().forEach(course -> index.remove(COURSE_KEY + course.getId()));
+        }
+    }
+
+    @Override
+    public synchronized void indexCourse(Course course) {
+        putCourse(index, course, course.getCourseTitle());
+    }
+
+    @Override
+    public synchronized void removeCourse(Integer courseId) {
+        index.remove(COURSE_KEY + courseId);
+    }
+
+    private void putArticle(InvertedIndex<SearchResult> targetIndex, PrefixIndex<SearchSuggestion> targetSuggestionIndex,
+                            Article article) {
+        targetIndex.put(ARTICLE_KEY + article.getId(), SearchResult.builder()
+                        .contentType(ContentType.ARTICLE)
+                        .id(article.getId())
+                        .title(article.getTitle())
+                        .build(),
+                article.getTitle(), article.getText());
+        putSuggestion(targetSuggestionIndex, ARTICLE_KEY, ContentType.ARTICLE, article.getId(), article.getTitle());
+    }
+
+    private void putEvent(InvertedIndex<SearchResult> targetIndex, PrefixIndex<SearchSuggestion> targetSuggestionIndex,
+                          Event event) {
+        targetIndex.put(EVENT_KEY + event.getId(), SearchResult.builder()
+                        .contentType(ContentType.EVENT)
+                        .id(event.getId())
+                        .title(event.getTitle())
+                        .build(),
+                event.getTitle(), event.getText());
+        putSuggestion(targetSuggestionIndex, EVENT_KEY, ContentType.EVENT, event.getId(), event.getTitle());
+    }
+
+    private void putCourseTitle(InvertedIndex<SearchResult> targetIndex, PrefixIndex<SearchSuggestion> targetSuggestionIndex,
+                                CourseTitle courseTitle) {
+        targetIndex.put(COURSE_TITLE_KEY + courseTitle.getId(), SearchResult.builder()
+                        .contentType(ContentType.COURSE_TITLE)
+                        .id(courseTitle.getId())
+                        .title(courseTitle.getTitle())
+                        .build(),
+                courseTitle.getTitle(), courseTitle.getDescription());
+        putSuggestion(targetSuggestionIndex, COURSE_TITLE_KEY, ContentType.COURSE_TITLE, courseTitle.getId(),
+                courseTitle.getTitle());
+    }
+
+    private void putSuggestion(PrefixIndex<SearchSuggestion> targetSuggestionIndex, String keyPrefix,
+                               ContentType contentType, Integer id, String title) {
+        targetSuggestionIndex.put(keyPrefix + id, SearchSuggestion.builder()
+                .contentType(contentType)
+                .id(id)
+                .title(title)
+                .build(), title);
+    }
+
+    private void putCourse(InvertedIndex<SearchResult> targetIndex, Course course, CourseTitle courseTitle) {
+        targetIndex.put(COURSE_KEY + course.getId(), SearchResult.builder()
+                        .contentType(ContentType.COURSE_TITLE)
+                        .id(courseTitle.getId())
+                        .title(courseTitle.getTitle())
+                        .page(course.getPage())
+                        .build(),
+                course.getVideoTitle(), course.getText());
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
+
+import com.github.vladyslavbabenko.mycoloroflife.service.SessionCleanupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.invoke.MethodHandles;
+
+/**
+ * Implementation of {@link SessionCleanupService}.
+ */
+
+@Service
+public class SessionCleanupServiceImpl implements SessionCleanupService {
+
+    /**
+     * Attributes are deleted with their sessions by ON DELETE CASCADE
+     */
+    private static final String DELETE_EXPIRED_SESSIONS = "DELETE FROM spring_session WHERE primary_id IN " +
+            "(SELECT primary_id FROM spring_session WHERE expiry_time < ? LIMIT ? FOR UPDATE SKIP LOCKED)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    @Autowired
+    public SessionCleanupServiceImpl(JdbcTemplate jdbcTemplate, @Value("${session.cleanup.batch.size}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${session.cleanup.interval}", initialDelayString = "${session.cleanup.interval}")
+    public int deleteExpiredSessions() {
+        long now = System.currentTimeMillis();
+        int deleted = 0;
+        int batch;
+
+        do {
+            batch = jdbcTemplate.update(DELETE_EXPIRED_SESSIONS, now, batchSize);
+            deleted += batch;
+        } while (batch == batchSize);
+
+        if (deleted > 0) {
+            log.info("{} expired sessions have been deleted", deleted);
+        }
+
+        return deleted;
+    }
+}
@@ -1,12 +1,15 @@
 package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
 
 import com.github.vladyslavbabenko.mycoloroflife.entity.*;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.UserPrincipal;
 import com.github.vladyslavbabenko.mycoloroflife.enumeration.UserRegistrationType;
 import com.github.vladyslavbabenko.mycoloroflife.repository.UserRepository;
 import com.github.vladyslavbabenko.mycoloroflife.service.*;
+import com.github.vladyslavbabenko.mycoloroflife.util.CurrentUserContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,6 +21,8 @@ import org.springframework.stereotype.Service;
 
 import java.lang.invoke.MethodHandles;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Implementation of {@link UserService}.
@@ -27,11 +32,12 @@ import java.util.*;
 public class UserServiceImpl implements UserService {
 
     private final RoleService roleService;
-    private final CourseService courseService;
     private final UserRepository userRepository;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
     private final ActivationCodeService activationCodeService;
     private final CourseProgressService courseProgressService;
+    private final AuthorService authorService;
+    private final CurrentUserContext currentUserContext;
 
     private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
@@ -41,34 +47,96 @@ public class UserServiceImpl implements UserService {
                            ActivationCodeService activationCodeService,
                            RoleService roleService,
                            CourseProgressService courseProgressService,
-                           CourseService courseService) {
+                           AuthorService authorService,
+                           CurrentUserContext currentUserContext) {
         this.userRepository = userRepository;
         this.bCryptPasswordEncoder = bCryptPasswordEncoder;
         this.activationCodeService = activationCodeService;
         this.roleService = roleService;
         this.courseProgressService = courseProgressService;
-        this.courseService = courseService;
+        this.authorService = authorService;
+        this.currentUserContext = currentUserContext;
     }
 
     public User getCurrentUser() {
+        return resolveCurrentUser(false, () -> getCurrentUser(userRepository::findByEmail, userRepository::findById));
+    }
+
+    @Override
+    public User getCurrentUserWithDetails() {
+        return resolveCurrentUser(true,
+                () -> getCurrentUser(userRepository::findWithPrivateAreaByEmail, userRepository::findWithPrivateAreaById));
+    }
+
+    /**
+     * Looks the current user up once per request, every time if there is no request, e.g. in scheduled tasks
+     */
+    private User resolveCurrentUser(boolean withDetails, Supplier<User> lookup) {
+        if (!CurrentUserContext.isActive()) {
+            return lookup.get();
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String principalName = authentication == null ? null : authentication.getName();
+
+        return withDetails
+                ? currentUserContext.getUserWithDetails(principalName, lookup)
+                : currentUserContext.getUser(principalName, lookup);
+    }
+
+    private void invalidateCurrentUser() {
+        if (CurrentUserContext.isActive()) {
+            currentUserContext.invalidate();
+        }
+    }
+
+    @Override
+    public Integer getCurrentUserId() {
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+
+        if (principal instanceof UserPrincipal) {
+            return ((UserPrincipal) principal).getId();
+        }
+
+        return getCurrentUser().getId();
+    }
+
+    private User getCurrentUser(Function<String, Optional<User>> findByEmail, Function<Integer, Optional<User>> findById) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         Object principal = authentication.getPrincipal();
 
-        if (principal instanceof User) {
-            Optional<User> userFromDB = userRepository.findByEmail(((User) authentication.getPrincipal()).getEmail().toLowerCase(Locale.ROOT));
+        String email = null;
+        Integer id = null;
+
+        if (principal instanceof UserPrincipal) {
+            email = ((UserPrincipal) principal).getEmail();
+            id = ((UserPrincipal) principal).getId();
+        } else if (principal instanceof User) {
+            // sessions authenticated before UserPrincipal was introduced still hold the entity
+            email = ((User) principal).getEmail();
+            id = ((User) principal).getId();
+        }
+
+        if (email != null) {
+            Optional<User> userFromDB = findByEmail.apply(email.toLowerCase(Locale.ROOT));
 
             if (userFromDB.isPresent()) {
                 return userFromDB.get();
             }
 
-            userFromDB = userRepository.findById(((User) authentication.getPrincipal()).getId());
+            userFromDB = findById.apply(id);
 
             if (userFromDB.isPresent()) {
                 return userFromDB.get();
             }
 
         } else if (principal instanceof OAuth2User) {
-            return (User) loadUserByUsername(Objects.requireNonNull(((OAuth2User) principal).getAttribute("email")));
+            String oAuth2Email = Objects.requireNonNull(((OAuth2User) principal).getAttribute("email"));
+
+            return findByEmail.apply(oAuth2Email.toLowerCase(Locale.ROOT)).orElseThrow(() -> {
+                log.warn("User with {} not found", oAuth2Email);
+                return new UsernameNotFoundException("User with " + oAuth2Email + " not found");
+            });
         }
 
         return new User();
@@ -114,6 +182,10 @@ public class UserServiceImpl implements UserService {
             userToSave.setPassword(encodePassword(userToSave.getPassword()));
             userToSave.setEmail(userToSave.getEmail().toLowerCase(Locale.ROOT));
 
+            if (userToSave.getLocale() == null) {
+                userToSave.setLocale(LocaleContextHolder.getLocale().toLanguageTag());
+            }
+
             userRepository.save(userToSave);
 
             log.info("User with username {} has been created", userToSave.getUsername());
@@ -126,6 +198,8 @@ public class UserServiceImpl implements UserService {
     public boolean deleteUser(Integer userId) {
         if (userRepository.existsById(userId)) {
             userRepository.deleteById(userId);
+            authorService.evict(userId);
+            invalidateCurrentUser();
 
             log.info("User with id {} has been deleted", userId);
 
@@ -153,6 +227,7 @@ public class UserServiceImpl implements UserService {
             userToUpdate.setAccountNonLocked(updatedUser.isAccountNonLocked());
 
             userRepository.save(userToUpdate);
+            invalidateCurrentUser();
 
             log.info("User with username {} has been updated", userFromDB.get().getUsername());
 
@@ -172,6 +247,7 @@ public class UserServiceImpl implements UserService {
             User userToUpdate = userFromDB.get();
             userToUpdate.setPassword(encodePassword(updatedUser.getPassword()));
             userRepository.save(userToUpdate);
+            invalidateCurrentUser();
 
             log.info("Password for user with username {} has been updated", userFromDB.get().getUsername());
 
@@ -185,6 +261,11 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return UserPrincipal.of(getUserByUsername(username));
+    }
+
+    @Override
+    public User getUserByUsername(String username) throws UsernameNotFoundException {
         Optional<User> userFromDB = userRepository.findByEmail(username.toLowerCase(Locale.ROOT));
         if (userFromDB.isEmpty()) {
             log.warn("User with {} not found", username);
@@ -227,9 +308,9 @@ public class UserServiceImpl implements UserService {
         User user = activationCode.getUser();
         user.getRoles().add(courseOwnerRole.get());
         userRepository.save(user);
+        invalidateCurrentUser();
 
-        Optional<Course> courseFromDB = courseService.findByCourseTitleAndPage(activationCode.getCourseTitle().getTitle(), 1);
-        courseFromDB.ifPresent(course -> courseProgressService.save(CourseProgress.builder().user(user).course(course).build()));
+        courseProgressService.save(CourseProgress.builder().user(user).courseTitle(activationCode.getCourseTitle()).lastPage(1).build());
 
         activationCodeService.deleteByCode(activationCode.getCode());
 
@@ -244,6 +325,7 @@ public class UserServiceImpl implements UserService {
             getAllUsers().stream()
                     .peek(user -> user.getRoles().removeIf(role -> role.getRoleName().equals(roleToDelete.getRoleName())))
                     .forEach(userRepository::save);
+            invalidateCurrentUser();
 
             log.info("Authority {} has been removed from users", roleToDelete);
 
@@ -254,16 +336,17 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public boolean isAccountNonLocked(String username) {
-        return loadUserByUsername(username).isAccountNonLocked();
+        return getUserByUsername(username).isAccountNonLocked();
     }
 
     @Override
     public boolean confirmEmail(String username) {
         try {
-            User userFromDB = (User) loadUserByUsername(username);
+            User userFromDB = getUserByUsername(username);
             userFromDB.setEmailConfirmed(true);
 
             userRepository.save(userFromDB);
+            invalidateCurrentUser();
 
             log.info("Email has been verified for user with username {}", userFromDB.getUsername());
 
@@ -0,0 +1,90 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import org.unbescape.html.HtmlEscape;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Mail template split into pre-rendered static fragments and variable slots between them.
+ * It is compiled from the output of the template processed with a marker in place of every variable,
+ * rendering only appends the fragments and the HTML-escaped values, as th:text does.
+ * Immutable, so that it can be cached and shared between threads.
+ */
+
+public final class CompiledMailTemplate {
+
+    private static final char MARKER_START = '\u001E';
+    private static final char MARKER_END = '\u001F';
+    private static final Pattern MARKER = Pattern.compile(MARKER_START + "(\\w+)" + MARKER_END);
+
+    private final String[] fragments;
+    private final String[] slots;
+    private final int fragmentsLength;
+
+    private CompiledMailTemplate(String[] fragments, String[] slots) {
+        this.fragments = fragments;
+        this.slots = slots;
+
+        int length = 0;
+        for (String fragment : fragments) {
+            length += fragment.length();
+        }
+        this.fragmentsLength = length;
+    }
+
+    /**
+     * @param variable name of the variable
+     * @return value to process the template with in place of the variable
+     */
+    public static String markerOf(String variable) {
+        return MARKER_START + variable + MARKER_END;
+    }
+
+    /**
+     * @param processedTemplate output of the template processed with {@link #markerOf(String)} in place of every variable
+     * @return compiled template
+     */
+    public static CompiledMailTemplate compile(String processedTemplate) {
+        List<String> fragments = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        Matcher matcher = MARKER.matcher(processedTemplate);
+        int fragmentStart = 0;
+
+        while (matcher.find()) {
+            fragments.add(processedTemplate.substring(fragmentStart, matcher.start()));
+            slots.add(matcher.group(1));
+            fragmentStart = matcher.end();
+        }
+
+        fragments.add(processedTemplate.substring(fragmentStart));
+
+        return new CompiledMailTemplate(fragments.toArray(new String[0]), slots.toArray(new String[0]));
+    }
+
+    /**
+     * @param variables values of the variables the template has been compiled with
+     * @return rendered template
+     */
+    public String render(Map<String, String> variables) {
+        StringBuilder builder = new StringBuilder(fragmentsLength + 64 * slots.length);
+        builder.append(fragments[0]);
+
+        for (int i = 0; i < slots.length; i++) {
+            builder.append(HtmlEscape.escapeHtml4Xml(variables.get(slots[i])));
+            builder.append(fragments[i + 1]);
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * @return number of variable slots
+     */
+    public int getSlotCount() {
+        return slots.length;
+    }
+}
@@ -0,0 +1,179 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
+import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.CourseCatalogPage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable snapshot of the table of contents of every {@link CourseTitle}, indexed by title.
+ * Changes produce a new snapshot, so that it can be read without locks while it is being rebuilt.
+ */
+
+public final class CourseCatalog {
+
+    private static final CourseCatalog EMPTY = new CourseCatalog(Map.of());
+
+    private final Map<String, TableOfContents> tablesOfContents;
+
+    private CourseCatalog(Map<String, TableOfContents> tablesOfContents) {
+        this.tablesOfContents = tablesOfContents;
+    }
+
+    /**
+     * @return catalog without courses
+     */
+    public static CourseCatalog empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param courseTitles all course titles
+     * @param pages        pages of the course titles, in any order
+     * @return catalog of provided course titles, pages of unknown course titles are skipped
+     */
+    public static CourseCatalog of(Collection<CourseTitle> courseTitles, Collection<CourseCatalogPage> pages) {
+        Map<Integer, List<CourseCatalogPage>> pagesByCourseTitleId = pages.stream()
+                .collect(Collectors.groupingBy(CourseCatalogPage::getCourseTitleId));
+
+        Map<String, TableOfContents> tablesOfContents = new HashMap<>();
+
+        for (CourseTitle courseTitle : courseTitles) {
+            List<CourseCatalogPage> coursePages = pagesByCourseTitleId.getOrDefault(courseTitle.getId(), List.of());
+            tablesOfContents.put(courseTitle.getTitle(), TableOfContents.of(courseTitle, coursePages));
+        }
+
+        return new CourseCatalog(Map.copyOf(tablesOfContents));
+    }
+
+    /**
+     * @param title title of the course
+     * @return table of contents of the course, or empty Optional if it is not in the catalog
+     */
+    public Optional<TableOfContents> findByTitle(String title) {
+        return title == null ? Optional.empty() : Optional.ofNullable(tablesOfContents.get(title));
+    }
+
+    /**
+     * @param tableOfContents table of contents of a course
+     * @return catalog where provided table of contents replaces the one of the same course
+     */
+    public CourseCatalog with(TableOfContents tableOfContents) {
+        Map<String, TableOfContents> tablesOfContents = new HashMap<>(this.tablesOfContents);
+        tablesOfContents.values().removeIf(registered -> registered.courseTitleId == tableOfContents.courseTitleId);
+        tablesOfContents.put(tableOfContents.title, tableOfContents);
+
+        return new CourseCatalog(Map.copyOf(tablesOfContents));
+    }
+
+    /**
+     * @return number of courses in the catalog
+     */
+    public int size() {
+        return tablesOfContents.size();
+    }
+
+    /**
+     * Pages of one course sorted by page number, kept in parallel arrays
+     */
+    public static final class TableOfContents {
+        private final int courseTitleId;
+        private final String title;
+        private final String description;
+        private final int[] pageIds;
+        private final int[] pageNumbers;
+        private final String[] videoTitles;
+
+        private TableOfContents(int courseTitleId, String title, String description,
+                                int[] pageIds, int[] pageNumbers, String[] videoTitles) {
+            this.courseTitleId = courseTitleId;
+            this.title = title;
+            this.description = description;
+            this.pageIds = pageIds;
+            this.pageNumbers = pageNumbers;
+            this.videoTitles = videoTitles;
+        }
+
+        /**
+         * @param courseTitle course title
+         * @param pages       pages of the course title, in any order
+         * @return table of contents of the course
+         */
+        public static TableOfContents of(CourseTitle courseTitle, Collection<CourseCatalogPage> pages) {
+            List<CourseCatalogPage> sortedPages = new ArrayList<>(pages);
+            sortedPages.sort(Comparator.comparingInt(CourseCatalogPage::getPage));
+
+            int[] pageIds = new int[sortedPages.size()];
+            int[] pageNumbers = new int[sortedPages.size()];
+            String[] videoTitles = new String[sortedPages.size()];
+
+            for (int i = 0; i < sortedPages.size(); i++) {
+                pageIds[i] = sortedPages.get(i).getCourseId();
+                pageNumbers[i] = sortedPages.get(i).getPage();
+                videoTitles[i] = sortedPages.get(i).getVideoTitle();
+            }
+
+            return new TableOfContents(courseTitle.getId(), courseTitle.getTitle(), courseTitle.getDescription(),
+                    pageIds, pageNumbers, videoTitles);
+        }
+
+        /**
+         * @return new detached {@link CourseTitle} of the course
+         */
+        public CourseTitle getCourseTitle() {
+            return CourseTitle.builder().id(courseTitleId).title(title).description(description).build();
+        }
+
+        /**
+         * @return new detached {@link Course} pages without text, sorted by page number
+         */
+        public List<Course> getPages() {
+            CourseTitle courseTitle = getCourseTitle();
+            List<Course> pages = new ArrayList<>(pageIds.length);
+
+            for (int i = 0; i < pageIds.length; i++) {
+                pages.add(Course.builder()
+                        .id(pageIds[i])
+                        .courseTitle(courseTitle)
+                        .page(pageNumbers[i])
+                        .videoTitle(videoTitles[i])
+                        .build());
+            }
+
+            return pages;
+        }
+
+        /**
+         * @param page number of the page
+         * @return id of the page, or empty OptionalInt if the course has no such page
+         */
+        public OptionalInt findPageId(int page) {
+            int index = Arrays.binarySearch(pageNumbers, page);
+            return index < 0 ? OptionalInt.empty() : OptionalInt.of(pageIds[index]);
+        }
+
+        /**
+         * @return number of pages of the course
+         */
+        public int getPageCount() {
+            return pageNumbers.length;
+        }
+
+        /**
+         * @return number of the last page of the course, -1 if the course has no pages
+         */
+        public int getMaxPage() {
+            return pageNumbers.length == 0 ? -1 : pageNumbers[pageNumbers.length - 1];
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe buffer of course progress updates that have not been written to database yet.
+ * Updates of the same user and course title are merged, only the highest page is kept.
+ * Flushed entries are removed only if they were not updated again during the flush,
+ * so that a user always finds the last page either in the buffer or in database.
+ */
+
+public final class CourseProgressBuffer {
+
+    private final ConcurrentMap<Long, Integer> lastPages = new ConcurrentHashMap<>();
+    private final LongAdder recordedCount = new LongAdder();
+    private final LongAdder mergedCount = new LongAdder();
+
+    /**
+     * @param userId        id of the user
+     * @param courseTitleId id of the course title
+     * @param lastPage      reached page
+     */
+    public void record(int userId, int courseTitleId, int lastPage) {
+        recordedCount.increment();
+        lastPages.merge(keyOf(userId, courseTitleId), lastPage, (buffered, recorded) -> {
+            mergedCount.increment();
+            return Math.max(buffered, recorded);
+        });
+    }
+
+    /**
+     * @param userId        id of the user
+     * @param courseTitleId id of the course title
+     * @return buffered last page, or empty OptionalInt if there is no pending update
+     */
+    public OptionalInt find(int userId, int courseTitleId) {
+        Integer lastPage = lastPages.get(keyOf(userId, courseTitleId));
+        return lastPage == null ? OptionalInt.empty() : OptionalInt.of(lastPage);
+    }
+
+    /**
+     * @return copy of pending updates, they stay in the buffer until {@link #remove(List)} is called
+     */
+    public List<Entry> snapshot() {
+        List<Entry> entries = new ArrayList<>(lastPages.size());
+        lastPages.forEach((key, lastPage) -> entries.add(new Entry(userIdOf(key), courseTitleIdOf(key), lastPage)));
+        return entries;
+    }
+
+    /**
+     * @param flushed updates written to database, updates that were merged again in the meantime are kept
+     */
+    public void remove(List<Entry> flushed) {
+        for (Entry entry : flushed) {
+            lastPages.remove(keyOf(entry.getUserId(), entry.getCourseTitleId()), entry.getLastPage());
+        }
+    }
+
+    /**
+     * @return number of pending updates
+     */
+    public int size() {
+        return lastPages.size();
+    }
+
+    /**
+     * @return number of recorded updates
+     */
+    public long getRecordedCount() {
+        return recordedCount.sum();
+    }
+
+    /**
+     * @return number of recorded updates merged into a pending update of the same user and course title
+     */
+    public long getMergedCount() {
+        return mergedCount.sum();
+    }
+
+    private static long keyOf(int userId, int courseTitleId) {
+        return ((long) userId << 32) | (courseTitleId & 0xFFFFFFFFL);
+    }
+
+    private static int userIdOf(long key) {
+        return (int) (key >>> 32);
+    }
+
+    private static int courseTitleIdOf(long key) {
+        return (int) key;
+    }
+
+    /**
+     * Pending update of the last page of a user in a course
+     */
+    public static final class Entry {
+        private final int userId;
+        private final int courseTitleId;
+        private final int lastPage;
+
+        private Entry(int userId, int courseTitleId, int lastPage) {
+            this.userId = userId;
+            this.courseTitleId = courseTitleId;
+            this.lastPage = lastPage;
+        }
+
+        public int getUserId() {
+            return userId;
+        }
+
+        public int getCourseTitleId() {
+            return courseTitleId;
+        }
+
+        public int getLastPage() {
+            return lastPage;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Request-scoped holder of the current {@link User}, so that the user is looked up in database at most once per request.
+ * The user is resolved lazily on first use and is looked up again only after {@link #invalidate()},
+ * when the authenticated principal changes, or when associations that were not loaded yet are requested.
+ */
+
+@Component
+@RequestScope
+public class CurrentUserContext {
+
+    private User user;
+    private String principalName;
+    private boolean withDetails;
+
+    private int lookups;
+    private int hits;
+
+    /**
+     * @return true if there is a request bound to the current thread, so that this context can be used
+     */
+    public static boolean isActive() {
+        return RequestContextHolder.getRequestAttributes() != null;
+    }
+
+    /**
+     * Returns the current user, looking it up only if it is not known yet in this request
+     *
+     * @param principalName name of the authenticated principal
+     * @param lookup        finds the user with roles only
+     * @return current user
+     */
+    public User getUser(String principalName, Supplier<User> lookup) {
+        return resolve(principalName, false, lookup);
+    }
+
+    /**
+     * Returns the current user with roles, activation codes and course progress,
+     * looking it up only if it has not been loaded with them yet in this request
+     *
+     * @param principalName name of the authenticated principal
+     * @param lookup        finds the user with roles, activation codes and course progress
+     * @return current user
+     */
+    public User getUserWithDetails(String principalName, Supplier<User> lookup) {
+        return resolve(principalName, true, lookup);
+    }
+
+    /**
+     * Forgets the current user, to be called after the user has been changed during the request
+     */
+    public void invalidate() {
+        user = null;
+        principalName = null;
+        withDetails = false;
+    }
+
+    /**
+     * @return number of database lookups of the current user made in this request
+     */
+    public int getLookups() {
+        return lookups;
+    }
+
+    /**
+     * @return number of times the current user was returned without a database lookup in this request
+     */
+    public int getHits() {
+        return hits;
+    }
+
+    private User resolve(String principalName, boolean detailsNeeded, Supplier<User> lookup) {
+        if (user != null && Objects.equals(this.principalName, principalName) && (withDetails || !detailsNeeded)) {
+            hits++;
+            return user;
+        }
+
+        lookups++;
+        user = lookup.get();
+        this.principalName = principalName;
+        withDetails = detailsNeeded;
+
+        return user;
+    }
+}
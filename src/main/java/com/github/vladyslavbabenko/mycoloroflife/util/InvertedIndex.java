@@ -0,0 +1,334 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Thread-safe in-memory inverted index with BM25 ranking.
+ * Documents get sequential ids, so every posting list stays sorted and is kept in two primitive int arrays.
+ * Removed documents are only marked as deleted. Once they outnumber live documents, they are dropped from posting lists
+ * and live documents are renumbered in their order, so that memory and the cost of a search follow the number of
+ * live documents rather than the number of edits.
+ *
+ * @param <T> type of the value stored with each document and returned with search hits
+ */
+
+public final class InvertedIndex<T> {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    /**
+     * Every occurrence of a term in a title counts as this many occurrences in the text
+     */
+    private static final int TITLE_BOOST = 3;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<String, Integer> documentIds = new HashMap<>();
+    private final BitSet liveDocuments = new BitSet();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private int nextDocumentId;
+    private int liveCount;
+    private int deletedCount;
+    private long totalLength;
+
+    /**
+     * Adds a document, replacing the previous document with the same key
+     *
+     * @param key   unique key of the document
+     * @param value value returned with search hits
+     * @param title title of the document, ranked higher than text
+     * @param text  text of the document, may be null
+     */
+    public void put(String key, T value, String title, String text) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+
+        for (String term : TextTokenizer.tokenize(title)) {
+            termFrequencies.merge(term, TITLE_BOOST, Integer::sum);
+        }
+
+        for (String term : TextTokenizer.tokenize(text)) {
+            termFrequencies.merge(term, 1, Integer::sum);
+        }
+
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+
+        try {
+            removeDocument(key);
+
+            int documentId = nextDocumentId++;
+
+            if (documentId == values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+                lengths = Arrays.copyOf(lengths, lengths.length * 2);
+            }
+
+            values[documentId] = value;
+            lengths[documentId] = length;
+            liveDocuments.set(documentId);
+            documentIds.put(key, documentId);
+            liveCount++;
+            totalLength += length;
+
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new Postings()).add(documentId, frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a document
+     *
+     * @param key unique key of the document
+     * @return true if document was indexed, otherwise false
+     */
+    public boolean remove(String key) {
+        lock.writeLock().lock();
+
+        try {
+            return removeDocument(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all documents
+     */
+    public void clear() {
+        lock.writeLock().lock();
+
+        try {
+            postings.clear();
+            documentIds.clear();
+            liveDocuments.clear();
+            values = new Object[INITIAL_CAPACITY];
+            lengths = new int[INITIAL_CAPACITY];
+            nextDocumentId = 0;
+            liveCount = 0;
+            deletedCount = 0;
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds documents containing any term of the query
+     *
+     * @param query text to search
+     * @param limit maximum number of hits
+     * @return List of hits, best matches first, newer documents first among equal matches
+     */
+    public List<Hit<T>> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(TextTokenizer.tokenize(query));
+
+        if (terms.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+
+        try {
+            if (liveCount == 0) {
+                return new ArrayList<>();
+            }
+
+            float[] scores = new float[nextDocumentId];
+            float averageLength = (float) totalLength / liveCount;
+
+            for (String term : terms) {
+                Postings termPostings = postings.get(term);
+
+                if (termPostings != null) {
+                    termPostings.score(scores, liveDocuments, lengths, averageLength, liveCount);
+                }
+            }
+
+            return topHits(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return number of documents in the index
+     */
+    public int size() {
+        lock.readLock().lock();
+
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Hit<T>> topHits(float[] scores, int limit) {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(limit + 1, (first, second) -> scores[first] != scores[second]
+                ? Float.compare(scores[first], scores[second])
+                : Integer.compare(first, second));
+
+        for (int documentId = 0; documentId < scores.length; documentId++) {
+            if (scores[documentId] > 0) {
+                queue.offer(documentId);
+
+                if (queue.size() > limit) {
+                    queue.poll();
+                }
+            }
+        }
+
+        Hit<T>[] hits = new Hit[queue.size()];
+
+        for (int i = hits.length - 1; i >= 0; i--) {
+            int documentId = queue.poll();
+            hits[i] = new Hit<>((T) values[documentId], scores[documentId]);
+        }
+
+        return new ArrayList<>(Arrays.asList(hits));
+    }
+
+    private boolean removeDocument(String key) {
+        Integer documentId = documentIds.remove(key);
+
+        if (documentId == null) {
+            return false;
+        }
+
+        liveDocuments.clear(documentId);
+        values[documentId] = null;
+        liveCount--;
+        deletedCount++;
+        totalLength -= lengths[documentId];
+
+        if (deletedCount > liveCount) {
+            compact();
+        }
+
+        return true;
+    }
+
+    private void compact() {
+        int[] newDocumentIds = new int[nextDocumentId];
+        Object[] compactedValues = new Object[Math.max(INITIAL_CAPACITY, liveCount * 2)];
+        int[] compactedLengths = new int[compactedValues.length];
+        int newDocumentId = 0;
+
+        for (int documentId = liveDocuments.nextSetBit(0); documentId >= 0; documentId = liveDocuments.nextSetBit(documentId + 1)) {
+            newDocumentIds[documentId] = newDocumentId;
+            compactedValues[newDocumentId] = values[documentId];
+            compactedLengths[newDocumentId] = lengths[documentId];
+            newDocumentId++;
+        }
+
+        postings.values().removeIf(termPostings -> termPostings.retain(liveDocuments, newDocumentIds) == 0);
+        documentIds.replaceAll((key, documentId) -> newDocumentIds[documentId]);
+
+        liveDocuments.clear();
+        liveDocuments.set(0, liveCount);
+        values = compactedValues;
+        lengths = compactedLengths;
+        nextDocumentId = liveCount;
+        deletedCount = 0;
+    }
+
+    /**
+     * @return number of document ids in use by live and deleted documents
+     */
+    int getDocumentIdCount() {
+        lock.readLock().lock();
+
+        try {
+            return nextDocumentId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Search hit with its BM25 score
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Hit<T> {
+        private final T value;
+        private final float score;
+    }
+
+    /**
+     * Ids of documents containing a term, in ascending order, and the term frequency in each of them
+     */
+    private static final class Postings {
+        private int[] documentIds = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        private void add(int documentId, int frequency) {
+            if (size == documentIds.length) {
+                documentIds = Arrays.copyOf(documentIds, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+
+            documentIds[size] = documentId;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        /**
+         * Keeps live documents under their new ids, the order is kept since live documents are renumbered in their order
+         */
+        private int retain(BitSet liveDocuments, int[] newDocumentIds) {
+            int retained = 0;
+
+            for (int i = 0; i < size; i++) {
+                if (liveDocuments.get(documentIds[i])) {
+                    documentIds[retained] = newDocumentIds[documentIds[i]];
+                    frequencies[retained] = frequencies[i];
+                    retained++;
+                }
+            }
+
+            size = retained;
+
+            return size;
+        }
+
+        private void score(float[] scores, BitSet liveDocuments, int[] lengths, float averageLength, int documentCount) {
+            // posting list may still hold deleted documents
+            int documentFrequency = Math.min(size, documentCount);
+            double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+            for (int i = 0; i < size; i++) {
+                int documentId = documentIds[i];
+
+                if (liveDocuments.get(documentId)) {
+                    int frequency = frequencies[i];
+                    float norm = K1 * (1 - B + B * lengths[documentId] / averageLength);
+                    scores[documentId] += (float) (idf * frequency * (K1 + 1) / (frequency + norm));
+                }
+            }
+        }
+    }
+}
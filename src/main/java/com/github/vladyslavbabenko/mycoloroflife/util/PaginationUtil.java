@@ -0,0 +1,159 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CursorPage;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Util class for building database-side page requests and page navigation
+ */
+
+public final class PaginationUtil {
+
+    private static final String CURSOR_PREFIX = "id:";
+
+    private PaginationUtil() {
+    }
+
+    /**
+     * Builds a {@link PageRequest} ordered by primary key, newest entries first
+     *
+     * @param pageNumber number of the page, starting from 1
+     * @param pageSize   number of entries per page
+     * @return page request sorted by id in descending order
+     */
+    public static PageRequest newestFirst(int pageNumber, int pageSize) {
+        return PageRequest.of(Math.max(pageNumber, 1) - 1, pageSize, Sort.by(Sort.Direction.DESC, "id"));
+    }
+
+    /**
+     * Converts the total number of pages into zero-based page indexes rendered by the pagination controls
+     *
+     * @param totalPages total number of pages
+     * @return array of page indexes from 0 to totalPages - 1
+     */
+    public static int[] pageIndexes(int totalPages) {
+        int[] numberOfPages = new int[Math.max(totalPages, 0)];
+
+        for (int i = 0; i < numberOfPages.length; i++) {
+            numberOfPages[i] = i;
+        }
+
+        return numberOfPages;
+    }
+
+    /**
+     * Builds an unsorted {@link PageRequest} for queries that define their own ordering
+     *
+     * @param pageNumber number of the page, starting from 1
+     * @param pageSize   number of entries per page
+     * @return unsorted page request
+     */
+    public static PageRequest pageRequest(int pageNumber, int pageSize) {
+        return PageRequest.of(Math.max(pageNumber, 1) - 1, pageSize);
+    }
+
+    /**
+     * Encodes the id of an entry into an opaque URL-safe cursor
+     *
+     * @param id id of the entry
+     * @return cursor pointing at the entry
+     */
+    public static String encodeCursor(Integer id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes the cursor produced by {@link #encodeCursor(Integer)}
+     *
+     * @param cursor opaque cursor
+     * @return Optional of the entry id, empty if cursor is missing or malformed
+     */
+    public static Optional<Integer> decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Optional.empty();
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                return Optional.empty();
+            }
+
+            return Optional.of(Integer.parseInt(decoded.substring(CURSOR_PREFIX.length())));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Builds a {@link CursorPage} from rows loaded with {@code id < cursor} in descending order.
+     * One extra row is expected to find out whether there is a next slice without running a count query.
+     *
+     * @param rows        pageSize + 1 rows at most, in descending order
+     * @param pageSize    number of entries per page
+     * @param hasPrevious whether newer entries exist, i.e. rows were loaded after an actual cursor
+     * @param idGetter    function returning id of the entry
+     * @return CursorPage with at most pageSize entries, newest first
+     */
+    public static <T> CursorPage<T> afterCursor(List<T> rows, int pageSize, boolean hasPrevious, Function<T, Integer> idGetter) {
+        boolean hasNext = rows.size() > pageSize;
+        List<T> content = hasNext ? rows.subList(0, pageSize) : rows;
+
+        return CursorPage.<T>builder()
+                .content(content)
+                .previousCursor(hasPrevious && !content.isEmpty() ? encodeCursor(idGetter.apply(content.get(0))) : null)
+                .nextCursor(hasNext ? encodeCursor(idGetter.apply(content.get(content.size() - 1))) : null)
+                .build();
+    }
+
+    /**
+     * Builds a {@link CursorPage} from rows loaded with {@code id > cursor} in ascending order.
+     * One extra row is expected to find out whether there is a previous slice.
+     *
+     * @param rows     pageSize + 1 rows at most, in ascending order
+     * @param pageSize number of entries per page
+     * @param idGetter function returning id of the entry
+     * @return CursorPage with at most pageSize entries, newest first
+     */
+    public static <T> CursorPage<T> beforeCursor(List<T> rows, int pageSize, Function<T, Integer> idGetter) {
+        boolean hasPrevious = rows.size() > pageSize;
+        List<T> content = new ArrayList<>(hasPrevious ? rows.subList(0, pageSize) : rows);
+        Collections.reverse(content);
+
+        return CursorPage.<T>builder()
+                .content(content)
+                .previousCursor(hasPrevious ? encodeCursor(idGetter.apply(content.get(0))) : null)
+                .nextCursor(content.isEmpty() ? null : encodeCursor(idGetter.apply(content.get(content.size() - 1))))
+                .build();
+    }
+
+    /**
+     * Builds cursors to the neighbours of a page sorted by id in descending order,
+     * so that navigation from a numbered page continues with keyset pagination
+     *
+     * @param page     page sorted by id in descending order
+     * @param idGetter function returning id of the entry
+     * @return CursorPage with the content of the page
+     */
+    public static <T> CursorPage<T> withCursors(Page<T> page, Function<T, Integer> idGetter) {
+        List<T> content = page.getContent();
+
+        return CursorPage.<T>builder()
+                .content(content)
+                .previousCursor(page.hasPrevious() && page.hasContent() ? encodeCursor(idGetter.apply(content.get(0))) : null)
+                .nextCursor(page.hasNext() ? encodeCursor(idGetter.apply(content.get(content.size() - 1))) : null)
+                .build();
+    }
+}
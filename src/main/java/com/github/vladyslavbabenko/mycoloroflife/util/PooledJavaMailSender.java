@@ -0,0 +1,255 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import javax.mail.Address;
+import javax.mail.AuthenticationFailedException;
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+import java.lang.invoke.MethodHandles;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link JavaMailSenderImpl} that keeps connected and authenticated transports between sends,
+ * instead of opening a new connection for every call of send.
+ * At most pool size idle connections are kept, a connection is closed once it has been idle longer than the idle timeout
+ * or has sent the maximum number of messages. A message that fails on a reused connection, which the server may have
+ * closed in the meantime, is sent once more over a new connection.
+ */
+
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private static final String HEADER_MESSAGE_ID = "Message-ID";
+
+    private final int poolSize;
+    private final long idleTimeoutNanos;
+    private final int maxMessagesPerConnection;
+
+    private final BlockingDeque<PooledTransport> idleTransports = new LinkedBlockingDeque<>();
+    private final AtomicLong openedCount = new AtomicLong();
+    private final AtomicLong sentCount = new AtomicLong();
+
+    private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    /**
+     * @param poolSize                 maximum number of idle connections
+     * @param idleTimeout              time in milliseconds after which an idle connection is not used anymore
+     * @param maxMessagesPerConnection maximum number of messages sent over one connection
+     */
+    public PooledJavaMailSender(int poolSize, long idleTimeout, int maxMessagesPerConnection) {
+        this.poolSize = poolSize;
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeout);
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        PooledTransport transport = null;
+
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                Object original = originalMessages != null ? originalMessages[i] : mimeMessages[i];
+
+                if (transport == null) {
+                    try {
+                        transport = acquire();
+                    } catch (AuthenticationFailedException e) {
+                        throw new MailAuthenticationException(e);
+                    } catch (MessagingException e) {
+                        // all remaining messages failed
+                        for (int j = i; j < mimeMessages.length; j++) {
+                            failedMessages.put(originalMessages != null ? originalMessages[j] : mimeMessages[j], e);
+                        }
+                        throw new MailSendException("Mail server connection failed", e, failedMessages);
+                    }
+                }
+
+                try {
+                    transport = send(transport, mimeMessages[i]);
+                } catch (MessagingException e) {
+                    failedMessages.put(original, e);
+
+                    // a connection that survived the failure, when the server rejected the message, is kept
+                    if (!transport.isConnected()) {
+                        transport = discard(transport);
+                    }
+                }
+            }
+        } finally {
+            release(transport);
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    /**
+     * Closes all idle connections
+     */
+    @Override
+    public void destroy() {
+        PooledTransport transport;
+
+        while ((transport = idleTransports.pollFirst()) != null) {
+            transport.close();
+        }
+    }
+
+    /**
+     * @return number of connections opened since creation
+     */
+    public long getOpenedConnectionCount() {
+        return openedCount.get();
+    }
+
+    /**
+     * @return number of messages sent since creation
+     */
+    public long getSentMessageCount() {
+        return sentCount.get();
+    }
+
+    /**
+     * @return number of connections waiting for the next send
+     */
+    public int getIdleConnectionCount() {
+        return idleTransports.size();
+    }
+
+    private PooledTransport send(PooledTransport transport, MimeMessage mimeMessage) throws MessagingException {
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+
+        if (messageId != null) {
+            mimeMessage.setHeader(HEADER_MESSAGE_ID, messageId);
+        }
+
+        Address[] addresses = mimeMessage.getAllRecipients();
+
+        try {
+            transport.send(mimeMessage, addresses != null ? addresses : new Address[0]);
+        } catch (MessagingException e) {
+            if (transport.messageCount == 0 || transport.isConnected()) {
+                throw e;
+            }
+
+            log.debug("Reused mail server connection has been closed, sending over a new one: {}", e.getMessage());
+            discard(transport);
+
+            PooledTransport replacement = acquire();
+
+            try {
+                replacement.send(mimeMessage, addresses != null ? addresses : new Address[0]);
+            } catch (MessagingException retryException) {
+                discard(replacement);
+                throw retryException;
+            }
+
+            transport = replacement;
+        }
+
+        sentCount.incrementAndGet();
+
+        if (transport.messageCount >= maxMessagesPerConnection) {
+            return discard(transport);
+        }
+
+        return transport;
+    }
+
+    private PooledTransport acquire() throws MessagingException {
+        PooledTransport transport;
+
+        while ((transport = idleTransports.pollFirst()) != null) {
+            if (System.nanoTime() - transport.lastUsedNanos < idleTimeoutNanos) {
+                return transport;
+            }
+
+            transport.close();
+        }
+
+        transport = new PooledTransport(connectTransport());
+        openedCount.incrementAndGet();
+
+        return transport;
+    }
+
+    private void release(PooledTransport transport) {
+        if (transport == null) {
+            return;
+        }
+
+        transport.lastUsedNanos = System.nanoTime();
+
+        if (idleTransports.size() < poolSize) {
+            idleTransports.offerFirst(transport);
+        } else {
+            transport.close();
+        }
+    }
+
+    private PooledTransport discard(PooledTransport transport) {
+        if (transport != null) {
+            transport.close();
+        }
+
+        return null;
+    }
+
+    private static final class PooledTransport {
+        private final Transport transport;
+        private int messageCount;
+        private long lastUsedNanos;
+        private boolean closed;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+            this.lastUsedNanos = System.nanoTime();
+        }
+
+        private void send(MimeMessage mimeMessage, Address[] addresses) throws MessagingException {
+            transport.sendMessage(mimeMessage, addresses);
+            messageCount++;
+        }
+
+        /**
+         * Sends NOOP to the server, so it is only called after a failure
+         */
+        private boolean isConnected() {
+            return !closed && transport.isConnected();
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("Failed to close mail server connection: {}", e.getMessage());
+            }
+        }
+    }
+}
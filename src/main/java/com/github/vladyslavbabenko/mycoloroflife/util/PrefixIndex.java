@@ -0,0 +1,207 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Thread-safe in-memory index for completing titles by prefix.
+ * Every title is stored in sorted maps once as a whole and once from the beginning of each following word,
+ * so that a lookup is a single range scan and does not depend on the number of titles.
+ * Lookups never block, updates are serialized.
+ *
+ * @param <T> type of the value stored with each title and returned with suggestions
+ */
+
+public final class PrefixIndex<T> {
+
+    /**
+     * Separates the indexed phrase from the key of its document, sorts before every other character
+     */
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final char MAX_CHARACTER = '\uffff';
+
+    private final NavigableMap<String, String> titles = new ConcurrentSkipListMap<>();
+    private final NavigableMap<String, String> words = new ConcurrentSkipListMap<>();
+    private final Map<String, Document<T>> documents = new ConcurrentHashMap<>();
+
+    /**
+     * Adds a title, replacing the previous title with the same key
+     *
+     * @param key   unique key of the document
+     * @param value value returned with suggestions
+     * @param title title of the document
+     */
+    public synchronized void put(String key, T value, String title) {
+        removeDocument(key);
+
+        List<String> phrases = phrases(title);
+
+        if (phrases.isEmpty()) {
+            return;
+        }
+
+        documents.put(key, new Document<>(value, phrases));
+
+        titles.put(phrases.get(0) + KEY_SEPARATOR + key, key);
+
+        for (int i = 1; i < phrases.size(); i++) {
+            words.put(phrases.get(i) + KEY_SEPARATOR + key, key);
+        }
+    }
+
+    /**
+     * Removes a title
+     *
+     * @param key unique key of the document
+     * @return true if title was indexed, otherwise false
+     */
+    public synchronized boolean remove(String key) {
+        return removeDocument(key);
+    }
+
+    /**
+     * Removes all titles
+     */
+    public synchronized void clear() {
+        titles.clear();
+        words.clear();
+        documents.clear();
+    }
+
+    /**
+     * Finds titles starting with the prefix or having a word starting with it
+     *
+     * @param prefix beginning of a title or of any of its words
+     * @param limit  maximum number of suggestions
+     * @return List of values, titles starting with the prefix first, each group in alphabetical order
+     */
+    public List<T> suggest(String prefix, int limit) {
+        String normalizedPrefix = normalize(prefix);
+
+        if (normalizedPrefix.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        Set<String> keys = new LinkedHashSet<>();
+
+        collect(titles, normalizedPrefix, keys, limit);
+        collect(words, normalizedPrefix, keys, limit);
+
+        List<T> suggestions = new ArrayList<>(keys.size());
+
+        for (String key : keys) {
+            Document<T> document = documents.get(key);
+
+            // document may have been removed after its key was collected
+            if (document != null) {
+                suggestions.add(document.value);
+            }
+        }
+
+        return suggestions;
+    }
+
+    /**
+     * @return number of titles in the index
+     */
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * Lowercases text and leaves only words separated by single spaces
+     *
+     * @param text text to normalize, may be null
+     * @return normalized text, empty String if text has no words
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        StringBuilder normalized = new StringBuilder(text.length());
+        String lowerCaseText = text.toLowerCase(Locale.ROOT);
+
+        for (int i = 0; i < lowerCaseText.length(); i++) {
+            char c = lowerCaseText.charAt(i);
+
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(c);
+            } else if (c == '\'' || c == '’' || c == 'ʼ') {
+                normalized.append('\'');
+            } else if (normalized.length() > 0 && normalized.charAt(normalized.length() - 1) != ' ') {
+                normalized.append(' ');
+            }
+        }
+
+        int length = normalized.length();
+
+        return length > 0 && normalized.charAt(length - 1) == ' '
+                ? normalized.substring(0, length - 1)
+                : normalized.toString();
+    }
+
+    private static void collect(NavigableMap<String, String> phrases, String prefix, Set<String> keys, int limit) {
+        for (String key : phrases.subMap(prefix, true, prefix + MAX_CHARACTER, false).values()) {
+            if (keys.size() >= limit) {
+                return;
+            }
+
+            keys.add(key);
+        }
+    }
+
+    /**
+     * @return normalized title followed by its endings starting at every following word
+     */
+    private static List<String> phrases(String title) {
+        String normalizedTitle = normalize(title);
+
+        if (normalizedTitle.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> phrases = new ArrayList<>();
+        phrases.add(normalizedTitle);
+
+        for (int i = normalizedTitle.indexOf(' '); i != -1; i = normalizedTitle.indexOf(' ', i + 1)) {
+            phrases.add(normalizedTitle.substring(i + 1));
+        }
+
+        return phrases;
+    }
+
+    private boolean removeDocument(String key) {
+        Document<T> document = documents.remove(key);
+
+        if (document == null) {
+            return false;
+        }
+
+        titles.remove(document.phrases.get(0) + KEY_SEPARATOR + key);
+
+        for (int i = 1; i < document.phrases.size(); i++) {
+            words.remove(document.phrases.get(i) + KEY_SEPARATOR + key);
+        }
+
+        return true;
+    }
+
+    private static final class Document<T> {
+        private final T value;
+        private final List<String> phrases;
+
+        private Document(T value, List<String> phrases) {
+            this.value = value;
+            this.phrases = phrases;
+        }
+    }
+}
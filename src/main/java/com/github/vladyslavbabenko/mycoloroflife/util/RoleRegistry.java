@@ -0,0 +1,133 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.Role;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable snapshot of all {@link Role} entities, indexed by name and by id.
+ * Changes produce a new snapshot, so that it can be shared between threads and swapped atomically.
+ * Roles are kept and returned as detached copies, changing a returned role does not change the snapshot.
+ */
+
+public final class RoleRegistry {
+
+    private static final RoleRegistry EMPTY = new RoleRegistry(Map.of(), Map.of());
+
+    private final Map<String, Role> rolesByName;
+    private final Map<Integer, Role> rolesById;
+
+    private RoleRegistry(Map<String, Role> rolesByName, Map<Integer, Role> rolesById) {
+        this.rolesByName = rolesByName;
+        this.rolesById = rolesById;
+    }
+
+    /**
+     * @return registry without roles
+     */
+    public static RoleRegistry empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param roles roles to register, roles without id or name are skipped
+     * @return registry of provided roles
+     */
+    public static RoleRegistry of(Collection<Role> roles) {
+        Map<String, Role> rolesByName = new HashMap<>();
+        Map<Integer, Role> rolesById = new HashMap<>();
+
+        for (Role role : roles) {
+            if (role.getId() != null && role.getRoleName() != null) {
+                Role copy = copyOf(role);
+                rolesByName.put(copy.getRoleName(), copy);
+                rolesById.put(copy.getId(), copy);
+            }
+        }
+
+        return new RoleRegistry(Map.copyOf(rolesByName), Map.copyOf(rolesById));
+    }
+
+    /**
+     * @param roleName name of the role
+     * @return copy of the role with provided name, or empty Optional if it is not registered
+     */
+    public Optional<Role> findByRoleName(String roleName) {
+        return roleName == null ? Optional.empty() : Optional.ofNullable(rolesByName.get(roleName)).map(RoleRegistry::copyOf);
+    }
+
+    /**
+     * @param roleId id of the role
+     * @return copy of the role with provided id, or empty Optional if it is not registered
+     */
+    public Optional<Role> findById(Integer roleId) {
+        return roleId == null ? Optional.empty() : Optional.ofNullable(rolesById.get(roleId)).map(RoleRegistry::copyOf);
+    }
+
+    /**
+     * @param roleName name of the role
+     * @return true if role with provided name is registered, false otherwise
+     */
+    public boolean containsRoleName(String roleName) {
+        return roleName != null && rolesByName.containsKey(roleName);
+    }
+
+    /**
+     * @return copies of all registered roles sorted by id
+     */
+    public List<Role> getAllRoles() {
+        return rolesById.values().stream()
+                .sorted(Comparator.comparingInt(Role::getId))
+                .map(RoleRegistry::copyOf)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return number of registered roles
+     */
+    public int size() {
+        return rolesById.size();
+    }
+
+    /**
+     * @param role saved or updated role
+     * @return registry where provided role replaces the role with the same id or name
+     */
+    public RoleRegistry with(Role role) {
+        if (role.getId() == null || role.getRoleName() == null) {
+            return this;
+        }
+
+        Map<Integer, Role> rolesById = new HashMap<>(this.rolesById);
+        rolesById.values().removeIf(registered -> registered.getRoleName().equals(role.getRoleName()));
+        rolesById.put(role.getId(), copyOf(role));
+
+        return of(rolesById.values());
+    }
+
+    /**
+     * @param role deleted role
+     * @return registry without the role with the same id or name as provided one
+     */
+    public RoleRegistry without(Role role) {
+        Map<Integer, Role> rolesById = new HashMap<>(this.rolesById);
+        rolesById.values().removeIf(registered -> registered.getId().equals(role.getId())
+                || registered.getRoleName().equals(role.getRoleName()));
+
+        return rolesById.size() == this.rolesById.size() ? this : of(rolesById.values());
+    }
+
+    private static Role copyOf(Role role) {
+        return Role.builder()
+                .id(role.getId())
+                .roleName(role.getRoleName())
+                .description(role.getDescription())
+                .build();
+    }
+}
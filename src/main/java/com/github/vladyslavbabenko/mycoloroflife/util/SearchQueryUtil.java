@@ -0,0 +1,36 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Util class for turning user input into PostgreSQL full-text search queries.
+ * Search columns use the 'simple' configuration as PostgreSQL has no Ukrainian stemmer,
+ * so every word is matched by prefix to cover different word endings
+ */
+
+public final class SearchQueryUtil {
+
+    private static final String NOT_A_WORD = "[^\\p{L}\\p{N}]+";
+
+    private SearchQueryUtil() {
+    }
+
+    /**
+     * Builds a tsquery in which every word of the keyword must be present, matched by prefix
+     *
+     * @param keyword user input
+     * @return tsquery like "перш:* &amp; test:*", empty String if keyword has no words
+     */
+    public static String toPrefixQuery(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+
+        return Arrays.stream(keyword.toLowerCase(Locale.ROOT).split(NOT_A_WORD))
+                .filter(word -> !word.isEmpty())
+                .map(word -> word + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+}
@@ -0,0 +1,261 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.UserPrincipal;
+import com.github.vladyslavbabenko.mycoloroflife.enumeration.UserRegistrationType;
+import org.springframework.core.serializer.DefaultDeserializer;
+import org.springframework.core.serializer.DefaultSerializer;
+import org.springframework.core.serializer.Deserializer;
+import org.springframework.core.serializer.Serializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serializer of session attributes stored in database.
+ * Security context of a form login and OAuth2 authorization requests are written field by field,
+ * which takes several times less space than Java serialization of the same objects,
+ * every other attribute falls back to Java serialization.
+ */
+
+public final class SessionAttributeSerializer implements Serializer<Object>, Deserializer<Object> {
+
+    private static final byte JAVA = 0;
+    private static final byte SECURITY_CONTEXT = 1;
+    private static final byte AUTHORIZATION_REQUEST = 2;
+
+    private final Serializer<Object> javaSerializer = new DefaultSerializer();
+    private final Deserializer<Object> javaDeserializer;
+
+    /**
+     * @param classLoader class loader for attributes read with Java serialization
+     */
+    public SessionAttributeSerializer(ClassLoader classLoader) {
+        this.javaDeserializer = new DefaultDeserializer(classLoader);
+    }
+
+    @Override
+    public void serialize(Object attribute, OutputStream outputStream) throws IOException {
+        if (isCompactSecurityContext(attribute)) {
+            DataOutputStream out = new DataOutputStream(outputStream);
+            out.writeByte(SECURITY_CONTEXT);
+            writeSecurityContext(out, (SecurityContext) attribute);
+            out.flush();
+        } else if (isCompactAuthorizationRequest(attribute)) {
+            DataOutputStream out = new DataOutputStream(outputStream);
+            out.writeByte(AUTHORIZATION_REQUEST);
+            writeAuthorizationRequest(out, (OAuth2AuthorizationRequest) attribute);
+            out.flush();
+        } else {
+            outputStream.write(JAVA);
+            javaSerializer.serialize(attribute, outputStream);
+        }
+    }
+
+    @Override
+    public Object deserialize(InputStream inputStream) throws IOException {
+        int format = inputStream.read();
+
+        switch (format) {
+            case JAVA:
+                return javaDeserializer.deserialize(inputStream);
+            case SECURITY_CONTEXT:
+                return readSecurityContext(new DataInputStream(inputStream));
+            case AUTHORIZATION_REQUEST:
+                return readAuthorizationRequest(new DataInputStream(inputStream));
+            default:
+                throw new IOException("Unknown session attribute format " + format);
+        }
+    }
+
+    private static boolean isCompactSecurityContext(Object attribute) {
+        if (attribute == null || attribute.getClass() != SecurityContextImpl.class) {
+            return false;
+        }
+
+        Authentication authentication = ((SecurityContext) attribute).getAuthentication();
+
+        return authentication != null
+                && authentication.getClass() == UsernamePasswordAuthenticationToken.class
+                && authentication.isAuthenticated()
+                && authentication.getCredentials() == null
+                && authentication.getPrincipal() instanceof UserPrincipal
+                && (authentication.getDetails() == null || authentication.getDetails().getClass() == WebAuthenticationDetails.class);
+    }
+
+    private static boolean isCompactAuthorizationRequest(Object attribute) {
+        if (!(attribute instanceof OAuth2AuthorizationRequest)) {
+            return false;
+        }
+
+        OAuth2AuthorizationRequest authorizationRequest = (OAuth2AuthorizationRequest) attribute;
+
+        return AuthorizationGrantType.AUTHORIZATION_CODE.equals(authorizationRequest.getGrantType())
+                && hasStringValues(authorizationRequest.getAdditionalParameters())
+                && hasStringValues(authorizationRequest.getAttributes());
+    }
+
+    private static boolean hasStringValues(Map<String, Object> map) {
+        return map.values().stream().allMatch(value -> value instanceof String);
+    }
+
+    private static void writeSecurityContext(DataOutputStream out, SecurityContext securityContext) throws IOException {
+        Authentication authentication = securityContext.getAuthentication();
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+
+        out.writeBoolean(principal.getId() != null);
+        if (principal.getId() != null) {
+            out.writeInt(principal.getId());
+        }
+        writeString(out, principal.getEmail());
+        writeString(out, principal.getName());
+        writeStrings(out, principal.getAuthorityNames());
+        out.writeByte(principal.getRegistrationType() == null ? -1 : principal.getRegistrationType().ordinal());
+        out.writeBoolean(principal.isAccountNonLocked());
+
+        List<String> authorities = new ArrayList<>();
+        authentication.getAuthorities().forEach(authority -> authorities.add(authority.getAuthority()));
+        writeStrings(out, authorities);
+
+        WebAuthenticationDetails details = (WebAuthenticationDetails) authentication.getDetails();
+        out.writeBoolean(details != null);
+        if (details != null) {
+            writeString(out, details.getRemoteAddress());
+            writeString(out, details.getSessionId());
+        }
+    }
+
+    private static SecurityContext readSecurityContext(DataInputStream in) throws IOException {
+        Integer id = in.readBoolean() ? in.readInt() : null;
+        String email = readString(in);
+        String name = readString(in);
+        List<String> authorityNames = readStrings(in);
+        byte registrationType = in.readByte();
+        boolean accountNonLocked = in.readBoolean();
+
+        UserPrincipal principal = UserPrincipal.builder()
+                .id(id)
+                .email(email)
+                .name(name)
+                .authorityNames(List.copyOf(authorityNames))
+                .registrationType(registrationType == -1 ? null : UserRegistrationType.values()[registrationType])
+                .accountNonLocked(accountNonLocked)
+                .build();
+
+        List<GrantedAuthority> authorities = AuthorityUtils.createAuthorityList(readStrings(in).toArray(new String[0]));
+        UsernamePasswordAuthenticationToken authentication =
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, authorities);
+
+        if (in.readBoolean()) {
+            authentication.setDetails(new WebAuthenticationDetails(readString(in), readString(in)));
+        }
+
+        return new SecurityContextImpl(authentication);
+    }
+
+    private static void writeAuthorizationRequest(DataOutputStream out, OAuth2AuthorizationRequest authorizationRequest)
+            throws IOException {
+        writeString(out, authorizationRequest.getAuthorizationUri());
+        writeString(out, authorizationRequest.getClientId());
+        writeString(out, authorizationRequest.getRedirectUri());
+        writeStrings(out, authorizationRequest.getScopes());
+        writeString(out, authorizationRequest.getState());
+        writeStringMap(out, authorizationRequest.getAdditionalParameters());
+        writeStringMap(out, authorizationRequest.getAttributes());
+        writeString(out, authorizationRequest.getAuthorizationRequestUri());
+    }
+
+    private static OAuth2AuthorizationRequest readAuthorizationRequest(DataInputStream in) throws IOException {
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri(readString(in))
+                .clientId(readString(in))
+                .redirectUri(readString(in))
+                .scopes(new LinkedHashSet<>(readStrings(in)))
+                .state(readString(in))
+                .additionalParameters(readStringMap(in))
+                .attributes(readStringMap(in))
+                .authorizationRequestUri(readString(in))
+                .build();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+
+        if (length == -1) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeStrings(DataOutputStream out, Collection<String> values) throws IOException {
+        out.writeInt(values.size());
+
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<String> values = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+
+        return values;
+    }
+
+    private static void writeStringMap(DataOutputStream out, Map<String, Object> map) throws IOException {
+        out.writeInt(map.size());
+
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            writeString(out, entry.getKey());
+            writeString(out, (String) entry.getValue());
+        }
+    }
+
+    private static Map<String, Object> readStringMap(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        Map<String, Object> map = new LinkedHashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            map.put(readString(in), readString(in));
+        }
+
+        return map;
+    }
+}
@@ -0,0 +1,131 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Util class for splitting Ukrainian and English text into search terms:
+ * lowercases words, drops stop words and cuts common endings off, so that different forms of a word match each other
+ */
+
+public final class TextTokenizer {
+
+    private static final int MIN_TERM_LENGTH = 2;
+    private static final int MIN_STEM_LENGTH = 3;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it", "of", "on", "or", "the",
+            "to", "with", "і", "й", "та", "а", "але", "в", "у", "з", "із", "зі", "до", "на", "що", "як", "це", "не",
+            "за", "по", "від", "для", "про", "при", "чи", "же", "ж", "би", "б", "ми", "ви", "він", "вона", "воно", "вони");
+
+    /**
+     * Endings cut off Cyrillic words, longer endings go first so that the longest matching one is removed
+     */
+    private static final String[] UKRAINIAN_ENDINGS = {
+            "ування", "ювання", "ання", "яння", "ення", "ість", "ами", "ями", "ого", "ому", "ими", "іми",
+            "ові", "еві", "ів", "їв", "ий", "ій", "ої", "ою", "ею", "ям", "ам", "ах", "ях", "ом", "ем", "им", "их",
+            "іх", "ти", "ть", "ся", "а", "я", "о", "е", "у", "ю", "і", "и", "ї", "є", "ь"};
+
+    private TextTokenizer() {
+    }
+
+    /**
+     * Splits text into search terms
+     *
+     * @param text text to split, may be null
+     * @return List of terms in order of appearance, with repetitions
+     */
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+
+        if (text == null) {
+            return terms;
+        }
+
+        StringBuilder word = new StringBuilder();
+        String lowerCaseText = text.toLowerCase(Locale.ROOT);
+
+        for (int i = 0; i < lowerCaseText.length(); i++) {
+            char c = lowerCaseText.charAt(i);
+
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+            } else if (!isApostrophe(c)) {
+                addTerm(terms, word);
+                word.setLength(0);
+            }
+        }
+
+        addTerm(terms, word);
+
+        return terms;
+    }
+
+    /**
+     * Reduces a lowercase word to its stem
+     *
+     * @param word lowercase word
+     * @return word without its ending, or the word itself if the remaining stem would be too short
+     */
+    public static String stem(String word) {
+        return isCyrillic(word) ? stemUkrainian(word) : stemEnglish(word);
+    }
+
+    private static String stemUkrainian(String word) {
+        for (String ending : UKRAINIAN_ENDINGS) {
+            if (word.endsWith(ending) && word.length() - ending.length() >= MIN_STEM_LENGTH) {
+                return word.substring(0, word.length() - ending.length());
+            }
+        }
+
+        return word;
+    }
+
+    /**
+     * Harman's S-stemmer, only plural forms are reduced
+     */
+    private static String stemEnglish(String word) {
+        if (word.length() <= MIN_STEM_LENGTH) {
+            return word;
+        }
+
+        if (word.endsWith("ies") && !word.endsWith("eies") && !word.endsWith("aies")) {
+            return word.substring(0, word.length() - 3) + "y";
+        }
+
+        if (word.endsWith("es") && !word.endsWith("aes") && !word.endsWith("ees") && !word.endsWith("oes")) {
+            return word.substring(0, word.length() - 1);
+        }
+
+        if (word.endsWith("s") && !word.endsWith("us") && !word.endsWith("ss")) {
+            return word.substring(0, word.length() - 1);
+        }
+
+        return word;
+    }
+
+    private static void addTerm(List<String> terms, StringBuilder word) {
+        if (word.length() < MIN_TERM_LENGTH) {
+            return;
+        }
+
+        String term = word.toString();
+
+        if (!STOP_WORDS.contains(term)) {
+            terms.add(stem(term));
+        }
+    }
+
+    /**
+     * Apostrophes are part of Ukrainian words like "пам'ять", so they are skipped instead of splitting the word
+     */
+    private static boolean isApostrophe(char c) {
+        return c == '\'' || c == '’' || c == 'ʼ';
+    }
+
+    private static boolean isCyrillic(String word) {
+        return !word.isEmpty() && Character.UnicodeBlock.of(word.charAt(0)) == Character.UnicodeBlock.CYRILLIC;
+    }
+}
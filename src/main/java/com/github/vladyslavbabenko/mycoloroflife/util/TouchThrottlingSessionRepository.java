@@ -0,0 +1,127 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * {@link SessionRepository} that passes the last access time of a session to the underlying repository
+ * only once per touch interval, so that requests which do not change session attributes do not write the session.
+ * Sessions therefore may expire up to one touch interval earlier than their max inactive interval.
+ */
+
+public final class TouchThrottlingSessionRepository
+        implements SessionRepository<TouchThrottlingSessionRepository.TouchThrottlingSession> {
+
+    private final SessionRepository<Session> delegate;
+    private final Duration touchInterval;
+
+    /**
+     * @param delegate      repository that stores sessions
+     * @param touchInterval minimum time between two writes of the last access time of a session
+     */
+    @SuppressWarnings("unchecked")
+    public TouchThrottlingSessionRepository(SessionRepository<? extends Session> delegate, Duration touchInterval) {
+        this.delegate = (SessionRepository<Session>) delegate;
+        this.touchInterval = touchInterval;
+    }
+
+    @Override
+    public TouchThrottlingSession createSession() {
+        return new TouchThrottlingSession(delegate.createSession(), touchInterval);
+    }
+
+    @Override
+    public void save(TouchThrottlingSession session) {
+        delegate.save(session.delegate);
+    }
+
+    @Override
+    public TouchThrottlingSession findById(String id) {
+        Session session = delegate.findById(id);
+        return session == null ? null : new TouchThrottlingSession(session, touchInterval);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        delegate.deleteById(id);
+    }
+
+    /**
+     * Session that ignores last access time updates made within the touch interval of the stored one
+     */
+    public static final class TouchThrottlingSession implements Session {
+        private final Session delegate;
+        private final Duration touchInterval;
+
+        private TouchThrottlingSession(Session delegate, Duration touchInterval) {
+            this.delegate = delegate;
+            this.touchInterval = touchInterval;
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            if (Duration.between(delegate.getLastAccessedTime(), lastAccessedTime).compareTo(touchInterval) >= 0) {
+                delegate.setLastAccessedTime(lastAccessedTime);
+            }
+        }
+
+        @Override
+        public String getId() {
+            return delegate.getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            return delegate.changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return delegate.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return delegate.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            delegate.setAttribute(attributeName, attributeValue);
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            delegate.removeAttribute(attributeName);
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return delegate.getCreationTime();
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return delegate.getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            delegate.setMaxInactiveInterval(interval);
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return delegate.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return delegate.isExpired();
+        }
+    }
+}
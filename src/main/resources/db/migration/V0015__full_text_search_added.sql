@@ -0,0 +1,13 @@
+ALTER TABLE t_article
+    ADD search_vector TSVECTOR GENERATED ALWAYS AS (
+                setweight(to_tsvector('simple'::REGCONFIG, coalesce(title, '')), 'A') ||
+                setweight(to_tsvector('simple'::REGCONFIG, coalesce(text, '')), 'B')) STORED;
+
+CREATE INDEX idx_t_article_search_vector ON t_article USING GIN (search_vector);
+
+ALTER TABLE t_event
+    ADD search_vector TSVECTOR GENERATED ALWAYS AS (
+                setweight(to_tsvector('simple'::REGCONFIG, coalesce(title, '')), 'A') ||
+                setweight(to_tsvector('simple'::REGCONFIG, coalesce(text, '')), 'B')) STORED;
+
+CREATE INDEX idx_t_event_search_vector ON t_event USING GIN (search_vector);
@@ -0,0 +1,9 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_t_course_title_title_trgm ON t_course_title USING GIN (title gin_trgm_ops);
+
+CREATE INDEX idx_t_course_title_description_trgm ON t_course_title USING GIN (description gin_trgm_ops);
+
+CREATE INDEX idx_t_course_video_title_trgm ON t_course USING GIN (video_title gin_trgm_ops);
+
+CREATE INDEX idx_t_course_text_trgm ON t_course USING GIN (text gin_trgm_ops);
@@ -0,0 +1,42 @@
+ALTER TABLE t_course_progress
+    ADD course_title_id INTEGER;
+
+ALTER TABLE t_course_progress
+    ADD last_page INTEGER;
+
+UPDATE t_course_progress cp
+SET course_title_id = c.course_title_id,
+    last_page       = c.page
+FROM t_course c
+WHERE c.id = cp.course_id;
+
+DELETE
+FROM t_course_progress
+WHERE user_id IS NULL
+   OR course_title_id IS NULL
+   OR last_page IS NULL;
+
+DELETE
+FROM t_course_progress cp
+    USING t_course_progress other
+WHERE cp.user_id = other.user_id
+  AND cp.course_title_id = other.course_title_id
+  AND (cp.last_page < other.last_page OR (cp.last_page = other.last_page AND cp.id < other.id));
+
+ALTER TABLE t_course_progress
+    DROP COLUMN course_id;
+
+ALTER TABLE t_course_progress
+    ALTER COLUMN user_id SET NOT NULL;
+
+ALTER TABLE t_course_progress
+    ALTER COLUMN course_title_id SET NOT NULL;
+
+ALTER TABLE t_course_progress
+    ALTER COLUMN last_page SET NOT NULL;
+
+ALTER TABLE t_course_progress
+    ADD CONSTRAINT uc_t_course_progress_user_course_title UNIQUE (user_id, course_title_id);
+
+ALTER TABLE t_course_progress
+    ADD CONSTRAINT FK_T_COURSE_PROGRESS_ON_COURSE_TITLE FOREIGN KEY (course_title_id) REFERENCES t_course_title (id);
@@ -0,0 +1,19 @@
+CREATE TABLE t_mail_outbox
+(
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    recipient       VARCHAR(255)                            NOT NULL,
+    subject         VARCHAR(255)                            NOT NULL,
+    template        VARCHAR(255)                            NOT NULL,
+    model           TEXT[]                                  NOT NULL,
+    status          VARCHAR(16) DEFAULT 'PENDING'           NOT NULL,
+    attempts        INTEGER     DEFAULT 0                   NOT NULL,
+    created_at      TIMESTAMP   DEFAULT now()               NOT NULL,
+    next_attempt_at TIMESTAMP   DEFAULT now()               NOT NULL,
+    sent_at         TIMESTAMP,
+    last_error      VARCHAR(1000),
+    CONSTRAINT pk_t_mail_outbox PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_t_mail_outbox_pending ON t_mail_outbox (next_attempt_at, id) WHERE status = 'PENDING';
+
+CREATE INDEX idx_t_mail_outbox_sent_at ON t_mail_outbox (sent_at) WHERE status = 'SENT';
@@ -0,0 +1,6 @@
+ALTER TABLE t_mail_outbox
+    ALTER COLUMN model TYPE JSONB USING CASE
+        WHEN template = 'emailTemplate/activationCode'
+            THEN jsonb_strip_nulls(jsonb_build_object('name', model[1], 'courseTitle', model[2], 'code', model[3]))
+        ELSE jsonb_strip_nulls(jsonb_build_object('name', model[1], 'text', model[2], 'link', model[3]))
+        END;
@@ -0,0 +1,23 @@
+ALTER TABLE t_user
+    ADD locale VARCHAR(35);
+
+CREATE TABLE t_event_announcement
+(
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    event_id     INTEGER                                 NOT NULL,
+    status       VARCHAR(16) DEFAULT 'RUNNING'           NOT NULL,
+    last_user_id INTEGER     DEFAULT 0                   NOT NULL,
+    sent_count   INTEGER     DEFAULT 0                   NOT NULL,
+    failed_count INTEGER     DEFAULT 0                   NOT NULL,
+    lease_until  TIMESTAMP   DEFAULT now()               NOT NULL,
+    created_at   TIMESTAMP   DEFAULT now()               NOT NULL,
+    updated_at   TIMESTAMP   DEFAULT now()               NOT NULL,
+    finished_at  TIMESTAMP,
+    CONSTRAINT pk_t_event_announcement PRIMARY KEY (id),
+    CONSTRAINT uc_t_event_announcement_event UNIQUE (event_id)
+);
+
+ALTER TABLE t_event_announcement
+    ADD CONSTRAINT fk_t_event_announcement_on_event FOREIGN KEY (event_id) REFERENCES t_event (id) ON DELETE CASCADE;
+
+CREATE INDEX idx_t_event_announcement_running ON t_event_announcement (lease_until, id) WHERE status = 'RUNNING';
@@ -0,0 +1,105 @@
+package com.github.vladyslavbabenko.mycoloroflife.benchmark;
+
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.MailModel;
+import com.github.vladyslavbabenko.mycoloroflife.service.MailContentBuilderService;
+import com.github.vladyslavbabenko.mycoloroflife.service.implementation.MailContentBuilderServiceImpl;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the render cost per email of compiled mail templates against processing the template by Thymeleaf
+ * for every email. The template engine is configured as by Spring Boot, without starting the application context.
+ * Runs only on demand: mvn test -Dtest=MailTemplateBenchmark -Dbenchmark=true
+ */
+
+@DisplayName("Benchmark of compiled mail templates")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MailTemplateBenchmark {
+
+    private static final String TEMPLATE = "emailTemplate/emailConfirm";
+    private static final Locale LOCALE = Locale.forLanguageTag("uk-UA");
+    private static final int RECIPIENTS = 1_000;
+
+    private MailContentBuilderService processingBuilder;
+    private MailContentBuilderService compilingBuilder;
+    private MailModel[] models;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        processingBuilder = new MailContentBuilderServiceImpl(templateEngine, false);
+        compilingBuilder = new MailContentBuilderServiceImpl(templateEngine, true);
+        models = new MailModel[RECIPIENTS];
+
+        for (int i = 0; i < RECIPIENTS; i++) {
+            models[i] = MailModel.builder()
+                    .name("User " + i)
+                    .text("Confirm your email")
+                    .link("http://localhost:8080/me/email-confirm?token=" + i)
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public String processedByThymeleaf() {
+        return processingBuilder.build(nextModel(), TEMPLATE, LOCALE);
+    }
+
+    @Benchmark
+    public String compiledTemplate() {
+        return compilingBuilder.build(nextModel(), TEMPLATE, LOCALE);
+    }
+
+    @Test
+    void compareRenderCost() throws RunnerException {
+        //given
+        setUp();
+        Assertions.assertThat(compilingBuilder.build(models[0], TEMPLATE, LOCALE))
+                .isEqualTo(processingBuilder.build(models[0], TEMPLATE, LOCALE));
+
+        //when
+        new Runner(new OptionsBuilder().include(MailTemplateBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    private MailModel nextModel() {
+        next = (next + 1) % RECIPIENTS;
+        return models[next];
+    }
+}
@@ -0,0 +1,124 @@
+package com.github.vladyslavbabenko.mycoloroflife.benchmark;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractRepositoryIntegrationTest;
+import com.github.vladyslavbabenko.mycoloroflife.entity.Article;
+import com.github.vladyslavbabenko.mycoloroflife.repository.ArticleRepository;
+import com.github.vladyslavbabenko.mycoloroflife.util.InvertedIndex;
+import com.github.vladyslavbabenko.mycoloroflife.util.PrefixIndex;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Compares keyword search in {@link InvertedIndex} and title completion in {@link PrefixIndex}
+ * with the SQL LIKE search of {@link ArticleRepository}.
+ * Runs only on demand: mvn test -Dtest=SearchBenchmark -Dbenchmark=true
+ */
+
+@DisplayName("Benchmark of in-memory search against SQL LIKE search")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SearchBenchmark extends AbstractRepositoryIntegrationTest {
+
+    private static final int ARTICLES = 5_000;
+    private static final int WORDS_PER_ARTICLE = 200;
+    private static final int VOCABULARY = 20_000;
+    private static final int WARM_UP_QUERIES = 100;
+    private static final int MEASURED_QUERIES = 500;
+
+    private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Test
+    void compareSearchLatency() {
+        //given
+        Random random = new Random(42);
+        List<String> vocabulary = vocabulary(random);
+        List<Article> articles = new ArrayList<>();
+
+        for (int i = 0; i < ARTICLES; i++) {
+            articles.add(Article.builder()
+                    .title(text(random, vocabulary, 6) + " " + i)
+                    .text(text(random, vocabulary, WORDS_PER_ARTICLE))
+                    .dateTimeOfCreation("2022.08.05 22:00")
+                    .build());
+        }
+
+        articleRepository.saveAll(articles);
+        articleRepository.flush();
+
+        InvertedIndex<Integer> index = new InvertedIndex<>();
+        long buildStart = System.nanoTime();
+        articles.forEach(article -> index.put(String.valueOf(article.getId()), article.getId(), article.getTitle(), article.getText()));
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        PrefixIndex<Integer> prefixIndex = new PrefixIndex<>();
+        articles.forEach(article -> prefixIndex.put(String.valueOf(article.getId()), article.getId(), article.getTitle()));
+
+        List<String> queries = new ArrayList<>();
+        for (int i = 0; i < WARM_UP_QUERIES + MEASURED_QUERIES; i++) {
+            queries.add(vocabulary.get(random.nextInt(VOCABULARY)));
+        }
+
+        //when
+        double likeMicros = measure(queries, query -> articleRepository.findByTitleContains(query));
+        double indexMicros = measure(queries, query -> index.search(query, 10));
+        double suggestMicros = measure(queries, query -> prefixIndex.suggest(query.substring(0, 3), 10));
+
+        //then
+        log.info("Indexed {} articles in {} ms", ARTICLES, buildMillis);
+        log.info("SQL LIKE search: {} us per query", String.format("%.1f", likeMicros));
+        log.info("In-memory search: {} us per query", String.format("%.1f", indexMicros));
+        log.info("Title suggestions: {} us per query", String.format("%.1f", suggestMicros));
+        Assertions.assertThat(index.size()).isEqualTo(ARTICLES);
+        Assertions.assertThat(prefixIndex.size()).isEqualTo(ARTICLES);
+    }
+
+    private double measure(List<String> queries, Consumer<String> search) {
+        queries.subList(0, WARM_UP_QUERIES).forEach(search);
+
+        long start = System.nanoTime();
+        queries.subList(WARM_UP_QUERIES, queries.size()).forEach(search);
+
+        return (System.nanoTime() - start) / 1_000.0 / MEASURED_QUERIES;
+    }
+
+    private List<String> vocabulary(Random random) {
+        String letters = "абвгдеєжзиіїйклмнопрстуфхцчшщьюя";
+        List<String> words = new ArrayList<>();
+
+        for (int i = 0; i < VOCABULARY; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 4 + random.nextInt(6);
+
+            for (int j = 0; j < length; j++) {
+                word.append(letters.charAt(random.nextInt(letters.length())));
+            }
+
+            words.add(word.toString());
+        }
+
+        return words;
+    }
+
+    private String text(Random random, List<String> vocabulary, int words) {
+        StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < words; i++) {
+            text.append(vocabulary.get(random.nextInt(vocabulary.size()))).append(' ');
+        }
+
+        return text.toString().trim();
+    }
+}
@@ -0,0 +1,151 @@
+package com.github.vladyslavbabenko.mycoloroflife.benchmark;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import com.github.vladyslavbabenko.mycoloroflife.entity.Role;
+import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.UserPrincipal;
+import com.github.vladyslavbabenko.mycoloroflife.util.TouchThrottlingSessionRepository;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Measures session overhead per request of {@link TouchThrottlingSessionRepository} with compact serialization
+ * against plain {@link JdbcIndexedSessionRepository} with Java serialization.
+ * Runs only on demand: mvn test -Dtest=SessionBenchmark -Dbenchmark=true
+ */
+
+@DisplayName("Benchmark of database session store")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SessionBenchmark extends AbstractTest {
+
+    private static final int SESSIONS = 200;
+    private static final int WARM_UP_REQUESTS = 1_000;
+    private static final int MEASURED_REQUESTS = 5_000;
+
+    private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    @Autowired
+    private TouchThrottlingSessionRepository sessionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM spring_session");
+    }
+
+    @Test
+    void compareSessionOverhead() {
+        //given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        JdbcIndexedSessionRepository plainRepository = new JdbcIndexedSessionRepository(jdbcTemplate, transactionTemplate);
+
+        UserPrincipal principal = UserPrincipal.of(User.builder()
+                .id(1)
+                .name("TestUser")
+                .email("testuser@mail.com")
+                .password("123456")
+                .roles(Set.of(Role.builder().id(1).roleName("ROLE_USER").build(),
+                        Role.builder().id(2).roleName("ROLE_AUTHOR").build()))
+                .build());
+        principal.eraseCredentials();
+        SecurityContextImpl securityContext = new SecurityContextImpl(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+
+        List<String> throttledIds = createSessions(sessionRepository, securityContext);
+        List<String> plainIds = createSessions(plainRepository, securityContext);
+
+        //when
+        double throttledReadMicros = measure(sessionRepository, throttledIds, false);
+        double plainReadMicros = measure(plainRepository, plainIds, false);
+        double plainWriteMicros = measure(plainRepository, plainIds, true);
+        double throttledWriteMicros = measure(sessionRepository, throttledIds, true);
+
+        //then
+        log.info("Compact security context: {} bytes, Java serialization: {} bytes",
+                attributeSize(throttledIds.get(0)), attributeSize(plainIds.get(0)));
+        log.info("Request without session changes: {} us throttled, {} us plain",
+                String.format("%.1f", throttledReadMicros), String.format("%.1f", plainReadMicros));
+        log.info("Request with a changed attribute: {} us throttled, {} us plain",
+                String.format("%.1f", throttledWriteMicros), String.format("%.1f", plainWriteMicros));
+        Assertions.assertThat(attributeSize(throttledIds.get(0))).isLessThan(attributeSize(plainIds.get(0)));
+    }
+
+    private <S extends Session> List<String> createSessions(SessionRepository<S> repository, Object securityContext) {
+        List<String> ids = new ArrayList<>();
+
+        for (int i = 0; i < SESSIONS; i++) {
+            S session = repository.createSession();
+            session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, securityContext);
+            repository.save(session);
+            ids.add(session.getId());
+        }
+
+        return ids;
+    }
+
+    /**
+     * Repeats what SessionRepositoryFilter does with the session of every request
+     */
+    private <S extends Session> double measure(SessionRepository<S> repository, List<String> ids, boolean changeAttribute) {
+        // dead rows left by the previous measurement would slow down the next one
+        jdbcTemplate.execute("VACUUM spring_session, spring_session_attributes");
+
+        for (int i = 0; i < WARM_UP_REQUESTS; i++) {
+            request(repository, ids.get(i % ids.size()), changeAttribute, i);
+        }
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            request(repository, ids.get(i % ids.size()), changeAttribute, i);
+        }
+
+        return (System.nanoTime() - start) / 1_000.0 / MEASURED_REQUESTS;
+    }
+
+    private <S extends Session> void request(SessionRepository<S> repository, String id, boolean changeAttribute, int request) {
+        S session = repository.findById(id);
+        session.setLastAccessedTime(Instant.now());
+
+        if (changeAttribute) {
+            session.setAttribute("lastPage", "/article?page=" + request);
+        }
+
+        repository.save(session);
+    }
+
+    private int attributeSize(String sessionId) {
+        return jdbcTemplate.queryForObject("SELECT length(a.attribute_bytes) FROM spring_session_attributes a " +
+                        "JOIN spring_session s ON s.primary_id = a.session_primary_id " +
+                        "WHERE s.session_id = ? AND a.attribute_name = ?", Integer.class,
+                sessionId, HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.vladyslavbabenko.mycoloroflife.benchmark;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import com.github.vladyslavbabenko.mycoloroflife.util.PooledJavaMailSender;
+import com.github.vladyslavbabenko.mycoloroflife.util.SmtpStandInServer;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Measures mail throughput of {@link PooledJavaMailSender} against plain {@link JavaMailSenderImpl},
+ * which opens a connection for every message, with the same number of workers as the mail dispatch pool.
+ * The stand-in server delays its greeting to account for the TCP and TLS handshake of a real mail server.
+ * Runs only on demand: mvn test -Dtest=SmtpTransportBenchmark -Dbenchmark=true
+ */
+
+@DisplayName("Benchmark of pooled SMTP transport")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SmtpTransportBenchmark extends AbstractTest {
+
+    private static final int WORKERS = 2;
+    private static final long HANDSHAKE_MILLIS = 20;
+    private static final int WARM_UP_MESSAGES = 100;
+    private static final int MEASURED_MESSAGES = 1_000;
+
+    private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    @Test
+    void compareThroughput() throws Exception {
+        try (SmtpStandInServer server = new SmtpStandInServer(HANDSHAKE_MILLIS)) {
+            //given
+            JavaMailSenderImpl plainSender = new JavaMailSenderImpl();
+            plainSender.setHost("localhost");
+            plainSender.setPort(server.getPort());
+            withTimeouts(plainSender);
+
+            PooledJavaMailSender pooledSender = new PooledJavaMailSender(WORKERS, 30000, 100);
+            pooledSender.setHost("localhost");
+            pooledSender.setPort(server.getPort());
+            withTimeouts(pooledSender);
+
+            //when
+            double plainPerSecond = measure(plainSender);
+            int plainConnections = server.getConnectionCount();
+            double pooledPerSecond = measure(pooledSender);
+            int pooledConnections = server.getConnectionCount() - plainConnections;
+            pooledSender.destroy();
+
+            //then
+            log.info("One connection per message: {} messages/s over {} connections",
+                    String.format("%.1f", plainPerSecond), plainConnections);
+            log.info("Pooled connections: {} messages/s over {} connections",
+                    String.format("%.1f", pooledPerSecond), pooledConnections);
+            Assertions.assertThat(server.getMessageCount()).isEqualTo(2 * (WARM_UP_MESSAGES + MEASURED_MESSAGES));
+            Assertions.assertThat(pooledPerSecond).isGreaterThan(plainPerSecond);
+        }
+    }
+
+    private static void withTimeouts(JavaMailSenderImpl sender) {
+        sender.getJavaMailProperties().setProperty("mail.smtp.connectiontimeout", "5000");
+        sender.getJavaMailProperties().setProperty("mail.smtp.timeout", "5000");
+    }
+
+    private static double measure(JavaMailSenderImpl sender) throws Exception {
+        send(sender, WARM_UP_MESSAGES);
+
+        long start = System.nanoTime();
+        send(sender, MEASURED_MESSAGES);
+
+        return MEASURED_MESSAGES / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    private static void send(JavaMailSenderImpl sender, int messages) throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(WORKERS);
+        List<Future<?>> results = new ArrayList<>();
+
+        for (int i = 0; i < messages; i++) {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setFrom("mycoloroflife@mail.com");
+            message.setTo("testuser" + i + "@mail.com");
+            message.setSubject("Subject " + i);
+            message.setText("Text " + i);
+            results.add(workers.submit(() -> sender.send(message)));
+        }
+
+        for (Future<?> result : results) {
+            result.get();
+        }
+
+        workers.shutdown();
+    }
+}
@@ -3,6 +3,7 @@ package com.github.vladyslavbabenko.mycoloroflife.controller.adminController;
 import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractControllerIntegrationTest;
 import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
 import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
+import com.github.vladyslavbabenko.mycoloroflife.entity.Role;
 import com.github.vladyslavbabenko.mycoloroflife.entity.User;
 import org.fest.assertions.api.Assertions;
 import org.hamcrest.Matchers;
@@ -98,6 +99,49 @@ class AdminControllerAsAdminIntegrationTest extends AbstractControllerIntegratio
         Assertions.assertThat(webApplicationContext.getBean("adminController")).isNotNull();
     }
 
+    @Test
+    public void GET_CacheStatisticsAsAdmin() throws Exception {
+        this.mockMvc.perform(get("/admin/cache-statistics"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[0].region").value(Role.CACHE_REGION))
+                .andExpect(jsonPath("$[1].region").value(CourseTitle.CACHE_REGION))
+                .andExpect(jsonPath("$[2].region").value(Course.CACHE_REGION))
+                .andExpect(jsonPath("$[0].hitCount").isNumber());
+    }
+
+    @Test
+    public void GET_CourseProgressBufferStatisticsAsAdmin() throws Exception {
+        this.mockMvc.perform(get("/admin/course-progress-buffer-statistics"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enabled").value(false))
+                .andExpect(jsonPath("$.depth").isNumber())
+                .andExpect(jsonPath("$.mergeRatio").isNumber())
+                .andExpect(jsonPath("$.averageFlushMillis").isNumber());
+    }
+
+    @Test
+    public void GET_MailDispatchStatisticsAsAdmin() throws Exception {
+        this.mockMvc.perform(get("/admin/mail-dispatch-statistics"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.queueDepth").isNumber())
+                .andExpect(jsonPath("$.failedCount").isNumber())
+                .andExpect(jsonPath("$.averageSendMillis").isNumber());
+    }
+
+    @Test
+    public void GET_MailOutboxStatisticsAsAdmin() throws Exception {
+        this.mockMvc.perform(get("/admin/mail-outbox-statistics"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pendingCount").isNumber())
+                .andExpect(jsonPath("$.failedCount").isNumber())
+                .andExpect(jsonPath("$.oldestPendingSeconds").isNumber());
+    }
+
     @Test
     public void GET_AdminPanelPageAsAdmin() throws Exception {
         this.mockMvc.perform(get("/admin"))
@@ -3,6 +3,7 @@ package com.github.vladyslavbabenko.mycoloroflife.controller.articleController;
 import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractControllerIntegrationTest;
 import com.github.vladyslavbabenko.mycoloroflife.entity.Article;
 import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.util.PaginationUtil;
 import org.fest.assertions.api.Assertions;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
@@ -101,6 +102,19 @@ class ArticleControllerAsAdminIntegrationTest extends AbstractControllerIntegrat
                 .andExpect(status().isOk());
     }
 
+    @Test
+    public void GET_ArticlesPageAsAdmin_WithCursor() throws Exception {
+        this.mockMvc.perform(get("/article")
+                        .param("after", PaginationUtil.encodeCursor(2)))
+                .andDo(print())
+                .andExpect(view().name(templateGeneralArticleAll))
+                .andExpect(model().attribute("listOfArticles", Matchers.hasSize(1)))
+                .andExpect(model().attribute("previousCursor", PaginationUtil.encodeCursor(1)))
+                .andExpect(model().attribute("nextCursor", Matchers.nullValue()))
+                .andExpect(model().attributeDoesNotExist("numberOfPages"))
+                .andExpect(status().isOk());
+    }
+
     @Test
     public void GET_ArticlePageByIdAsAdmin() throws Exception {
         this.mockMvc.perform(get("/article/1"))
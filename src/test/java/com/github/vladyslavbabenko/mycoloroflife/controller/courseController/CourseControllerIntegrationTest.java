@@ -4,21 +4,28 @@ import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractController
 import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
 import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
 import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.UserPrincipal;
 import com.github.vladyslavbabenko.mycoloroflife.enumeration.UserRegistrationType;
+import com.github.vladyslavbabenko.mycoloroflife.service.CourseProgressService;
 import org.fest.assertions.api.Assertions;
 import org.hamcrest.Matchers;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mock.web.MockServletContext;
 import org.springframework.security.authentication.RememberMeAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.context.SecurityContextImpl;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.jdbc.Sql;
 
+import javax.persistence.EntityManagerFactory;
 import javax.servlet.ServletContext;
 import java.util.List;
 
@@ -35,6 +42,11 @@ class CourseControllerIntegrationTest extends AbstractControllerIntegrationTest
     private CourseTitle testCourseTitle;
     private Course testCourse;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CourseProgressService courseProgressService;
 
     //Templates
     @Value("${template.course.all}")
@@ -96,10 +108,12 @@ class CourseControllerIntegrationTest extends AbstractControllerIntegrationTest
     @Test
     public void GET_EventsPageAsAuthor_WithKeyword() throws Exception {
         this.mockMvc.perform(get("/course")
-                        .param("keyword", "Test"))
+                        .param("keyword", "Diferent"))
                 .andDo(print())
                 .andExpect(view().name(templateCourseAll))
-                .andExpect(model().attribute("listOfCourseTitles", Matchers.any(List.class)))
+                .andExpect(model().attribute("listOfSearchResults", Matchers.hasSize(2)))
+                .andExpect(model().attribute("keyWord", "Diferent"))
+                .andExpect(content().string(Matchers.containsString("Different Course description")))
                 .andExpect(model().attribute("pageID", Matchers.any(Integer.class)))
                 .andExpect(model().attribute("numberOfPages", Matchers.any(int[].class)))
                 .andExpect(status().isOk());
@@ -208,6 +222,27 @@ class CourseControllerIntegrationTest extends AbstractControllerIntegrationTest
                 .andExpect(status().isOk());
     }
 
+    @Test
+    public void GET_CoursePageAsCourseOwner_InOneQuery() throws Exception {
+        UserPrincipal principal = UserPrincipal.of(testUser);
+        SecurityContextImpl securityContext = new SecurityContextImpl();
+        securityContext.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, AuthorityUtils.createAuthorityList(roleUser, roleCourseOwnerTest)));
+        SecurityContextHolder.setContext(securityContext);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        this.mockMvc.perform(get("/course/" + testCourseTitle.getTitle() + "/page/" + testCourse.getPage()))
+                .andDo(print())
+                .andExpect(view().name(templateCoursePage))
+                .andExpect(model().attribute("course", Matchers.any(Course.class)))
+                .andExpect(model().attribute("lastCoursePage", Matchers.equalTo(5)))
+                .andExpect(status().isOk());
+
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
     @Test
     public void GET_CoursePageAsCourseOwner_Success_WithLastVisitedPageLessThenCourseGetPage() throws Exception {
         SecurityContextImpl securityContext = new SecurityContextImpl();
@@ -297,4 +332,30 @@ class CourseControllerIntegrationTest extends AbstractControllerIntegrationTest
                 .andExpect(redirectedUrl("/course/" + testCourseTitle.getTitle() + "/page/" + nextPage))
                 .andExpect(status().is3xxRedirection());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void PATCH_UpdateCourseProgressAsCourseOwner_DoubleClick_InOneStatementEach() throws Exception {
+        UserPrincipal principal = UserPrincipal.of(testUser);
+        SecurityContextImpl securityContext = new SecurityContextImpl();
+        securityContext.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, AuthorityUtils.createAuthorityList(roleUser, roleCourseOwnerTest)));
+        SecurityContextHolder.setContext(securityContext);
+
+        int page = 2;
+        int nextPage = page + 1;
+
+        this.mockMvc.perform(patch("/course/" + testCourseTitle.getTitle() + "/page/" + page))
+                .andExpect(redirectedUrl("/course/" + testCourseTitle.getTitle() + "/page/" + nextPage))
+                .andExpect(status().is3xxRedirection());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        this.mockMvc.perform(patch("/course/" + testCourseTitle.getTitle() + "/page/" + page))
+                .andExpect(redirectedUrl("/course/" + testCourseTitle.getTitle() + "/page/" + nextPage))
+                .andExpect(status().is3xxRedirection());
+
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        Assertions.assertThat(courseProgressService.getLastPage(testUser.getId(), testCourseTitle.getId())).isEqualTo(nextPage);
+    }
+}
@@ -3,6 +3,7 @@ package com.github.vladyslavbabenko.mycoloroflife.controller.eventController;
 import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractControllerIntegrationTest;
 import com.github.vladyslavbabenko.mycoloroflife.entity.Event;
 import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.util.PaginationUtil;
 import org.fest.assertions.api.Assertions;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
@@ -114,6 +115,19 @@ class EventControllerAsAdminIntegrationTest extends AbstractControllerIntegratio
                 .andExpect(status().isOk());
     }
 
+    @Test
+    public void GET_EventsPageAsAdmin_WithCursor() throws Exception {
+        this.mockMvc.perform(get("/event")
+                        .param("after", PaginationUtil.encodeCursor(2)))
+                .andDo(print())
+                .andExpect(view().name(templateGeneralEventAll))
+                .andExpect(model().attribute("listOfEvents", Matchers.hasSize(1)))
+                .andExpect(model().attribute("previousCursor", PaginationUtil.encodeCursor(1)))
+                .andExpect(model().attribute("nextCursor", Matchers.nullValue()))
+                .andExpect(model().attributeDoesNotExist("numberOfPages"))
+                .andExpect(status().isOk());
+    }
+
     @Test
     public void GET_EventPageByIdAsAdmin() throws Exception {
         this.mockMvc.perform(get("/event/1"))
@@ -0,0 +1,95 @@
+package com.github.vladyslavbabenko.mycoloroflife.controller.searchController;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractControllerIntegrationTest;
+import com.github.vladyslavbabenko.mycoloroflife.enumeration.ContentType;
+import com.github.vladyslavbabenko.mycoloroflife.service.SearchService;
+import org.fest.assertions.api.Assertions;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.test.context.support.WithAnonymousUser;
+import org.springframework.test.context.jdbc.Sql;
+
+import javax.servlet.ServletContext;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WithAnonymousUser
+@DisplayName("Integration-level testing for SearchController as AnonymousUser")
+@Sql(value = {"/create-test-values.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class SearchControllerIntegrationTest extends AbstractControllerIntegrationTest {
+
+    @Autowired
+    private SearchService searchService;
+
+    //Templates
+    @Value("${template.general.search}")
+    String templateGeneralSearch;
+
+    @BeforeEach
+    void setUp() {
+        super.setup();
+
+        searchService.rebuildIndex();
+    }
+
+    @Test
+    public void isSearchControllerIntegrationTestSetUpForTests() {
+        ServletContext servletContext = webApplicationContext.getServletContext();
+
+        Assertions.assertThat(servletContext).isNotNull().isInstanceOf(MockServletContext.class);
+        Assertions.assertThat(webApplicationContext.getBean("searchController")).isNotNull();
+    }
+
+    @Test
+    public void GET_SearchPage_WithoutKeyword() throws Exception {
+        this.mockMvc.perform(get("/search"))
+                .andExpect(view().name(templateGeneralSearch))
+                .andExpect(model().attribute("listOfResults", Matchers.empty()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void GET_SearchPage_WithKeyword() throws Exception {
+        this.mockMvc.perform(get("/search").param("keyword", "Different"))
+                .andExpect(view().name(templateGeneralSearch))
+                .andExpect(model().attribute("keyWord", "Different"))
+                .andExpect(model().attribute("listOfResults", Matchers.hasSize(2)))
+                .andExpect(model().attribute("listOfResults", Matchers.everyItem(
+                        Matchers.hasProperty("contentType", Matchers.is(ContentType.COURSE_TITLE)))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void GET_SearchPage_InText() throws Exception {
+        this.mockMvc.perform(get("/search").param("keyword", "second texts"))
+                .andExpect(view().name(templateGeneralSearch))
+                .andExpect(model().attribute("listOfResults", Matchers.hasItem(Matchers.allOf(
+                        Matchers.hasProperty("contentType", Matchers.is(ContentType.ARTICLE)),
+                        Matchers.hasProperty("id", Matchers.is(2))))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void GET_Suggestions() throws Exception {
+        this.mockMvc.perform(get("/search/suggest").param("q", "diff"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", Matchers.hasSize(1)))
+                .andExpect(jsonPath("$[0].contentType").value("COURSE_TITLE"))
+                .andExpect(jsonPath("$[0].title").value("Different Course"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void GET_Suggestions_WithoutQuery() throws Exception {
+        this.mockMvc.perform(get("/search/suggest"))
+                .andExpect(jsonPath("$", Matchers.empty()))
+                .andExpect(status().isOk());
+    }
+}
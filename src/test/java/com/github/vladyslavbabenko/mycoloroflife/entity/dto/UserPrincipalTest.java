@@ -0,0 +1,104 @@
+package com.github.vladyslavbabenko.mycoloroflife.entity.dto;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import com.github.vladyslavbabenko.mycoloroflife.entity.Role;
+import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.enumeration.UserRegistrationType;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@DisplayName("Unit-level testing for UserPrincipal")
+class UserPrincipalTest extends AbstractTest {
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        //given
+        Set<Role> roles = new HashSet<>();
+        roles.add(Role.builder().id(1).roleName("ROLE_USER").description("Користувач").build());
+        roles.add(Role.builder().id(2).roleName("ROLE_ADMIN").description("Адміністратор").build());
+
+        testUser = User.builder()
+                .id(1)
+                .name("TestUser")
+                .email("testuser@mail.com")
+                .password("123456")
+                .roles(roles)
+                .isAccountNonLocked(true)
+                .registrationType(UserRegistrationType.REGISTRATION_FORM)
+                .build();
+    }
+
+    @Test
+    void of() {
+        //when
+        UserPrincipal userPrincipal = UserPrincipal.of(testUser);
+
+        //then
+        Assertions.assertThat(userPrincipal.getId()).isEqualTo(testUser.getId());
+        Assertions.assertThat(userPrincipal.getUsername()).isEqualTo(testUser.getEmail());
+        Assertions.assertThat(userPrincipal.getName()).isEqualTo(testUser.getName());
+        Assertions.assertThat(userPrincipal.getPassword()).isEqualTo(testUser.getPassword());
+        Assertions.assertThat(userPrincipal.getRegistrationType()).isEqualTo(UserRegistrationType.REGISTRATION_FORM);
+        Assertions.assertThat(userPrincipal.isAccountNonLocked()).isTrue();
+        Assertions.assertThat(userPrincipal.getAuthorities().stream().map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList())).containsOnly("ROLE_ADMIN", "ROLE_USER");
+    }
+
+    @Test
+    void eraseCredentials() {
+        //given
+        UserPrincipal userPrincipal = UserPrincipal.of(testUser);
+
+        //when
+        userPrincipal.eraseCredentials();
+
+        //then
+        Assertions.assertThat(userPrincipal.getPassword()).isNull();
+        Assertions.assertThat(testUser.getPassword()).isEqualTo("123456");
+    }
+
+    @Test
+    void serialization_WithoutPassword() throws IOException, ClassNotFoundException {
+        //given
+        UserPrincipal userPrincipal = UserPrincipal.of(testUser);
+
+        //when
+        byte[] serialized = serialize(userPrincipal);
+        UserPrincipal deserialized;
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            deserialized = (UserPrincipal) in.readObject();
+        }
+
+        //then
+        Assertions.assertThat(deserialized).isEqualTo(userPrincipal);
+        Assertions.assertThat(deserialized.getUsername()).isEqualTo(userPrincipal.getUsername());
+        Assertions.assertThat(deserialized.getAuthorities()).isEqualTo(userPrincipal.getAuthorities());
+        Assertions.assertThat(deserialized.getPassword()).isNull();
+        Assertions.assertThat(serialized.length).isLessThan(serialize(testUser).length);
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+
+        return bytes.toByteArray();
+    }
+}
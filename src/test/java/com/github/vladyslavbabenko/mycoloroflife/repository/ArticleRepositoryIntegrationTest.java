@@ -3,6 +3,9 @@ package com.github.vladyslavbabenko.mycoloroflife.repository;
 import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractRepositoryIntegrationTest;
 import com.github.vladyslavbabenko.mycoloroflife.entity.Article;
 import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.ArticleSummary;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.Authorship;
+import com.github.vladyslavbabenko.mycoloroflife.util.PaginationUtil;
 import org.fest.assertions.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -90,4 +93,83 @@ class ArticleRepositoryIntegrationTest extends AbstractRepositoryIntegrationTest
         Assertions.assertThat(actualArticle.get().get(1).getUsers().stream().findFirst().get().getUsername())
                 .isEqualTo(expectedSecondArticle.getUsers().stream().findFirst().get().getUsername());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldFindPageOfArticleSummaries() {
+        List<ArticleSummary> actualSummaries = articleRepository.findSummaries(PaginationUtil.pageRequest(1, 1));
+
+        Assertions.assertThat(actualSummaries).hasSize(1);
+
+        ArticleSummary actualSummary = actualSummaries.get(0);
+        Assertions.assertThat(actualSummary.getId()).isEqualTo(expectedSecondArticle.getId());
+        Assertions.assertThat(actualSummary.getTitle()).isEqualTo(expectedSecondArticle.getTitle());
+        Assertions.assertThat(actualSummary.getDateTimeOfCreation()).isEqualTo(expectedSecondArticle.getDateTimeOfCreation());
+        Assertions.assertThat(actualSummary.getExcerpt()).isEqualTo(expectedSecondArticle.getText());
+        Assertions.assertThat(actualSummary.getAuthors()).isEqualTo(testAuthor.getName());
+    }
+
+    @Test
+    void shouldFindPageOfArticleSummaries_WithoutAuthors() {
+        Article secondArticle = articleRepository.findById(expectedSecondArticle.getId()).get();
+        secondArticle.getUsers().clear();
+        articleRepository.saveAndFlush(secondArticle);
+
+        List<ArticleSummary> actualSummaries = articleRepository.findSummaries(PaginationUtil.pageRequest(1, 1));
+
+        Assertions.assertThat(actualSummaries).hasSize(1);
+        Assertions.assertThat(actualSummaries.get(0).getId()).isEqualTo(expectedSecondArticle.getId());
+        Assertions.assertThat(actualSummaries.get(0).getAuthors()).isEmpty();
+    }
+
+    @Test
+    void shouldFindPageOfArticleSummariesMatchingQuery() {
+        List<ArticleSummary> actualSummaries = articleRepository.findSummariesMatching("first:*", PaginationUtil.pageRequest(1, 6));
+
+        Assertions.assertThat(actualSummaries).hasSize(1);
+        Assertions.assertThat(actualSummaries.get(0).getId()).isEqualTo(expectedFirstArticle.getId());
+        Assertions.assertThat(actualSummaries.get(0).getAuthors()).isEqualTo(testAdmin.getName());
+    }
+
+    @Test
+    void shouldFindPageOfArticleSummariesMatchingQuery_InText() {
+        List<ArticleSummary> actualSummaries = articleRepository.findSummariesMatching("tex:* & second:*", PaginationUtil.pageRequest(1, 6));
+
+        Assertions.assertThat(actualSummaries).hasSize(1);
+        Assertions.assertThat(actualSummaries.get(0).getId()).isEqualTo(expectedSecondArticle.getId());
+    }
+
+    @Test
+    void shouldCountArticlesMatchingQuery() {
+        Assertions.assertThat(articleRepository.countMatching("test:*")).isEqualTo(2);
+        Assertions.assertThat(articleRepository.countMatching("first:* & titl:*")).isEqualTo(1);
+        Assertions.assertThat(articleRepository.countMatching("third:*")).isEqualTo(0);
+    }
+
+    @Test
+    void shouldFindArticleSummariesOlderThanCursor() {
+        List<ArticleSummary> actualSummaries = articleRepository.findSummariesOlderThan(expectedSecondArticle.getId(), 2);
+
+        Assertions.assertThat(actualSummaries).hasSize(1);
+        Assertions.assertThat(actualSummaries.get(0).getId()).isEqualTo(expectedFirstArticle.getId());
+    }
+
+    @Test
+    void shouldFindArticleSummariesNewerThanCursor() {
+        List<ArticleSummary> actualSummaries = articleRepository.findSummariesNewerThan(0, 2);
+
+        Assertions.assertThat(actualSummaries).hasSize(2);
+        Assertions.assertThat(actualSummaries.get(0).getId()).isEqualTo(expectedFirstArticle.getId());
+        Assertions.assertThat(actualSummaries.get(1).getId()).isEqualTo(expectedSecondArticle.getId());
+    }
+
+    @Test
+    void findAuthorships() {
+        //when
+        List<Authorship> authorships = articleRepository.findAuthorships(List.of(1, 2));
+
+        //then
+        Assertions.assertThat(authorships).hasSize(2);
+        Assertions.assertThat(authorships.stream().filter(authorship -> authorship.getContentId() == 2)
+                .findFirst().orElseThrow().getAuthorId()).isEqualTo(3);
+    }
+}
@@ -1,32 +1,46 @@
 package com.github.vladyslavbabenko.mycoloroflife.repository;
 
 import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractRepositoryIntegrationTest;
-import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
 import com.github.vladyslavbabenko.mycoloroflife.entity.CourseProgress;
 import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
 import com.github.vladyslavbabenko.mycoloroflife.entity.User;
 import org.fest.assertions.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 @DisplayName("Integration-level testing for CourseProgressRepository")
 @Sql(value = {"/create-test-values.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 class CourseProgressRepositoryIntegrationTest extends AbstractRepositoryIntegrationTest {
 
+    private static final String COURSE_OWNER_ROLE = "ROLE_COURSE_OWNER_TEST";
+
     private CourseProgress expectedCourseProgress;
     private User expectedUser;
-    private Course expectedCourse;
     private CourseTitle expectedCourseTitle;
 
     @Autowired
     private CourseProgressRepository courseProgressRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @BeforeEach
     void setUp() {
         //given
@@ -38,14 +52,7 @@ class CourseProgressRepositoryIntegrationTest extends AbstractRepositoryIntegrat
 
         expectedCourseTitle = CourseTitle.builder().id(1).title("Test").description("Test description").build();
 
-        expectedCourse = Course.builder()
-                .id(1)
-                .courseTitle(expectedCourseTitle)
-                .page(1)
-                .text("Test Text 1")
-                .build();
-
-        expectedCourseProgress = CourseProgress.builder().id(1).user(expectedUser).course(expectedCourse).build();
+        expectedCourseProgress = CourseProgress.builder().id(1).user(expectedUser).courseTitle(expectedCourseTitle).lastPage(2).build();
     }
 
     @Test
@@ -54,25 +61,25 @@ class CourseProgressRepositoryIntegrationTest extends AbstractRepositoryIntegrat
         Optional<List<CourseProgress>> courseProgressList = courseProgressRepository.findAllByUser(expectedUser);
 
         //then
-        Assertions.assertThat(courseProgressList.get()).hasSize(2);
+        Assertions.assertThat(courseProgressList.get()).hasSize(1);
     }
 
     @Test
-    void findByUserAndCourse() {
+    void findByUserAndCourseTitle() {
         //when
-        Optional<CourseProgress> actualCourseProgress = courseProgressRepository.findByUserAndCourse(expectedUser, expectedCourse);
+        Optional<CourseProgress> actualCourseProgress = courseProgressRepository.findByUserAndCourseTitle(expectedUser, expectedCourseTitle);
 
         //then
         Assertions.assertThat(actualCourseProgress.get().getId()).isEqualTo(expectedCourseProgress.getId());
-        Assertions.assertThat(actualCourseProgress.get().getCourse().getCourseTitle().getTitle()).isEqualTo(expectedCourseProgress.getCourse().getCourseTitle().getTitle());
-        Assertions.assertThat(actualCourseProgress.get().getCourse().getPage()).isEqualTo(expectedCourseProgress.getCourse().getPage());
+        Assertions.assertThat(actualCourseProgress.get().getCourseTitle().getTitle()).isEqualTo(expectedCourseProgress.getCourseTitle().getTitle());
+        Assertions.assertThat(actualCourseProgress.get().getLastPage()).isEqualTo(expectedCourseProgress.getLastPage());
         Assertions.assertThat(actualCourseProgress.get().getUser().getUsername()).isEqualTo(expectedCourseProgress.getUser().getUsername());
     }
 
     @Test
-    void existsByUserAndCourse() {
+    void existsByUserAndCourseTitle() {
         //when
-        boolean exists = courseProgressRepository.existsByUserAndCourse(expectedUser, expectedCourse);
+        boolean exists = courseProgressRepository.existsByUserAndCourseTitle(expectedUser, expectedCourseTitle);
 
         //then
         Assertions.assertThat(exists).isTrue();
@@ -86,4 +93,125 @@ class CourseProgressRepositoryIntegrationTest extends AbstractRepositoryIntegrat
         //then
         Assertions.assertThat(exists).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    void findLastPage() {
+        //when
+        Optional<Integer> lastPage = courseProgressRepository.findLastPage(expectedUser.getId(), expectedCourseTitle.getId());
+        Optional<Integer> noLastPage = courseProgressRepository.findLastPage(expectedUser.getId(), 2);
+
+        //then
+        Assertions.assertThat(lastPage.get()).isEqualTo(2);
+        Assertions.assertThat(noLastPage.isPresent()).isFalse();
+    }
+
+    @Test
+    void upsertLastPage_OnlyMovesForward() {
+        //when
+        int movedBack = courseProgressRepository.upsertLastPage(expectedUser.getId(), expectedCourseTitle.getId(), 1);
+        int movedForward = courseProgressRepository.upsertLastPage(expectedUser.getId(), expectedCourseTitle.getId(), 4);
+
+        //then
+        Assertions.assertThat(movedBack).isEqualTo(0);
+        Assertions.assertThat(movedForward).isEqualTo(1);
+        Assertions.assertThat(courseProgressRepository.findLastPage(expectedUser.getId(), expectedCourseTitle.getId()).get()).isEqualTo(4);
+    }
+
+    @Test
+    void advance_InOneStatement() {
+        //given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        int advanced = courseProgressRepository.advance(expectedUser.getId(), expectedCourseTitle.getId(), COURSE_OWNER_ROLE, 2, 3);
+
+        //then
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        Assertions.assertThat(advanced).isEqualTo(1);
+        Assertions.assertThat(courseProgressRepository.findLastPage(expectedUser.getId(), expectedCourseTitle.getId()).get()).isEqualTo(3);
+    }
+
+    @Test
+    void advance_Failure_PageNotReached() {
+        //when
+        int advanced = courseProgressRepository.advance(expectedUser.getId(), expectedCourseTitle.getId(), COURSE_OWNER_ROLE, 3, 4);
+
+        //then
+        Assertions.assertThat(advanced).isEqualTo(0);
+        Assertions.assertThat(courseProgressRepository.findLastPage(expectedUser.getId(), expectedCourseTitle.getId()).get()).isEqualTo(2);
+    }
+
+    @Test
+    void advance_WithoutProgress_FromFirstPage() {
+        //given
+        courseProgressRepository.deleteById(2);
+
+        //when
+        int advanced = courseProgressRepository.advance(2, expectedCourseTitle.getId(), COURSE_OWNER_ROLE, 1, 2);
+
+        //then
+        Assertions.assertThat(advanced).isEqualTo(1);
+        Assertions.assertThat(courseProgressRepository.findLastPage(2, expectedCourseTitle.getId()).get()).isEqualTo(2);
+    }
+
+    @Test
+    void advance_WithoutProgress_FromLaterPage_StartsOnFirstPage() {
+        //given
+        courseProgressRepository.deleteById(2);
+
+        //when
+        int advanced = courseProgressRepository.advance(2, expectedCourseTitle.getId(), COURSE_OWNER_ROLE, 3, 4);
+
+        //then
+        Assertions.assertThat(advanced).isEqualTo(1);
+        Assertions.assertThat(courseProgressRepository.findLastPage(2, expectedCourseTitle.getId()).get()).isEqualTo(1);
+    }
+
+    @Test
+    void advance_Failure_NotCourseOwner() {
+        //when
+        int advanced = courseProgressRepository.advance(3, expectedCourseTitle.getId(), COURSE_OWNER_ROLE, 1, 2);
+
+        //then
+        Assertions.assertThat(advanced).isEqualTo(0);
+        Assertions.assertThat(courseProgressRepository.findLastPage(3, expectedCourseTitle.getId()).isPresent()).isFalse();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void advance_ConcurrentRequests_MoveProgressOnce() throws Exception {
+        //given
+        int requests = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<CompletableFuture<Integer>> results = new ArrayList<>();
+
+            for (int i = 0; i < requests; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return courseProgressRepository.advance(expectedUser.getId(), expectedCourseTitle.getId(), COURSE_OWNER_ROLE, 2, 3);
+                }, executor));
+            }
+
+            //when
+            start.countDown();
+            int advanced = 0;
+            for (CompletableFuture<Integer> result : results) {
+                advanced += result.get(30, TimeUnit.SECONDS);
+            }
+
+            //then
+            Assertions.assertThat(advanced).isEqualTo(1);
+            Assertions.assertThat(courseProgressRepository.findLastPage(expectedUser.getId(), expectedCourseTitle.getId()).get()).isEqualTo(3);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
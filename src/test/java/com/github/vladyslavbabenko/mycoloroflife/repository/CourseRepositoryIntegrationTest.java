@@ -4,12 +4,18 @@ import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractRepository
 import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
 import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
 import org.fest.assertions.api.Assertions;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +27,8 @@ class CourseRepositoryIntegrationTest extends AbstractRepositoryIntegrationTest
     private CourseTitle courseTitle;
     @Autowired
     private CourseRepository courseRepository;
+    @Autowired
+    private EntityManager entityManager;
 
     @BeforeEach
     void setUp() {
@@ -44,6 +52,25 @@ class CourseRepositoryIntegrationTest extends AbstractRepositoryIntegrationTest
                 .build();
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldFindByCourseTitleAndPage_FromCacheAfterWarmUp() {
+        //given
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        // outside of the test transaction every lookup runs in its own session, as it does in a request
+        courseRepository.findByCourseTitleAndPage(courseTitle, 1);
+        statistics.clear();
+
+        //when
+        Optional<Course> actualCourse = courseRepository.findByCourseTitleAndPage(courseTitle, 1);
+
+        //then
+        Assertions.assertThat(actualCourse.get().getId()).isEqualTo(expectedFirstCourse.getId());
+        Assertions.assertThat(actualCourse.get().getPage()).isEqualTo(expectedFirstCourse.getPage());
+        Assertions.assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
     @Test
     void shouldFindByCourseTitleAndPage() {
         Optional<Course> actualCourse = courseRepository.findByCourseTitleAndPage(expectedFirstCourse.getCourseTitle(), expectedFirstCourse.getPage());
@@ -102,4 +129,24 @@ class CourseRepositoryIntegrationTest extends AbstractRepositoryIntegrationTest
 
         Assertions.assertThat(exists).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    void findAll_LoadsCourseTitlesOnly() {
+        //when
+        List<Course> courses = courseRepository.findAll();
+
+        //then
+        Assertions.assertThat(courses).hasSize(11);
+        courses.forEach(course -> Assertions.assertThat(Hibernate.isInitialized(course.getCourseTitle())).isTrue());
+    }
+
+    @Test
+    void findById_LeavesCourseTitleUnloaded() {
+        //when
+        Optional<Course> course = courseRepository.findById(expectedFirstCourse.getId());
+
+        //then
+        Assertions.assertThat(Hibernate.isInitialized(course.get().getCourseTitle())).isFalse();
+        Assertions.assertThat(course.get().getCourseTitle().getId()).isEqualTo(courseTitle.getId());
+    }
+}
@@ -2,7 +2,10 @@ package com.github.vladyslavbabenko.mycoloroflife.repository;
 
 import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractRepositoryIntegrationTest;
 import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.CourseSearchHit;
+import com.github.vladyslavbabenko.mycoloroflife.util.PaginationUtil;
 import org.fest.assertions.api.Assertions;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -42,6 +45,40 @@ class CourseTitleRepositoryIntegrationTest extends AbstractRepositoryIntegration
         Assertions.assertThat(courseTitlesFromDB.get().size()).isEqualTo(2);
     }
 
+    @Test
+    void findAllBy() {
+        List<CourseTitle> courseTitlesFromDB = courseTitleRepository.findAllBy(PaginationUtil.newestFirst(3, 1));
+
+        Assertions.assertThat(courseTitlesFromDB).hasSize(1);
+        Assertions.assertThat(courseTitlesFromDB.get(0).getId()).isEqualTo(testCourseTitle.getId());
+    }
+
+    @Test
+    void searchCourses_WithTypo() {
+        List<CourseSearchHit> hits = courseTitleRepository.searchCourses("Diferent", PaginationUtil.pageRequest(1, 6));
+
+        Assertions.assertThat(hits).hasSize(2);
+        Assertions.assertThat(hits.get(0).getCourseTitleId()).isEqualTo(2);
+        Assertions.assertThat(hits.get(0).getPage()).isNull();
+        Assertions.assertThat(hits.get(1).getCourseTitleId()).isEqualTo(2);
+        Assertions.assertThat(hits.get(1).getPage()).isEqualTo(1);
+        Assertions.assertThat(hits.get(0).getScore()).isGreaterThan(0.5);
+    }
+
+    @Test
+    void searchCourses_InVideoTitle() {
+        List<CourseSearchHit> hits = courseTitleRepository.searchCourses("Video", PaginationUtil.pageRequest(1, 20));
+
+        Assertions.assertThat(hits).hasSize(6);
+        Assertions.assertThat(hits.get(0).getVideoTitle()).contains("Video");
+    }
+
+    @Test
+    void countCourseSearchHits() {
+        Assertions.assertThat(courseTitleRepository.countCourseSearchHits("Diferent")).isEqualTo(2);
+        Assertions.assertThat(courseTitleRepository.countCourseSearchHits("Nothing like it")).isEqualTo(0);
+    }
+
     @Test
     void findById() {
         Optional<CourseTitle> courseTitleFromDB = courseTitleRepository.findById(testCourseTitle.getId());
@@ -56,4 +93,25 @@ class CourseTitleRepositoryIntegrationTest extends AbstractRepositoryIntegration
 
         Assertions.assertThat(existsByTitle).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    void findByTitle_DoesNotLoadPagesAndCodes() {
+        //when
+        CourseTitle courseTitle = courseTitleRepository.findByTitle("Test").orElseThrow();
+
+        //then
+        Assertions.assertThat(Hibernate.isInitialized(courseTitle.getCourses())).isFalse();
+        Assertions.assertThat(Hibernate.isInitialized(courseTitle.getActivationCodes())).isFalse();
+    }
+
+    @Test
+    void findWithCoursesById() {
+        //when
+        CourseTitle courseTitle = courseTitleRepository.findWithCoursesById(1).orElseThrow();
+
+        //then
+        Assertions.assertThat(Hibernate.isInitialized(courseTitle.getCourses())).isTrue();
+        Assertions.assertThat(courseTitle.getCourses()).hasSize(5);
+        Assertions.assertThat(Hibernate.isInitialized(courseTitle.getActivationCodes())).isFalse();
+    }
+}
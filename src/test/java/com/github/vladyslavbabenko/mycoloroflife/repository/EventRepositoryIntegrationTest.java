@@ -3,6 +3,8 @@ package com.github.vladyslavbabenko.mycoloroflife.repository;
 import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractRepositoryIntegrationTest;
 import com.github.vladyslavbabenko.mycoloroflife.entity.Event;
 import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.EventSummary;
+import com.github.vladyslavbabenko.mycoloroflife.util.PaginationUtil;
 import org.fest.assertions.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -90,4 +92,72 @@ class EventRepositoryIntegrationTest extends AbstractRepositoryIntegrationTest {
         Assertions.assertThat(actualEvent.get().get(1).getUsers().stream().findFirst().get().getUsername())
                 .isEqualTo(expectedSecondEvent.getUsers().stream().findFirst().get().getUsername());
     }
+
+    @Test
+    void shouldFindPageOfEventSummaries() {
+        List<EventSummary> actualSummaries = eventRepository.findSummaries(PaginationUtil.pageRequest(1, 1));
+
+        Assertions.assertThat(actualSummaries).hasSize(1);
+
+        EventSummary actualSummary = actualSummaries.get(0);
+        Assertions.assertThat(actualSummary.getId()).isEqualTo(expectedSecondEvent.getId());
+        Assertions.assertThat(actualSummary.getTitle()).isEqualTo(expectedSecondEvent.getTitle());
+        Assertions.assertThat(actualSummary.getDateTimeOfCreation()).isEqualTo(expectedSecondEvent.getDateTimeOfCreation());
+        Assertions.assertThat(actualSummary.getExcerpt()).isEqualTo(expectedSecondEvent.getText());
+        Assertions.assertThat(actualSummary.getAuthors()).isEqualTo(testAuthor.getName());
+    }
+
+    @Test
+    void shouldFindPageOfEventSummaries_WithoutAuthors() {
+        Event secondEvent = eventRepository.findById(expectedSecondEvent.getId()).get();
+        secondEvent.getUsers().clear();
+        eventRepository.saveAndFlush(secondEvent);
+
+        List<EventSummary> actualSummaries = eventRepository.findSummaries(PaginationUtil.pageRequest(1, 1));
+
+        Assertions.assertThat(actualSummaries).hasSize(1);
+        Assertions.assertThat(actualSummaries.get(0).getId()).isEqualTo(expectedSecondEvent.getId());
+        Assertions.assertThat(actualSummaries.get(0).getAuthors()).isEmpty();
+    }
+
+    @Test
+    void shouldFindPageOfEventSummariesMatchingQuery() {
+        List<EventSummary> actualSummaries = eventRepository.findSummariesMatching("first:*", PaginationUtil.pageRequest(1, 6));
+
+        Assertions.assertThat(actualSummaries).hasSize(1);
+        Assertions.assertThat(actualSummaries.get(0).getId()).isEqualTo(expectedFirstEvent.getId());
+        Assertions.assertThat(actualSummaries.get(0).getAuthors()).isEqualTo(testAdmin.getName());
+    }
+
+    @Test
+    void shouldFindPageOfEventSummariesMatchingQuery_InText() {
+        List<EventSummary> actualSummaries = eventRepository.findSummariesMatching("tex:* & second:*", PaginationUtil.pageRequest(1, 6));
+
+        Assertions.assertThat(actualSummaries).hasSize(1);
+        Assertions.assertThat(actualSummaries.get(0).getId()).isEqualTo(expectedSecondEvent.getId());
+    }
+
+    @Test
+    void shouldCountEventsMatchingQuery() {
+        Assertions.assertThat(eventRepository.countMatching("test:*")).isEqualTo(2);
+        Assertions.assertThat(eventRepository.countMatching("first:* & titl:*")).isEqualTo(1);
+        Assertions.assertThat(eventRepository.countMatching("third:*")).isEqualTo(0);
+    }
+
+    @Test
+    void shouldFindEventSummariesOlderThanCursor() {
+        List<EventSummary> actualSummaries = eventRepository.findSummariesOlderThan(expectedSecondEvent.getId(), 2);
+
+        Assertions.assertThat(actualSummaries).hasSize(1);
+        Assertions.assertThat(actualSummaries.get(0).getId()).isEqualTo(expectedFirstEvent.getId());
+    }
+
+    @Test
+    void shouldFindEventSummariesNewerThanCursor() {
+        List<EventSummary> actualSummaries = eventRepository.findSummariesNewerThan(0, 2);
+
+        Assertions.assertThat(actualSummaries).hasSize(2);
+        Assertions.assertThat(actualSummaries.get(0).getId()).isEqualTo(expectedFirstEvent.getId());
+        Assertions.assertThat(actualSummaries.get(1).getId()).isEqualTo(expectedSecondEvent.getId());
+    }
 }
\ No newline at end of file
@@ -43,4 +43,15 @@ class RoleRepositoryIntegrationTest extends AbstractRepositoryIntegrationTest {
         //then
         Assertions.assertThat(exists).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    void existsByUserIdAndRoleName() {
+        //when
+        boolean granted = roleRepository.existsByUserIdAndRoleName(1, expectedRole.getRoleName());
+        boolean notGranted = roleRepository.existsByUserIdAndRoleName(3, expectedRole.getRoleName());
+
+        //then
+        Assertions.assertThat(granted).isTrue();
+        Assertions.assertThat(notGranted).isFalse();
+    }
+}
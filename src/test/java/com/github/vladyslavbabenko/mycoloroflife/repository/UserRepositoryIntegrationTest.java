@@ -2,13 +2,16 @@ package com.github.vladyslavbabenko.mycoloroflife.repository;
 
 import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractRepositoryIntegrationTest;
 import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.AuthorSummary;
 import org.fest.assertions.api.Assertions;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.jdbc.Sql;
 
+import java.util.List;
 import java.util.Optional;
 
 @DisplayName("Integration-level testing for UserRepository")
@@ -40,4 +43,53 @@ class UserRepositoryIntegrationTest extends AbstractRepositoryIntegrationTest {
         Assertions.assertThat(userFromDB.get().getUsername()).isNotNull().isEqualTo(expectedUser.getUsername());
         Assertions.assertThat(userFromDB.get().getEmail()).isNotNull().isEqualTo(expectedUser.getEmail());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findByEmail_LoadsRolesOnly() {
+        //when
+        User userFromDB = userRepository.findByEmail(expectedUser.getEmail()).orElseThrow();
+
+        //then
+        Assertions.assertThat(Hibernate.isInitialized(userFromDB.getRoles())).isTrue();
+        Assertions.assertThat(userFromDB.getRoles()).isNotEmpty();
+        Assertions.assertThat(Hibernate.isInitialized(userFromDB.getActivationCodes())).isFalse();
+        Assertions.assertThat(Hibernate.isInitialized(userFromDB.getCourseProgresses())).isFalse();
+        Assertions.assertThat(Hibernate.isInitialized(userFromDB.getSecureTokens())).isFalse();
+    }
+
+    @Test
+    void findWithPrivateAreaByEmail_LoadsProgressAndCodes() {
+        //when
+        User userFromDB = userRepository.findWithPrivateAreaByEmail(expectedUser.getEmail()).orElseThrow();
+
+        //then
+        Assertions.assertThat(Hibernate.isInitialized(userFromDB.getRoles())).isTrue();
+        Assertions.assertThat(Hibernate.isInitialized(userFromDB.getActivationCodes())).isTrue();
+        Assertions.assertThat(Hibernate.isInitialized(userFromDB.getCourseProgresses())).isTrue();
+        Assertions.assertThat(userFromDB.getCourseProgresses()).isNotEmpty();
+        Assertions.assertThat(Hibernate.isInitialized(userFromDB.getSecureTokens())).isFalse();
+    }
+
+    @Test
+    void findAll_LoadsSummary() {
+        //when
+        List<User> users = userRepository.findAll();
+
+        //then
+        Assertions.assertThat(users).hasSize(4);
+        users.forEach(user -> {
+            Assertions.assertThat(Hibernate.isInitialized(user.getRoles())).isTrue();
+            Assertions.assertThat(Hibernate.isInitialized(user.getActivationCodes())).isTrue();
+            Assertions.assertThat(Hibernate.isInitialized(user.getCourseProgresses())).isFalse();
+        });
+    }
+
+    @Test
+    void findAuthorSummaries() {
+        //when
+        List<AuthorSummary> authors = userRepository.findAuthorSummaries(List.of(2, 3));
+
+        //then
+        Assertions.assertThat(authors).containsOnly(new AuthorSummary(2, "TestAdmin"), new AuthorSummary(3, "TestAuthor"));
+    }
+}
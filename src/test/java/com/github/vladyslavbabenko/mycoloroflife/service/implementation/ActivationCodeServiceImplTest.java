@@ -5,8 +5,11 @@ import com.github.vladyslavbabenko.mycoloroflife.entity.ActivationCode;
 import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
 import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
 import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.MailModel;
 import com.github.vladyslavbabenko.mycoloroflife.repository.ActivationCodeRepository;
 import com.github.vladyslavbabenko.mycoloroflife.service.ActivationCodeService;
+import com.github.vladyslavbabenko.mycoloroflife.service.MailOutboxService;
+import com.github.vladyslavbabenko.mycoloroflife.util.MessageSourceUtil;
 import org.fest.assertions.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +24,8 @@ class ActivationCodeServiceImplTest extends AbstractTest {
     private User testUser;
     private ActivationCodeService codeService;
     private ActivationCodeRepository codeRepository;
+    private MailOutboxService mailOutboxService;
+    private MessageSourceUtil messageSource;
     private ActivationCode testCode;
     private Course testCourse;
     private CourseTitle testCourseTitle;
@@ -29,7 +34,9 @@ class ActivationCodeServiceImplTest extends AbstractTest {
     void setUp() {
         //given
         codeRepository = Mockito.mock(ActivationCodeRepository.class);
-        codeService = new ActivationCodeServiceImpl(codeRepository);
+        mailOutboxService = Mockito.mock(MailOutboxService.class);
+        messageSource = Mockito.mock(MessageSourceUtil.class);
+        codeService = new ActivationCodeServiceImpl(codeRepository, mailOutboxService, messageSource);
 
         testCourseTitle = CourseTitle.builder().id(1).title("Test").description("Test description").build();
 
@@ -130,6 +137,25 @@ class ActivationCodeServiceImplTest extends AbstractTest {
         Mockito.verify(codeRepository, Mockito.times(1)).save(code);
     }
 
+    @Test
+    void createCodeAndSendEmail() {
+        //given
+        Mockito.doReturn("Subject").when(messageSource).getMessage("email.course.activation-code.subject");
+        Mockito.doReturn("emailTemplate/activationCode").when(messageSource).getMessage("template.email.activation-code");
+
+        //when
+        ActivationCode code = codeService.createCodeAndSendEmail(testCourseTitle, testUser);
+
+        //then
+        Mockito.verify(codeRepository, Mockito.times(1)).save(code);
+        Mockito.verify(mailOutboxService, Mockito.times(1)).enqueue(testUser.getEmail(), "Subject Test",
+                "emailTemplate/activationCode", MailModel.builder()
+                        .name(testUser.getName())
+                        .courseTitle(testCourseTitle.getTitle())
+                        .code(code.getCode())
+                        .build());
+    }
+
     @Test
     void save_CodeExists() {
         Mockito.doReturn(true)
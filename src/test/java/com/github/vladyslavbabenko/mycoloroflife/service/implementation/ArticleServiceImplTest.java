@@ -3,8 +3,14 @@ package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
 import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
 import com.github.vladyslavbabenko.mycoloroflife.entity.Article;
 import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CursorPage;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.ArticleSummary;
+import com.github.vladyslavbabenko.mycoloroflife.enumeration.ContentType;
 import com.github.vladyslavbabenko.mycoloroflife.repository.ArticleRepository;
 import com.github.vladyslavbabenko.mycoloroflife.service.ArticleService;
+import com.github.vladyslavbabenko.mycoloroflife.service.SearchService;
+import com.github.vladyslavbabenko.mycoloroflife.service.ContentCounterService;
+import com.github.vladyslavbabenko.mycoloroflife.util.PaginationUtil;
 import org.fest.assertions.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,13 +26,17 @@ class ArticleServiceImplTest extends AbstractTest {
     private User testAuthor;
     private ArticleService articleService;
     private ArticleRepository articleRepository;
+    private ContentCounterService contentCounterService;
+    private SearchService searchService;
     private Article firstTestArticle;
 
     @BeforeEach
     void setUp() {
         //given
         articleRepository = Mockito.mock(ArticleRepository.class);
-        articleService = new ArticleServiceImpl(articleRepository);
+        contentCounterService = Mockito.mock(ContentCounterService.class);
+        searchService = Mockito.mock(SearchService.class);
+        articleService = new ArticleServiceImpl(articleRepository, contentCounterService, searchService);
         testAuthor = User.builder()
                 .id(3)
                 .name("TestAuthor")
@@ -71,6 +81,88 @@ class ArticleServiceImplTest extends AbstractTest {
         Mockito.verify(articleRepository, Mockito.times(1)).findByTitleContains(keyword);
     }
 
+    @Test
+    void shouldGetArticlesPage() {
+        //when
+        articleService.getArticlesPage(1, 6);
+
+        //then
+        Mockito.verify(articleRepository, Mockito.times(1)).findSummaries(PaginationUtil.pageRequest(1, 6));
+        Mockito.verify(contentCounterService, Mockito.times(1)).getTotal(ContentType.ARTICLE);
+        Mockito.verify(articleRepository, Mockito.times(0)).count();
+    }
+
+    @Test
+    void shouldGetArticlesAfter() {
+        //given
+        ArticleSummary summary = Mockito.mock(ArticleSummary.class);
+        Mockito.doReturn(1).when(summary).getId();
+        Mockito.doReturn(Collections.singletonList(summary))
+                .when(articleRepository)
+                .findSummariesOlderThan(5, 7);
+
+        //when
+        CursorPage<ArticleSummary> articles = articleService.getArticlesAfter(PaginationUtil.encodeCursor(5), 6);
+
+        //then
+        Mockito.verify(articleRepository, Mockito.times(1)).findSummariesOlderThan(5, 7);
+        Assertions.assertThat(articles.getContent()).containsExactly(summary);
+        Assertions.assertThat(articles.getPreviousCursor()).isEqualTo(PaginationUtil.encodeCursor(1));
+        Assertions.assertThat(articles.getNextCursor()).isNull();
+    }
+
+    @Test
+    void shouldGetNewestArticles_WithMalformedCursor() {
+        //when
+        CursorPage<ArticleSummary> articles = articleService.getArticlesAfter("malformed", 6);
+
+        //then
+        Mockito.verify(articleRepository, Mockito.times(1)).findSummariesOlderThan(Integer.MAX_VALUE, 7);
+        Assertions.assertThat(articles.getPreviousCursor()).isNull();
+    }
+
+    @Test
+    void shouldGetArticlesBefore() {
+        //given
+        ArticleSummary summary = Mockito.mock(ArticleSummary.class);
+        Mockito.doReturn(1).when(summary).getId();
+        Mockito.doReturn(Collections.singletonList(summary))
+                .when(articleRepository)
+                .findSummariesNewerThan(0, 7);
+
+        //when
+        CursorPage<ArticleSummary> articles = articleService.getArticlesBefore(PaginationUtil.encodeCursor(0), 6);
+
+        //then
+        Mockito.verify(articleRepository, Mockito.times(1)).findSummariesNewerThan(0, 7);
+        Assertions.assertThat(articles.getContent()).containsExactly(summary);
+        Assertions.assertThat(articles.getPreviousCursor()).isNull();
+        Assertions.assertThat(articles.getNextCursor()).isEqualTo(PaginationUtil.encodeCursor(1));
+    }
+
+    @Test
+    void shouldFindPageByKeyword() {
+        String keyword = "First";
+
+        //when
+        articleService.findByKeyword(keyword, 2, 6);
+
+        //then
+        Mockito.verify(articleRepository, Mockito.times(1)).findSummariesMatching("first:*", PaginationUtil.pageRequest(2, 6));
+        Mockito.verify(articleRepository, Mockito.times(1)).countMatching("first:*");
+    }
+
+    @Test
+    void shouldFindPageByKeyword_WithoutWords() {
+        //when
+        articleService.findByKeyword(" - ", 1, 6);
+
+        //then
+        Mockito.verify(articleRepository, Mockito.never()).countMatching(Mockito.anyString());
+        Mockito.verify(articleRepository, Mockito.times(1)).findSummaries(PaginationUtil.pageRequest(1, 6));
+        Mockito.verify(contentCounterService, Mockito.times(1)).getTotal(ContentType.ARTICLE);
+    }
+
     @Test
     void shouldFindArticleById() {
         //when
@@ -108,6 +200,8 @@ class ArticleServiceImplTest extends AbstractTest {
 
         //then
         Mockito.verify(articleRepository, Mockito.times(1)).save(firstTestArticle);
+        Mockito.verify(contentCounterService, Mockito.times(1)).onSaved(ContentType.ARTICLE);
+        Mockito.verify(searchService, Mockito.times(1)).indexArticle(firstTestArticle);
         Assertions.assertThat(isSaved).isTrue();
     }
 
@@ -131,20 +225,23 @@ class ArticleServiceImplTest extends AbstractTest {
         boolean isArticleDeleted = articleService.deleteArticle(firstTestArticle.getId());
 
         //then
-        Mockito.verify(articleRepository, Mockito.times(1)).existsById(firstTestArticle.getId());
-        Mockito.verify(articleRepository, Mockito.times(0)).deleteById(firstTestArticle.getId());
+        Mockito.verify(articleRepository, Mockito.times(1)).findById(firstTestArticle.getId());
+        Mockito.verify(articleRepository, Mockito.times(0)).delete(firstTestArticle);
+        Mockito.verify(contentCounterService, Mockito.times(0)).onDeleted(ContentType.ARTICLE);
         Assertions.assertThat(isArticleDeleted).isFalse();
     }
 
     @Test
     void shouldDeleteArticle() {
         //when
-        Mockito.doReturn(true).when(articleRepository).existsById(firstTestArticle.getId());
+        Mockito.doReturn(Optional.of(firstTestArticle)).when(articleRepository).findById(firstTestArticle.getId());
         boolean isArticleDeleted = articleService.deleteArticle(firstTestArticle.getId());
 
         //then
-        Mockito.verify(articleRepository, Mockito.times(1)).existsById(firstTestArticle.getId());
-        Mockito.verify(articleRepository, Mockito.times(1)).deleteById(firstTestArticle.getId());
+        Mockito.verify(articleRepository, Mockito.times(1)).findById(firstTestArticle.getId());
+        Mockito.verify(articleRepository, Mockito.times(1)).delete(firstTestArticle);
+        Mockito.verify(contentCounterService, Mockito.times(1)).onDeleted(ContentType.ARTICLE);
+        Mockito.verify(searchService, Mockito.times(1)).removeArticle(firstTestArticle.getId());
         Assertions.assertThat(isArticleDeleted).isTrue();
     }
 
@@ -156,6 +253,7 @@ class ArticleServiceImplTest extends AbstractTest {
 
         //then
         Mockito.verify(articleRepository, Mockito.times(1)).save(firstTestArticle);
+        Mockito.verify(searchService, Mockito.times(1)).indexArticle(firstTestArticle);
         Assertions.assertThat(isArticleUpdated).isTrue();
     }
 
@@ -0,0 +1,129 @@
+package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.AuthorSummary;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.Authorship;
+import com.github.vladyslavbabenko.mycoloroflife.enumeration.ContentType;
+import com.github.vladyslavbabenko.mycoloroflife.repository.ArticleRepository;
+import com.github.vladyslavbabenko.mycoloroflife.repository.EventRepository;
+import com.github.vladyslavbabenko.mycoloroflife.repository.UserRepository;
+import com.github.vladyslavbabenko.mycoloroflife.service.AuthorService;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Unit-level testing for AuthorService")
+class AuthorServiceImplTest extends AbstractTest {
+
+    private AuthorService authorService;
+    private ArticleRepository articleRepository;
+    private EventRepository eventRepository;
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        //given
+        articleRepository = Mockito.mock(ArticleRepository.class);
+        eventRepository = Mockito.mock(EventRepository.class);
+        userRepository = Mockito.mock(UserRepository.class);
+
+        authorService = new AuthorServiceImpl(articleRepository, eventRepository, userRepository);
+
+        Mockito.doReturn(List.of(authorship(1, 3), authorship(1, 2), authorship(2, 3)))
+                .when(articleRepository).findAuthorships(Set.of(1, 2));
+        Mockito.doReturn(List.of(new AuthorSummary(2, "TestAdmin"), new AuthorSummary(3, "TestAuthor")))
+                .when(userRepository).findAuthorSummaries(Set.of(2, 3));
+    }
+
+    @Test
+    void isAuthorServiceImplTestReady() {
+        Assertions.assertThat(articleRepository).isNotNull().isInstanceOf(ArticleRepository.class);
+        Assertions.assertThat(eventRepository).isNotNull().isInstanceOf(EventRepository.class);
+        Assertions.assertThat(userRepository).isNotNull().isInstanceOf(UserRepository.class);
+        Assertions.assertThat(authorService).isNotNull().isInstanceOf(AuthorService.class);
+    }
+
+    @Test
+    void getAuthors_ForPage() {
+        //when
+        Map<Integer, List<AuthorSummary>> authors = authorService.getAuthors(ContentType.ARTICLE, Set.of(1, 2));
+
+        //then
+        Assertions.assertThat(authors.get(1)).containsExactly(new AuthorSummary(2, "TestAdmin"), new AuthorSummary(3, "TestAuthor"));
+        Assertions.assertThat(authors.get(2)).containsExactly(new AuthorSummary(3, "TestAuthor"));
+        Mockito.verify(articleRepository, Mockito.times(1)).findAuthorships(Set.of(1, 2));
+        Mockito.verify(userRepository, Mockito.times(1)).findAuthorSummaries(Set.of(2, 3));
+    }
+
+    @Test
+    void getAuthors_NamesAreCached() {
+        //given
+        authorService.getAuthors(ContentType.ARTICLE, Set.of(1, 2));
+
+        //when
+        authorService.getAuthors(ContentType.ARTICLE, Set.of(1, 2));
+
+        //then
+        Mockito.verify(articleRepository, Mockito.times(2)).findAuthorships(Set.of(1, 2));
+        Mockito.verify(userRepository, Mockito.times(1)).findAuthorSummaries(Mockito.anyCollection());
+    }
+
+    @Test
+    void evict() {
+        //given
+        authorService.getAuthors(ContentType.ARTICLE, Set.of(1, 2));
+        Mockito.doReturn(List.of(new AuthorSummary(3, "TestAuthor"))).when(userRepository).findAuthorSummaries(Set.of(3));
+
+        //when
+        authorService.evict(3);
+        authorService.getAuthors(ContentType.ARTICLE, Set.of(1, 2));
+
+        //then
+        Mockito.verify(userRepository, Mockito.times(1)).findAuthorSummaries(Set.of(3));
+    }
+
+    @Test
+    void getAuthors_WithoutAuthors() {
+        Assertions.assertThat(authorService.getAuthors(ContentType.EVENT, 1)).isEmpty();
+        Assertions.assertThat(authorService.getAuthors(ContentType.EVENT, Set.of())).isEmpty();
+        Mockito.verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void isAuthor() {
+        //given
+        Mockito.doReturn(List.of(authorship(1, 3))).when(eventRepository).findAuthorships(List.of(1));
+
+        //then
+        Assertions.assertThat(authorService.isAuthor(ContentType.EVENT, 1, 3)).isTrue();
+        Assertions.assertThat(authorService.isAuthor(ContentType.EVENT, 1, 2)).isFalse();
+        Assertions.assertThat(authorService.isAuthor(ContentType.EVENT, 1, null)).isFalse();
+    }
+
+    @Test
+    void getAuthors_OfCourseTitle() {
+        assertThrows(IllegalArgumentException.class, () -> authorService.getAuthors(ContentType.COURSE_TITLE, 1));
+    }
+
+    private Authorship authorship(Integer contentId, Integer authorId) {
+        return new Authorship() {
+            @Override
+            public Integer getContentId() {
+                return contentId;
+            }
+
+            @Override
+            public Integer getAuthorId() {
+                return authorId;
+            }
+        };
+    }
+}
@@ -43,13 +43,13 @@ class BruteForceProtectionServiceImplTest extends AbstractTest {
     @Test
     void registerLoginFailure() {
         //given
-        Mockito.doReturn(expectedUser).when(userService).loadUserByUsername(expectedUser.getUsername());
+        Mockito.doReturn(expectedUser).when(userService).getUserByUsername(expectedUser.getUsername());
 
         //when
         bruteForceProtectionService.registerLoginFailure(expectedUser.getUsername());
 
         //then
-        Mockito.verify(userService, Mockito.times(1)).loadUserByUsername(expectedUser.getUsername());
+        Mockito.verify(userService, Mockito.times(1)).getUserByUsername(expectedUser.getUsername());
         Mockito.verify(userService, Mockito.times(1)).updateUser(expectedUser);
     }
 
@@ -57,7 +57,7 @@ class BruteForceProtectionServiceImplTest extends AbstractTest {
     void resetBruteForceCounter_When_CounterIsZero() {
         //given
         expectedUser.setFailedLoginAttempt(0);
-        Mockito.doReturn(expectedUser).when(userService).loadUserByUsername(expectedUser.getUsername());
+        Mockito.doReturn(expectedUser).when(userService).getUserByUsername(expectedUser.getUsername());
 
         //when
         bruteForceProtectionService.resetBruteForceCounter(expectedUser.getUsername());
@@ -69,7 +69,7 @@ class BruteForceProtectionServiceImplTest extends AbstractTest {
     @Test
     void resetBruteForceCounter() {
         //given
-        Mockito.doReturn(expectedUser).when(userService).loadUserByUsername(expectedUser.getUsername());
+        Mockito.doReturn(expectedUser).when(userService).getUserByUsername(expectedUser.getUsername());
 
         //when
         bruteForceProtectionService.resetBruteForceCounter(expectedUser.getUsername());
@@ -81,7 +81,7 @@ class BruteForceProtectionServiceImplTest extends AbstractTest {
     @Test
     void isBruteForceAttackTrue() {
         //given
-        Mockito.doReturn(expectedUser).when(userService).loadUserByUsername(expectedUser.getUsername());
+        Mockito.doReturn(expectedUser).when(userService).getUserByUsername(expectedUser.getUsername());
 
         //when
         boolean isAttack = bruteForceProtectionService.isBruteForceAttack(expectedUser.getUsername());
@@ -93,7 +93,7 @@ class BruteForceProtectionServiceImplTest extends AbstractTest {
     @Test
     void isBruteForceAttackFalse() {
         //given
-        Mockito.doReturn(null).when(userService).loadUserByUsername(expectedUser.getUsername());
+        Mockito.doReturn(null).when(userService).getUserByUsername(expectedUser.getUsername());
 
         //when
         boolean isAttack = bruteForceProtectionService.isBruteForceAttack(expectedUser.getUsername());
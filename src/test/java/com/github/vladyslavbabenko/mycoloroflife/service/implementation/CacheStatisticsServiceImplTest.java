@@ -0,0 +1,65 @@
+package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import com.github.vladyslavbabenko.mycoloroflife.entity.Role;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CacheStatistics;
+import com.github.vladyslavbabenko.mycoloroflife.repository.RoleRepository;
+import com.github.vladyslavbabenko.mycoloroflife.service.CacheStatisticsService;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+
+@DisplayName("Integration testing for CacheStatisticsService")
+@Sql(value = {"/create-test-values.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class CacheStatisticsServiceImplTest extends AbstractTest {
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Test
+    void getStatistics_CountsHits() {
+        //given
+        cacheStatisticsService.evictAll();
+        long hitsBefore = roleStatistics().getHitCount();
+
+        //when
+        roleRepository.findByRoleName("ROLE_USER");
+        roleRepository.findByRoleName("ROLE_USER");
+        CacheStatistics statistics = roleStatistics();
+
+        //then
+        Assertions.assertThat(statistics.getHitCount()).isGreaterThan(hitsBefore);
+        Assertions.assertThat(statistics.getElementCount()).isGreaterThan(0);
+        Assertions.assertThat(statistics.getHitRatio()).isGreaterThan(0);
+    }
+
+    @Test
+    void evictAll() {
+        //given
+        roleRepository.findByRoleName("ROLE_USER");
+
+        //when
+        cacheStatisticsService.evictAll();
+
+        //then
+        Assertions.assertThat(roleStatistics().getElementCount()).isZero();
+    }
+
+    private CacheStatistics roleStatistics() {
+        List<CacheStatistics> statistics = cacheStatisticsService.getStatistics();
+
+        Assertions.assertThat(statistics).hasSize(4);
+
+        return statistics.stream()
+                .filter(regionStatistics -> regionStatistics.getRegion().equals(Role.CACHE_REGION))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import com.github.vladyslavbabenko.mycoloroflife.enumeration.ContentType;
+import com.github.vladyslavbabenko.mycoloroflife.repository.ArticleRepository;
+import com.github.vladyslavbabenko.mycoloroflife.repository.CourseTitleRepository;
+import com.github.vladyslavbabenko.mycoloroflife.repository.EventRepository;
+import com.github.vladyslavbabenko.mycoloroflife.service.ContentCounterService;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+@DisplayName("Unit-level testing for ContentCounterService")
+class ContentCounterServiceImplTest extends AbstractTest {
+
+    private ContentCounterService contentCounterService;
+    private ArticleRepository articleRepository;
+    private EventRepository eventRepository;
+    private CourseTitleRepository courseTitleRepository;
+
+    @BeforeEach
+    void setUp() {
+        //given
+        articleRepository = Mockito.mock(ArticleRepository.class);
+        eventRepository = Mockito.mock(EventRepository.class);
+        courseTitleRepository = Mockito.mock(CourseTitleRepository.class);
+
+        contentCounterService = new ContentCounterServiceImpl(articleRepository, eventRepository, courseTitleRepository);
+    }
+
+    @Test
+    void isContentCounterServiceImplTestReady() {
+        Assertions.assertThat(articleRepository).isNotNull().isInstanceOf(ArticleRepository.class);
+        Assertions.assertThat(eventRepository).isNotNull().isInstanceOf(EventRepository.class);
+        Assertions.assertThat(courseTitleRepository).isNotNull().isInstanceOf(CourseTitleRepository.class);
+        Assertions.assertThat(contentCounterService).isNotNull().isInstanceOf(ContentCounterService.class);
+    }
+
+    @Test
+    void getTotal_CountsInDatabaseOnlyOnce() {
+        //given
+        Mockito.doReturn(10L).when(articleRepository).count();
+
+        //when
+        contentCounterService.getTotal(ContentType.ARTICLE);
+        long total = contentCounterService.getTotal(ContentType.ARTICLE);
+
+        //then
+        Mockito.verify(articleRepository, Mockito.times(1)).count();
+        Assertions.assertThat(total).isEqualTo(10);
+    }
+
+    @Test
+    void getTotal_FollowsSavesAndDeletes() {
+        //given
+        Mockito.doReturn(10L).when(eventRepository).count();
+        contentCounterService.getTotal(ContentType.EVENT);
+
+        //when
+        contentCounterService.onSaved(ContentType.EVENT);
+        contentCounterService.onSaved(ContentType.EVENT);
+        contentCounterService.onDeleted(ContentType.EVENT);
+
+        //then
+        Assertions.assertThat(contentCounterService.getTotal(ContentType.EVENT)).isEqualTo(11);
+        Assertions.assertThat(contentCounterService.getTotal(ContentType.ARTICLE)).isEqualTo(0);
+        Mockito.verify(eventRepository, Mockito.times(1)).count();
+    }
+
+    @Test
+    void reconcile() {
+        //given
+        Mockito.doReturn(10L).when(articleRepository).count();
+        contentCounterService.getTotal(ContentType.ARTICLE);
+        contentCounterService.onSaved(ContentType.ARTICLE);
+        Mockito.doReturn(12L).when(articleRepository).count();
+
+        //when
+        contentCounterService.reconcile();
+
+        //then
+        Assertions.assertThat(contentCounterService.getTotal(ContentType.ARTICLE)).isEqualTo(12);
+        Mockito.verify(eventRepository, Mockito.times(1)).count();
+        Mockito.verify(courseTitleRepository, Mockito.times(1)).count();
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
+import com.github.vladyslavbabenko.mycoloroflife.repository.CourseRepository;
+import com.github.vladyslavbabenko.mycoloroflife.repository.CourseTitleRepository;
+import com.github.vladyslavbabenko.mycoloroflife.service.CourseCatalogService;
+import com.github.vladyslavbabenko.mycoloroflife.util.CourseCatalog;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+
+@DisplayName("Unit-level testing for CourseCatalogService")
+class CourseCatalogServiceImplTest extends AbstractTest {
+
+    private CourseRepository courseRepository;
+    private CourseTitleRepository courseTitleRepository;
+    private CourseCatalogService courseCatalogService;
+    private CourseTitle testCourseTitle;
+
+    @BeforeEach
+    void setUp() {
+        //given
+        courseRepository = Mockito.mock(CourseRepository.class);
+        courseTitleRepository = Mockito.mock(CourseTitleRepository.class);
+        courseCatalogService = new CourseCatalogServiceImpl(courseRepository, courseTitleRepository);
+
+        testCourseTitle = CourseTitle.builder().id(1).title("Test").description("Test description").build();
+    }
+
+    @Test
+    void findByTitle_WithoutDatabaseAfterFirstUse() {
+        //given
+        Mockito.doReturn(List.of(testCourseTitle)).when(courseTitleRepository).findAll();
+
+        //when
+        Optional<CourseCatalog.TableOfContents> first = courseCatalogService.findByTitle("Test");
+        Optional<CourseCatalog.TableOfContents> second = courseCatalogService.findByTitle("Test");
+
+        //then
+        Mockito.verify(courseTitleRepository, Mockito.times(1)).findAll();
+        Mockito.verify(courseRepository, Mockito.times(1)).findAllCatalogPages();
+        Mockito.verify(courseTitleRepository, Mockito.times(0)).findByTitle(Mockito.anyString());
+        Assertions.assertThat(first.get().getCourseTitle().getTitle()).isEqualTo("Test");
+        Assertions.assertThat(second.get().getCourseTitle().getTitle()).isEqualTo("Test");
+    }
+
+    @Test
+    void findByTitle_MissingCourse_IsLoaded() {
+        //given
+        Mockito.doReturn(Optional.of(testCourseTitle)).when(courseTitleRepository).findByTitle("Test");
+
+        //when
+        Optional<CourseCatalog.TableOfContents> first = courseCatalogService.findByTitle("Test");
+        Optional<CourseCatalog.TableOfContents> second = courseCatalogService.findByTitle("Test");
+
+        //then
+        Mockito.verify(courseTitleRepository, Mockito.times(1)).findByTitle("Test");
+        Mockito.verify(courseRepository, Mockito.times(1)).findAllCatalogPagesByCourseTitleId(testCourseTitle.getId());
+        Assertions.assertThat(first.isPresent()).isTrue();
+        Assertions.assertThat(second.isPresent()).isTrue();
+    }
+
+    @Test
+    void findByTitle_NoSuchCourse() {
+        //when
+        Optional<CourseCatalog.TableOfContents> tableOfContents = courseCatalogService.findByTitle("Test");
+
+        //then
+        Mockito.verify(courseTitleRepository, Mockito.times(1)).findByTitle("Test");
+        Assertions.assertThat(tableOfContents.isPresent()).isFalse();
+    }
+
+    @Test
+    void onChanged_RebuildsCatalog() {
+        //given
+        courseCatalogService.findByTitle("Test");
+        Mockito.doReturn(List.of(testCourseTitle)).when(courseTitleRepository).findAll();
+
+        //when
+        courseCatalogService.onChanged();
+
+        //then
+        Mockito.verify(courseTitleRepository, Mockito.times(2)).findAll();
+        Assertions.assertThat(courseCatalogService.findByTitle("Test").isPresent()).isTrue();
+        Mockito.verify(courseTitleRepository, Mockito.times(1)).findByTitle("Test");
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CoursePage;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.UserPrincipal;
+import com.github.vladyslavbabenko.mycoloroflife.service.CoursePageResolver;
+import org.fest.assertions.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.jdbc.Sql;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Optional;
+
+@DisplayName("Integration testing for CoursePageResolver")
+@Sql(value = {"/create-test-values.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class CoursePageResolverImplTest extends AbstractTest {
+
+    @Autowired
+    private CoursePageResolver coursePageResolver;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        //given
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void resolve_AsCourseOwner_InOneQuery() {
+        //given
+        authenticate(1);
+
+        //when
+        Optional<CoursePage> coursePage = coursePageResolver.resolve("Test", 2);
+
+        //then
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        Assertions.assertThat(coursePage.isPresent()).isTrue();
+        Assertions.assertThat(coursePage.get().isEntitled()).isTrue();
+        Assertions.assertThat(coursePage.get().getCourseTitle().getTitle()).isEqualTo("Test");
+        Assertions.assertThat(coursePage.get().getCourseTitle().getDescription()).isEqualTo("Test description");
+        Assertions.assertThat(coursePage.get().getCourse().getId()).isEqualTo(2);
+        Assertions.assertThat(coursePage.get().getCourse().getPage()).isEqualTo(2);
+        Assertions.assertThat(coursePage.get().getCourse().getVideoTitle()).isEqualTo("Test Video Title 2");
+        Assertions.assertThat(coursePage.get().getCourse().getText()).isEqualTo("Test Text 2");
+        Assertions.assertThat(coursePage.get().getLastVisitedPage()).isEqualTo(2);
+        Assertions.assertThat(coursePage.get().getLastCoursePage()).isEqualTo(5);
+    }
+
+    @Test
+    void resolve_NotCourseOwner_InOneQuery() {
+        //given
+        authenticate(3);
+
+        //when
+        Optional<CoursePage> coursePage = coursePageResolver.resolve("Test", 1);
+
+        //then
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        Assertions.assertThat(coursePage.get().isEntitled()).isFalse();
+        Assertions.assertThat(coursePage.get().getLastVisitedPage()).isEqualTo(-1);
+        Assertions.assertThat(coursePage.get().getLastCoursePage()).isEqualTo(5);
+    }
+
+    @Test
+    void resolve_NoSuchPage_InOneQuery() {
+        //given
+        authenticate(1);
+
+        //when
+        Optional<CoursePage> coursePage = coursePageResolver.resolve("Test", 100);
+
+        //then
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        Assertions.assertThat(coursePage.get().isEntitled()).isTrue();
+        Assertions.assertThat(coursePage.get().getCourse()).isNull();
+        Assertions.assertThat(coursePage.get().getLastCoursePage()).isEqualTo(5);
+    }
+
+    @Test
+    void resolve_NoSuchCourse_InOneQuery() {
+        //given
+        authenticate(1);
+
+        //when
+        Optional<CoursePage> coursePage = coursePageResolver.resolve("No such course", 1);
+
+        //then
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        Assertions.assertThat(coursePage.isPresent()).isFalse();
+    }
+
+    private void authenticate(int userId) {
+        UserPrincipal principal = UserPrincipal.builder().id(userId).email("test@mail.com").authorityNames(List.of("ROLE_USER")).build();
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+    }
+}
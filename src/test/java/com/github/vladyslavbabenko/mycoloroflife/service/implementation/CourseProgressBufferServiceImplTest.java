@@ -0,0 +1,101 @@
+package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CourseProgressBufferStatistics;
+import com.github.vladyslavbabenko.mycoloroflife.repository.CourseProgressRepository;
+import com.github.vladyslavbabenko.mycoloroflife.service.CourseProgressBufferService;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+@DisplayName("Integration testing for CourseProgressBufferService")
+@Sql(value = {"/create-test-values.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class CourseProgressBufferServiceImplTest extends AbstractTest {
+
+    private CourseProgressBufferService courseProgressBufferService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CourseProgressRepository courseProgressRepository;
+
+    @BeforeEach
+    void setUp() {
+        //given
+        courseProgressBufferService = new CourseProgressBufferServiceImpl(jdbcTemplate, true, 1);
+    }
+
+    @Test
+    void flush_WritesMergedUpdatesInBatches() {
+        //given
+        courseProgressBufferService.record(1, 1, 3);
+        courseProgressBufferService.record(1, 1, 4);
+        courseProgressBufferService.record(2, 1, 3);
+
+        //when
+        int flushed = courseProgressBufferService.flush();
+
+        //then
+        Assertions.assertThat(flushed).isEqualTo(2);
+        Assertions.assertThat(courseProgressRepository.findLastPage(1, 1).get()).isEqualTo(4);
+        Assertions.assertThat(courseProgressRepository.findLastPage(2, 1).get()).isEqualTo(3);
+        Assertions.assertThat(courseProgressBufferService.findLastPage(1, 1).isPresent()).isFalse();
+    }
+
+    @Test
+    void findLastPage_BeforeFlush() {
+        //when
+        courseProgressBufferService.record(1, 1, 3);
+
+        //then
+        Assertions.assertThat(courseProgressBufferService.findLastPage(1, 1).getAsInt()).isEqualTo(3);
+        Assertions.assertThat(courseProgressBufferService.findLastPage(null, 1).isPresent()).isFalse();
+        Assertions.assertThat(courseProgressRepository.findLastPage(1, 1).get()).isEqualTo(2);
+    }
+
+    @Test
+    void flush_OnlyMovesForward() {
+        //given
+        courseProgressBufferService.record(1, 1, 1);
+
+        //when
+        courseProgressBufferService.flush();
+
+        //then
+        Assertions.assertThat(courseProgressRepository.findLastPage(1, 1).get()).isEqualTo(2);
+    }
+
+    @Test
+    void flush_EmptyBuffer() {
+        Assertions.assertThat(courseProgressBufferService.flush()).isEqualTo(0);
+        Assertions.assertThat(courseProgressBufferService.getStatistics().getFlushCount()).isEqualTo(0);
+    }
+
+    @Test
+    void getStatistics() {
+        //given
+        courseProgressBufferService.record(1, 1, 3);
+        courseProgressBufferService.record(1, 1, 4);
+
+        //when
+        CourseProgressBufferStatistics beforeFlush = courseProgressBufferService.getStatistics();
+        courseProgressBufferService.flush();
+        CourseProgressBufferStatistics afterFlush = courseProgressBufferService.getStatistics();
+
+        //then
+        Assertions.assertThat(beforeFlush.isEnabled()).isTrue();
+        Assertions.assertThat(beforeFlush.getDepth()).isEqualTo(1);
+        Assertions.assertThat(beforeFlush.getRecordedCount()).isEqualTo(2);
+        Assertions.assertThat(beforeFlush.getMergedCount()).isEqualTo(1);
+        Assertions.assertThat(beforeFlush.getMergeRatio()).isEqualTo(0.5);
+        Assertions.assertThat(afterFlush.getDepth()).isEqualTo(0);
+        Assertions.assertThat(afterFlush.getFlushCount()).isEqualTo(1);
+        Assertions.assertThat(afterFlush.getFlushedCount()).isEqualTo(1);
+        Assertions.assertThat(afterFlush.getAverageFlushMillis()).isGreaterThan(0);
+    }
+}
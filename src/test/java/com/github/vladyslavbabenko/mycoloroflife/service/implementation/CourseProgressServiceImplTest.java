@@ -4,7 +4,10 @@ import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
 import com.github.vladyslavbabenko.mycoloroflife.entity.*;
 import com.github.vladyslavbabenko.mycoloroflife.enumeration.UserRegistrationType;
 import com.github.vladyslavbabenko.mycoloroflife.repository.CourseProgressRepository;
+import com.github.vladyslavbabenko.mycoloroflife.service.CourseProgressBufferService;
 import com.github.vladyslavbabenko.mycoloroflife.service.CourseProgressService;
+import com.github.vladyslavbabenko.mycoloroflife.service.RoleService;
+import com.github.vladyslavbabenko.mycoloroflife.util.MessageSourceUtil;
 import org.fest.assertions.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +17,7 @@ import org.mockito.Mockito;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
 
 @DisplayName("Unit-level testing for CourseProgressService")
@@ -21,6 +25,9 @@ class CourseProgressServiceImplTest extends AbstractTest {
 
     private CourseProgressRepository courseProgressRepository;
     private CourseProgressService courseProgressService;
+    private RoleService roleService;
+    private MessageSourceUtil messageSource;
+    private CourseProgressBufferService courseProgressBufferService;
 
     private User testUser;
     private Role testRole;
@@ -32,7 +39,11 @@ class CourseProgressServiceImplTest extends AbstractTest {
     void setUp() {
         //given
         courseProgressRepository = Mockito.mock(CourseProgressRepository.class);
-        courseProgressService = new CourseProgressServiceImpl(courseProgressRepository);
+        roleService = Mockito.mock(RoleService.class);
+        messageSource = Mockito.mock(MessageSourceUtil.class);
+        courseProgressBufferService = Mockito.mock(CourseProgressBufferService.class);
+        Mockito.doReturn(OptionalInt.empty()).when(courseProgressBufferService).findLastPage(Mockito.any(), Mockito.any());
+        courseProgressService = new CourseProgressServiceImpl(courseProgressRepository, roleService, messageSource, courseProgressBufferService);
 
         Set<Role> roles = new HashSet<>();
         roles.add(testRole);
@@ -49,7 +60,7 @@ class CourseProgressServiceImplTest extends AbstractTest {
         testRole = Role.builder().id(1).roleName("ROLE_USER").build();
         testCourseTitle = CourseTitle.builder().id(1).title("test").build();
         testCourse = Course.builder().id(1).courseTitle(testCourseTitle).text("test text").build();
-        testCourseProgress = CourseProgress.builder().id(1).course(testCourse).user(testUser).build();
+        testCourseProgress = CourseProgress.builder().id(1).courseTitle(testCourseTitle).user(testUser).lastPage(2).build();
     }
 
     @Test
@@ -86,21 +97,21 @@ class CourseProgressServiceImplTest extends AbstractTest {
     }
 
     @Test
-    void findByUserAndCourse() {
+    void findByUserAndCourseTitle() {
         //when
-        courseProgressService.findByUserAndCourse(testUser, testCourse);
+        courseProgressService.findByUserAndCourseTitle(testUser, testCourseTitle);
 
         //then
-        Mockito.verify(courseProgressRepository, Mockito.times(1)).findByUserAndCourse(testUser, testCourse);
+        Mockito.verify(courseProgressRepository, Mockito.times(1)).findByUserAndCourseTitle(testUser, testCourseTitle);
     }
 
     @Test
-    void existsByUserAndCourse() {
+    void existsByUserAndCourseTitle() {
         //when
-        courseProgressService.existsByUserAndCourse(testUser, testCourse);
+        courseProgressService.existsByUserAndCourseTitle(testUser, testCourseTitle);
 
         //then
-        Mockito.verify(courseProgressRepository, Mockito.times(1)).existsByUserAndCourse(testUser, testCourse);
+        Mockito.verify(courseProgressRepository, Mockito.times(1)).existsByUserAndCourseTitle(testUser, testCourseTitle);
     }
 
     @Test
@@ -113,15 +124,62 @@ class CourseProgressServiceImplTest extends AbstractTest {
     }
 
     @Test
-    void save_Failure_ExistsByUserAndCourse_True() {
+    void getLastPage() {
         //given
-        Mockito.doReturn(true).when(courseProgressRepository).existsByUserAndCourse(testCourseProgress.getUser(), testCourseProgress.getCourse());
+        Mockito.doReturn(Optional.of(2)).when(courseProgressRepository).findLastPage(testUser.getId(), testCourseTitle.getId());
+
+        //when
+        int lastPage = courseProgressService.getLastPage(testUser.getId(), testCourseTitle.getId());
+
+        //then
+        Assertions.assertThat(lastPage).isEqualTo(2);
+    }
+
+    @Test
+    void getLastPage_FromBuffer() {
+        //given
+        Mockito.doReturn(OptionalInt.of(3)).when(courseProgressBufferService).findLastPage(testUser.getId(), testCourseTitle.getId());
+
+        //when
+        int lastPage = courseProgressService.getLastPage(testUser.getId(), testCourseTitle.getId());
+
+        //then
+        Mockito.verifyNoInteractions(courseProgressRepository);
+        Assertions.assertThat(lastPage).isEqualTo(3);
+    }
+
+    @Test
+    void getLastPage_WithoutProgress() {
+        //given
+        Mockito.doReturn(Optional.empty()).when(courseProgressRepository).findLastPage(testUser.getId(), testCourseTitle.getId());
+
+        //when
+        int lastPage = courseProgressService.getLastPage(testUser.getId(), testCourseTitle.getId());
+
+        //then
+        Assertions.assertThat(lastPage).isEqualTo(-1);
+    }
+
+    @Test
+    void getLastPage_AsAnonymousUser() {
+        //when
+        int lastPage = courseProgressService.getLastPage(null, testCourseTitle.getId());
+
+        //then
+        Mockito.verifyNoInteractions(courseProgressRepository);
+        Assertions.assertThat(lastPage).isEqualTo(-1);
+    }
+
+    @Test
+    void save_Failure_AlreadyOnPage() {
+        //given
+        Mockito.doReturn(0).when(courseProgressRepository).upsertLastPage(testUser.getId(), testCourseTitle.getId(), 2);
 
         //when
         boolean saved = courseProgressService.save(testCourseProgress);
 
         //then
-        Mockito.verify(courseProgressRepository, Mockito.times(1)).existsByUserAndCourse(testCourseProgress.getUser(), testCourseProgress.getCourse());
+        Mockito.verify(courseProgressRepository, Mockito.times(1)).upsertLastPage(testUser.getId(), testCourseTitle.getId(), 2);
         Mockito.verify(courseProgressRepository, Mockito.times(0)).save(testCourseProgress);
         Assertions.assertThat(saved).isFalse();
     }
@@ -129,14 +187,27 @@ class CourseProgressServiceImplTest extends AbstractTest {
     @Test
     void save_Success() {
         //given
-        Mockito.doReturn(false).when(courseProgressRepository).existsByUserAndCourse(testCourseProgress.getUser(), testCourseProgress.getCourse());
+        Mockito.doReturn(1).when(courseProgressRepository).upsertLastPage(testUser.getId(), testCourseTitle.getId(), 2);
+
+        //when
+        boolean saved = courseProgressService.save(testCourseProgress);
+
+        //then
+        Mockito.verify(courseProgressRepository, Mockito.times(1)).upsertLastPage(testUser.getId(), testCourseTitle.getId(), 2);
+        Assertions.assertThat(saved).isTrue();
+    }
+
+    @Test
+    void save_WithoutLastPage_StartsOnFirstPage() {
+        //given
+        testCourseProgress.setLastPage(null);
+        Mockito.doReturn(1).when(courseProgressRepository).upsertLastPage(testUser.getId(), testCourseTitle.getId(), 1);
 
         //when
         boolean saved = courseProgressService.save(testCourseProgress);
 
         //then
-        Mockito.verify(courseProgressRepository, Mockito.times(1)).existsByUserAndCourse(testCourseProgress.getUser(), testCourseProgress.getCourse());
-        Mockito.verify(courseProgressRepository, Mockito.times(1)).save(testCourseProgress);
+        Mockito.verify(courseProgressRepository, Mockito.times(1)).upsertLastPage(testUser.getId(), testCourseTitle.getId(), 1);
         Assertions.assertThat(saved).isTrue();
     }
 
@@ -169,30 +240,110 @@ class CourseProgressServiceImplTest extends AbstractTest {
     }
 
     @Test
-    void update_Failure_FindById_IsEmpty() {
+    void advance_Success() {
         //given
-        Mockito.doReturn(Optional.empty()).when(courseProgressRepository).findById(testCourseProgress.getId());
+        Mockito.doReturn("ROLE_COURSE_OWNER_").when(messageSource).getMessage("role.course.owner");
+        Mockito.doReturn("TEST").when(roleService).convertToRoleStyle(testCourseTitle.getTitle());
+        Mockito.doReturn(1).when(courseProgressRepository).advance(testUser.getId(), testCourseTitle.getId(), "ROLE_COURSE_OWNER_TEST", 2, 3);
 
         //when
-        boolean updated = courseProgressService.update(testCourseProgress);
+        boolean advanced = courseProgressService.advance(testUser.getId(), testCourseTitle, 2, 3);
 
         //then
-        Mockito.verify(courseProgressRepository, Mockito.times(1)).findById(testCourseProgress.getId());
-        Mockito.verify(courseProgressRepository, Mockito.times(0)).save(testCourseProgress);
-        Assertions.assertThat(updated).isFalse();
+        Mockito.verify(courseProgressRepository, Mockito.times(1)).advance(testUser.getId(), testCourseTitle.getId(), "ROLE_COURSE_OWNER_TEST", 2, 3);
+        Assertions.assertThat(advanced).isTrue();
+    }
+
+    @Test
+    void advance_Failure_NotMoved() {
+        //given
+        Mockito.doReturn("ROLE_COURSE_OWNER_").when(messageSource).getMessage("role.course.owner");
+        Mockito.doReturn("TEST").when(roleService).convertToRoleStyle(testCourseTitle.getTitle());
+        Mockito.doReturn(0).when(courseProgressRepository).advance(testUser.getId(), testCourseTitle.getId(), "ROLE_COURSE_OWNER_TEST", 2, 3);
+
+        //when
+        boolean advanced = courseProgressService.advance(testUser.getId(), testCourseTitle, 2, 3);
+
+        //then
+        Assertions.assertThat(advanced).isFalse();
+    }
+
+    @Test
+    void advance_Failure_AsAnonymousUser() {
+        //when
+        boolean advanced = courseProgressService.advance(null, testCourseTitle, 2, 3);
+
+        //then
+        Mockito.verifyNoInteractions(courseProgressRepository);
+        Assertions.assertThat(advanced).isFalse();
+    }
+
+    @Test
+    void advance_WriteBehind_Buffered() {
+        //given
+        Mockito.doReturn(true).when(courseProgressBufferService).isEnabled();
+        Mockito.doReturn(Optional.of(2)).when(courseProgressRepository).findLastPage(testUser.getId(), testCourseTitle.getId());
+        Mockito.doReturn("ROLE_COURSE_OWNER_").when(messageSource).getMessage("role.course.owner");
+        Mockito.doReturn("TEST").when(roleService).convertToRoleStyle(testCourseTitle.getTitle());
+        Mockito.doReturn(true).when(roleService).isGranted(testUser.getId(), "ROLE_COURSE_OWNER_TEST");
+
+        //when
+        boolean advanced = courseProgressService.advance(testUser.getId(), testCourseTitle, 2, 3);
+
+        //then
+        Mockito.verify(courseProgressBufferService, Mockito.times(1)).record(testUser.getId(), testCourseTitle.getId(), 3);
+        Mockito.verify(courseProgressRepository, Mockito.times(0))
+                .advance(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.anyInt());
+        Assertions.assertThat(advanced).isTrue();
+    }
+
+    @Test
+    void advance_WriteBehind_Failure_RoleRevoked() {
+        //given
+        Mockito.doReturn(true).when(courseProgressBufferService).isEnabled();
+        Mockito.doReturn(Optional.of(2)).when(courseProgressRepository).findLastPage(testUser.getId(), testCourseTitle.getId());
+        Mockito.doReturn("ROLE_COURSE_OWNER_").when(messageSource).getMessage("role.course.owner");
+        Mockito.doReturn("TEST").when(roleService).convertToRoleStyle(testCourseTitle.getTitle());
+        Mockito.doReturn(false).when(roleService).isGranted(testUser.getId(), "ROLE_COURSE_OWNER_TEST");
+
+        //when
+        boolean advanced = courseProgressService.advance(testUser.getId(), testCourseTitle, 2, 3);
+
+        //then
+        Mockito.verify(courseProgressBufferService, Mockito.times(0)).record(Mockito.any(), Mockito.any(), Mockito.anyInt());
+        Mockito.verify(courseProgressRepository, Mockito.times(0))
+                .advance(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.anyInt());
+        Assertions.assertThat(advanced).isFalse();
+    }
+
+    @Test
+    void advance_WriteBehind_Failure_PageNotReached() {
+        //given
+        Mockito.doReturn(true).when(courseProgressBufferService).isEnabled();
+        Mockito.doReturn(OptionalInt.of(2)).when(courseProgressBufferService).findLastPage(testUser.getId(), testCourseTitle.getId());
+
+        //when
+        boolean advanced = courseProgressService.advance(testUser.getId(), testCourseTitle, 3, 4);
+
+        //then
+        Mockito.verify(courseProgressBufferService, Mockito.times(0)).record(Mockito.any(), Mockito.any(), Mockito.anyInt());
+        Assertions.assertThat(advanced).isFalse();
     }
 
     @Test
-    void update_Success() {
+    void advance_WriteBehind_WithoutProgress_WrittenImmediately() {
         //given
-        Mockito.doReturn(Optional.of(testCourseProgress)).when(courseProgressRepository).findById(testCourseProgress.getId());
+        Mockito.doReturn(true).when(courseProgressBufferService).isEnabled();
+        Mockito.doReturn(Optional.empty()).when(courseProgressRepository).findLastPage(testUser.getId(), testCourseTitle.getId());
+        Mockito.doReturn("ROLE_COURSE_OWNER_").when(messageSource).getMessage("role.course.owner");
+        Mockito.doReturn("TEST").when(roleService).convertToRoleStyle(testCourseTitle.getTitle());
+        Mockito.doReturn(1).when(courseProgressRepository).advance(testUser.getId(), testCourseTitle.getId(), "ROLE_COURSE_OWNER_TEST", 1, 2);
 
         //when
-        boolean updated = courseProgressService.update(testCourseProgress);
+        boolean advanced = courseProgressService.advance(testUser.getId(), testCourseTitle, 1, 2);
 
         //then
-        Mockito.verify(courseProgressRepository, Mockito.times(1)).findById(testCourseProgress.getId());
-        Mockito.verify(courseProgressRepository, Mockito.times(1)).save(testCourseProgress);
-        Assertions.assertThat(updated).isTrue();
+        Mockito.verify(courseProgressBufferService, Mockito.times(0)).record(Mockito.any(), Mockito.any(), Mockito.anyInt());
+        Assertions.assertThat(advanced).isTrue();
     }
-}
\ No newline at end of file
+}
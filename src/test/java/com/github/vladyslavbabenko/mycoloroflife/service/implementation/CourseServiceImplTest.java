@@ -6,6 +6,8 @@ import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
 import com.github.vladyslavbabenko.mycoloroflife.repository.CourseRepository;
 import com.github.vladyslavbabenko.mycoloroflife.repository.CourseTitleRepository;
 import com.github.vladyslavbabenko.mycoloroflife.service.CourseService;
+import com.github.vladyslavbabenko.mycoloroflife.service.CourseCatalogService;
+import com.github.vladyslavbabenko.mycoloroflife.service.SearchService;
 import org.fest.assertions.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +22,8 @@ class CourseServiceImplTest extends AbstractTest {
     private CourseService courseService;
     private CourseRepository courseRepository;
     private CourseTitleRepository courseTitleRepository;
+    private SearchService searchService;
+    private CourseCatalogService courseCatalogService;
     private Course testCourse;
     private CourseTitle testCourseTitle;
 
@@ -28,7 +32,9 @@ class CourseServiceImplTest extends AbstractTest {
         //given
         courseRepository = Mockito.mock(CourseRepository.class);
         courseTitleRepository = Mockito.mock(CourseTitleRepository.class);
-        courseService = new CourseServiceImpl(courseRepository, courseTitleRepository);
+        searchService = Mockito.mock(SearchService.class);
+        courseCatalogService = Mockito.mock(CourseCatalogService.class);
+        courseService = new CourseServiceImpl(courseRepository, courseTitleRepository, searchService, courseCatalogService);
 
         testCourseTitle = CourseTitle.builder().id(1).title("Test").description("Test description").build();
 
@@ -126,6 +132,8 @@ class CourseServiceImplTest extends AbstractTest {
         Mockito.verify(courseRepository, Mockito.times(1)).existsByCourseTitle(testCourse.getCourseTitle());
         Mockito.verify(courseRepository, Mockito.times(1)).existsByCourseTitleAndPage(testCourse.getCourseTitle(), testCourse.getPage());
         Mockito.verify(courseRepository, Mockito.times(1)).save(testCourse);
+        Mockito.verify(searchService, Mockito.times(1)).indexCourse(testCourse);
+        Mockito.verify(courseCatalogService, Mockito.times(1)).onChanged();
         Assertions.assertThat(isTrue).isTrue();
     }
 
@@ -156,6 +164,8 @@ class CourseServiceImplTest extends AbstractTest {
         //then
         Mockito.verify(courseRepository, Mockito.times(1)).existsById(id);
         Mockito.verify(courseRepository, Mockito.times(1)).deleteById(id);
+        Mockito.verify(searchService, Mockito.times(1)).removeCourse(id);
+        Mockito.verify(courseCatalogService, Mockito.times(1)).onChanged();
         Assertions.assertThat(isTrue).isTrue();
     }
 
@@ -203,6 +213,8 @@ class CourseServiceImplTest extends AbstractTest {
         Mockito.verify(courseRepository, Mockito.times(1)).findById(testCourse.getId());
         Mockito.verify(courseRepository, Mockito.times(1)).existsByCourseTitleAndPage(testCourse.getCourseTitle(), testCourse.getPage());
         Mockito.verify(courseRepository, Mockito.times(1)).save(testCourse);
+        Mockito.verify(searchService, Mockito.times(1)).indexCourse(testCourse);
+        Mockito.verify(courseCatalogService, Mockito.times(1)).onChanged();
         Assertions.assertThat(isTrue).isTrue();
     }
 
@@ -2,17 +2,28 @@ package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
 
 import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
 import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
+import com.github.vladyslavbabenko.mycoloroflife.entity.Role;
+import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CourseSearchResult;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.CourseSearchHit;
+import com.github.vladyslavbabenko.mycoloroflife.enumeration.ContentType;
 import com.github.vladyslavbabenko.mycoloroflife.repository.CourseTitleRepository;
+import com.github.vladyslavbabenko.mycoloroflife.service.ContentCounterService;
+import com.github.vladyslavbabenko.mycoloroflife.service.CourseCatalogService;
 import com.github.vladyslavbabenko.mycoloroflife.service.CourseTitleService;
 import com.github.vladyslavbabenko.mycoloroflife.service.RoleService;
+import com.github.vladyslavbabenko.mycoloroflife.service.SearchService;
 import com.github.vladyslavbabenko.mycoloroflife.service.UserService;
 import com.github.vladyslavbabenko.mycoloroflife.util.MessageSourceUtil;
+import com.github.vladyslavbabenko.mycoloroflife.util.PaginationUtil;
 import org.fest.assertions.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.data.domain.Page;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +36,9 @@ class CourseTitleServiceImplTest extends AbstractTest {
     private RoleService roleService;
     private UserService userService;
     private MessageSourceUtil messageSourceUtil;
+    private ContentCounterService contentCounterService;
+    private SearchService searchService;
+    private CourseCatalogService courseCatalogService;
 
     @BeforeEach
     void setUp() {
@@ -33,8 +47,11 @@ class CourseTitleServiceImplTest extends AbstractTest {
         roleService = Mockito.mock(RoleService.class);
         userService = Mockito.mock(UserService.class);
         messageSourceUtil = Mockito.mock(MessageSourceUtil.class);
+        contentCounterService = Mockito.mock(ContentCounterService.class);
+        searchService = Mockito.mock(SearchService.class);
+        courseCatalogService = Mockito.mock(CourseCatalogService.class);
 
-        courseTitleService = new CourseTitleServiceImpl(courseTitleRepository, roleService, userService, messageSourceUtil);
+        courseTitleService = new CourseTitleServiceImpl(courseTitleRepository, roleService, userService, messageSourceUtil, contentCounterService, searchService, courseCatalogService);
 
         testCourseTitle = CourseTitle.builder().id(1).title("Test").description("Test description").build();
     }
@@ -60,6 +77,68 @@ class CourseTitleServiceImplTest extends AbstractTest {
         Mockito.verify(courseTitleRepository, Mockito.times(1)).findByTitle(testCourseTitle.getTitle());
     }
 
+    @Test
+    void searchCourses() {
+        //given
+        CourseSearchHit ownedHit = Mockito.mock(CourseSearchHit.class);
+        Mockito.doReturn("Test").when(ownedHit).getTitle();
+        Mockito.doReturn(1.0).when(ownedHit).getScore();
+
+        CourseSearchHit otherHit = Mockito.mock(CourseSearchHit.class);
+        Mockito.doReturn("Test Course").when(otherHit).getTitle();
+        Mockito.doReturn(2).when(otherHit).getPage();
+        Mockito.doReturn(0.8).when(otherHit).getScore();
+
+        Role courseOwnerRole = Role.builder().roleName("ROLE_COURSE_OWNER_TEST").build();
+        User currentUser = User.builder().roles(Collections.singleton(courseOwnerRole)).build();
+
+        Mockito.doReturn(List.of(ownedHit, otherHit)).when(courseTitleRepository).searchCourses("Tst", PaginationUtil.pageRequest(1, 6));
+        Mockito.doReturn(currentUser).when(userService).getCurrentUser();
+        Mockito.doReturn("ROLE_COURSE_OWNER_").when(messageSourceUtil).getMessage("role.course.owner");
+        Mockito.doReturn("TEST").when(roleService).convertToRoleStyle("Test");
+        Mockito.doReturn("TEST_COURSE").when(roleService).convertToRoleStyle("Test Course");
+
+        //when
+        Page<CourseSearchResult> results = courseTitleService.searchCourses(" Tst ", 1, 6);
+
+        //then
+        Assertions.assertThat(results.getTotalElements()).isEqualTo(2);
+        Assertions.assertThat(results.getContent().get(0).isAccessible()).isTrue();
+        Assertions.assertThat(results.getContent().get(1).isAccessible()).isFalse();
+        Assertions.assertThat(results.getContent().get(1).getPage()).isEqualTo(2);
+        Mockito.verify(courseTitleRepository, Mockito.times(1)).searchCourses("Tst", PaginationUtil.pageRequest(1, 6));
+        Mockito.verify(courseTitleRepository, Mockito.never()).countCourseSearchHits(Mockito.anyString());
+    }
+
+    @Test
+    void searchCourses_FullPage_CountsHits() {
+        //given
+        CourseSearchHit hit = Mockito.mock(CourseSearchHit.class);
+        Mockito.doReturn("Test").when(hit).getTitle();
+
+        Mockito.doReturn(List.of(hit)).when(courseTitleRepository).searchCourses("Tst", PaginationUtil.pageRequest(1, 1));
+        Mockito.doReturn(3L).when(courseTitleRepository).countCourseSearchHits("Tst");
+        Mockito.doReturn(User.builder().build()).when(userService).getCurrentUser();
+
+        //when
+        Page<CourseSearchResult> results = courseTitleService.searchCourses("Tst", 1, 1);
+
+        //then
+        Assertions.assertThat(results.getTotalElements()).isEqualTo(3);
+        Mockito.verify(courseTitleRepository, Mockito.times(1)).countCourseSearchHits("Tst");
+    }
+
+    @Test
+    void searchCourses_BlankQuery() {
+        //when
+        Page<CourseSearchResult> results = courseTitleService.searchCourses("  ", 1, 6);
+
+        //then
+        Assertions.assertThat(results.getContent()).isEmpty();
+        Mockito.verify(courseTitleRepository, Mockito.never()).searchCourses(Mockito.anyString(), Mockito.any());
+        Mockito.verify(userService, Mockito.never()).getCurrentUser();
+    }
+
     @Test
     void findAllByCourseTitleContains() {
         //given
@@ -72,6 +151,17 @@ class CourseTitleServiceImplTest extends AbstractTest {
         Mockito.verify(courseTitleRepository, Mockito.times(1)).findAllByTitleContains(testCourseTitle.getTitle());
     }
 
+    @Test
+    void getCourseTitlesPage() {
+        //when
+        courseTitleService.getCourseTitlesPage(1, 6);
+
+        //then
+        Mockito.verify(courseTitleRepository, Mockito.times(1)).findAllBy(PaginationUtil.newestFirst(1, 6));
+        Mockito.verify(contentCounterService, Mockito.times(1)).getTotal(ContentType.COURSE_TITLE);
+        Mockito.verify(courseTitleRepository, Mockito.times(0)).count();
+    }
+
     @Test
     void getAllCourseTitles() {
         //when
@@ -143,6 +233,9 @@ class CourseTitleServiceImplTest extends AbstractTest {
         //then
         Mockito.verify(courseTitleRepository, Mockito.times(1)).existsByTitle(testCourseTitle.getTitle());
         Mockito.verify(courseTitleRepository, Mockito.times(1)).save(testCourseTitle);
+        Mockito.verify(contentCounterService, Mockito.times(1)).onSaved(ContentType.COURSE_TITLE);
+        Mockito.verify(searchService, Mockito.times(1)).indexCourseTitle(testCourseTitle);
+        Mockito.verify(courseCatalogService, Mockito.times(1)).onChanged();
         Assertions.assertThat(isTrue).isTrue();
     }
 
@@ -165,15 +258,18 @@ class CourseTitleServiceImplTest extends AbstractTest {
     void delete_WithExistsByIdTrue() {
         //given
         Mockito.doReturn(true).when(courseTitleRepository).existsById(testCourseTitle.getId());
-        Mockito.doReturn(Optional.of(testCourseTitle)).when(courseTitleRepository).findById(testCourseTitle.getId());
+        Mockito.doReturn(Optional.of(testCourseTitle)).when(courseTitleRepository).findWithCoursesById(testCourseTitle.getId());
 
         //when
         boolean isTrue = courseTitleService.delete(testCourseTitle.getId());
 
         //then
         Mockito.verify(courseTitleRepository, Mockito.times(1)).existsById(testCourseTitle.getId());
-        Mockito.verify(courseTitleRepository, Mockito.times(1)).findById(testCourseTitle.getId());
+        Mockito.verify(courseTitleRepository, Mockito.times(1)).findWithCoursesById(testCourseTitle.getId());
         Mockito.verify(courseTitleRepository, Mockito.times(1)).delete(testCourseTitle);
+        Mockito.verify(contentCounterService, Mockito.times(1)).onDeleted(ContentType.COURSE_TITLE);
+        Mockito.verify(searchService, Mockito.times(1)).removeCourseTitle(testCourseTitle);
+        Mockito.verify(courseCatalogService, Mockito.times(1)).onChanged();
 
         Assertions.assertThat(isTrue).isTrue();
     }
@@ -188,7 +284,7 @@ class CourseTitleServiceImplTest extends AbstractTest {
 
         //then
         Mockito.verify(courseTitleRepository, Mockito.times(1)).existsById(testCourseTitle.getId());
-        Mockito.verify(courseTitleRepository, Mockito.times(0)).findById(testCourseTitle.getId());
+        Mockito.verify(courseTitleRepository, Mockito.times(0)).findWithCoursesById(testCourseTitle.getId());
         Mockito.verify(courseTitleRepository, Mockito.times(0)).save(testCourseTitle);
         Assertions.assertThat(isFalse).isFalse();
     }
@@ -197,15 +293,17 @@ class CourseTitleServiceImplTest extends AbstractTest {
     void update_WithExistsByIdTrue() {
         //given
         Mockito.doReturn(true).when(courseTitleRepository).existsById(testCourseTitle.getId());
-        Mockito.doReturn(Optional.ofNullable(testCourseTitle)).when(courseTitleRepository).findById(testCourseTitle.getId());
+        Mockito.doReturn(Optional.ofNullable(testCourseTitle)).when(courseTitleRepository).findWithCoursesById(testCourseTitle.getId());
 
         //when
         boolean isTrue = courseTitleService.update(testCourseTitle);
 
         //then
         Mockito.verify(courseTitleRepository, Mockito.times(1)).existsById(testCourseTitle.getId());
-        Mockito.verify(courseTitleRepository, Mockito.times(1)).findById(testCourseTitle.getId());
+        Mockito.verify(courseTitleRepository, Mockito.times(1)).findWithCoursesById(testCourseTitle.getId());
         Mockito.verify(courseTitleRepository, Mockito.times(1)).save(testCourseTitle);
+        Mockito.verify(searchService, Mockito.times(1)).indexCourseTitle(testCourseTitle);
+        Mockito.verify(courseCatalogService, Mockito.times(1)).onChanged();
         Assertions.assertThat(isTrue).isTrue();
     }
 }
\ No newline at end of file
@@ -3,9 +3,9 @@ package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
 import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
 import com.github.vladyslavbabenko.mycoloroflife.entity.SecureToken;
 import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.MailModel;
 import com.github.vladyslavbabenko.mycoloroflife.enumeration.Purpose;
-import com.github.vladyslavbabenko.mycoloroflife.service.MailContentBuilderService;
-import com.github.vladyslavbabenko.mycoloroflife.service.MailSenderService;
+import com.github.vladyslavbabenko.mycoloroflife.service.MailOutboxService;
 import com.github.vladyslavbabenko.mycoloroflife.service.SecureTokenService;
 import com.github.vladyslavbabenko.mycoloroflife.service.UserService;
 import com.github.vladyslavbabenko.mycoloroflife.util.MessageSourceUtil;
@@ -21,8 +21,6 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 
 @DisplayName("Unit-level testing for EmailConfirmationServiceImpl")
@@ -30,8 +28,7 @@ class EmailConfirmationServiceImplTest extends AbstractTest {
 
     private UserService userService;
     private SecureTokenService secureTokenService;
-    private MailSenderService mailSenderService;
-    private MailContentBuilderService mailContentBuilder;
+    private MailOutboxService mailOutboxService;
     private MessageSourceUtil messageSource;
     private EmailConfirmationServiceImpl emailConfirmationService;
 
@@ -52,11 +49,10 @@ class EmailConfirmationServiceImplTest extends AbstractTest {
         //given
         userService = Mockito.mock(UserService.class);
         secureTokenService = Mockito.mock(SecureTokenService.class);
-        mailSenderService = Mockito.mock(MailSenderService.class);
-        mailContentBuilder = Mockito.mock(MailContentBuilderService.class);
+        mailOutboxService = Mockito.mock(MailOutboxService.class);
         messageSource = Mockito.mock(MessageSourceUtil.class);
 
-        emailConfirmationService = new EmailConfirmationServiceImpl(userService, secureTokenService, mailSenderService, mailContentBuilder, messageSource);
+        emailConfirmationService = new EmailConfirmationServiceImpl(userService, secureTokenService, mailOutboxService, messageSource);
 
         expectedUser = User.builder()
                 .id(1)
@@ -72,8 +68,7 @@ class EmailConfirmationServiceImplTest extends AbstractTest {
     @Test
     void isEmailConfirmationServiceImplTestReady() {
         Assertions.assertThat(userService).isNotNull().isInstanceOf(UserService.class);
-        Assertions.assertThat(mailSenderService).isNotNull().isInstanceOf(MailSenderService.class);
-        Assertions.assertThat(mailContentBuilder).isNotNull().isInstanceOf(MailContentBuilderService.class);
+        Assertions.assertThat(mailOutboxService).isNotNull().isInstanceOf(MailOutboxService.class);
         Assertions.assertThat(messageSource).isNotNull().isInstanceOf(MessageSourceUtil.class);
         Assertions.assertThat(emailConfirmationService).isNotNull().isInstanceOf(EmailConfirmationServiceImpl.class);
         Assertions.assertThat(secureTokenService).isNotNull().isInstanceOf(SecureTokenService.class);
@@ -127,20 +122,22 @@ class EmailConfirmationServiceImplTest extends AbstractTest {
     void sendConfirmationEmail() {
         //given
         Mockito.doReturn(expectedSecureToken).when(secureTokenService).createSecureToken();
+        Mockito.doReturn(emailConfirmText).when(messageSource).getMessage("email.confirm.text");
+        Mockito.doReturn("emailTemplate/emailConfirm").when(messageSource).getMessage("template.email.confirm");
 
-        List<String> strings = new ArrayList<>();
-        strings.add(expectedUser.getName());
-        strings.add(emailConfirmText);
-        strings.add(UriComponentsBuilder.fromHttpUrl(baseURL).path("/me/email-confirm").queryParam("token", expectedSecureToken.getToken()).toUriString());
+        MailModel model = MailModel.builder()
+                .name(expectedUser.getName())
+                .text(emailConfirmText)
+                .link(UriComponentsBuilder.fromHttpUrl(baseURL).path("/me/email-confirm").queryParam("token", expectedSecureToken.getToken()).toUriString())
+                .build();
 
         //when
         emailConfirmationService.sendConfirmationEmail(expectedUser);
 
         //then
         Mockito.verify(secureTokenService, Mockito.times(1)).update(expectedSecureToken);
-        Mockito.verify(mailSenderService, Mockito.times(1))
-                .sendEmail(expectedUser.getEmail(), null, mailContentBuilder.build(strings, "emailTemplate/emailConfirm"));
-        Mockito.verify(mailContentBuilder, Mockito.times(1)).build(strings, "emailTemplate/emailConfirm");
+        Mockito.verify(mailOutboxService, Mockito.times(1))
+                .enqueue(expectedUser.getEmail(), null, "emailTemplate/emailConfirm", model);
     }
 
     @Test
@@ -0,0 +1,193 @@
+package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import com.github.vladyslavbabenko.mycoloroflife.entity.Event;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.EventAnnouncementStatistics;
+import com.github.vladyslavbabenko.mycoloroflife.repository.UserRepository;
+import com.github.vladyslavbabenko.mycoloroflife.service.MailContentBuilderService;
+import com.github.vladyslavbabenko.mycoloroflife.service.MailDispatchService;
+import com.github.vladyslavbabenko.mycoloroflife.util.MessageSourceUtil;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.concurrent.CompletableFuture;
+
+@DisplayName("Integration testing for EventAnnouncementService")
+@Sql(value = {"/create-test-values.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class EventAnnouncementServiceImplTest extends AbstractTest {
+
+    private MailDispatchService mailDispatchService;
+    private EventAnnouncementServiceImpl eventAnnouncementService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MailContentBuilderService mailContentBuilder;
+
+    @Autowired
+    private MessageSourceUtil messageSource;
+
+    @BeforeEach
+    void setUp() {
+        //given
+        mailDispatchService = Mockito.mock(MailDispatchService.class);
+        Mockito.doReturn(CompletableFuture.completedFuture(true))
+                .when(mailDispatchService).send(Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+        eventAnnouncementService = newEventAnnouncementService(true);
+        jdbcTemplate.update("UPDATE t_user SET is_email_confirmed = (id <> 4)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventAnnouncementService.shutdown();
+    }
+
+    @Test
+    void resume_SendsToEveryConfirmedUserInPages() {
+        //given
+        jdbcTemplate.update("INSERT INTO t_event_announcement (event_id) VALUES (1)");
+
+        //when
+        int sent = eventAnnouncementService.resume();
+
+        //then
+        Assertions.assertThat(sent).isEqualTo(3);
+        for (String email : new String[]{"testuser@mail.com", "testadmin@mail.com", "testauthor@mail.com"}) {
+            Mockito.verify(mailDispatchService, Mockito.times(1)).send(Mockito.eq(email),
+                    Mockito.eq(messageSource.getMessage("email.event.announcement.subject")),
+                    Mockito.contains("http://localhost:8080/event/1"));
+        }
+        Mockito.verify(mailDispatchService, Mockito.never())
+                .send(Mockito.eq("testusergauth@gmail.com"), Mockito.anyString(), Mockito.anyString());
+        EventAnnouncementStatistics statistics = eventAnnouncementService.getStatistics();
+        Assertions.assertThat(statistics.getCompletedCount()).isEqualTo(1);
+        Assertions.assertThat(statistics.getRunningCount()).isEqualTo(0);
+        Assertions.assertThat(statistics.getSentCount()).isEqualTo(3);
+        Assertions.assertThat(statistics.getPageCount()).isEqualTo(2);
+        Assertions.assertThat(eventAnnouncementService.resume()).isEqualTo(0);
+    }
+
+    @Test
+    void resume_ContinuesFromCheckpoint() {
+        //given
+        jdbcTemplate.update("INSERT INTO t_event_announcement (event_id, last_user_id, sent_count) VALUES (1, 1, 1)");
+
+        //when
+        int sent = eventAnnouncementService.resume();
+
+        //then
+        Assertions.assertThat(sent).isEqualTo(2);
+        Mockito.verify(mailDispatchService, Mockito.never())
+                .send(Mockito.eq("testuser@mail.com"), Mockito.anyString(), Mockito.anyString());
+        Assertions.assertThat(eventAnnouncementService.getStatistics().getSentCount()).isEqualTo(3);
+    }
+
+    @Test
+    void resume_SkipsLeasedAnnouncement() {
+        //given
+        jdbcTemplate.update("INSERT INTO t_event_announcement (event_id, lease_until) VALUES (1, now() + INTERVAL '1 minute')");
+
+        //when
+        int sent = eventAnnouncementService.resume();
+
+        //then
+        Assertions.assertThat(sent).isEqualTo(0);
+        Mockito.verifyNoInteractions(mailDispatchService);
+        Assertions.assertThat(eventAnnouncementService.getStatistics().getRunningCount()).isEqualTo(1);
+    }
+
+    @Test
+    void resume_CountsFailedEmails() {
+        //given
+        Mockito.doReturn(CompletableFuture.completedFuture(false))
+                .when(mailDispatchService).send(Mockito.eq("testadmin@mail.com"), Mockito.anyString(), Mockito.anyString());
+        jdbcTemplate.update("INSERT INTO t_event_announcement (event_id) VALUES (1)");
+
+        //when
+        int sent = eventAnnouncementService.resume();
+
+        //then
+        Assertions.assertThat(sent).isEqualTo(2);
+        EventAnnouncementStatistics statistics = eventAnnouncementService.getStatistics();
+        Assertions.assertThat(statistics.getCompletedCount()).isEqualTo(1);
+        Assertions.assertThat(statistics.getFailedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void announce_OnlyOnce() {
+        //given
+        Event event = Event.builder().id(2).build();
+
+        //when
+        boolean isAnnounced = eventAnnouncementService.announce(event);
+
+        //then
+        Assertions.assertThat(isAnnounced).isTrue();
+        Assertions.assertThat(eventAnnouncementService.announce(event)).isFalse();
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM t_event_announcement", Long.class))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void announce_SendsOnAnnouncerAndLeasesAnnouncement() {
+        //given
+        Event event = Event.builder().id(1).title("First test title").build();
+
+        //when
+        boolean isAnnounced = eventAnnouncementService.announce(event);
+        int resumed = eventAnnouncementService.resume();
+
+        //then
+        Assertions.assertThat(isAnnounced).isTrue();
+        Assertions.assertThat(resumed).isEqualTo(0);
+        for (String email : new String[]{"testuser@mail.com", "testadmin@mail.com", "testauthor@mail.com"}) {
+            Mockito.verify(mailDispatchService, Mockito.timeout(5000).times(1))
+                    .send(Mockito.eq(email), Mockito.anyString(), Mockito.contains("First test title"));
+        }
+    }
+
+    @Test
+    void scheduleResume_SendsOnAnnouncer() {
+        //given
+        jdbcTemplate.update("INSERT INTO t_event_announcement (event_id) VALUES (1)");
+
+        //when
+        eventAnnouncementService.scheduleResume();
+
+        //then
+        for (String email : new String[]{"testuser@mail.com", "testadmin@mail.com", "testauthor@mail.com"}) {
+            Mockito.verify(mailDispatchService, Mockito.timeout(5000).times(1))
+                    .send(Mockito.eq(email), Mockito.anyString(), Mockito.anyString());
+        }
+    }
+
+    @Test
+    void announce_Failure_Disabled() {
+        //given
+        eventAnnouncementService = newEventAnnouncementService(false);
+
+        //when
+        boolean isAnnounced = eventAnnouncementService.announce(Event.builder().id(1).build());
+
+        //then
+        Assertions.assertThat(isAnnounced).isFalse();
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM t_event_announcement", Long.class))
+                .isEqualTo(0);
+    }
+
+    private EventAnnouncementServiceImpl newEventAnnouncementService(boolean enabled) {
+        return new EventAnnouncementServiceImpl(jdbcTemplate, userRepository, mailDispatchService, mailContentBuilder,
+                messageSource, enabled, 2, 1000, 2, 60000, "http://localhost:8080");
+    }
+}
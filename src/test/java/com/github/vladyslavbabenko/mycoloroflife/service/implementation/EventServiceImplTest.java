@@ -3,8 +3,15 @@ package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
 import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
 import com.github.vladyslavbabenko.mycoloroflife.entity.Event;
 import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CursorPage;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.EventSummary;
+import com.github.vladyslavbabenko.mycoloroflife.enumeration.ContentType;
 import com.github.vladyslavbabenko.mycoloroflife.repository.EventRepository;
+import com.github.vladyslavbabenko.mycoloroflife.service.ContentCounterService;
+import com.github.vladyslavbabenko.mycoloroflife.service.EventAnnouncementService;
 import com.github.vladyslavbabenko.mycoloroflife.service.EventService;
+import com.github.vladyslavbabenko.mycoloroflife.service.SearchService;
+import com.github.vladyslavbabenko.mycoloroflife.util.PaginationUtil;
 import org.fest.assertions.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,13 +27,19 @@ class EventServiceImplTest extends AbstractTest {
     private User testAuthor;
     private EventService eventService;
     private EventRepository eventRepository;
+    private ContentCounterService contentCounterService;
+    private SearchService searchService;
+    private EventAnnouncementService eventAnnouncementService;
     private Event firstTestEvent;
 
     @BeforeEach
     void setUp() {
         //given
         eventRepository = Mockito.mock(EventRepository.class);
-        eventService = new EventServiceImpl(eventRepository);
+        contentCounterService = Mockito.mock(ContentCounterService.class);
+        searchService = Mockito.mock(SearchService.class);
+        eventAnnouncementService = Mockito.mock(EventAnnouncementService.class);
+        eventService = new EventServiceImpl(eventRepository, contentCounterService, searchService, eventAnnouncementService);
         testAuthor = User.builder()
                 .id(3)
                 .name("TestAuthor")
@@ -72,6 +85,88 @@ class EventServiceImplTest extends AbstractTest {
         Mockito.verify(eventRepository, Mockito.times(1)).findByTitleContains(keyword);
     }
 
+    @Test
+    void shouldGetEventsPage() {
+        //when
+        eventService.getEventsPage(1, 6);
+
+        //then
+        Mockito.verify(eventRepository, Mockito.times(1)).findSummaries(PaginationUtil.pageRequest(1, 6));
+        Mockito.verify(contentCounterService, Mockito.times(1)).getTotal(ContentType.EVENT);
+        Mockito.verify(eventRepository, Mockito.times(0)).count();
+    }
+
+    @Test
+    void shouldGetEventsAfter() {
+        //given
+        EventSummary summary = Mockito.mock(EventSummary.class);
+        Mockito.doReturn(1).when(summary).getId();
+        Mockito.doReturn(Collections.singletonList(summary))
+                .when(eventRepository)
+                .findSummariesOlderThan(5, 7);
+
+        //when
+        CursorPage<EventSummary> events = eventService.getEventsAfter(PaginationUtil.encodeCursor(5), 6);
+
+        //then
+        Mockito.verify(eventRepository, Mockito.times(1)).findSummariesOlderThan(5, 7);
+        Assertions.assertThat(events.getContent()).containsExactly(summary);
+        Assertions.assertThat(events.getPreviousCursor()).isEqualTo(PaginationUtil.encodeCursor(1));
+        Assertions.assertThat(events.getNextCursor()).isNull();
+    }
+
+    @Test
+    void shouldGetNewestEvents_WithMalformedCursor() {
+        //when
+        CursorPage<EventSummary> events = eventService.getEventsAfter("malformed", 6);
+
+        //then
+        Mockito.verify(eventRepository, Mockito.times(1)).findSummariesOlderThan(Integer.MAX_VALUE, 7);
+        Assertions.assertThat(events.getPreviousCursor()).isNull();
+    }
+
+    @Test
+    void shouldGetEventsBefore() {
+        //given
+        EventSummary summary = Mockito.mock(EventSummary.class);
+        Mockito.doReturn(1).when(summary).getId();
+        Mockito.doReturn(Collections.singletonList(summary))
+                .when(eventRepository)
+                .findSummariesNewerThan(0, 7);
+
+        //when
+        CursorPage<EventSummary> events = eventService.getEventsBefore(PaginationUtil.encodeCursor(0), 6);
+
+        //then
+        Mockito.verify(eventRepository, Mockito.times(1)).findSummariesNewerThan(0, 7);
+        Assertions.assertThat(events.getContent()).containsExactly(summary);
+        Assertions.assertThat(events.getPreviousCursor()).isNull();
+        Assertions.assertThat(events.getNextCursor()).isEqualTo(PaginationUtil.encodeCursor(1));
+    }
+
+    @Test
+    void shouldFindPageByKeyword() {
+        String keyword = "First";
+
+        //when
+        eventService.findByKeyword(keyword, 2, 6);
+
+        //then
+        Mockito.verify(eventRepository, Mockito.times(1)).findSummariesMatching("first:*", PaginationUtil.pageRequest(2, 6));
+        Mockito.verify(eventRepository, Mockito.times(1)).countMatching("first:*");
+    }
+
+    @Test
+    void shouldFindPageByKeyword_WithoutWords() {
+        //when
+        eventService.findByKeyword(" - ", 1, 6);
+
+        //then
+        Mockito.verify(eventRepository, Mockito.never()).countMatching(Mockito.anyString());
+        Mockito.verify(eventRepository, Mockito.times(1)).findSummaries(PaginationUtil.pageRequest(1, 6));
+        Mockito.verify(contentCounterService, Mockito.times(1)).getTotal(ContentType.EVENT);
+    }
+
     @Test
     void shouldFindEventById() {
         //when
@@ -110,6 +205,9 @@ class EventServiceImplTest extends AbstractTest {
 
         //then
         Mockito.verify(eventRepository, Mockito.times(1)).save(firstTestEvent);
+        Mockito.verify(contentCounterService, Mockito.times(1)).onSaved(ContentType.EVENT);
+        Mockito.verify(searchService, Mockito.times(1)).indexEvent(firstTestEvent);
+        Mockito.verify(eventAnnouncementService, Mockito.times(1)).announce(firstTestEvent);
         Assertions.assertThat(isSaved).isTrue();
     }
 
@@ -124,6 +222,7 @@ class EventServiceImplTest extends AbstractTest {
 
         //then
         Mockito.verify(eventRepository, Mockito.times(0)).save(firstTestEvent);
+        Mockito.verify(eventAnnouncementService, Mockito.times(0)).announce(firstTestEvent);
         Assertions.assertThat(isSaved).isFalse();
     }
 
@@ -133,20 +232,23 @@ class EventServiceImplTest extends AbstractTest {
         boolean isEventDeleted = eventService.deleteEvent(firstTestEvent.getId());
 
         //then
-        Mockito.verify(eventRepository, Mockito.times(1)).existsById(firstTestEvent.getId());
-        Mockito.verify(eventRepository, Mockito.times(0)).deleteById(firstTestEvent.getId());
+        Mockito.verify(eventRepository, Mockito.times(1)).findById(firstTestEvent.getId());
+        Mockito.verify(eventRepository, Mockito.times(0)).delete(firstTestEvent);
+        Mockito.verify(contentCounterService, Mockito.times(0)).onDeleted(ContentType.EVENT);
         Assertions.assertThat(isEventDeleted).isFalse();
     }
 
     @Test
     void shouldDeleteEvent() {
         //when
-        Mockito.doReturn(true).when(eventRepository).existsById(firstTestEvent.getId());
+        Mockito.doReturn(Optional.of(firstTestEvent)).when(eventRepository).findById(firstTestEvent.getId());
         boolean isEventDeleted = eventService.deleteEvent(firstTestEvent.getId());
 
         //then
-        Mockito.verify(eventRepository, Mockito.times(1)).existsById(firstTestEvent.getId());
-        Mockito.verify(eventRepository, Mockito.times(1)).deleteById(firstTestEvent.getId());
+        Mockito.verify(eventRepository, Mockito.times(1)).findById(firstTestEvent.getId());
+        Mockito.verify(eventRepository, Mockito.times(1)).delete(firstTestEvent);
+        Mockito.verify(contentCounterService, Mockito.times(1)).onDeleted(ContentType.EVENT);
+        Mockito.verify(searchService, Mockito.times(1)).removeEvent(firstTestEvent.getId());
         Assertions.assertThat(isEventDeleted).isTrue();
     }
 
@@ -158,6 +260,7 @@ class EventServiceImplTest extends AbstractTest {
 
         //then
         Mockito.verify(eventRepository, Mockito.times(1)).save(firstTestEvent);
+        Mockito.verify(searchService, Mockito.times(1)).indexEvent(firstTestEvent);
         Assertions.assertThat(isEventUpdated).isTrue();
     }
 
@@ -0,0 +1,98 @@
+package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.MailModel;
+import com.github.vladyslavbabenko.mycoloroflife.service.MailContentBuilderService;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.Locale;
+
+@DisplayName("Integration testing for MailContentBuilderService")
+class MailContentBuilderServiceImplTest extends AbstractTest {
+
+    private static final Locale LOCALE = Locale.forLanguageTag("uk-UA");
+
+    private MailContentBuilderService mailContentBuilder;
+
+    @Autowired
+    private TemplateEngine templateEngine;
+
+    @BeforeEach
+    void setUp() {
+        //given
+        mailContentBuilder = new MailContentBuilderServiceImpl(templateEngine, true);
+    }
+
+    @Test
+    void build_EmailConfirm_SameAsThymeleaf() {
+        //given
+        MailModel model = MailModel.builder()
+                .name("TestUser")
+                .text("Confirm your email")
+                .link("http://localhost:8080/me/email-confirm?token=wMQzFUNrjsXyyht0lF-B&a=b")
+                .build();
+
+        //when
+        mailContentBuilder.build(model, "emailTemplate/emailConfirm", LOCALE);
+        String compiled = mailContentBuilder.build(model, "emailTemplate/emailConfirm", LOCALE);
+
+        //then
+        Assertions.assertThat(compiled).isEqualTo(process(model, "emailTemplate/emailConfirm"));
+        Assertions.assertThat(compiled).contains("token=wMQzFUNrjsXyyht0lF-B&amp;a=b");
+    }
+
+    @Test
+    void build_ActivationCode_SameAsThymeleaf() {
+        //given
+        MailModel first = MailModel.builder().name("TestUser").courseTitle("Test").code("Q5sxTc941iokNy8").build();
+        MailModel second = MailModel.builder().name("<Second & User>").courseTitle("Test 2").code("AAAAAAAAAAAAAAA").build();
+
+        //when
+        String firstCompiled = mailContentBuilder.build(first, "emailTemplate/activationCode", LOCALE);
+        String secondCompiled = mailContentBuilder.build(second, "emailTemplate/activationCode", LOCALE);
+
+        //then
+        Assertions.assertThat(firstCompiled).isEqualTo(process(first, "emailTemplate/activationCode"));
+        Assertions.assertThat(secondCompiled).isEqualTo(process(second, "emailTemplate/activationCode"));
+    }
+
+    @Test
+    void build_AbsentVariable_HidesItsParagraph() {
+        //given
+        MailModel withText = MailModel.builder().name("TestUser").text("Login via Gmail").build();
+        MailModel withoutText = MailModel.builder().name("TestUser").build();
+
+        //when
+        mailContentBuilder.build(withText, "emailTemplate/loginViaGmail", LOCALE);
+        String compiled = mailContentBuilder.build(withoutText, "emailTemplate/loginViaGmail", LOCALE);
+
+        //then
+        Assertions.assertThat(compiled).isEqualTo(process(withoutText, "emailTemplate/loginViaGmail"));
+        Assertions.assertThat(compiled).doesNotContain("Login via Gmail");
+    }
+
+    @Test
+    void build_CacheDisabled_SameAsThymeleaf() {
+        //given
+        mailContentBuilder = new MailContentBuilderServiceImpl(templateEngine, false);
+        MailModel model = MailModel.builder().name("TestUser").text("Reset your password").link("http://localhost:8080").build();
+
+        //when
+        String processed = mailContentBuilder.build(model, "emailTemplate/forgotPassword", LOCALE);
+
+        //then
+        Assertions.assertThat(processed).isEqualTo(process(model, "emailTemplate/forgotPassword"));
+    }
+
+    private String process(MailModel model, String templatePath) {
+        Context context = new Context(LOCALE);
+        model.toVariables().forEach(context::setVariable);
+        return templateEngine.process(templatePath, context);
+    }
+}
@@ -0,0 +1,110 @@
+package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.MailDispatchStatistics;
+import com.github.vladyslavbabenko.mycoloroflife.service.MailSenderService;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mail.MailSendException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("Unit-level testing for MailDispatchService")
+class MailDispatchServiceImplTest extends AbstractTest {
+
+    private static final String TO = "testuser@mail.com";
+    private static final String SUBJECT = "Subject";
+    private static final String TEXT = "Text";
+
+    private MailSenderService mailSenderService;
+    private MailDispatchServiceImpl mailDispatchService;
+
+    @BeforeEach
+    void setUp() {
+        //given
+        mailSenderService = Mockito.mock(MailSenderService.class);
+        mailDispatchService = new MailDispatchServiceImpl(mailSenderService, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        mailDispatchService.shutdown();
+    }
+
+    @Test
+    void send_ReturnsBeforeMailIsSent() throws InterruptedException, ExecutionException {
+        //given
+        CountDownLatch release = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> release.await(5, TimeUnit.SECONDS)).when(mailSenderService).sendEmail(TO, SUBJECT, TEXT);
+
+        //when
+        CompletableFuture<Boolean> sent = mailDispatchService.send(TO, SUBJECT, TEXT);
+
+        //then
+        Assertions.assertThat(sent.isDone()).isFalse();
+        release.countDown();
+        Assertions.assertThat(sent.get()).isTrue();
+        Assertions.assertThat(mailDispatchService.getStatistics().getDispatchedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void send_RejectsMailWhenQueueIsFull() throws InterruptedException, ExecutionException {
+        //given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }).when(mailSenderService).sendEmail(Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+
+        mailDispatchService.send(TO, SUBJECT, TEXT);
+        started.await(5, TimeUnit.SECONDS);
+
+        //when
+        CompletableFuture<Boolean> queued = mailDispatchService.send(TO, SUBJECT, "Queued");
+        CompletableFuture<Boolean> rejected = mailDispatchService.send(TO, SUBJECT, "Rejected");
+        MailDispatchStatistics statistics = mailDispatchService.getStatistics();
+        release.countDown();
+
+        //then
+        Assertions.assertThat(statistics.getQueueDepth()).isEqualTo(1);
+        Assertions.assertThat(statistics.getActiveCount()).isEqualTo(1);
+        Assertions.assertThat(statistics.getRejectedCount()).isEqualTo(1);
+        Assertions.assertThat(rejected.get()).isFalse();
+        Assertions.assertThat(queued.get()).isTrue();
+    }
+
+    @Test
+    void send_CompletesWithTrue() throws InterruptedException, ExecutionException {
+        //given
+        Mockito.doReturn(true).when(mailSenderService).sendEmail(TO, SUBJECT, TEXT);
+
+        //when
+        boolean sent = mailDispatchService.send(TO, SUBJECT, TEXT).get();
+
+        //then
+        Assertions.assertThat(sent).isTrue();
+        Assertions.assertThat(mailDispatchService.getStatistics().getSentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void send_DoesNotRetryFailedMail() throws InterruptedException, ExecutionException {
+        //given
+        Mockito.doThrow(new MailSendException("Mail server connection failed")).when(mailSenderService).sendEmail(TO, SUBJECT, TEXT);
+
+        //when
+        boolean sent = mailDispatchService.send(TO, SUBJECT, TEXT).get();
+
+        //then
+        Assertions.assertThat(sent).isFalse();
+        Mockito.verify(mailSenderService, Mockito.times(1)).sendEmail(TO, SUBJECT, TEXT);
+        Assertions.assertThat(mailDispatchService.getStatistics().getFailedCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,181 @@
+package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.MailModel;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.MailOutboxStatistics;
+import com.github.vladyslavbabenko.mycoloroflife.service.MailContentBuilderService;
+import com.github.vladyslavbabenko.mycoloroflife.service.MailDispatchService;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@DisplayName("Integration testing for MailOutboxService")
+@Sql(value = {"/create-test-values.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class MailOutboxServiceImplTest extends AbstractTest {
+
+    private static final String SUBJECT = "Subject";
+    private static final String TEMPLATE = "emailTemplate/emailConfirm";
+    private static final MailModel MODEL = MailModel.builder()
+            .name("TestUser")
+            .text("Text")
+            .link("http://localhost:8080/me/email-confirm")
+            .build();
+
+    private MailDispatchService mailDispatchService;
+    private MailOutboxServiceImpl mailOutboxService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MailContentBuilderService mailContentBuilder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        //given
+        mailDispatchService = Mockito.mock(MailDispatchService.class);
+        mailOutboxService = newMailOutboxService(10, 3);
+    }
+
+    @Test
+    void drain_SendsRenderedMailAndMarksItSent() {
+        //given
+        Mockito.doReturn(CompletableFuture.completedFuture(true))
+                .when(mailDispatchService).send(Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+        mailOutboxService.enqueue("testuser@mail.com", SUBJECT, TEMPLATE, MODEL);
+
+        //when
+        int sent = mailOutboxService.drain();
+
+        //then
+        Assertions.assertThat(sent).isEqualTo(1);
+        Mockito.verify(mailDispatchService, Mockito.times(1))
+                .send("testuser@mail.com", SUBJECT, mailContentBuilder.build(MODEL, TEMPLATE));
+        MailOutboxStatistics statistics = mailOutboxService.getStatistics();
+        Assertions.assertThat(statistics.getSentCount()).isEqualTo(1);
+        Assertions.assertThat(statistics.getPendingCount()).isEqualTo(0);
+        Assertions.assertThat(mailOutboxService.drain()).isEqualTo(0);
+    }
+
+    @Test
+    void drain_ReschedulesFailedMail() {
+        //given
+        Mockito.doReturn(CompletableFuture.completedFuture(false))
+                .when(mailDispatchService).send(Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+        mailOutboxService.enqueue("testuser@mail.com", SUBJECT, TEMPLATE, MODEL);
+
+        //when
+        int sent = mailOutboxService.drain();
+
+        //then
+        Assertions.assertThat(sent).isEqualTo(0);
+        Assertions.assertThat(mailOutboxService.drain()).isEqualTo(0);
+        Mockito.verify(mailDispatchService, Mockito.times(1)).send(Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+        Assertions.assertThat(mailOutboxService.getStatistics().getPendingCount()).isEqualTo(1);
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT last_error FROM t_mail_outbox", String.class)).isNotNull();
+    }
+
+    @Test
+    void drain_FailsMailAfterMaxAttempts() {
+        //given
+        mailOutboxService = newMailOutboxService(10, 1);
+        Mockito.doReturn(CompletableFuture.failedFuture(new IllegalStateException("Mail server connection failed")))
+                .when(mailDispatchService).send(Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+        mailOutboxService.enqueue("testuser@mail.com", SUBJECT, TEMPLATE, MODEL);
+
+        //when
+        mailOutboxService.drain();
+
+        //then
+        MailOutboxStatistics statistics = mailOutboxService.getStatistics();
+        Assertions.assertThat(statistics.getFailedCount()).isEqualTo(1);
+        Assertions.assertThat(statistics.getPendingCount()).isEqualTo(0);
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT last_error FROM t_mail_outbox", String.class))
+                .isEqualTo("Mail server connection failed");
+    }
+
+    @Test
+    void drain_ConcurrentDrainersSendEveryMailOnce() throws Exception {
+        //given
+        int mails = 40;
+        Mockito.doAnswer(invocation -> CompletableFuture.supplyAsync(() -> true))
+                .when(mailDispatchService).send(Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+
+        for (int i = 0; i < mails; i++) {
+            mailOutboxService.enqueue("testuser" + i + "@mail.com", SUBJECT, TEMPLATE, MODEL);
+        }
+
+        MailOutboxServiceImpl firstDrainer = newMailOutboxService(3, 3);
+        MailOutboxServiceImpl secondDrainer = newMailOutboxService(3, 3);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        //when
+        Future<Integer> first = executor.submit(firstDrainer::drain);
+        Future<Integer> second = executor.submit(secondDrainer::drain);
+        int sent = first.get() + second.get();
+        executor.shutdown();
+
+        //then
+        Assertions.assertThat(sent).isEqualTo(mails);
+        for (int i = 0; i < mails; i++) {
+            Mockito.verify(mailDispatchService, Mockito.times(1))
+                    .send(Mockito.eq("testuser" + i + "@mail.com"), Mockito.anyString(), Mockito.anyString());
+        }
+        Assertions.assertThat(mailOutboxService.getStatistics().getSentCount()).isEqualTo(mails);
+    }
+
+    @Test
+    void enqueue_RolledBackWithTransaction() {
+        //given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            mailOutboxService.enqueue("testuser@mail.com", SUBJECT, TEMPLATE, MODEL);
+            status.setRollbackOnly();
+        });
+
+        //then
+        Assertions.assertThat(mailOutboxService.getStatistics().getPendingCount()).isEqualTo(0);
+    }
+
+    @Test
+    void deleteSent() {
+        //given
+        Mockito.doReturn(CompletableFuture.completedFuture(true))
+                .when(mailDispatchService).send(Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+        mailOutboxService.enqueue("testuser@mail.com", SUBJECT, TEMPLATE, MODEL);
+        mailOutboxService.drain();
+
+        //when
+        int deleted = mailOutboxService.deleteSent();
+
+        //then
+        Assertions.assertThat(deleted).isEqualTo(1);
+        Assertions.assertThat(mailOutboxService.getStatistics().getSentCount()).isEqualTo(0);
+    }
+
+    private MailOutboxServiceImpl newMailOutboxService(int batchSize, int maxAttempts) {
+        return new MailOutboxServiceImpl(jdbcTemplate, mailDispatchService, mailContentBuilder, objectMapper,
+                batchSize, 60000, maxAttempts, 60000, 0);
+    }
+}
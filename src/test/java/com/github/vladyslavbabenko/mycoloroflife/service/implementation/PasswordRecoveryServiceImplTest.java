@@ -3,9 +3,9 @@ package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
 import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
 import com.github.vladyslavbabenko.mycoloroflife.entity.SecureToken;
 import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.MailModel;
 import com.github.vladyslavbabenko.mycoloroflife.enumeration.UserRegistrationType;
-import com.github.vladyslavbabenko.mycoloroflife.service.MailContentBuilderService;
-import com.github.vladyslavbabenko.mycoloroflife.service.MailSenderService;
+import com.github.vladyslavbabenko.mycoloroflife.service.MailOutboxService;
 import com.github.vladyslavbabenko.mycoloroflife.service.SecureTokenService;
 import com.github.vladyslavbabenko.mycoloroflife.service.UserService;
 import com.github.vladyslavbabenko.mycoloroflife.util.MessageSourceUtil;
@@ -21,8 +21,6 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 
 @DisplayName("Unit-level testing for PasswordRecoveryServiceImpl")
@@ -30,8 +28,7 @@ class PasswordRecoveryServiceImplTest extends AbstractTest {
 
     private UserService userService;
     private SecureTokenService secureTokenService;
-    private MailSenderService mailSenderService;
-    private MailContentBuilderService mailContentBuilder;
+    private MailOutboxService mailOutboxService;
     private MessageSourceUtil messageSource;
 
     private PasswordRecoveryServiceImpl passwordRecoveryService;
@@ -55,11 +52,10 @@ class PasswordRecoveryServiceImplTest extends AbstractTest {
         //given
         userService = Mockito.mock(UserService.class);
         secureTokenService = Mockito.mock(SecureTokenService.class);
-        mailSenderService = Mockito.mock(MailSenderService.class);
-        mailContentBuilder = Mockito.mock(MailContentBuilderService.class);
+        mailOutboxService = Mockito.mock(MailOutboxService.class);
         messageSource = Mockito.mock(MessageSourceUtil.class);
 
-        passwordRecoveryService = new PasswordRecoveryServiceImpl(userService, secureTokenService, mailSenderService, mailContentBuilder, messageSource);
+        passwordRecoveryService = new PasswordRecoveryServiceImpl(userService, secureTokenService, mailOutboxService, messageSource);
 
         ReflectionTestUtils.setField(passwordRecoveryService, "baseURL", baseURL);
 
@@ -72,8 +68,7 @@ class PasswordRecoveryServiceImplTest extends AbstractTest {
     @Test
     void isPasswordRecoveryServiceImplTestReady() {
         Assertions.assertThat(userService).isNotNull().isInstanceOf(UserService.class);
-        Assertions.assertThat(mailSenderService).isNotNull().isInstanceOf(MailSenderService.class);
-        Assertions.assertThat(mailContentBuilder).isNotNull().isInstanceOf(MailContentBuilderService.class);
+        Assertions.assertThat(mailOutboxService).isNotNull().isInstanceOf(MailOutboxService.class);
         Assertions.assertThat(messageSource).isNotNull().isInstanceOf(MessageSourceUtil.class);
         Assertions.assertThat(passwordRecoveryService).isNotNull().isInstanceOf(PasswordRecoveryServiceImpl.class);
         Assertions.assertThat(secureTokenService).isNotNull().isInstanceOf(SecureTokenService.class);
@@ -84,28 +79,28 @@ class PasswordRecoveryServiceImplTest extends AbstractTest {
     @Test
     void forgottenPasswordSuccess() {
         //given
-        Mockito.doReturn(expectedUser).when(userService).loadUserByUsername(expectedUser.getUsername());
+        Mockito.doReturn(expectedUser).when(userService).getUserByUsername(expectedUser.getUsername());
         Mockito.doReturn(expectedSecureToken).when(secureTokenService).createSecureToken();
 
         //when
         boolean isSent = passwordRecoveryService.forgottenPassword(expectedUser.getUsername());
 
         //then
-        Mockito.verify(userService, Mockito.times(1)).loadUserByUsername(expectedUser.getUsername());
+        Mockito.verify(userService, Mockito.times(1)).getUserByUsername(expectedUser.getUsername());
         Assertions.assertThat(isSent).isTrue();
     }
 
     @Test
     void forgottenPasswordFailure() {
         //given
-        Mockito.doThrow(UsernameNotFoundException.class).when(userService).loadUserByUsername(expectedUser.getUsername());
+        Mockito.doThrow(UsernameNotFoundException.class).when(userService).getUserByUsername(expectedUser.getUsername());
         Mockito.doReturn(expectedSecureToken).when(secureTokenService).createSecureToken();
 
         //when
         boolean isSent = passwordRecoveryService.forgottenPassword(expectedUser.getUsername());
 
         //then
-        Mockito.verify(userService, Mockito.times(1)).loadUserByUsername(expectedUser.getUsername());
+        Mockito.verify(userService, Mockito.times(1)).getUserByUsername(expectedUser.getUsername());
         Assertions.assertThat(isSent).isFalse();
     }
 
@@ -113,14 +108,14 @@ class PasswordRecoveryServiceImplTest extends AbstractTest {
     void updatePasswordSuccess() {
         //given
         Mockito.doReturn(Optional.ofNullable(expectedSecureToken)).when(secureTokenService).findByToken(expectedSecureToken.getToken());
-        Mockito.doReturn(expectedUser).when(userService).loadUserByUsername(expectedUser.getUsername());
+        Mockito.doReturn(expectedUser).when(userService).getUserByUsername(expectedUser.getUsername());
 
         //when
         boolean isUpdated = passwordRecoveryService.updatePassword(expectedUser.getPassword(), expectedSecureToken.getToken());
 
         //then
         Mockito.verify(secureTokenService, Mockito.times(1)).findByToken(expectedSecureToken.getToken());
-        Mockito.verify(userService, Mockito.times(1)).loadUserByUsername(expectedUser.getUsername());
+        Mockito.verify(userService, Mockito.times(1)).getUserByUsername(expectedUser.getUsername());
         Mockito.verify(secureTokenService, Mockito.times(1)).delete(expectedSecureToken);
         Mockito.verify(userService, Mockito.times(1)).updateUser(expectedUser);
         Assertions.assertThat(isUpdated).isTrue();
@@ -145,14 +140,14 @@ class PasswordRecoveryServiceImplTest extends AbstractTest {
     void updatePasswordFailure_WithUsernameNotFoundException() {
         //given
         Mockito.doReturn(Optional.ofNullable(expectedSecureToken)).when(secureTokenService).findByToken(expectedSecureToken.getToken());
-        Mockito.doThrow(UsernameNotFoundException.class).when(userService).loadUserByUsername(expectedUser.getUsername());
+        Mockito.doThrow(UsernameNotFoundException.class).when(userService).getUserByUsername(expectedUser.getUsername());
 
         //when
         boolean isUpdated = passwordRecoveryService.updatePassword(expectedUser.getPassword(), expectedSecureToken.getToken());
 
         //then
         Mockito.verify(secureTokenService, Mockito.times(1)).findByToken(expectedSecureToken.getToken());
-        Mockito.verify(userService, Mockito.times(1)).loadUserByUsername(expectedUser.getUsername());
+        Mockito.verify(userService, Mockito.times(1)).getUserByUsername(expectedUser.getUsername());
         Mockito.verify(secureTokenService, Mockito.times(0)).delete(expectedSecureToken);
         Mockito.verify(userService, Mockito.times(0)).updateUser(expectedUser);
         Assertions.assertThat(isUpdated).isFalse();
@@ -162,39 +157,43 @@ class PasswordRecoveryServiceImplTest extends AbstractTest {
     void sendResetPasswordEmail_With_REGISTRATION_FORM() {
         //given
         Mockito.doReturn(expectedSecureToken).when(secureTokenService).createSecureToken();
+        Mockito.doReturn(emailResetPasswordMessageToLink).when(messageSource).getMessage("email.reset.password.message.to.link");
+        Mockito.doReturn("emailTemplate/forgotPassword").when(messageSource).getMessage("template.email.password.forgot.registration-form");
 
-        List<String> strings = new ArrayList<>();
-        strings.add(expectedUser.getName());
-        strings.add(emailResetPasswordMessageToLink);
-        strings.add(UriComponentsBuilder.fromHttpUrl(baseURL).path("/password/change").queryParam("token", expectedSecureToken.getToken()).toUriString());
+        MailModel model = MailModel.builder()
+                .name(expectedUser.getName())
+                .text(emailResetPasswordMessageToLink)
+                .link(UriComponentsBuilder.fromHttpUrl(baseURL).path("/password/change").queryParam("token", expectedSecureToken.getToken()).toUriString())
+                .build();
 
         //when
         passwordRecoveryService.sendResetPasswordEmail(expectedUser);
 
         //then
         Mockito.verify(secureTokenService, Mockito.times(1)).update(expectedSecureToken);
-        Mockito.verify(mailSenderService, Mockito.times(1))
-                .sendEmail(expectedUser.getEmail(), null, mailContentBuilder.build(strings, "email/forgotPassword"));
-        Mockito.verify(mailContentBuilder, Mockito.times(1)).build(strings, "email/forgotPassword");
+        Mockito.verify(mailOutboxService, Mockito.times(1))
+                .enqueue(expectedUser.getEmail(), null, "emailTemplate/forgotPassword", model);
     }
 
     @Test
     void sendResetPasswordEmail_With_GMAIL_AUTHENTICATION() {
         //given
         Mockito.doReturn(expectedSecureToken).when(secureTokenService).createSecureToken();
-        List<String> strings = new ArrayList<>();
-        strings.add(expectedUserGAuth.getName());
-        strings.add(emailGmailLoginText);
-        strings.add(UriComponentsBuilder.fromHttpUrl(baseURL).path("/password/change").queryParam("token", expectedSecureToken.getToken()).toUriString());
+        Mockito.doReturn(emailGmailLoginText).when(messageSource).getMessage("email.gmail.login.text");
+        Mockito.doReturn("emailTemplate/loginViaGmail").when(messageSource).getMessage("template.email.password.forgot.gmail-authentication");
+
+        MailModel model = MailModel.builder()
+                .name(expectedUserGAuth.getName())
+                .text(emailGmailLoginText)
+                .build();
 
         //when
         passwordRecoveryService.sendResetPasswordEmail(expectedUserGAuth);
 
         //then
         Mockito.verify(secureTokenService, Mockito.times(1)).update(expectedSecureToken);
-        Mockito.verify(mailSenderService, Mockito.times(1))
-                .sendEmail(expectedUserGAuth.getEmail(), null, mailContentBuilder.build(strings, "email/loginViaGmail"));
-        Mockito.verify(mailContentBuilder, Mockito.times(1)).build(strings, "email/loginViaGmail");
+        Mockito.verify(mailOutboxService, Mockito.times(1))
+                .enqueue(expectedUserGAuth.getEmail(), null, "emailTemplate/loginViaGmail", model);
     }
 
     @Test
@@ -209,7 +208,7 @@ class PasswordRecoveryServiceImplTest extends AbstractTest {
     @Test
     void loginDisabledUsernameNotFoundException() {
         //given
-        Mockito.doThrow(UsernameNotFoundException.class).when(userService).loadUserByUsername(expectedUser.getUsername());
+        Mockito.doThrow(UsernameNotFoundException.class).when(userService).getUserByUsername(expectedUser.getUsername());
 
         //when
         boolean isLocked = passwordRecoveryService.loginDisabled(expectedUser.getUsername());
@@ -222,7 +221,7 @@ class PasswordRecoveryServiceImplTest extends AbstractTest {
     void loginDisabledSuccess() {
         //given
         expectedUser.setAccountNonLocked(false);
-        Mockito.doReturn(expectedUser).when(userService).loadUserByUsername(expectedUser.getUsername());
+        Mockito.doReturn(expectedUser).when(userService).getUserByUsername(expectedUser.getUsername());
         Mockito.doReturn(expectedSecureToken).when(secureTokenService).createSecureToken();
 
         //when
@@ -235,7 +234,7 @@ class PasswordRecoveryServiceImplTest extends AbstractTest {
     @Test
     void loginDisabledFailure() {
         //given
-        Mockito.doReturn(expectedUser).when(userService).loadUserByUsername(expectedUser.getUsername());
+        Mockito.doReturn(expectedUser).when(userService).getUserByUsername(expectedUser.getUsername());
 
         //when
         boolean isLocked = passwordRecoveryService.loginDisabled(expectedUser.getUsername());
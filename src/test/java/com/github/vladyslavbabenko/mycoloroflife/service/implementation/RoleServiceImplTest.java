@@ -78,6 +78,87 @@ class RoleServiceImplTest extends AbstractTest {
         Mockito.verify(roleRepository, Mockito.times(1)).existsByRoleName(testRole.getRoleName());
     }
 
+    @Test
+    void isGranted() {
+        //given
+        Mockito.doReturn(true).when(roleRepository).existsByUserIdAndRoleName(1, testRole.getRoleName());
+
+        //when
+        boolean isGranted = roleService.isGranted(1, testRole.getRoleName());
+
+        //then
+        Mockito.verify(roleRepository, Mockito.times(1)).existsByUserIdAndRoleName(1, testRole.getRoleName());
+        Assertions.assertThat(isGranted).isTrue();
+    }
+
+    @Test
+    void findByRoleName_FromRegistry() {
+        //given
+        Mockito.doReturn(List.of(testRole, testRole_2)).when(roleRepository).findAll();
+
+        //when
+        Optional<Role> first = roleService.findByRoleName(testRole.getRoleName());
+        Optional<Role> second = roleService.findByRoleName(testRole.getRoleName());
+        boolean exists = roleService.existsByRoleName(testRole_2.getRoleName());
+
+        //then
+        Mockito.verify(roleRepository, Mockito.times(1)).findAll();
+        Mockito.verify(roleRepository, Mockito.times(0)).findByRoleName(Mockito.anyString());
+        Mockito.verify(roleRepository, Mockito.times(0)).existsByRoleName(Mockito.anyString());
+        Assertions.assertThat(first.get()).isEqualTo(testRole);
+        Assertions.assertThat(second.get()).isEqualTo(testRole);
+        Assertions.assertThat(exists).isTrue();
+    }
+
+    @Test
+    void findByRoleName_MissingInRegistry_IsRegistered() {
+        //given
+        Mockito.doReturn(Optional.of(testRole)).when(roleRepository).findByRoleName(testRole.getRoleName());
+        roleService.findByRoleName(testRole.getRoleName());
+
+        //when
+        boolean exists = roleService.existsByRoleName(testRole.getRoleName());
+
+        //then
+        Mockito.verify(roleRepository, Mockito.times(1)).findByRoleName(testRole.getRoleName());
+        Mockito.verify(roleRepository, Mockito.times(0)).existsByRoleName(testRole.getRoleName());
+        Assertions.assertThat(exists).isTrue();
+    }
+
+    @Test
+    void registry_UpdatedOnSaveAndDelete() {
+        //given
+        roleService.getAllRoles();
+
+        //when
+        roleService.save(testRole);
+        boolean existsAfterSave = roleService.existsByRoleName(testRole.getRoleName());
+        Mockito.doReturn(true).when(roleRepository).existsByRoleName(testRole.getRoleName());
+        Mockito.doReturn(Optional.of(testRole)).when(roleRepository).findByRoleName(testRole.getRoleName());
+        roleService.delete(testRole);
+        Mockito.doReturn(false).when(roleRepository).existsByRoleName(testRole.getRoleName());
+        boolean existsAfterDelete = roleService.existsByRoleName(testRole.getRoleName());
+
+        //then
+        Mockito.verify(roleRepository, Mockito.times(1)).findAll();
+        Assertions.assertThat(existsAfterSave).isTrue();
+        Assertions.assertThat(existsAfterDelete).isFalse();
+        Assertions.assertThat(roleService.getAllRoles()).isEmpty();
+    }
+
+    @Test
+    void reloadRegistry() {
+        //given
+        roleService.getAllRoles();
+        Mockito.doReturn(List.of(testRole_2)).when(roleRepository).findAll();
+
+        //when
+        roleService.reloadRegistry();
+
+        //then
+        Assertions.assertThat(roleService.getAllRoles()).containsExactly(testRole_2);
+    }
+
     @Test
     void save_Success() {
         //when
@@ -0,0 +1,248 @@
+package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import com.github.vladyslavbabenko.mycoloroflife.entity.Article;
+import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
+import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
+import com.github.vladyslavbabenko.mycoloroflife.entity.Event;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.SearchResult;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.SearchSuggestion;
+import com.github.vladyslavbabenko.mycoloroflife.enumeration.ContentType;
+import com.github.vladyslavbabenko.mycoloroflife.repository.ArticleRepository;
+import com.github.vladyslavbabenko.mycoloroflife.repository.CourseRepository;
+import com.github.vladyslavbabenko.mycoloroflife.repository.CourseTitleRepository;
+import com.github.vladyslavbabenko.mycoloroflife.repository.EventRepository;
+import com.github.vladyslavbabenko.mycoloroflife.service.SearchService;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Set;
+
+@DisplayName("Unit-level testing for SearchService")
+class SearchServiceImplTest extends AbstractTest {
+
+    private SearchService searchService;
+    private ArticleRepository articleRepository;
+    private EventRepository eventRepository;
+    private CourseTitleRepository courseTitleRepository;
+    private CourseRepository courseRepository;
+    private Article testArticle;
+    private Event testEvent;
+    private CourseTitle testCourseTitle;
+    private Course testCourse;
+
+    @BeforeEach
+    void setUp() {
+        //given
+        articleRepository = Mockito.mock(ArticleRepository.class);
+        eventRepository = Mockito.mock(EventRepository.class);
+        courseTitleRepository = Mockito.mock(CourseTitleRepository.class);
+        courseRepository = Mockito.mock(CourseRepository.class);
+
+        searchService = new SearchServiceImpl(articleRepository, eventRepository, courseTitleRepository, courseRepository);
+
+        testArticle = Article.builder().id(1).title("First test title").text("First test text").build();
+        testEvent = Event.builder().id(2).title("Second test title").text("Second test text").build();
+        testCourseTitle = CourseTitle.builder().id(3).title("Test Course").description("Test Course description").build();
+        testCourse = Course.builder().id(4).courseTitle(testCourseTitle).page(1).videoTitle("Video").text("Lesson text").build();
+        testCourseTitle.setCourses(Set.of(testCourse));
+    }
+
+    @Test
+    void isSearchServiceImplTestReady() {
+        Assertions.assertThat(articleRepository).isNotNull().isInstanceOf(ArticleRepository.class);
+        Assertions.assertThat(eventRepository).isNotNull().isInstanceOf(EventRepository.class);
+        Assertions.assertThat(courseTitleRepository).isNotNull().isInstanceOf(CourseTitleRepository.class);
+        Assertions.assertThat(courseRepository).isNotNull().isInstanceOf(CourseRepository.class);
+        Assertions.assertThat(searchService).isNotNull().isInstanceOf(SearchService.class);
+    }
+
+    @Test
+    void rebuildIndex() {
+        //given
+        Mockito.doReturn(List.of(testArticle)).when(articleRepository).findAll();
+        Mockito.doReturn(List.of(testEvent)).when(eventRepository).findAll();
+        Mockito.doReturn(List.of(testCourseTitle)).when(courseTitleRepository).findAll();
+        Mockito.doReturn(List.of(testCourse)).when(courseRepository).findAll();
+
+        //when
+        searchService.rebuildIndex();
+        List<SearchResult> results = searchService.search("test", 10);
+
+        //then
+        Mockito.verify(articleRepository, Mockito.times(1)).findAll();
+        Mockito.verify(eventRepository, Mockito.times(1)).findAll();
+        Mockito.verify(courseTitleRepository, Mockito.times(1)).findAll();
+        Mockito.verify(courseRepository, Mockito.times(1)).findAll();
+        Assertions.assertThat(results).hasSize(3);
+    }
+
+    @Test
+    void rebuildIndex_FollowsChangesOfOtherInstances() {
+        //given
+        Mockito.doReturn(List.of(testArticle)).when(articleRepository).findAll();
+        searchService.rebuildIndex();
+        Mockito.doReturn(List.of()).when(articleRepository).findAll();
+        Mockito.doReturn(List.of(testEvent)).when(eventRepository).findAll();
+
+        //when
+        searchService.rebuildIndex();
+
+        //then
+        Assertions.assertThat(searchService.search("first", 10)).isEmpty();
+        Assertions.assertThat(searchService.search("second", 10)).hasSize(1);
+    }
+
+    @Test
+    void rebuildIndex_KeepsUpdatesMadeMeanwhile() throws InterruptedException {
+        //given
+        Thread update = new Thread(() -> searchService.indexEvent(testEvent));
+        Mockito.doAnswer(invocation -> {
+            update.start();
+            update.join(200);
+            return List.of(testArticle);
+        }).when(articleRepository).findAll();
+
+        //when
+        searchService.rebuildIndex();
+        update.join();
+
+        //then
+        Assertions.assertThat(searchService.search("first", 10)).hasSize(1);
+        Assertions.assertThat(searchService.search("second", 10)).hasSize(1);
+    }
+
+    @Test
+    void search_DoesNotQueryDatabase() {
+        //given
+        searchService.indexArticle(testArticle);
+
+        //when
+        List<SearchResult> results = searchService.search("first", 10);
+
+        //then
+        Mockito.verifyNoInteractions(articleRepository, eventRepository, courseTitleRepository, courseRepository);
+        Assertions.assertThat(results).hasSize(1);
+        Assertions.assertThat(results.get(0).getContentType()).isEqualTo(ContentType.ARTICLE);
+        Assertions.assertThat(results.get(0).getId()).isEqualTo(testArticle.getId());
+        Assertions.assertThat(results.get(0).getScore()).isGreaterThan(0);
+    }
+
+    @Test
+    void indexArticle_UpdatesExistingArticle() {
+        //given
+        searchService.indexArticle(testArticle);
+        testArticle.setTitle("Renamed");
+
+        //when
+        searchService.indexArticle(testArticle);
+
+        //then
+        Assertions.assertThat(searchService.search("renamed", 10)).hasSize(1);
+        Assertions.assertThat(searchService.search("title", 10)).isEmpty();
+    }
+
+    @Test
+    void removeEvent() {
+        //given
+        searchService.indexEvent(testEvent);
+
+        //when
+        searchService.removeEvent(testEvent.getId());
+
+        //then
+        Assertions.assertThat(searchService.search("second", 10)).isEmpty();
+    }
+
+    @Test
+    void indexCourseTitle_WithCoursePages() {
+        //when
+        searchService.indexCourseTitle(testCourseTitle);
+        List<SearchResult> results = searchService.search("lesson", 10);
+
+        //then
+        Assertions.assertThat(results).hasSize(1);
+        Assertions.assertThat(results.get(0).getContentType()).isEqualTo(ContentType.COURSE_TITLE);
+        Assertions.assertThat(results.get(0).getTitle()).isEqualTo(testCourseTitle.getTitle());
+        Assertions.assertThat(results.get(0).getPage()).isEqualTo(testCourse.getPage());
+    }
+
+    @Test
+    void removeCourseTitle_WithCoursePages() {
+        //given
+        searchService.indexCourseTitle(testCourseTitle);
+
+        //when
+        searchService.removeCourseTitle(testCourseTitle);
+
+        //then
+        Assertions.assertThat(searchService.search("course lesson", 10)).isEmpty();
+    }
+
+    @Test
+    void removeCourse() {
+        //given
+        searchService.indexCourse(testCourse);
+
+        //when
+        searchService.removeCourse(testCourse.getId());
+
+        //then
+        Assertions.assertThat(searchService.search("lesson", 10)).isEmpty();
+    }
+
+    @Test
+    void suggest_TitlesOnly() {
+        //given
+        searchService.indexArticle(testArticle);
+        searchService.indexEvent(testEvent);
+        searchService.indexCourseTitle(testCourseTitle);
+
+        //when
+        List<SearchSuggestion> suggestions = searchService.suggest("tes", 10);
+
+        //then
+        Mockito.verifyNoInteractions(articleRepository, eventRepository, courseTitleRepository, courseRepository);
+        Assertions.assertThat(suggestions).hasSize(3);
+        Assertions.assertThat(suggestions.get(0).getContentType()).isEqualTo(ContentType.COURSE_TITLE);
+        Assertions.assertThat(suggestions.get(0).getTitle()).isEqualTo(testCourseTitle.getTitle());
+        Assertions.assertThat(searchService.suggest("vid", 10)).isEmpty();
+    }
+
+    @Test
+    void suggest_FollowsRenamesAndDeletes() {
+        //given
+        searchService.indexArticle(testArticle);
+        searchService.indexEvent(testEvent);
+        testArticle.setTitle("Renamed");
+
+        //when
+        searchService.indexArticle(testArticle);
+        searchService.removeEvent(testEvent.getId());
+
+        //then
+        Assertions.assertThat(searchService.suggest("first", 10)).isEmpty();
+        Assertions.assertThat(searchService.suggest("second", 10)).isEmpty();
+        Assertions.assertThat(searchService.suggest("ren", 10)).hasSize(1);
+    }
+
+    @Test
+    void suggest_FollowsChangesOfOtherInstances() {
+        //given
+        Mockito.doReturn(List.of(testArticle)).when(articleRepository).findAll();
+        searchService.rebuildIndex();
+        Mockito.doReturn(List.of()).when(articleRepository).findAll();
+        Mockito.doReturn(List.of(testCourseTitle)).when(courseTitleRepository).findAll();
+
+        //when
+        searchService.rebuildIndex();
+
+        //then
+        Assertions.assertThat(searchService.suggest("first", 10)).isEmpty();
+        Assertions.assertThat(searchService.suggest("test c", 10)).hasSize(1);
+    }
+}
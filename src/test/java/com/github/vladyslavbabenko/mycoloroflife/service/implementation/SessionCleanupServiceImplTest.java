@@ -0,0 +1,65 @@
+package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import com.github.vladyslavbabenko.mycoloroflife.service.SessionCleanupService;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+@DisplayName("Integration testing for SessionCleanupService")
+class SessionCleanupServiceImplTest extends AbstractTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SessionCleanupService sessionCleanupService;
+
+    @BeforeEach
+    void setUp() {
+        //given
+        sessionCleanupService = new SessionCleanupServiceImpl(jdbcTemplate, 2);
+
+        long now = System.currentTimeMillis();
+
+        for (int i = 0; i < 5; i++) {
+            insertSession(now - 60_000, "TestUser" + i);
+        }
+
+        insertSession(now + 60_000, "ActiveUser");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM spring_session");
+    }
+
+    @Test
+    void deleteExpiredSessions() {
+        //when
+        int deleted = sessionCleanupService.deleteExpiredSessions();
+
+        //then
+        Assertions.assertThat(deleted).isEqualTo(5);
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM spring_session", Integer.class)).isEqualTo(1);
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM spring_session_attributes", Integer.class))
+                .isEqualTo(1);
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT principal_name FROM spring_session", String.class))
+                .isEqualTo("ActiveUser");
+    }
+
+    private void insertSession(long expiryTime, String principalName) {
+        String primaryId = UUID.randomUUID().toString();
+
+        jdbcTemplate.update("INSERT INTO spring_session (primary_id, session_id, creation_time, last_access_time, " +
+                        "max_inactive_interval, expiry_time, principal_name) VALUES (?, ?, ?, ?, 1800, ?, ?)",
+                primaryId, UUID.randomUUID().toString(), expiryTime - 1_800_000, expiryTime - 1_800_000, expiryTime, principalName);
+        jdbcTemplate.update("INSERT INTO spring_session_attributes (session_primary_id, attribute_name, attribute_bytes) " +
+                "VALUES (?, 'key', ?)", primaryId, new byte[]{0});
+    }
+}
@@ -2,14 +2,20 @@ package com.github.vladyslavbabenko.mycoloroflife.service.implementation;
 
 import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
 import com.github.vladyslavbabenko.mycoloroflife.entity.*;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.UserPrincipal;
 import com.github.vladyslavbabenko.mycoloroflife.enumeration.UserRegistrationType;
 import com.github.vladyslavbabenko.mycoloroflife.repository.UserRepository;
 import com.github.vladyslavbabenko.mycoloroflife.service.*;
+import com.github.vladyslavbabenko.mycoloroflife.util.CurrentUserContext;
 import org.fest.assertions.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.security.authentication.RememberMeAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -29,7 +35,8 @@ class UserServiceImplTest extends AbstractTest {
     private ActivationCodeService activationCodeService;
     private RoleService roleService;
     private CourseProgressService courseProgressService;
-    private CourseService courseService;
+    private AuthorService authorService;
+    private CurrentUserContext currentUserContext;
 
     private User testUser, testUserGAuth;
     private Role testRole;
@@ -45,9 +52,11 @@ class UserServiceImplTest extends AbstractTest {
         activationCodeService = Mockito.mock(ActivationCodeService.class);
         roleService = Mockito.mock(RoleService.class);
         courseProgressService = Mockito.mock(CourseProgressService.class);
-        courseService = Mockito.mock(CourseService.class);
+        authorService = Mockito.mock(AuthorService.class);
+        currentUserContext = new CurrentUserContext();
 
-        userService = new UserServiceImpl(userRepository, bCryptPasswordEncoder, activationCodeService, roleService, courseProgressService, courseService);
+        userService = new UserServiceImpl(userRepository, bCryptPasswordEncoder, activationCodeService, roleService, courseProgressService, authorService,
+                currentUserContext);
 
         oAuth2UserAuthorityMock = Mockito.mock(OAuth2UserAuthority.class);
 
@@ -108,6 +117,50 @@ class UserServiceImplTest extends AbstractTest {
         Mockito.verify(userRepository, Mockito.times(1)).findById(testUser.getId());
     }
 
+    @Test
+    void getCurrentUserWithDetails() {
+        //given
+        SecurityContextImpl securityContext = new SecurityContextImpl();
+        securityContext.setAuthentication(new RememberMeAuthenticationToken(
+                "TestUser", testUser, AuthorityUtils.createAuthorityList("ROLE_USER")));
+        SecurityContextHolder.setContext(securityContext);
+        Mockito.doReturn(Optional.of(testUser)).when(userRepository).findWithPrivateAreaByEmail(testUser.getEmail());
+
+        //when
+        User currentUser = userService.getCurrentUserWithDetails();
+
+        //then
+        Mockito.verify(userRepository, Mockito.never()).findByEmail(Mockito.anyString());
+        Assertions.assertThat(currentUser).isEqualTo(testUser);
+
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getCurrentUser_LooksUpOncePerRequest() {
+        //given
+        SecurityContextImpl securityContext = new SecurityContextImpl();
+        securityContext.setAuthentication(new RememberMeAuthenticationToken(
+                "TestUser", testUser, AuthorityUtils.createAuthorityList("ROLE_USER")));
+        SecurityContextHolder.setContext(securityContext);
+        Mockito.doReturn(Optional.of(testUser)).when(userRepository).findByEmail(testUser.getEmail());
+        Mockito.doReturn(Optional.of(testUser)).when(userRepository).findById(testUser.getId());
+
+        //when
+        userService.getCurrentUser();
+        userService.getCurrentUser();
+        userService.updateUser(testUser);
+        User currentUser = userService.getCurrentUser();
+
+        //then
+        Mockito.verify(userRepository, Mockito.times(2)).findByEmail(testUser.getEmail());
+        Assertions.assertThat(currentUser).isEqualTo(testUser);
+        Assertions.assertThat(currentUserContext.getLookups()).isEqualTo(2);
+        Assertions.assertThat(currentUserContext.getHits()).isEqualTo(1);
+
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     void shouldReturnSortedListOfUsers() {
         //when
@@ -186,6 +239,7 @@ class UserServiceImplTest extends AbstractTest {
         //then
         Mockito.verify(userRepository, Mockito.times(1)).existsById(testUser.getId());
         Mockito.verify(userRepository, Mockito.times(1)).deleteById(testUser.getId());
+        Mockito.verify(authorService, Mockito.times(1)).evict(testUser.getId());
         Assertions.assertThat(isUserDeleted).isTrue();
     }
 
@@ -237,9 +291,58 @@ class UserServiceImplTest extends AbstractTest {
         Mockito.doReturn(Optional.ofNullable(testUser)).when(userRepository).findByEmail(testUser.getEmail());
         UserDetails userFromMethod = userService.loadUserByUsername(testUser.getEmail());
         //then
+        Assertions.assertThat(userFromMethod).isNotNull().isInstanceOf(UserPrincipal.class);
+        Assertions.assertThat(((UserPrincipal) userFromMethod).getId()).isEqualTo(testUser.getId());
+        Assertions.assertThat(userFromMethod.getUsername()).isEqualTo(testUser.getEmail());
+        Assertions.assertThat(userFromMethod.getPassword()).isEqualTo(testUser.getPassword());
+        Assertions.assertThat(userFromMethod.getAuthorities()).hasSize(testUser.getRoles().size());
+    }
+
+    @Test
+    void shouldGetUserByUsername() {
+        //when
+        Mockito.doReturn(Optional.ofNullable(testUser)).when(userRepository).findByEmail(testUser.getEmail());
+        User userFromMethod = userService.getUserByUsername(testUser.getEmail());
+        //then
         Assertions.assertThat(userFromMethod).isNotNull().isEqualTo(testUser);
     }
 
+    @Test
+    void getCurrentUser_FromUserPrincipal() {
+        //given
+        SecurityContextImpl securityContext = new SecurityContextImpl();
+        securityContext.setAuthentication(new RememberMeAuthenticationToken(
+                "TestUser", UserPrincipal.of(testUser), AuthorityUtils.createAuthorityList("ROLE_USER")));
+        SecurityContextHolder.setContext(securityContext);
+        Mockito.doReturn(Optional.of(testUser)).when(userRepository).findByEmail(testUser.getEmail().toLowerCase(Locale.ROOT));
+
+        //when
+        User currentUser = userService.getCurrentUser();
+
+        //then
+        Assertions.assertThat(currentUser).isEqualTo(testUser);
+
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getCurrentUserId_WithoutLookup() {
+        //given
+        SecurityContextImpl securityContext = new SecurityContextImpl();
+        securityContext.setAuthentication(new RememberMeAuthenticationToken(
+                "TestUser", UserPrincipal.of(testUser), AuthorityUtils.createAuthorityList("ROLE_USER")));
+        SecurityContextHolder.setContext(securityContext);
+
+        //when
+        Integer currentUserId = userService.getCurrentUserId();
+
+        //then
+        Assertions.assertThat(currentUserId).isEqualTo(testUser.getId());
+        Mockito.verifyNoInteractions(userRepository);
+
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     void shouldNotLoadUserByUsername() {
         //when
@@ -312,7 +415,6 @@ class UserServiceImplTest extends AbstractTest {
         Mockito.doReturn(testActivationCode.getCourseTitle().getTitle().toUpperCase(Locale.ROOT)).when(roleService).convertToRoleStyle(testActivationCode.getCourseTitle().getTitle());
         Mockito.doReturn(true).when(roleService).existsByRoleName(courseOwnerRoleAsString);
         Mockito.doReturn(Optional.of(testRole)).when(roleService).findByRoleName(courseOwnerRoleAsString);
-        Mockito.doReturn(Optional.of(testCourse)).when(courseService).findByCourseTitleAndPage(testActivationCode.getCourseTitle().getTitle(), 1);
 
         //when
         boolean isTrue = userService.activateCode(testActivationCode);
@@ -323,7 +425,7 @@ class UserServiceImplTest extends AbstractTest {
         Mockito.verify(roleService, Mockito.times(1)).existsByRoleName(courseOwnerRoleAsString);
         Mockito.verify(userRepository, Mockito.times(1)).save(testActivationCode.getUser());
         Mockito.verify(activationCodeService, Mockito.times(1)).deleteByCode(testActivationCode.getCode());
-        Mockito.verify(courseService, Mockito.times(1)).findByCourseTitleAndPage(testActivationCode.getCourseTitle().getTitle(), 1);
+        Mockito.verify(courseProgressService, Mockito.times(1)).save(Mockito.any(CourseProgress.class));
         Assertions.assertThat(isTrue).isTrue();
     }
 
@@ -0,0 +1,51 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+@DisplayName("Unit-level testing for CompiledMailTemplate")
+class CompiledMailTemplateTest extends AbstractTest {
+
+    @Test
+    void render_FillsSlotsBetweenFragments() {
+        //given
+        CompiledMailTemplate template = CompiledMailTemplate.compile("<p>Hello, " + CompiledMailTemplate.markerOf("name")
+                + "!</p><p>" + CompiledMailTemplate.markerOf("code") + "</p><p>" + CompiledMailTemplate.markerOf("name") + "</p>");
+
+        //when
+        String rendered = template.render(Map.of("name", "TestUser", "code", "Q5sxTc941iokNy8"));
+
+        //then
+        Assertions.assertThat(rendered).isEqualTo("<p>Hello, TestUser!</p><p>Q5sxTc941iokNy8</p><p>TestUser</p>");
+        Assertions.assertThat(template.getSlotCount()).isEqualTo(3);
+    }
+
+    @Test
+    void render_EscapesValues() {
+        //given
+        CompiledMailTemplate template = CompiledMailTemplate.compile("<p>" + CompiledMailTemplate.markerOf("name") + "</p>");
+
+        //when
+        String rendered = template.render(Map.of("name", "<b>Tom & \"Jerry\"</b>"));
+
+        //then
+        Assertions.assertThat(rendered).isEqualTo("<p>&lt;b&gt;Tom &amp; &quot;Jerry&quot;&lt;/b&gt;</p>");
+    }
+
+    @Test
+    void render_WithoutSlots() {
+        //given
+        CompiledMailTemplate template = CompiledMailTemplate.compile("<p>Static</p>");
+
+        //when
+        String rendered = template.render(Map.of());
+
+        //then
+        Assertions.assertThat(rendered).isEqualTo("<p>Static</p>");
+        Assertions.assertThat(template.getSlotCount()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import com.github.vladyslavbabenko.mycoloroflife.entity.Course;
+import com.github.vladyslavbabenko.mycoloroflife.entity.CourseTitle;
+import com.github.vladyslavbabenko.mycoloroflife.entity.projection.CourseCatalogPage;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@DisplayName("Unit-level testing for CourseCatalog")
+class CourseCatalogTest extends AbstractTest {
+
+    private CourseTitle testCourseTitle, emptyCourseTitle;
+    private CourseCatalog courseCatalog;
+
+    @BeforeEach
+    void setUp() {
+        //given
+        testCourseTitle = CourseTitle.builder().id(1).title("Test").description("Test description").build();
+        emptyCourseTitle = CourseTitle.builder().id(2).title("Empty").description("Empty description").build();
+
+        courseCatalog = CourseCatalog.of(List.of(testCourseTitle, emptyCourseTitle), List.of(
+                page(1, 13, 3, "Third"),
+                page(1, 11, 1, null),
+                page(3, 30, 1, "Unknown course"),
+                page(1, 12, 2, "Second")));
+    }
+
+    @Test
+    void findByTitle_PagesSortedByNumber() {
+        //when
+        CourseCatalog.TableOfContents tableOfContents = courseCatalog.findByTitle("Test").get();
+        List<Course> pages = tableOfContents.getPages();
+
+        //then
+        Assertions.assertThat(courseCatalog.size()).isEqualTo(2);
+        Assertions.assertThat(tableOfContents.getCourseTitle().getDescription()).isEqualTo("Test description");
+        Assertions.assertThat(pages.stream().map(Course::getPage).collect(Collectors.toList())).containsExactly(1, 2, 3);
+        Assertions.assertThat(pages.stream().map(Course::getId).collect(Collectors.toList())).containsExactly(11, 12, 13);
+        Assertions.assertThat(pages.get(1).getVideoTitle()).isEqualTo("Second");
+        Assertions.assertThat(pages.get(1).getCourseTitle().getTitle()).isEqualTo("Test");
+        Assertions.assertThat(tableOfContents.getPageCount()).isEqualTo(3);
+        Assertions.assertThat(tableOfContents.getMaxPage()).isEqualTo(3);
+        Assertions.assertThat(tableOfContents.findPageId(2).getAsInt()).isEqualTo(12);
+        Assertions.assertThat(tableOfContents.findPageId(4).isPresent()).isFalse();
+    }
+
+    @Test
+    void findByTitle_CourseWithoutPages() {
+        //when
+        CourseCatalog.TableOfContents tableOfContents = courseCatalog.findByTitle("Empty").get();
+
+        //then
+        Assertions.assertThat(tableOfContents.getPages()).isEmpty();
+        Assertions.assertThat(tableOfContents.getMaxPage()).isEqualTo(-1);
+    }
+
+    @Test
+    void findByTitle_NoSuchCourse() {
+        Assertions.assertThat(courseCatalog.findByTitle("No such course").isPresent()).isFalse();
+        Assertions.assertThat(courseCatalog.findByTitle(null).isPresent()).isFalse();
+        Assertions.assertThat(CourseCatalog.empty().size()).isZero();
+    }
+
+    @Test
+    void returnedCourseTitles_AreCopies() {
+        //when
+        courseCatalog.findByTitle("Test").get().getCourseTitle().setTitle("Changed");
+        testCourseTitle.setTitle("Changed");
+
+        //then
+        Assertions.assertThat(courseCatalog.findByTitle("Test").get().getCourseTitle().getTitle()).isEqualTo("Test");
+    }
+
+    @Test
+    void with_ReplacesRenamedCourse() {
+        //given
+        CourseTitle renamedCourseTitle = CourseTitle.builder().id(1).title("Renamed").build();
+
+        //when
+        CourseCatalog changed = courseCatalog.with(CourseCatalog.TableOfContents.of(renamedCourseTitle, List.of(page(1, 11, 1, null))));
+
+        //then
+        Assertions.assertThat(changed.size()).isEqualTo(2);
+        Assertions.assertThat(changed.findByTitle("Test").isPresent()).isFalse();
+        Assertions.assertThat(changed.findByTitle("Renamed").get().getMaxPage()).isEqualTo(1);
+        Assertions.assertThat(courseCatalog.findByTitle("Test").get().getMaxPage()).isEqualTo(3);
+    }
+
+    private static CourseCatalogPage page(int courseTitleId, int courseId, int page, String videoTitle) {
+        return new CourseCatalogPage() {
+            @Override
+            public Integer getCourseTitleId() {
+                return courseTitleId;
+            }
+
+            @Override
+            public Integer getCourseId() {
+                return courseId;
+            }
+
+            @Override
+            public Integer getPage() {
+                return page;
+            }
+
+            @Override
+            public String getVideoTitle() {
+                return videoTitle;
+            }
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+@DisplayName("Unit-level testing for CourseProgressBuffer")
+class CourseProgressBufferTest extends AbstractTest {
+
+    private CourseProgressBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        //given
+        buffer = new CourseProgressBuffer();
+    }
+
+    @Test
+    void record_KeepsHighestPagePerUserAndCourseTitle() {
+        //when
+        buffer.record(1, 1, 3);
+        buffer.record(1, 1, 2);
+        buffer.record(1, 2, 1);
+
+        //then
+        Assertions.assertThat(buffer.find(1, 1).getAsInt()).isEqualTo(3);
+        Assertions.assertThat(buffer.find(1, 2).getAsInt()).isEqualTo(1);
+        Assertions.assertThat(buffer.find(2, 1).isPresent()).isFalse();
+        Assertions.assertThat(buffer.size()).isEqualTo(2);
+        Assertions.assertThat(buffer.getRecordedCount()).isEqualTo(3);
+        Assertions.assertThat(buffer.getMergedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void snapshot_ContainsPendingUpdates() {
+        //given
+        buffer.record(1, 2, 3);
+
+        //when
+        List<CourseProgressBuffer.Entry> entries = buffer.snapshot();
+
+        //then
+        Assertions.assertThat(entries).hasSize(1);
+        Assertions.assertThat(entries.get(0).getUserId()).isEqualTo(1);
+        Assertions.assertThat(entries.get(0).getCourseTitleId()).isEqualTo(2);
+        Assertions.assertThat(entries.get(0).getLastPage()).isEqualTo(3);
+        Assertions.assertThat(buffer.size()).isEqualTo(1);
+    }
+
+    @Test
+    void remove_KeepsUpdatesRecordedDuringFlush() {
+        //given
+        buffer.record(1, 1, 2);
+        buffer.record(2, 1, 2);
+        List<CourseProgressBuffer.Entry> flushed = buffer.snapshot();
+        buffer.record(1, 1, 3);
+
+        //when
+        buffer.remove(flushed);
+
+        //then
+        Assertions.assertThat(buffer.find(1, 1).getAsInt()).isEqualTo(3);
+        Assertions.assertThat(buffer.find(2, 1).isPresent()).isFalse();
+        Assertions.assertThat(buffer.size()).isEqualTo(1);
+    }
+
+    @Test
+    void record_Concurrently_KeepsHighestPage() {
+        //when
+        IntStream.rangeClosed(1, 1000).parallel().forEach(page -> buffer.record(Integer.MAX_VALUE, 7, page));
+
+        //then
+        Assertions.assertThat(buffer.find(Integer.MAX_VALUE, 7).getAsInt()).isEqualTo(1000);
+        Assertions.assertThat(buffer.getRecordedCount()).isEqualTo(1000);
+        Assertions.assertThat(buffer.getMergedCount()).isEqualTo(999);
+        Assertions.assertThat(buffer.snapshot().get(0).getUserId()).isEqualTo(Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@DisplayName("Unit-level testing for CurrentUserContext")
+class CurrentUserContextTest extends AbstractTest {
+
+    private CurrentUserContext currentUserContext;
+    private AtomicInteger lookups;
+    private Supplier<User> lookup;
+
+    @BeforeEach
+    void setUp() {
+        //given
+        currentUserContext = new CurrentUserContext();
+        lookups = new AtomicInteger();
+        lookup = () -> User.builder().id(lookups.incrementAndGet()).build();
+    }
+
+    @Test
+    void getUser_LooksUpOnce() {
+        //when
+        User first = currentUserContext.getUser("TestUser", lookup);
+        User second = currentUserContext.getUser("TestUser", lookup);
+
+        //then
+        Assertions.assertThat(second).isSameAs(first);
+        Assertions.assertThat(lookups.get()).isEqualTo(1);
+        Assertions.assertThat(currentUserContext.getLookups()).isEqualTo(1);
+        Assertions.assertThat(currentUserContext.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void getUserWithDetails_LooksUpAgainOnlyIfDetailsAreMissing() {
+        //when
+        currentUserContext.getUser("TestUser", lookup);
+        User detailed = currentUserContext.getUserWithDetails("TestUser", lookup);
+        User user = currentUserContext.getUser("TestUser", lookup);
+
+        //then
+        Assertions.assertThat(user).isSameAs(detailed);
+        Assertions.assertThat(currentUserContext.getLookups()).isEqualTo(2);
+        Assertions.assertThat(currentUserContext.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void getUser_AfterPrincipalChange() {
+        //when
+        currentUserContext.getUser("anonymousUser", lookup);
+        currentUserContext.getUser("TestUser", lookup);
+
+        //then
+        Assertions.assertThat(currentUserContext.getLookups()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidate() {
+        //given
+        currentUserContext.getUserWithDetails("TestUser", lookup);
+
+        //when
+        currentUserContext.invalidate();
+        currentUserContext.getUser("TestUser", lookup);
+
+        //then
+        Assertions.assertThat(currentUserContext.getLookups()).isEqualTo(2);
+        Assertions.assertThat(currentUserContext.getHits()).isZero();
+    }
+
+    @Test
+    void isActive_InsideRequest() {
+        Assertions.assertThat(CurrentUserContext.isActive()).isTrue();
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@DisplayName("Unit-level testing for InvertedIndex")
+class InvertedIndexTest extends AbstractTest {
+
+    private InvertedIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        //given
+        index = new InvertedIndex<>();
+        index.put("1", "first", "Перша стаття", "Текст про весну і сонце");
+        index.put("2", "second", "Друга стаття", "Текст про зиму");
+        index.put("3", "third", "Весна", "Весняні події");
+    }
+
+    @Test
+    void search_RanksTitleMatchesHigher() {
+        List<String> values = values(index.search("весна", 10));
+
+        Assertions.assertThat(values).containsExactly("third", "first");
+    }
+
+    @Test
+    void search_MatchesWordForms() {
+        Assertions.assertThat(values(index.search("статті", 10))).containsOnly("first", "second");
+        Assertions.assertThat(values(index.search("зими", 10))).containsExactly("second");
+    }
+
+    @Test
+    void search_ReturnsTopK() {
+        List<InvertedIndex.Hit<String>> hits = index.search("стаття весна зима", 2);
+
+        Assertions.assertThat(hits).hasSize(2);
+        Assertions.assertThat(hits.get(0).getScore()).isGreaterThanOrEqualTo(hits.get(1).getScore());
+    }
+
+    @Test
+    void search_NoMatches() {
+        Assertions.assertThat(index.search("літо", 10)).isEmpty();
+        Assertions.assertThat(index.search("", 10)).isEmpty();
+        Assertions.assertThat(index.search("весна", 0)).isEmpty();
+    }
+
+    @Test
+    void put_ReplacesDocumentWithSameKey() {
+        //when
+        index.put("2", "second", "Друга стаття", "Текст про весну");
+
+        //then
+        Assertions.assertThat(index.size()).isEqualTo(3);
+        Assertions.assertThat(values(index.search("зима", 10))).isEmpty();
+        Assertions.assertThat(values(index.search("весна", 10))).contains("second");
+    }
+
+    @Test
+    void remove() {
+        //when
+        boolean isRemoved = index.remove("3");
+
+        //then
+        Assertions.assertThat(isRemoved).isTrue();
+        Assertions.assertThat(index.remove("3")).isFalse();
+        Assertions.assertThat(index.size()).isEqualTo(2);
+        Assertions.assertThat(values(index.search("весна", 10))).containsExactly("first");
+    }
+
+    @Test
+    void remove_CompactsPostings() {
+        //when
+        index.remove("1");
+        index.remove("2");
+        index.put("4", "fourth", "Зима", null);
+
+        //then
+        Assertions.assertThat(index.size()).isEqualTo(2);
+        Assertions.assertThat(values(index.search("стаття зима весна", 10))).containsOnly("third", "fourth");
+    }
+
+    @Test
+    void put_RenumbersDocumentsAfterManyEdits() {
+        //when
+        for (int i = 0; i < 1_000; i++) {
+            index.put("2", "second", "Друга стаття", "Текст про зиму " + i);
+        }
+
+        //then
+        Assertions.assertThat(index.size()).isEqualTo(3);
+        Assertions.assertThat(index.getDocumentIdCount()).isLessThanOrEqualTo(2 * index.size() + 1);
+        Assertions.assertThat(values(index.search("зима", 10))).containsExactly("second");
+        Assertions.assertThat(values(index.search("весна", 10))).containsExactly("third", "first");
+        Assertions.assertThat(values(index.search("стаття", 10))).containsExactly("second", "first");
+    }
+
+    @Test
+    void clear() {
+        //when
+        index.clear();
+
+        //then
+        Assertions.assertThat(index.size()).isEqualTo(0);
+        Assertions.assertThat(index.search("весна", 10)).isEmpty();
+    }
+
+    private List<String> values(List<InvertedIndex.Hit<String>> hits) {
+        return hits.stream().map(InvertedIndex.Hit::getValue).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.CursorPage;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.function.Function;
+
+@DisplayName("Unit-level testing for PaginationUtil")
+class PaginationUtilTest extends AbstractTest {
+
+    private final Function<Integer, Integer> idGetter = Function.identity();
+
+    @Test
+    void newestFirst() {
+        Assertions.assertThat(PaginationUtil.newestFirst(2, 6).getPageNumber()).isEqualTo(1);
+        Assertions.assertThat(PaginationUtil.newestFirst(0, 6).getPageNumber()).isEqualTo(0);
+        Assertions.assertThat(PaginationUtil.newestFirst(2, 6).getSort()).isEqualTo(Sort.by(Sort.Direction.DESC, "id"));
+    }
+
+    @Test
+    void pageIndexes() {
+        Assertions.assertThat(PaginationUtil.pageIndexes(3)).isEqualTo(new int[]{0, 1, 2});
+        Assertions.assertThat(PaginationUtil.pageIndexes(0)).isEmpty();
+    }
+
+    @Test
+    void pageRequest() {
+        Assertions.assertThat(PaginationUtil.pageRequest(3, 6).getOffset()).isEqualTo(12);
+        Assertions.assertThat(PaginationUtil.pageRequest(3, 6).getSort().isSorted()).isFalse();
+    }
+
+    @Test
+    void encodeAndDecodeCursor() {
+        String cursor = PaginationUtil.encodeCursor(42);
+
+        Assertions.assertThat(cursor).doesNotContain("42");
+        Assertions.assertThat(PaginationUtil.decodeCursor(cursor).get()).isEqualTo(42);
+    }
+
+    @Test
+    void decodeCursor_Malformed() {
+        Assertions.assertThat(PaginationUtil.decodeCursor(null).isPresent()).isFalse();
+        Assertions.assertThat(PaginationUtil.decodeCursor("").isPresent()).isFalse();
+        Assertions.assertThat(PaginationUtil.decodeCursor("%%%").isPresent()).isFalse();
+        Assertions.assertThat(PaginationUtil.decodeCursor("NDI").isPresent()).isFalse();
+    }
+
+    @Test
+    void afterCursor_WithNextPage() {
+        CursorPage<Integer> page = PaginationUtil.afterCursor(List.of(9, 8, 7), 2, true, idGetter);
+
+        Assertions.assertThat(page.getContent()).containsExactly(9, 8);
+        Assertions.assertThat(PaginationUtil.decodeCursor(page.getPreviousCursor()).get()).isEqualTo(9);
+        Assertions.assertThat(PaginationUtil.decodeCursor(page.getNextCursor()).get()).isEqualTo(8);
+    }
+
+    @Test
+    void afterCursor_FirstAndLastPage() {
+        CursorPage<Integer> page = PaginationUtil.afterCursor(List.of(9, 8), 2, false, idGetter);
+
+        Assertions.assertThat(page.getContent()).containsExactly(9, 8);
+        Assertions.assertThat(page.getPreviousCursor()).isNull();
+        Assertions.assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void beforeCursor_WithPreviousPage() {
+        CursorPage<Integer> page = PaginationUtil.beforeCursor(List.of(3, 4, 5), 2, idGetter);
+
+        Assertions.assertThat(page.getContent()).containsExactly(4, 3);
+        Assertions.assertThat(PaginationUtil.decodeCursor(page.getPreviousCursor()).get()).isEqualTo(4);
+        Assertions.assertThat(PaginationUtil.decodeCursor(page.getNextCursor()).get()).isEqualTo(3);
+    }
+
+    @Test
+    void beforeCursor_FirstPage() {
+        CursorPage<Integer> page = PaginationUtil.beforeCursor(List.of(3, 4), 2, idGetter);
+
+        Assertions.assertThat(page.getContent()).containsExactly(4, 3);
+        Assertions.assertThat(page.getPreviousCursor()).isNull();
+        Assertions.assertThat(PaginationUtil.decodeCursor(page.getNextCursor()).get()).isEqualTo(3);
+    }
+
+    @Test
+    void withCursors() {
+        CursorPage<Integer> page = PaginationUtil.withCursors(
+                new PageImpl<>(List.of(8, 7), PaginationUtil.newestFirst(2, 2), 6), idGetter);
+
+        Assertions.assertThat(PaginationUtil.decodeCursor(page.getPreviousCursor()).get()).isEqualTo(8);
+        Assertions.assertThat(PaginationUtil.decodeCursor(page.getNextCursor()).get()).isEqualTo(7);
+    }
+}
@@ -0,0 +1,143 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+
+import java.io.IOException;
+
+@DisplayName("Unit-level testing for PooledJavaMailSender")
+class PooledJavaMailSenderTest extends AbstractTest {
+
+    private SmtpStandInServer server;
+    private PooledJavaMailSender mailSender;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mailSender.destroy();
+        server.close();
+    }
+
+    @Test
+    void send_ReusesConnection() {
+        //given
+        server = new SmtpStandInServer(0);
+        mailSender = newMailSender(60000, 100);
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            mailSender.send(message(i));
+        }
+
+        //then
+        Assertions.assertThat(server.getMessageCount()).isEqualTo(10);
+        Assertions.assertThat(server.getConnectionCount()).isEqualTo(1);
+        Assertions.assertThat(mailSender.getOpenedConnectionCount()).isEqualTo(1);
+        Assertions.assertThat(mailSender.getSentMessageCount()).isEqualTo(10);
+        Assertions.assertThat(mailSender.getIdleConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void send_ReplacesConnectionAfterMaxMessages() {
+        //given
+        server = new SmtpStandInServer(0);
+        mailSender = newMailSender(60000, 3);
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            mailSender.send(message(i));
+        }
+
+        //then
+        Assertions.assertThat(server.getMessageCount()).isEqualTo(10);
+        Assertions.assertThat(mailSender.getOpenedConnectionCount()).isEqualTo(4);
+    }
+
+    @Test
+    void send_ReplacesIdleConnection() throws InterruptedException {
+        //given
+        server = new SmtpStandInServer(0);
+        mailSender = newMailSender(10, 100);
+        mailSender.send(message(0));
+
+        //when
+        Thread.sleep(50);
+        mailSender.send(message(1));
+
+        //then
+        Assertions.assertThat(server.getMessageCount()).isEqualTo(2);
+        Assertions.assertThat(mailSender.getOpenedConnectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void send_ReconnectsWhenServerClosedConnection() {
+        //given
+        server = new SmtpStandInServer(0, 2);
+        mailSender = newMailSender(60000, 100);
+
+        //when
+        for (int i = 0; i < 5; i++) {
+            mailSender.send(message(i));
+        }
+
+        //then
+        Assertions.assertThat(server.getMessageCount()).isEqualTo(5);
+        Assertions.assertThat(mailSender.getOpenedConnectionCount()).isEqualTo(3);
+    }
+
+    @Test
+    void send_BatchOverOneConnection() {
+        //given
+        server = new SmtpStandInServer(0);
+        mailSender = newMailSender(60000, 100);
+
+        //when
+        mailSender.send(message(0), message(1), message(2));
+
+        //then
+        Assertions.assertThat(server.getMessageCount()).isEqualTo(3);
+        Assertions.assertThat(server.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void send_Failure_ServerUnavailable() throws IOException {
+        //given
+        server = new SmtpStandInServer(0);
+        mailSender = newMailSender(60000, 100);
+        server.close();
+
+        //when
+        Throwable thrown = null;
+        try {
+            mailSender.send(message(0));
+        } catch (MailSendException e) {
+            thrown = e;
+        }
+
+        //then
+        Assertions.assertThat(thrown).isNotNull();
+        Assertions.assertThat(mailSender.getIdleConnectionCount()).isEqualTo(0);
+    }
+
+    private PooledJavaMailSender newMailSender(long idleTimeout, int maxMessagesPerConnection) {
+        PooledJavaMailSender sender = new PooledJavaMailSender(2, idleTimeout, maxMessagesPerConnection);
+        sender.setHost("localhost");
+        sender.setPort(server.getPort());
+        sender.getJavaMailProperties().setProperty("mail.smtp.connectiontimeout", "5000");
+        sender.getJavaMailProperties().setProperty("mail.smtp.timeout", "5000");
+        return sender;
+    }
+
+    private static SimpleMailMessage message(int i) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("mycoloroflife@mail.com");
+        message.setTo("testuser" + i + "@mail.com");
+        message.setSubject("Subject " + i);
+        message.setText("Text " + i);
+        return message;
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit-level testing for PrefixIndex")
+class PrefixIndexTest extends AbstractTest {
+
+    private PrefixIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        //given
+        index = new PrefixIndex<>();
+        index.put("1", "first", "Весняна пам'ять");
+        index.put("2", "second", "Весна у місті");
+        index.put("3", "third", "Ранкова весна");
+    }
+
+    @Test
+    void suggest_TitlesStartingWithPrefixFirst() {
+        Assertions.assertThat(index.suggest("вес", 10)).containsExactly("second", "first", "third");
+    }
+
+    @Test
+    void suggest_MatchesWordsInsideTitle() {
+        Assertions.assertThat(index.suggest("міс", 10)).containsExactly("second");
+        Assertions.assertThat(index.suggest("весна у м", 10)).containsExactly("second");
+    }
+
+    @Test
+    void suggest_IgnoresCaseAndPunctuation() {
+        Assertions.assertThat(index.suggest("  ВЕСНЯНА   пам’ять", 10)).containsExactly("first");
+    }
+
+    @Test
+    void suggest_RespectsLimit() {
+        Assertions.assertThat(index.suggest("весн", 2)).containsExactly("second", "first");
+    }
+
+    @Test
+    void suggest_WithoutWords() {
+        Assertions.assertThat(index.suggest(null, 10)).isEmpty();
+        Assertions.assertThat(index.suggest(" - ", 10)).isEmpty();
+        Assertions.assertThat(index.suggest("вес", 0)).isEmpty();
+    }
+
+    @Test
+    void put_ReplacesRenamedTitle() {
+        //when
+        index.put("2", "second", "Осінь у місті");
+
+        //then
+        Assertions.assertThat(index.suggest("весна у", 10)).isEmpty();
+        Assertions.assertThat(index.suggest("осі", 10)).containsExactly("second");
+        Assertions.assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void remove() {
+        Assertions.assertThat(index.remove("3")).isTrue();
+        Assertions.assertThat(index.remove("3")).isFalse();
+        Assertions.assertThat(index.suggest("ран", 10)).isEmpty();
+        Assertions.assertThat(index.suggest("вес", 10)).containsExactly("second", "first");
+    }
+
+    @Test
+    void clear() {
+        //when
+        index.clear();
+
+        //then
+        Assertions.assertThat(index.size()).isZero();
+        Assertions.assertThat(index.suggest("вес", 10)).isEmpty();
+    }
+
+    @Test
+    void normalize() {
+        Assertions.assertThat(PrefixIndex.normalize(" Весна, у МІСТІ! ")).isEqualTo("весна у місті");
+        Assertions.assertThat(PrefixIndex.normalize("пам’ять")).isEqualTo("пам'ять");
+        Assertions.assertThat(PrefixIndex.normalize(null)).isEmpty();
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import com.github.vladyslavbabenko.mycoloroflife.entity.Role;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+@DisplayName("Unit-level testing for RoleRegistry")
+class RoleRegistryTest extends AbstractTest {
+
+    private Role userRole, adminRole;
+    private RoleRegistry roleRegistry;
+
+    @BeforeEach
+    void setUp() {
+        //given
+        userRole = Role.builder().id(1).roleName("ROLE_USER").description("User").build();
+        adminRole = Role.builder().id(2).roleName("ROLE_ADMIN").description("Admin").build();
+        roleRegistry = RoleRegistry.of(List.of(adminRole, userRole));
+    }
+
+    @Test
+    void findByRoleNameAndId() {
+        Assertions.assertThat(roleRegistry.findByRoleName("ROLE_USER").get()).isEqualTo(userRole);
+        Assertions.assertThat(roleRegistry.findById(2).get().getRoleName()).isEqualTo("ROLE_ADMIN");
+        Assertions.assertThat(roleRegistry.containsRoleName("ROLE_ADMIN")).isTrue();
+        Assertions.assertThat(roleRegistry.containsRoleName("ROLE_AUTHOR")).isFalse();
+        Assertions.assertThat(roleRegistry.findByRoleName(null).isPresent()).isFalse();
+        Assertions.assertThat(roleRegistry.findById(3).isPresent()).isFalse();
+    }
+
+    @Test
+    void getAllRoles_SortedById() {
+        Assertions.assertThat(roleRegistry.getAllRoles()).containsExactly(userRole, adminRole);
+    }
+
+    @Test
+    void returnedRoles_AreCopies() {
+        //when
+        roleRegistry.findByRoleName("ROLE_USER").get().setRoleName("ROLE_CHANGED");
+        userRole.setDescription("Changed");
+
+        //then
+        Assertions.assertThat(roleRegistry.containsRoleName("ROLE_USER")).isTrue();
+        Assertions.assertThat(roleRegistry.findById(1).get().getRoleName()).isEqualTo("ROLE_USER");
+        Assertions.assertThat(roleRegistry.findById(1).get().getDescription()).isEqualTo("User");
+    }
+
+    @Test
+    void with_AddsAndRenames() {
+        //when
+        RoleRegistry added = roleRegistry.with(Role.builder().id(3).roleName("ROLE_AUTHOR").build());
+        RoleRegistry renamed = roleRegistry.with(Role.builder().id(1).roleName("ROLE_MEMBER").build());
+
+        //then
+        Assertions.assertThat(added.size()).isEqualTo(3);
+        Assertions.assertThat(added.containsRoleName("ROLE_AUTHOR")).isTrue();
+        Assertions.assertThat(renamed.size()).isEqualTo(2);
+        Assertions.assertThat(renamed.containsRoleName("ROLE_USER")).isFalse();
+        Assertions.assertThat(renamed.findByRoleName("ROLE_MEMBER").get().getId()).isEqualTo(1);
+        Assertions.assertThat(roleRegistry.size()).isEqualTo(2);
+        Assertions.assertThat(roleRegistry.containsRoleName("ROLE_USER")).isTrue();
+    }
+
+    @Test
+    void with_ReplacesStaleRoleWithSameName() {
+        //when
+        RoleRegistry recreated = roleRegistry.with(Role.builder().id(7).roleName("ROLE_USER").build());
+
+        //then
+        Assertions.assertThat(recreated.size()).isEqualTo(2);
+        Assertions.assertThat(recreated.findByRoleName("ROLE_USER").get().getId()).isEqualTo(7);
+        Assertions.assertThat(recreated.findById(1).isPresent()).isFalse();
+    }
+
+    @Test
+    void without() {
+        //when
+        RoleRegistry removed = roleRegistry.without(Role.builder().roleName("ROLE_ADMIN").build());
+        RoleRegistry unchanged = roleRegistry.without(Role.builder().roleName("ROLE_AUTHOR").build());
+
+        //then
+        Assertions.assertThat(removed.size()).isEqualTo(1);
+        Assertions.assertThat(removed.containsRoleName("ROLE_ADMIN")).isFalse();
+        Assertions.assertThat(unchanged).isSameAs(roleRegistry);
+    }
+
+    @Test
+    void of_SkipsRolesWithoutIdOrName() {
+        //when
+        RoleRegistry registry = RoleRegistry.of(List.of(Role.builder().roleName("ROLE_NEW").build(), Role.builder().id(5).build()));
+
+        //then
+        Assertions.assertThat(registry.size()).isZero();
+        Assertions.assertThat(RoleRegistry.empty().getAllRoles()).isEmpty();
+    }
+}
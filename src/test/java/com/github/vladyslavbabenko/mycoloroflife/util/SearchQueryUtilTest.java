@@ -0,0 +1,24 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit-level testing for SearchQueryUtil")
+class SearchQueryUtilTest extends AbstractTest {
+
+    @Test
+    void toPrefixQuery() {
+        Assertions.assertThat(SearchQueryUtil.toPrefixQuery("First")).isEqualTo("first:*");
+        Assertions.assertThat(SearchQueryUtil.toPrefixQuery("  Перша   подія ")).isEqualTo("перша:* & подія:*");
+        Assertions.assertThat(SearchQueryUtil.toPrefixQuery("test's & (title) | !x")).isEqualTo("test:* & s:* & title:* & x:*");
+    }
+
+    @Test
+    void toPrefixQuery_WithoutWords() {
+        Assertions.assertThat(SearchQueryUtil.toPrefixQuery(null)).isEmpty();
+        Assertions.assertThat(SearchQueryUtil.toPrefixQuery("")).isEmpty();
+        Assertions.assertThat(SearchQueryUtil.toPrefixQuery(" &|!:* ")).isEmpty();
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import com.github.vladyslavbabenko.mycoloroflife.entity.Role;
+import com.github.vladyslavbabenko.mycoloroflife.entity.User;
+import com.github.vladyslavbabenko.mycoloroflife.entity.dto.UserPrincipal;
+import com.github.vladyslavbabenko.mycoloroflife.enumeration.UserRegistrationType;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.serializer.DefaultSerializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+@DisplayName("Unit-level testing for SessionAttributeSerializer")
+class SessionAttributeSerializerTest extends AbstractTest {
+
+    private SessionAttributeSerializer serializer;
+    private SecurityContext securityContext;
+    private OAuth2AuthorizationRequest authorizationRequest;
+
+    @BeforeEach
+    void setUp() {
+        //given
+        serializer = new SessionAttributeSerializer(getClass().getClassLoader());
+
+        UserPrincipal principal = UserPrincipal.of(User.builder()
+                .id(1)
+                .name("TestUser")
+                .email("testuser@mail.com")
+                .password("123456")
+                .roles(Set.of(Role.builder().id(1).roleName("ROLE_USER").build()))
+                .isAccountNonLocked(true)
+                .registrationType(UserRegistrationType.REGISTRATION_FORM)
+                .build());
+        principal.eraseCredentials();
+
+        UsernamePasswordAuthenticationToken authentication =
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+        authentication.setDetails(new WebAuthenticationDetails("127.0.0.1", "3F2504E0-4F89-11D3-9A0C-0305E82C3301"));
+        securityContext = new SecurityContextImpl(authentication);
+
+        authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("client-id")
+                .redirectUri("http://localhost:8080/login/oauth2/code/google")
+                .scopes(Set.of("openid", "profile", "email"))
+                .state("state")
+                .additionalParameters(Map.of("nonce", "nonce"))
+                .attributes(Map.of("registration_id", "google"))
+                .build();
+    }
+
+    @Test
+    void securityContext_Compact() throws IOException {
+        //when
+        byte[] serialized = serialize(securityContext);
+        SecurityContext deserialized = (SecurityContext) deserialize(serialized);
+
+        //then
+        Authentication authentication = deserialized.getAuthentication();
+        Assertions.assertThat(authentication.isAuthenticated()).isTrue();
+        Assertions.assertThat(authentication.getName()).isEqualTo("testuser@mail.com");
+        Assertions.assertThat(authentication.getPrincipal()).isEqualTo(securityContext.getAuthentication().getPrincipal());
+        Assertions.assertThat(((UserPrincipal) authentication.getPrincipal()).getName()).isEqualTo("TestUser");
+        Assertions.assertThat((Object) authentication.getAuthorities()).isEqualTo(securityContext.getAuthentication().getAuthorities());
+        Assertions.assertThat(authentication.getDetails()).isEqualTo(securityContext.getAuthentication().getDetails());
+        Assertions.assertThat(serialized.length * 4).isLessThan(javaSerialize(securityContext).length);
+    }
+
+    @Test
+    void authorizationRequest_Compact() throws IOException {
+        //when
+        byte[] serialized = serialize(authorizationRequest);
+        OAuth2AuthorizationRequest deserialized = (OAuth2AuthorizationRequest) deserialize(serialized);
+
+        //then
+        Assertions.assertThat(deserialized.getAuthorizationUri()).isEqualTo(authorizationRequest.getAuthorizationUri());
+        Assertions.assertThat(deserialized.getClientId()).isEqualTo(authorizationRequest.getClientId());
+        Assertions.assertThat(deserialized.getRedirectUri()).isEqualTo(authorizationRequest.getRedirectUri());
+        Assertions.assertThat(deserialized.getScopes()).isEqualTo(authorizationRequest.getScopes());
+        Assertions.assertThat(deserialized.getState()).isEqualTo(authorizationRequest.getState());
+        Assertions.assertThat(deserialized.getAdditionalParameters()).isEqualTo(authorizationRequest.getAdditionalParameters());
+        Assertions.assertThat(deserialized.getAttributes()).isEqualTo(authorizationRequest.getAttributes());
+        Assertions.assertThat(deserialized.getAuthorizationRequestUri()).isEqualTo(authorizationRequest.getAuthorizationRequestUri());
+        Assertions.assertThat(serialized.length * 2).isLessThan(javaSerialize(authorizationRequest).length);
+    }
+
+    @Test
+    void otherAttribute_JavaSerialization() throws IOException {
+        //when
+        Object deserialized = deserialize(serialize(Map.of("key", 1)));
+
+        //then
+        Assertions.assertThat(deserialized).isEqualTo(Map.of("key", 1));
+    }
+
+    @Test
+    void securityContextWithOtherPrincipal_JavaSerialization() throws IOException {
+        //given
+        SecurityContext otherContext = new SecurityContextImpl(
+                UsernamePasswordAuthenticationToken.authenticated("TestUser", null, null));
+
+        //when
+        SecurityContext deserialized = (SecurityContext) deserialize(serialize(otherContext));
+
+        //then
+        Assertions.assertThat(deserialized).isEqualTo(otherContext);
+    }
+
+    private byte[] serialize(Object attribute) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        serializer.serialize(attribute, bytes);
+        return bytes.toByteArray();
+    }
+
+    private Object deserialize(byte[] bytes) throws IOException {
+        return serializer.deserialize(new ByteArrayInputStream(bytes));
+    }
+
+    private static byte[] javaSerialize(Object attribute) throws IOException {
+        return new DefaultSerializer().serializeToByteArray(attribute);
+    }
+}
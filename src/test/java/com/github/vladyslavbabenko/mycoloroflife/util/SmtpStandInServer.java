@@ -0,0 +1,157 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local SMTP server for tests and benchmarks, it accepts every message and discards it.
+ * The greeting can be delayed to stand in for the TCP and TLS handshake of a real mail server,
+ * and connections can be closed after a number of messages to stand in for a server that drops idle connections.
+ */
+
+public final class SmtpStandInServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final long greetingDelayMillis;
+    private final int messagesPerConnection;
+
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicInteger messageCount = new AtomicInteger();
+
+    /**
+     * @param greetingDelayMillis   delay before the greeting of every new connection
+     * @param messagesPerConnection number of messages after which the server closes a connection without a reply
+     */
+    public SmtpStandInServer(long greetingDelayMillis, int messagesPerConnection) {
+        this.greetingDelayMillis = greetingDelayMillis;
+        this.messagesPerConnection = messagesPerConnection;
+
+        try {
+            this.serverSocket = new ServerSocket(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        executor.execute(this::accept);
+    }
+
+    /**
+     * @param greetingDelayMillis delay before the greeting of every new connection
+     */
+    public SmtpStandInServer(long greetingDelayMillis) {
+        this(greetingDelayMillis, Integer.MAX_VALUE);
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    public int getMessageCount() {
+        return messageCount.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executor.shutdownNow();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                return;
+            }
+
+            connectionCount.incrementAndGet();
+
+            try {
+                executor.execute(() -> serve(socket));
+            } catch (RejectedExecutionException e) {
+                closeQuietly(socket);
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             OutputStream output = socket.getOutputStream()) {
+            Thread.sleep(greetingDelayMillis);
+            reply(output, "220 localhost SMTP stand-in");
+
+            int messages = 0;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                String command = line.length() < 4 ? line.toUpperCase() : line.substring(0, 4).toUpperCase();
+
+                switch (command) {
+                    case "EHLO":
+                    case "HELO":
+                        reply(output, "250 localhost");
+                        break;
+                    case "DATA":
+                        if (messages == messagesPerConnection) {
+                            return;
+                        }
+                        reply(output, "354 End data with <CR><LF>.<CR><LF>");
+                        while ((line = reader.readLine()) != null && !line.equals(".")) {
+                            // message content is discarded
+                        }
+                        messages++;
+                        messageCount.incrementAndGet();
+                        reply(output, "250 OK");
+                        break;
+                    case "QUIT":
+                        reply(output, "221 Bye");
+                        return;
+                    case "MAIL":
+                    case "RCPT":
+                    case "RSET":
+                    case "NOOP":
+                        reply(output, "250 OK");
+                        break;
+                    default:
+                        reply(output, "502 Command not implemented");
+                }
+            }
+        } catch (IOException e) {
+            // the client closed the connection
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // the connection is not used anymore
+        }
+    }
+
+    private static void reply(OutputStream output, String line) throws IOException {
+        output.write((line + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        output.flush();
+    }
+}
@@ -0,0 +1,37 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit-level testing for TextTokenizer")
+class TextTokenizerTest extends AbstractTest {
+
+    @Test
+    void tokenize() {
+        Assertions.assertThat(TextTokenizer.tokenize("The First, test-title!")).containsExactly("first", "test", "title");
+        Assertions.assertThat(TextTokenizer.tokenize("Пам'ять і любов")).containsExactly(TextTokenizer.stem("память"), "любов");
+    }
+
+    @Test
+    void tokenize_Empty() {
+        Assertions.assertThat(TextTokenizer.tokenize(null)).isEmpty();
+        Assertions.assertThat(TextTokenizer.tokenize(" - ,. a і")).isEmpty();
+    }
+
+    @Test
+    void stem_MatchesWordForms() {
+        Assertions.assertThat(TextTokenizer.stem("статті")).isEqualTo(TextTokenizer.stem("стаття"));
+        Assertions.assertThat(TextTokenizer.stem("подіями")).isEqualTo(TextTokenizer.stem("події"));
+        Assertions.assertThat(TextTokenizer.stem("courses")).isEqualTo(TextTokenizer.stem("course"));
+        Assertions.assertThat(TextTokenizer.stem("texts")).isEqualTo(TextTokenizer.stem("text"));
+        Assertions.assertThat(TextTokenizer.stem("stories")).isEqualTo("story");
+    }
+
+    @Test
+    void stem_KeepsShortWords() {
+        Assertions.assertThat(TextTokenizer.stem("дім")).isEqualTo("дім");
+        Assertions.assertThat(TextTokenizer.stem("bus")).isEqualTo("bus");
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.vladyslavbabenko.mycoloroflife.util;
+
+import com.github.vladyslavbabenko.mycoloroflife.AbstractTest.AbstractTest;
+import org.fest.assertions.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.session.MapSessionRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+@DisplayName("Unit-level testing for TouchThrottlingSessionRepository")
+class TouchThrottlingSessionRepositoryTest extends AbstractTest {
+
+    private MapSessionRepository mapSessionRepository;
+    private TouchThrottlingSessionRepository sessionRepository;
+    private Instant lastAccessedTime;
+    private String sessionId;
+
+    @BeforeEach
+    void setUp() {
+        //given
+        mapSessionRepository = new MapSessionRepository(new ConcurrentHashMap<>());
+        sessionRepository = new TouchThrottlingSessionRepository(mapSessionRepository, Duration.ofMinutes(1));
+
+        TouchThrottlingSessionRepository.TouchThrottlingSession session = sessionRepository.createSession();
+        session.setAttribute("key", "value");
+        sessionRepository.save(session);
+
+        sessionId = session.getId();
+        lastAccessedTime = session.getLastAccessedTime();
+    }
+
+    @Test
+    void setLastAccessedTime_WithinTouchInterval() {
+        //when
+        TouchThrottlingSessionRepository.TouchThrottlingSession session = sessionRepository.findById(sessionId);
+        session.setLastAccessedTime(lastAccessedTime.plusSeconds(30));
+        sessionRepository.save(session);
+
+        //then
+        Assertions.assertThat(mapSessionRepository.findById(sessionId).getLastAccessedTime()).isEqualTo(lastAccessedTime);
+    }
+
+    @Test
+    void setLastAccessedTime_AfterTouchInterval() {
+        //when
+        TouchThrottlingSessionRepository.TouchThrottlingSession session = sessionRepository.findById(sessionId);
+        session.setLastAccessedTime(lastAccessedTime.plusSeconds(90));
+        sessionRepository.save(session);
+
+        //then
+        Assertions.assertThat(mapSessionRepository.findById(sessionId).getLastAccessedTime())
+                .isEqualTo(lastAccessedTime.plusSeconds(90));
+    }
+
+    @Test
+    void findById_Attributes() {
+        //when
+        TouchThrottlingSessionRepository.TouchThrottlingSession session = sessionRepository.findById(sessionId);
+
+        //then
+        Assertions.assertThat((String) session.getAttribute("key")).isEqualTo("value");
+        Assertions.assertThat(sessionRepository.findById("unknown")).isNull();
+    }
+
+    @Test
+    void deleteById() {
+        //when
+        sessionRepository.deleteById(sessionId);
+
+        //then
+        Assertions.assertThat(mapSessionRepository.findById(sessionId)).isNull();
+    }
+}
@@ -1,4 +1,8 @@
 DELETE
+FROM t_event_announcement;
+DELETE
+FROM t_mail_outbox;
+DELETE
 FROM t_article_users;
 DELETE
 FROM t_user_roles;
@@ -1,4 +1,8 @@
 DELETE
+FROM t_event_announcement;
+DELETE
+FROM t_mail_outbox;
+DELETE
 FROM t_article_users;
 DELETE
 FROM t_user_roles;
@@ -88,10 +92,9 @@ VALUES (1, 1, null, null, 'Test Text 1', 1),
        (10, 4, null, null, 'Test Text 4', 3),
        (11, 5, 'Test Course Video Title 5', 'Test Course Video Link 5', 'Test Course Text 5', 3);
 
-INSERT INTO t_course_progress
-VALUES (1, 1, 1),
-       (2, 2, 1),
-       (3, 1, 2);
+INSERT INTO t_course_progress (id, user_id, course_title_id, last_page)
+VALUES (1, 1, 1, 2),
+       (2, 2, 1, 1);
 
 INSERT INTO t_activation_code
 VALUES (1, 'Q5sxTc941iokNy8', 1, 1),
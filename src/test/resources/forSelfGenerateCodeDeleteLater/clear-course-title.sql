@@ -1,6 +1,6 @@
 DELETE
 FROM t_course_progress
-WHERE course_id IN (SELECT id FROM t_course WHERE course_title_id = 3);
+WHERE course_title_id = 3;
 DELETE
 FROM t_course
 WHERE course_title_id = 3;